@@ -0,0 +1,83 @@
+package api.model;
+
+/**
+ * A camera that defines which part of the level is visible on screen.
+ *
+ * Entities keep their positions in world coordinates, which never change because of scrolling.
+ * Scrolling moves the camera instead, and anything that needs to know where an entity is on
+ * screen (the view, the bounds checks in Level, the scrollers) converts through the camera:
+ * screen coordinate = world coordinate - camera offset.
+ */
+public interface ICamera {
+
+    /**
+     * Getter for the x offset of the camera
+     * @return the world x coordinate of the left edge of the screen
+     */
+    double getXOffset();
+
+    /**
+     * Getter for the y offset of the camera
+     * @return the world y coordinate of the top edge of the screen
+     */
+    double getYOffset();
+
+    /**
+     * Scrolls the view so that every entity appears to move by <xScroll, yScroll> on screen.
+     * This is the camera equivalent of translating every entity by that amount, so the camera
+     * itself moves by <-xScroll, -yScroll>.
+     * @param xScroll the amount everything should move on screen in the x direction
+     * @param yScroll the amount everything should move on screen in the y direction
+     */
+    void scroll(double xScroll, double yScroll);
+
+    /**
+     * Converts a world x coordinate to a screen x coordinate
+     * @param worldX x coordinate in the level
+     * @return x coordinate on screen
+     */
+    double toScreenX(double worldX);
+
+    /**
+     * Converts a world y coordinate to a screen y coordinate
+     * @param worldY y coordinate in the level
+     * @return y coordinate on screen
+     */
+    double toScreenY(double worldY);
+
+    /**
+     * Converts a screen x coordinate to a world x coordinate
+     * @param screenX x coordinate on screen
+     * @return x coordinate in the level
+     */
+    double toWorldX(double screenX);
+
+    /**
+     * Converts a screen y coordinate to a world y coordinate
+     * @param screenY y coordinate on screen
+     * @return y coordinate in the level
+     */
+    double toWorldY(double screenY);
+
+    /**
+     * Records where the camera is now as where it was before the step that is about to run
+     */
+    void savePreviousOffsets();
+
+    /**
+     * Getter for the x offset of the camera as of the last call to savePreviousOffsets
+     * @return the previous world x coordinate of the left edge of the screen
+     */
+    double getPreviousXOffset();
+
+    /**
+     * Getter for the y offset of the camera as of the last call to savePreviousOffsets
+     * @return the previous world y coordinate of the top edge of the screen
+     */
+    double getPreviousYOffset();
+
+    /**
+     * Moves the camera back to where it started, with the top left of the screen at (0, 0)
+     */
+    void reset();
+}
@@ -2,6 +2,7 @@ package api.model;
 
 import model.Level;
 import model.configuration.InvalidFileException;
+import model.simulation.RenderSnapshot;
 import api.model.entity.IEntity;
 
 import java.util.List;
@@ -15,6 +16,10 @@ public interface IGameModel {
 
     List<IEntity> getAllEntitiesInLevel();
 
+    List<IEntity> getEntitiesInView(double blocksWide, double blocksHigh);
+
+    void fillRenderSnapshot(RenderSnapshot snapshot, double blocksWide, double blocksHigh);
+
     String getKeyInputsPath();
 
     String getTexturesPath();
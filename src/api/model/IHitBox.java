@@ -87,6 +87,24 @@ public interface IHitBox {
      */
     void translateY(double deltaY);
 
+    /**
+     * Records where the HitBox is now as where it was before the step that is about to run, so
+     * the view can draw it part of the way between the two
+     */
+    void savePreviousPosition();
+
+    /**
+     * Getter for xLeft as of the last call to savePreviousPosition
+     * @return the previous xLeft
+     */
+    double getPreviousXLeft();
+
+    /**
+     * Getter for yTop as of the last call to savePreviousPosition
+     * @return the previous yTop
+     */
+    double getPreviousYTop();
+
     /**
      * This method calculates a collision with another HitBox by determining whether
      * the two HitBoxes' coordinates overlap.
@@ -103,6 +121,16 @@ public interface IHitBox {
      */
     CollisionDirections getCollisionDirections(HitBox otherBox);
 
+    /**
+     * Does the same calculation as getCollisionDirections, but returns the Directions of the
+     * collision as a bitmask (see Direction#getMask) instead of creating a CollisionDirections object.
+     *
+     * @param otherBox the HitBox of the other Entity.
+     * @return the bitwise OR of BOTTOM, TOP, RIGHT and/or LEFT, depending on how the second HitBox
+     * collides with the first, or 0 if there is no collision.
+     */
+    int getCollisionMask(HitBox otherBox);
+
     /**
      * Helper method to determine if one double is in between two others
      * @param value to be evaluated
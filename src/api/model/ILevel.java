@@ -7,6 +7,7 @@ import api.model.scroll.Scroller;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * The class that "plays" a game.
@@ -72,26 +73,124 @@ public interface ILevel {
 
     /**
      * Check collisions of entities.
-     * The game only needs to check collisions for movable entities, but for each of those entities,
-     * it has to iterate through every entity in the level. If a collision is detected, the
-     * entity will react appropriately.
+     * The game only needs to check collisions for movable entities. For each of those entities,
+     * the broadphase hands over every entity in the neighbouring cells, in the same order as they
+     * appear in entityList, so the results are identical to checking against every entity in the level.
+     * If a collision is detected, the entity will react appropriately.
+     *
+     * If the broadphase is disabled, every movable entity is checked against every entity in the level.
      */
     void checkCollisions();
 
+    /**
+     * Checks collisions by iterating through every entity in the level for every movable entity.
+     * This is the O(mn) loop that the broadphase replaces, kept so the two can be compared.
+     */
+    void checkAllCollisions();
+
+    /**
+     * Turns the spatial hash broadphase used by checkCollisions on or off. When it is off,
+     * checkCollisions falls back to checking every movable entity against every entity.
+     * @param enabled true to use the broadphase
+     */
+    void setBroadphaseEnabled(boolean enabled);
+
+    /**
+     * Reveals whether checkCollisions is using the spatial hash broadphase
+     * @return true if the broadphase is enabled
+     */
+    boolean isBroadphaseEnabled();
+
     /**
      * Updates the position of player and enemies according to their velocities.
      */
     void updatePositions();
 
     /**
-     * Moves the entities in the level based on data on this level and the player.
-     * Depending on the settings of the scroller, entities may move continuously in one direction,
-     * move if the player is at a certain coordinate, or not move at all.
+     * Moves the camera based on data on this level and the player.
+     * Depending on the settings of the scroller, the camera may move continuously in one direction,
+     * move if the player is at a certain position on screen, or not move at all.
      */
     void scroll();
 
     /**
-     * Moves all entities in the list by <xChange, yChange>
+     * Getter for the camera, which defines which part of the level is on screen
+     * @return the camera of this level
+     */
+    ICamera getCamera();
+
+    /**
+     * Saves where every movable entity and the camera are now as where they were before the step
+     * that is about to run
+     */
+    void savePreviousPositions();
+
+    /**
+     * Sets how many times a second this level is stepped. The level still plays at the same
+     * speed - each step just covers more or less time (see getTimeScale).
+     * @param newTicksPerSecond how many steps make up one second of play - a rate that is not
+     *                          positive is ignored
+     */
+    void setTicksPerSecond(double newTicksPerSecond);
+
+    /**
+     * Reveals how many times a second this level is stepped
+     * @return the number of steps in one second of play
+     */
+    double getTicksPerSecond();
+
+    /**
+     * Reveals how long one step is, measured in ticks at Level.FRAMES_PER_SECOND, which is how
+     * much every velocity, acceleration and scroll is multiplied by in a step
+     * @return 1 when stepped at Level.FRAMES_PER_SECOND, 2 when stepped half as often, and so on
+     */
+    double getTimeScale();
+
+    /**
+     * Reveals how long one step is in seconds, which is how much time is taken off every modifier
+     * @return one over the number of steps in a second
+     */
+    double getTickSeconds();
+
+    /**
+     * Collects the entities that need to be drawn: those on screen, or just past its edges.
+     * The entities come back in the same order as they appear in the level.
+     * @param blocksWide the number of blocks the screen is wide
+     * @param blocksHigh the number of blocks the screen is high
+     * @return a new list of the entities in view
+     */
+    List<IEntity> getEntitiesInView(double blocksWide, double blocksHigh);
+
+    /**
+     * Finds the same entities as getEntitiesInView without putting them in a new list: they can be
+     * read with getEntityInView until the level is next queried or stepped
+     * @param blocksWide the number of blocks the screen is wide
+     * @param blocksHigh the number of blocks the screen is high
+     * @return the number of entities in view
+     */
+    int queryEntitiesInView(double blocksWide, double blocksHigh);
+
+    /**
+     * Obtains one of the entities found by the last call to queryEntitiesInView
+     * @param index which entity, from 0 to the count queryEntitiesInView returned - 1
+     * @return the entity
+     */
+    IEntity getEntityInView(int index);
+
+    /**
+     * Reveals how many entities the last call to getEntitiesInView returned
+     * @return the number of entities drawn
+     */
+    int getDrawnEntityCount();
+
+    /**
+     * Reveals how many entities the last call to getEntitiesInView left out
+     * @return the number of entities culled
+     */
+    int getCulledEntityCount();
+
+    /**
+     * Moves all entities in the list by <xChange, yChange> in world coordinates
      * @param xChange the amount to scroll the entity in the x direction
      * @param yChange the amount to scroll the entity in the y direction
      */
@@ -143,17 +242,25 @@ public interface ILevel {
     void removeEntity(IEntity entity);
 
     /**
-     * Gets the entity at a certain set of coordinates.
-     * @param xCoordinate of entity
-     * @param yCoordinate of entity
+     * Removes a batch of entities from every list in the level without treating them as removed
+     * from play (no score is given). Each list is only walked once no matter how many entities are
+     * removed, and the remaining entities keep their order.
+     * @param entities the entities to despawn
+     */
+    void despawnEntities(Set<IEntity> entities);
+
+    /**
+     * Gets the entity at a certain set of screen coordinates (see getCamera).
+     * @param xCoordinate of entity on screen
+     * @param yCoordinate of entity on screen
      * @return entity at the coordinates. If there is no entity there, it returns null.
      */
     Optional<IEntity> getEntityAt(int xCoordinate, int yCoordinate);
 
     /**
      * Makes sure that the player is within bounds (i.e. xleft > 0 and xright <
-     * scroller.NUM_BLOCKS or the num blocks wide and tall on display) and if
-     * not, places that player within bounds
+     * scroller.NUM_BLOCKS or the num blocks wide and tall on display, measured on screen
+     * through the camera) and if not, places that player within bounds
      *
      * @param player the player whose bounds will be checked
      */
@@ -0,0 +1,116 @@
+package api.model;
+
+import api.model.entity.IEntity;
+
+/**
+ * Everything the view needs to draw one frame of a level, copied out of the level at the end of a
+ * tick: the type and position of every entity to draw, where the camera was, and the score.
+ *
+ * A snapshot does not change while the view holds it, even though the level it was copied from
+ * carries on being stepped on another thread. The entities it lists are only there so that the
+ * view can tell the same entity apart from one frame to the next - their state may have moved on
+ * since the snapshot was taken, so the view reads types and positions from the snapshot instead.
+ */
+public interface IRenderSnapshot {
+
+    /**
+     * Getter for the number of entities in the snapshot
+     * @return how many entities there are to draw
+     */
+    int getEntityCount();
+
+    /**
+     * Getter for an entity, to be used only as a key that identifies it between frames
+     * @param index which entity, from 0 to getEntityCount() - 1
+     * @return the entity
+     */
+    IEntity getEntity(int index);
+
+    /**
+     * Getter for the type of an entity when the snapshot was taken (see IEntity.getType)
+     * @param index which entity, from 0 to getEntityCount() - 1
+     * @return the type of the entity
+     */
+    String getType(int index);
+
+    /**
+     * Getter for a small int standing for the type of an entity, which is the same for every
+     * entity of that type in every snapshot
+     * @param index which entity, from 0 to getEntityCount() - 1
+     * @return the id of the type of the entity
+     */
+    int getTypeId(int index);
+
+    /**
+     * Getter for the world x coordinate of the left of an entity when the snapshot was taken
+     * @param index which entity, from 0 to getEntityCount() - 1
+     * @return the x coordinate of the entity
+     */
+    float getX(int index);
+
+    /**
+     * Getter for the world y coordinate of the top of an entity when the snapshot was taken
+     * @param index which entity, from 0 to getEntityCount() - 1
+     * @return the y coordinate of the entity
+     */
+    float getY(int index);
+
+    /**
+     * Getter for the world x coordinate of the left of an entity before the tick the snapshot was
+     * taken after
+     * @param index which entity, from 0 to getEntityCount() - 1
+     * @return the previous x coordinate of the entity
+     */
+    float getPreviousX(int index);
+
+    /**
+     * Getter for the world y coordinate of the top of an entity before the tick the snapshot was
+     * taken after
+     * @param index which entity, from 0 to getEntityCount() - 1
+     * @return the previous y coordinate of the entity
+     */
+    float getPreviousY(int index);
+
+    /**
+     * Getter for the x offset of the camera when the snapshot was taken
+     * @return the world x coordinate of the left edge of the screen
+     */
+    double getCameraX();
+
+    /**
+     * Getter for the y offset of the camera when the snapshot was taken
+     * @return the world y coordinate of the top edge of the screen
+     */
+    double getCameraY();
+
+    /**
+     * Getter for the x offset of the camera before the tick the snapshot was taken after
+     * @return the previous world x coordinate of the left edge of the screen
+     */
+    double getPreviousCameraX();
+
+    /**
+     * Getter for the y offset of the camera before the tick the snapshot was taken after
+     * @return the previous world y coordinate of the top edge of the screen
+     */
+    double getPreviousCameraY();
+
+    /**
+     * Getter for the score when the snapshot was taken
+     * @return the score of the level
+     */
+    int getScore();
+
+    /**
+     * Getter for the tick the snapshot was taken after
+     * @return the number of ticks that had been run
+     */
+    long getTick();
+
+    /**
+     * Getter for when the snapshot was published, which tells the view how far it is into the
+     * next tick
+     * @return the value of System.nanoTime() when it was published, or 0 if it never was
+     */
+    long getPublishNanos();
+}
@@ -11,4 +11,34 @@ public interface IAutoGenerator {
      * @return the 2D String array of new entity representations
      */
     String[][] generateNextBlock();
+
+    /**
+     * Builds the 2D String array for one chunk of the stream, which depends only on the seed and
+     * the index of the chunk
+     *
+     * @param chunkIndex which chunk to build, counting from 0
+     * @return the 2D String array of new entity representations
+     */
+    String[][] generateBlock(long chunkIndex);
+
+    /**
+     * Getter for the number of rows in each chunk
+     *
+     * @return the number of rows
+     */
+    int getNumRows();
+
+    /**
+     * Getter for the number of columns in each chunk
+     *
+     * @return the number of columns
+     */
+    int getNumCols();
+
+    /**
+     * Reveals the seed the chunks are drawn from
+     *
+     * @return the seed of the stream of chunks
+     */
+    long getSeed();
 }
@@ -1,5 +1,7 @@
 package api.model.autogenerator;
 
+import java.util.SplittableRandom;
+
 /**
  * The RandomGeneration interface
  */
@@ -9,4 +11,11 @@ public interface IRandomGeneration extends IGenerationInstruction {
      * Recalculates values for this random instruction
      */
     void regenerate();
+
+    /**
+     * Recalculates values for this random instruction, drawing them from a given generator
+     *
+     * @param random the generator to draw from
+     */
+    void regenerate(SplittableRandom random);
 }
@@ -1,5 +1,7 @@
 package api.model.autogenerator;
 
+import java.util.SplittableRandom;
+
 /**
  * The Randomizer interface
  */
@@ -48,4 +50,13 @@ public interface IRandomizer {
      * @return a random entityType in the values array
      */
     int getRandomValue();
+
+    /**
+     * Returns a random entityType in the values array weighted by the probabilties, drawn from a
+     * given generator so that the result can be reproduced
+     *
+     * @param random the generator to draw from
+     * @return a random entityType in the values array
+     */
+    int getRandomValue(SplittableRandom random);
 }
@@ -1,5 +1,7 @@
 package api.model.autogenerator;
 
+import java.util.SplittableRandom;
+
 /**
  * The UniformRandomizer interface
  */
@@ -26,4 +28,13 @@ public interface IUniformRandomizer {
      * @return a random int in the range [lowBound,highBound]
      */
     int getUniformValue();
+
+    /**
+     * Calculates a random value based on the input String, drawn from a given generator so that
+     * the result can be reproduced
+     *
+     * @param random the generator to draw from
+     * @return a random int in the range [lowBound,highBound]
+     */
+    int getUniformValue(SplittableRandom random);
 }
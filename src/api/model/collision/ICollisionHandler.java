@@ -89,4 +89,11 @@ public interface ICollisionHandler {
      * object would contain BOTTOM)
      */
     ICollisionHandler getOpposites();
+
+    /**
+     * Gets every Direction in this collision as a bitmask, with one bit per Direction
+     * (see Direction#getMask)
+     * @return the bitwise OR of the masks of all the Directions in this collision
+     */
+    int getMask();
 }
@@ -18,4 +18,10 @@ public interface IDirection {
      * @return the opposite cardinal direction, or NONE if the current direction is NONE
      */
     Direction getOpposite();
+
+    /**
+     * Gets the single bit that represents this direction in a collision bitmask
+     * @return the bit for this direction
+     */
+    int getMask();
 }
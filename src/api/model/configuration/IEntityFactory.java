@@ -2,6 +2,7 @@ package api.model.configuration;
 
 import api.model.entity.IEntity;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -27,6 +28,37 @@ public interface IEntityFactory {
      */
     Optional<IEntity> createEntity(String entityString, double rowIndex, double colIndex);
 
+    /**
+     * Creates the entities for one row of a level, placing the entity for entityStrings[i] at
+     * (xOffset + i, yIndex) and skipping ids that do not decode to an entity
+     * @param entityStrings the ids of the row, from left to right
+     * @param xOffset the x-coordinate of the first id in the row
+     * @param yIndex the y-coordinate of the row
+     * @return the created entities, from left to right
+     */
+    List<IEntity> createEntities(String[] entityStrings, double xOffset, double yIndex);
+
+    /**
+     * Creates the entities for a block of a level, placing the entity for
+     * entityStrings[row][column] at (xOffset + column, yOffset + row) and skipping ids that do
+     * not decode to an entity
+     * @param entityStrings the ids of the block, row by row
+     * @param xOffset the x-coordinate of the first column of the block
+     * @param yOffset the y-coordinate of the first row of the block
+     * @return the created entities, row by row and from left to right
+     */
+    List<IEntity> createEntities(String[][] entityStrings, double xOffset, double yOffset);
+
+    /**
+     * Creates the entities for a chunk of tiles, placing the entity for the tile at (row, column)
+     * at (xOffset + column, yOffset + row) and skipping tiles that do not decode to an entity
+     * @param tiles the codes of the tiles
+     * @param xOffset the x-coordinate of the first column of the chunk
+     * @param yOffset the y-coordinate of the first row of the chunk
+     * @return the created entities, row by row and from left to right
+     */
+    List<IEntity> createEntities(ITileChunk tiles, double xOffset, double yOffset);
+
     /**
      * Creates an Optional of an IEntity instance through reflection
      * @param decodedEntityString The name of the decoded IEntity class
@@ -1,6 +1,7 @@
 package api.model.configuration;
 
 import java.io.File;
+import java.util.OptionalLong;
 
 /**
  * An interface responsible for creating the game configuration
@@ -56,6 +57,19 @@ public interface IGameConfiguration {
      */
     String[] getScrollerArgs();
 
+    /**
+     * Obtains how many times a second to step the level, which is Level.FRAMES_PER_SECOND unless
+     * the configuration sets it
+     * @return A double representing the number of steps in one second of play
+     */
+    double getTickRate();
+
+    /**
+     * Obtains the seed automatic level generation should draw from, if the configuration sets one
+     * @return An OptionalLong holding the seed, empty if generated levels should all differ
+     */
+    OptionalLong getSeed();
+
     /**
      * Obtains the level file used for the current level
      * @return A File representing the level file
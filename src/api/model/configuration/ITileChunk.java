@@ -0,0 +1,28 @@
+package api.model.configuration;
+
+/**
+ * A rectangle of tiles, held as the short codes TileRegistry gives their ids, that an
+ * IEntityFactory can create the entities of
+ */
+public interface ITileChunk {
+
+    /**
+     * Getter for the code of one tile
+     * @param row the row of the tile
+     * @param column the column of the tile
+     * @return the code of the tile, or TileRegistry.NO_TILE
+     */
+    short get(int row, int column);
+
+    /**
+     * Getter for the number of rows
+     * @return the number of rows
+     */
+    int getNumRows();
+
+    /**
+     * Getter for the number of columns
+     * @return the number of columns
+     */
+    int getNumCols();
+}
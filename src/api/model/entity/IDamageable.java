@@ -1,6 +1,5 @@
 package api.model.entity;
 
-import model.collision.CollisionDirections;
 import model.collision.Direction;
 import model.entity.Teams;
 import api.model.collision.ICollisionHandler;
@@ -60,10 +59,11 @@ public interface IDamageable {
      * @param damageable The other IDamageable entity to potentially apply damage to
      * @param currentCollidingDirections The current directions through which this entity is colliding with the other entity
      */
-    default void attemptApplyDamage(IDamageable damageable, CollisionDirections currentCollidingDirections){
+    default void attemptApplyDamage(IDamageable damageable, ICollisionHandler currentCollidingDirections){
         boolean isOnSameTeam = this.isOnSameTeam(damageable);
         boolean isEmpty =  currentCollidingDirections.isEmpty();
-        for(Direction direction : currentCollidingDirections.directionsList){
+        for(int remaining = currentCollidingDirections.getMask(); remaining != 0; remaining &= remaining - 1){
+            Direction direction = Direction.fromBit(Integer.numberOfTrailingZeros(remaining));
             boolean canApplyDamage = this.canApplyDamageToDirection(direction);
             boolean damageableCanReceiveDamage = damageable.canReceiveDamageFromDirection(direction.getOpposite());
 
@@ -39,7 +39,7 @@ public interface IEmpowering {
      /**
       * Sets a random modifier for an instance of the implementing class
       * @param value the value to instantiate the Modifier instance with
-      * @param duration The duration to instantiate the Modifier instance with
+      * @param duration The duration to instantiate the Modifier instance with, in seconds
       */
      default void setRandomModifier(double value, int duration){
           Random random = new Random();
@@ -11,14 +11,24 @@ import api.model.collision.ICollisionHandler;
 public interface IMovable extends IEntity {
 
 
+  /**
+   * Updates the position of this entity over one tick at the rate the physics constants are
+   * tuned for (Level.FRAMES_PER_SECOND)
+   */
+  default void updatePosition(){
+    this.updatePosition(1);
+  }
+
   /**
    * Updates the position of this entity
    * by translating its hitbox using its current x and y velocity
    * This should be done every frame/step of the level
+   * @param timeScale how long the step is, measured in ticks at Level.FRAMES_PER_SECOND (so 2 for
+   *                  a step at half that rate)
    */
-  default void updatePosition(){
-    this.getHitBox().translateX(this.getXVel());
-    this.getHitBox().translateY(this.getYVel());
+  default void updatePosition(double timeScale){
+    this.getHitBox().translateX(this.getXVel() * timeScale);
+    this.getHitBox().translateY(this.getYVel() * timeScale);
   }
 
   /**
@@ -1,5 +1,6 @@
 package api.model.entity;
 
+import model.Level;
 import model.entity.Modifier;
 
 import java.util.Map;
@@ -38,17 +39,24 @@ public interface IPlayer {
     Map<Modifier.ModifierType, Modifier> getModifiers();
 
     /**
-     * Updates the duration values for each of the IPlayer's modifiers
-     * If the modifier's duration is less than or equal to 0,
-     * the modifier is removed from the map
-     *
+     * Updates the duration values for each of the IPlayer's modifiers by one tick at
+     * Level.FRAMES_PER_SECOND
      */
     default void updateModifiers(){
+        this.updateModifiers(1.0 / Level.FRAMES_PER_SECOND);
+    }
+
+    /**
+     * Updates the duration values for each of the IPlayer's modifiers
+     * If the modifier has expired, the modifier is removed from the map
+     * @param elapsedSeconds how long has passed since the last update, in seconds
+     */
+    default void updateModifiers(double elapsedSeconds){
         for(Modifier.ModifierType modifierType : this.getModifiers().keySet()){
             Modifier modifier = this.getModifiers().get(modifierType);
             if(modifier != null){
-                modifier.updateDuration();
-                if(modifier.getDuration() <= 0){
+                modifier.updateDuration(elapsedSeconds);
+                if(modifier.isExpired()){
                     this.removeModifier(modifierType);
                 }
             }
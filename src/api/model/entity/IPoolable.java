@@ -0,0 +1,18 @@
+package api.model.entity;
+
+/**
+ * An interface for entities that can be reused once they have been despawned,
+ * instead of a new instance being constructed for the next chunk of a level
+ * (see EntityPool)
+ */
+public interface IPoolable extends IEntity {
+
+    /**
+     * Puts this entity back into the state it was constructed in, at a new position,
+     * as if it had just been constructed there. Its hitbox's previous position is
+     * moved too, so it is not drawn sliding over from where it was despawned
+     * @param x The x-coordinate to move this entity's Hitbox to
+     * @param y The y-coordinate to move this entity's Hitbox to
+     */
+    void reset(double x, double y);
+}
@@ -1,6 +1,7 @@
 package api.model.entity;
 
 import model.HitBox;
+import model.collision.CollisionMask;
 import model.collision.Direction;
 import api.model.collision.ICollisionHandler;
 
@@ -36,22 +37,22 @@ public interface ISpawner {
      * @param direction The ICollisionHandler instance to check the stored Directions for
      */
     default void attemptCreateAndAddSpawn(ICollisionHandler direction){
-        ICollisionHandler directionOpposite = direction.getOpposites();
-        if(this.getCollisionsRequiredForSpawn().oneIsContainedIn(directionOpposite)){
+        int directionOpposite = CollisionMask.getOppositeMask(direction.getMask());
+        if((this.getCollisionsRequiredForSpawn().getMask() & directionOpposite) != 0){
             double xPos = this.getHitBox().getXLeft();
             double yPos = this.getHitBox().getYTop();
             int height = this.getHitBox().getYSize();
             int width = this.getHitBox().getXSize();
-            if (directionOpposite.contains(Direction.TOP)) {
+            if ((directionOpposite & Direction.TOP.getMask()) != 0) {
                 yPos += height;
             }
-            if (directionOpposite.contains(Direction.BOTTOM)) {
+            if ((directionOpposite & Direction.BOTTOM.getMask()) != 0) {
                 yPos -= height;
             }
-            if (directionOpposite.contains(Direction.LEFT)) {
+            if ((directionOpposite & Direction.LEFT.getMask()) != 0) {
                 xPos += width;
             }
-            if (directionOpposite.contains(Direction.RIGHT)) {
+            if ((directionOpposite & Direction.RIGHT.getMask()) != 0) {
                 xPos -= width;
             }
             this.attemptCreateAndAddSpawn(xPos, yPos);
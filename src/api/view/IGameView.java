@@ -4,6 +4,7 @@ import controller.GameController;
 import javafx.event.Event;
 import javafx.stage.Stage;
 import api.model.IGameModel;
+import view.FramePacer;
 import view.GameScene;
 
 import java.util.List;
@@ -82,6 +83,26 @@ public interface IGameView {
      */
     void prepareAnimation();
 
+    /**
+     * Reveals the pacer that decides which frames are drawn, along with how many were missed
+     *
+     * @return the FramePacer of the animation
+     */
+    FramePacer getFramePacer();
+
+    /**
+     * Asks for the next frame to be handled straight away, even if the view is idle
+     */
+    void requestRedraw();
+
+    /**
+     * Reveals whether the view has nothing moving to draw (i.e. the game is paused, the window is
+     * not focused or a scene other than the game is showing)
+     *
+     * @return true if frames only need handling every so often
+     */
+    boolean isIdle();
+
     /**
      * Builds listeners for all controllers
      */
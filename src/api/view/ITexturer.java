@@ -2,6 +2,8 @@ package api.view;
 
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
+import api.model.ICamera;
+import api.model.IRenderSnapshot;
 import api.model.entity.IEntity;
 
 import java.io.IOException;
@@ -13,13 +15,6 @@ import java.util.TreeMap;
  */
 public interface ITexturer {
 
-    /**
-     * Builds a list of ImageViews from a properties file
-     *
-     * @param propertiesPath the filepath leading to the .properties file
-     */
-    List<ImageView> buildViewList(String propertiesPath);
-
     /**
      * Builds a TreeMap based on a properties file
      *
@@ -27,39 +22,41 @@ public interface ITexturer {
      * @return a new Map of properties
      * @throws IOException ioe
      */
-    TreeMap buildPropertiesMap(String propertiesPath) throws IOException,
+    TreeMap<String, String> buildPropertiesMap(String propertiesPath) throws IOException,
             NullPointerException;
 
     /**
-     * Constructs an ImageView with ID of id and Image from filepath
+     * Updates the textures
      *
-     * @param id       the id to give the ImageView
-     * @param filepath the filepath leading to the correct image
-     * @return a new ImageView
+     * @param entityList the list of Entities to be textured
      */
-    ImageView buildImageView(String id, String filepath);
+    void updateTextures(List<IEntity> entityList, double blocksWide, double blocksHigh);
 
     /**
-     * Builds the map String ids -> ImageViews
+     * Updates the textures, placing each entity where it appears on screen through camera
      *
-     * @param viewList the List<ImageView> to build the map on top of
+     * @param entityList the list of Entities to be textured
+     * @param camera     the camera of the level the entities are in
      */
-    void constructTextureMap(List<ImageView> viewList);
+    void updateTextures(List<IEntity> entityList, double blocksWide, double blocksHigh,
+        ICamera camera);
 
     /**
-     * Updates the textures
+     * Updates the textures to show a snapshot of a level, placing each entity where it appears on
+     * screen through the camera the snapshot was taken with
      *
-     * @param entityList the list of Entities to be textured
+     * @param snapshot the entities to be textured, and where the camera was
      */
-    void updateTextures(List<IEntity> entityList, double blocksWide, double blocksHigh);
+    void updateTextures(IRenderSnapshot snapshot, double blocksWide, double blocksHigh);
 
     /**
-     * Clears the textures out from textureGroup
+     * Clears the textures out from textureGroup, returning every view to the pool
      */
     void clearCurrentTextures();
 
     /**
-     * Inserts the new textures into textureGroup
+     * Brings textureGroup up to date with entityList: new entities get a view, moved entities
+     * get their view moved, and the views of entities no longer in entityList are removed
      *
      * @param entityList the entity list for whom we'll be applying the textures
      */
@@ -4,7 +4,6 @@ import api.controller.IImageBuilder;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -87,8 +86,12 @@ public class ImageBuilder extends Builder implements IImageBuilder {
   @Override
   public ImageView buildImageFromLine(Element imageNode) throws FileNotFoundException {
 
-    Image image = new Image(new FileInputStream(
-        getTextFromElement(imageNode, ImageBuilder.PATH)));
+    String path = getTextFromElement(imageNode, ImageBuilder.PATH);
+    Image image = ImageCache.getShared().get(path, ImageCache.NATURAL_SIZE,
+        ImageCache.NATURAL_SIZE);
+    if (image == null) {
+      throw new FileNotFoundException(path);
+    }
 
     ImageView output = new ImageView(image);
     output.setId(getTextFromElement(imageNode, ImageBuilder.ID));
@@ -0,0 +1,182 @@
+package controller;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import javafx.scene.image.Image;
+
+/**
+ * One cache of decoded images for the whole game, so that an image file is only read and decoded
+ * again once it has been evicted - not every time a Texturer or ImageBuilder is made. Images are
+ * cached by their path together with the size they were decoded at, so a texture decoded at the
+ * size of a tile and the same file decoded at its natural size are separate entries.
+ *
+ * The cache is bounded by the number of bytes its images take up (4 per pixel). Once it holds more
+ * than its capacity, the least recently used images are evicted until it fits again.
+ *
+ * Decoding happens on a background executor. load returns straight away with a future that
+ * completes once the image is decoded, so the JavaFX thread never has to wait on a file; get is
+ * there for callers that need the image right away and are willing to wait for it. Two requests
+ * for the same image while it is still being decoded share a single decode.
+ */
+public class ImageCache {
+
+  public static final long DEFAULT_CAPACITY_BYTES = 128L * 1024 * 1024;
+  // asking for a width or height of 0 decodes the image at its natural size
+  public static final int NATURAL_SIZE = 0;
+  private static final int BYTES_PER_PIXEL = 4;
+  private static final int DECODER_THREADS = 2;
+  private static final String DECODER_THREAD_NAME = "image-decoder";
+  private static final String KEY_SEPARATOR = "@";
+  private static final String SIZE_SEPARATOR = "x";
+
+  private static final ImageCache SHARED = new ImageCache(DEFAULT_CAPACITY_BYTES,
+      Executors.newFixedThreadPool(DECODER_THREADS, runnable -> {
+        Thread thread = new Thread(runnable, DECODER_THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
+      }));
+
+  private final long capacityBytes;
+  private final Executor decoder;
+  // in access order, so the eldest entry is always the least recently used image
+  private final LinkedHashMap<String, Image> images = new LinkedHashMap<>(16, 0.75f, true);
+  private final Map<String, CompletableFuture<Image>> decoding = new HashMap<>();
+  private long sizeInBytes;
+
+  /**
+   * Constructs a new ImageCache
+   *
+   * @param capacityBytes how many bytes of images the cache may hold
+   * @param decoder       the executor images are decoded on
+   */
+  public ImageCache(long capacityBytes, Executor decoder) {
+    this.capacityBytes = capacityBytes;
+    this.decoder = decoder;
+  }
+
+  /**
+   * @return the cache shared by the whole game, which decodes on its own daemon threads
+   */
+  public static ImageCache getShared() {
+    return SHARED;
+  }
+
+  /**
+   * Finds an image, decoding it in the background if it is not in the cache
+   *
+   * @param path   the filepath of the image
+   * @param width  the width to decode the image at, or NATURAL_SIZE
+   * @param height the height to decode the image at, or NATURAL_SIZE
+   * @return a future that completes with the image, or with null if the file could not be read as
+   * an image
+   */
+  public synchronized CompletableFuture<Image> load(String path, int width, int height) {
+    String key = toKey(path, width, height);
+    Image image = images.get(key);
+    if (image != null) {
+      return CompletableFuture.completedFuture(image);
+    }
+    CompletableFuture<Image> inFlight = decoding.get(key);
+    if (inFlight != null) {
+      return inFlight;
+    }
+    CompletableFuture<Image> future = new CompletableFuture<>();
+    decoding.put(key, future);
+    decoder.execute(() -> finishDecoding(key, future, decode(path, width, height)));
+    return future;
+  }
+
+  /**
+   * Finds an image, waiting for it to be decoded if it is not in the cache
+   *
+   * @param path   the filepath of the image
+   * @param width  the width to decode the image at, or NATURAL_SIZE
+   * @param height the height to decode the image at, or NATURAL_SIZE
+   * @return the image, or null if the file could not be read as an image
+   */
+  public Image get(String path, int width, int height) {
+    return load(path, width, height).join();
+  }
+
+  /**
+   * Finds an image only if it has already been decoded
+   *
+   * @param path   the filepath of the image
+   * @param width  the width the image was decoded at, or NATURAL_SIZE
+   * @param height the height the image was decoded at, or NATURAL_SIZE
+   * @return the image, or null if it is not in the cache
+   */
+  public synchronized Image getIfLoaded(String path, int width, int height) {
+    return images.get(toKey(path, width, height));
+  }
+
+  /**
+   * @return how many bytes the images in the cache take up
+   */
+  public synchronized long getSizeInBytes() {
+    return sizeInBytes;
+  }
+
+  /**
+   * @return how many images are in the cache
+   */
+  public synchronized int getImageCount() {
+    return images.size();
+  }
+
+  /**
+   * Evicts every image from the cache
+   */
+  public synchronized void clear() {
+    images.clear();
+    sizeInBytes = 0;
+  }
+
+  private void finishDecoding(String key, CompletableFuture<Image> future, Image image) {
+    synchronized (this) {
+      decoding.remove(key);
+      // images that failed to decode are not cached, so they are tried again next time
+      if (image != null && !images.containsKey(key)) {
+        images.put(key, image);
+        sizeInBytes += bytesOf(image);
+        evictLeastRecentlyUsed();
+      }
+    }
+    future.complete(image);
+  }
+
+  // never evicts the image that was just added, even if it alone is over capacity
+  private void evictLeastRecentlyUsed() {
+    Iterator<Image> eldest = images.values().iterator();
+    while (sizeInBytes > capacityBytes && images.size() > 1) {
+      sizeInBytes -= bytesOf(eldest.next());
+      eldest.remove();
+    }
+  }
+
+  private Image decode(String path, int width, int height) {
+    try (InputStream stream = new FileInputStream(path)) {
+      Image image = new Image(stream, width, height, false, true);
+      return image.isError() ? null : image;
+    } catch (IOException | RuntimeException e) {
+      // anything that stops the decode must still complete the future, or get would never return
+      return null;
+    }
+  }
+
+  private long bytesOf(Image image) {
+    return (long) image.getWidth() * (long) image.getHeight() * BYTES_PER_PIXEL;
+  }
+
+  private String toKey(String path, int width, int height) {
+    return path + KEY_SEPARATOR + width + SIZE_SEPARATOR + height;
+  }
+}
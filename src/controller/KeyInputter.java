@@ -9,6 +9,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.TreeMap;
+import java.util.concurrent.Executor;
 
 import api.controller.IKeyInputter;
 import api.controller.IKeyInputterMethodCaller;
@@ -38,7 +39,16 @@ public class KeyInputter implements IKeyInputter {
    * @throws InvalidFileException ife
    */
   public KeyInputter(IGameModel model) throws InvalidFileException {
-    methodCaller = new KeyInputterMethodCaller(model);
+    this(model, Runnable::run);
+  }
+
+  /**
+   * @param model    the GameModel to whom we will pass inputs captured from the keyboard
+   * @param executor runs each input on the model, such as by queueing it for the model's thread
+   * @throws InvalidFileException ife
+   */
+  public KeyInputter(IGameModel model, Executor executor) throws InvalidFileException {
+    methodCaller = new KeyInputterMethodCaller(model, executor);
     lastMethodFromKeyPress = "";
     keyToMethodMap = new HashMap<>();
 
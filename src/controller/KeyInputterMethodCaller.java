@@ -3,6 +3,7 @@ package controller;
 import api.controller.IKeyInputterMethodCaller;
 import api.model.IKeyPressFunctions;
 import api.model.IGameModel;
+import java.util.concurrent.Executor;
 
 /**
  * This class' job is to call methods on a GameModel in order to control the player movement,
@@ -10,21 +11,36 @@ import api.model.IGameModel;
  * order to call methods on the GameModel that KeyInputter saved as an instance variable during
  * construction
  *
+ * Every call goes through an Executor. By default it is made straight away, but a model stepped on
+ * another thread (see SimulationThread) can have them queued and applied between its ticks.
+ *
  * @author Alex Lu
  */
 public class KeyInputterMethodCaller implements IKeyInputterMethodCaller {
 
   private IGameModel model;
   private IKeyPressFunctions functions;
+  private final Executor inputExecutor;
 
   /**
-   * Constructs a KeyInputterMethodCaller object
+   * Constructs a KeyInputterMethodCaller object that calls methods on the model straight away
    *
    * @param mo the GameModel object that this class will call methods on
    */
   public KeyInputterMethodCaller(IGameModel mo) {
+    this(mo, Runnable::run);
+  }
+
+  /**
+   * Constructs a KeyInputterMethodCaller object
+   *
+   * @param mo       the GameModel object that this class will call methods on
+   * @param executor runs each call on the model, such as by queueing it for the model's thread
+   */
+  public KeyInputterMethodCaller(IGameModel mo, Executor executor) {
     model = mo;
     functions = model.getKeyPressFunctions();
+    inputExecutor = executor;
   }
 
   /**
@@ -32,7 +48,7 @@ public class KeyInputterMethodCaller implements IKeyInputterMethodCaller {
    */
   @Override
   public void left() {
-    functions.startMovingPlayerLeft();
+    inputExecutor.execute(functions::startMovingPlayerLeft);
   }
 
   /**
@@ -40,7 +56,7 @@ public class KeyInputterMethodCaller implements IKeyInputterMethodCaller {
    */
   @Override
   public void right() {
-    functions.startMovingPlayerRight();
+    inputExecutor.execute(functions::startMovingPlayerRight);
   }
 
   /**
@@ -48,7 +64,7 @@ public class KeyInputterMethodCaller implements IKeyInputterMethodCaller {
    */
   @Override
   public void up() {
-    functions.startPlayerJumping();
+    inputExecutor.execute(functions::startPlayerJumping);
   }
 
   /**
@@ -64,11 +80,13 @@ public class KeyInputterMethodCaller implements IKeyInputterMethodCaller {
    */
   @Override
   public void pause() {
-    if (functions.isPaused()) {
-      functions.resumeGame();
-    } else {
-      functions.pauseGame();
-    }
+    inputExecutor.execute(() -> {
+      if (functions.isPaused()) {
+        functions.resumeGame();
+      } else {
+        functions.pauseGame();
+      }
+    });
   }
 
   /**
@@ -76,7 +94,7 @@ public class KeyInputterMethodCaller implements IKeyInputterMethodCaller {
    */
   @Override
   public void leftRelease() {
-    functions.stopMovingPlayerLeft();
+    inputExecutor.execute(functions::stopMovingPlayerLeft);
   }
 
   /**
@@ -84,7 +102,7 @@ public class KeyInputterMethodCaller implements IKeyInputterMethodCaller {
    */
   @Override
   public void rightRelease() {
-    functions.stopMovingPlayerRight();
+    inputExecutor.execute(functions::stopMovingPlayerRight);
   }
 
   /**
@@ -92,7 +110,7 @@ public class KeyInputterMethodCaller implements IKeyInputterMethodCaller {
    */
   @Override
   public void upRelease() {
-    functions.stopPlayerJumping();
+    inputExecutor.execute(functions::stopPlayerJumping);
   }
 
   /**
@@ -116,7 +134,7 @@ public class KeyInputterMethodCaller implements IKeyInputterMethodCaller {
    */
   @Override
   public void reset() {
-    model.getLevel().reinitialize();
+    inputExecutor.execute(() -> model.getLevel().reinitialize());
   }
 
   /**
@@ -0,0 +1,132 @@
+package model;
+
+import api.model.ICamera;
+
+/**
+ * The camera of a Level. It stores how far the visible part of the level has scrolled from where
+ * it started, so that scrollers only have to move the camera instead of translating every entity
+ * in the level every frame.
+ *
+ * Level owns one Camera, scrollers move it, and the view and Level's bounds checks convert entity
+ * positions through it.
+ */
+public class Camera implements ICamera {
+
+  private double xOffset;
+  private double yOffset;
+  private double previousXOffset;
+  private double previousYOffset;
+
+  /**
+   * Constructs a Camera whose top left corner is at (0, 0)
+   */
+  public Camera() {
+    reset();
+  }
+
+  /**
+   * Getter for the x offset of the camera
+   * @return the world x coordinate of the left edge of the screen
+   */
+  @Override
+  public double getXOffset() {
+    return xOffset;
+  }
+
+  /**
+   * Getter for the y offset of the camera
+   * @return the world y coordinate of the top edge of the screen
+   */
+  @Override
+  public double getYOffset() {
+    return yOffset;
+  }
+
+  /**
+   * Scrolls the view so that every entity appears to move by <xScroll, yScroll> on screen
+   * @param xScroll the amount everything should move on screen in the x direction
+   * @param yScroll the amount everything should move on screen in the y direction
+   */
+  @Override
+  public void scroll(double xScroll, double yScroll) {
+    xOffset -= xScroll;
+    yOffset -= yScroll;
+  }
+
+  /**
+   * Converts a world x coordinate to a screen x coordinate
+   * @param worldX x coordinate in the level
+   * @return x coordinate on screen
+   */
+  @Override
+  public double toScreenX(double worldX) {
+    return worldX - xOffset;
+  }
+
+  /**
+   * Converts a world y coordinate to a screen y coordinate
+   * @param worldY y coordinate in the level
+   * @return y coordinate on screen
+   */
+  @Override
+  public double toScreenY(double worldY) {
+    return worldY - yOffset;
+  }
+
+  /**
+   * Converts a screen x coordinate to a world x coordinate
+   * @param screenX x coordinate on screen
+   * @return x coordinate in the level
+   */
+  @Override
+  public double toWorldX(double screenX) {
+    return screenX + xOffset;
+  }
+
+  /**
+   * Converts a screen y coordinate to a world y coordinate
+   * @param screenY y coordinate on screen
+   * @return y coordinate in the level
+   */
+  @Override
+  public double toWorldY(double screenY) {
+    return screenY + yOffset;
+  }
+
+  /**
+   * Records where the camera is now as where it was before the step that is about to run
+   */
+  @Override
+  public void savePreviousOffsets() {
+    previousXOffset = xOffset;
+    previousYOffset = yOffset;
+  }
+
+  /**
+   * Getter for the x offset of the camera as of the last call to savePreviousOffsets
+   * @return the previous world x coordinate of the left edge of the screen
+   */
+  @Override
+  public double getPreviousXOffset() {
+    return previousXOffset;
+  }
+
+  /**
+   * Getter for the y offset of the camera as of the last call to savePreviousOffsets
+   * @return the previous world y coordinate of the top edge of the screen
+   */
+  @Override
+  public double getPreviousYOffset() {
+    return previousYOffset;
+  }
+
+  /**
+   * Moves the camera back to where it started, with the top left of the screen at (0, 0)
+   */
+  @Override
+  public void reset() {
+    xOffset = 0;
+    yOffset = 0;
+    savePreviousOffsets();
+  }
+}
@@ -1,13 +1,17 @@
 package model;
 
 import java.io.File;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.Executor;
 import model.autogenerator.GenerationException;
 import model.configuration.*;
 import api.model.entity.IEntity;
 import api.model.scroll.Scroller;
+import model.scroll.ChunkPipeline;
 import model.scroll.ScrollerFactory;
+import model.simulation.RenderSnapshot;
+import api.model.ICamera;
 import api.model.IGameModel;
 import api.model.IKeyPressFunctions;
 import api.model.configuration.IGameConfiguration;
@@ -20,12 +24,25 @@ public class GameModel implements IGameModel {
     private Level level;
     private ScrollerFactory scrollerFactory;
     private api.model.configuration.IEntityFactory IEntityFactory;
+    private Executor chunkExecutor = ChunkPipeline.SHARED_EXECUTOR;
 
     public GameModel() {}
 
     public GameModel(IGameConfiguration gameConfiguration) throws InvalidFileException,
         NullPointerException, GenerationException {
+        this(gameConfiguration, ChunkPipeline.SHARED_EXECUTOR);
+    }
+
+    /**
+     * Builds a GameModel whose generating scroller builds its chunks on chunkExecutor, instead of
+     * on the threads shared by every ChunkPipeline
+     * @param gameConfiguration the configuration of the game to build
+     * @param chunkExecutor the executor generated chunks are built on
+     */
+    public GameModel(IGameConfiguration gameConfiguration, Executor chunkExecutor)
+        throws InvalidFileException, NullPointerException, GenerationException {
         this.gameConfiguration = gameConfiguration;
+        this.chunkExecutor = chunkExecutor;
         levelFile = gameConfiguration.getLevelFile();
 
         IEntityFactory = new EntityFactory();
@@ -34,6 +51,7 @@ public class GameModel implements IGameModel {
 
         ILevelLoader ILevelLoader = new LevelLoader(levelFile, IEntityFactory);
         this.level = new Level(ILevelLoader);
+        level.setTicksPerSecond(gameConfiguration.getTickRate());
         setLevelScroller();
     }
 
@@ -48,11 +66,15 @@ public class GameModel implements IGameModel {
     }
 
     /**
-     * Sets the scroller on level to a specific Scroller based on the contents of the level
+     * Sets the scroller on level to a specific Scroller based on the contents of the level. If the
+     * configuration has a seed, the scroller generates the same level from it every time. Any
+     * chunks it generates are built on this model's chunk executor.
      */
     @Override
     public void setLevelScroller() {
-        scrollerFactory = new ScrollerFactory();
+        OptionalLong seed = gameConfiguration.getSeed();
+        scrollerFactory = seed.isPresent() ? new ScrollerFactory(seed.getAsLong(), chunkExecutor)
+            : new ScrollerFactory(chunkExecutor);
         String[] scrollerArgs = gameConfiguration.getScrollerArgs();
         String autoGenerationPath = gameConfiguration.getAutoGeneratorPath();
         Scroller builtScroller = scrollerFactory.buildScroller(scrollerArgs, autoGenerationPath);
@@ -65,9 +87,38 @@ public class GameModel implements IGameModel {
      */
     @Override
     public List<IEntity> getAllEntitiesInLevel() {
-        List<IEntity> defensivelyCopiedEntityList = new ArrayList<>();
-        defensivelyCopiedEntityList.addAll(level.getCopyOfEntityList());
-        return defensivelyCopiedEntityList;
+        return level.getCopyOfEntityList();
+    }
+
+    /**
+     * Returns the entities in level that are on screen (or just off it), found through the
+     * level's broadphase rather than by checking every entity
+     * @param blocksWide the number of blocks the screen is wide
+     * @param blocksHigh the number of blocks the screen is high
+     * @return a new list of the entities that need to be drawn
+     */
+    @Override
+    public List<IEntity> getEntitiesInView(double blocksWide, double blocksHigh) {
+        return level.getEntitiesInView(blocksWide, blocksHigh);
+    }
+
+    /**
+     * Fills snapshot in with the type and position (now and before the last step) of every entity
+     * in view, along with the camera offsets and the score, in one pass over the level's
+     * broadphase. Nothing is allocated once snapshot has grown to fit the entities in view.
+     * @param snapshot the snapshot to fill in, replacing whatever it held
+     * @param blocksWide the number of blocks the screen is wide
+     * @param blocksHigh the number of blocks the screen is high
+     */
+    @Override
+    public void fillRenderSnapshot(RenderSnapshot snapshot, double blocksWide, double blocksHigh) {
+        int count = level.queryEntitiesInView(blocksWide, blocksHigh);
+        ICamera camera = level.getCamera();
+        snapshot.begin(count, camera.getXOffset(), camera.getYOffset(), level.getScore());
+        snapshot.setPreviousCamera(camera.getPreviousXOffset(), camera.getPreviousYOffset());
+        for (int index = 0; index < count; index++) {
+            snapshot.put(index, level.getEntityInView(index));
+        }
     }
 
     /**
@@ -23,10 +23,19 @@ public class HitBox implements IHitBox {
   public static final double CORNER_GLITCH_AVOIDANCE_OFFSET = 0.005;
   public static final int X_SIZE = 1;
   public static final int Y_SIZE = 1;
+  private static final int BOTTOM_MASK = Direction.BOTTOM.getMask();
+  private static final int TOP_MASK = Direction.TOP.getMask();
+  private static final int RIGHT_MASK = Direction.RIGHT.getMask();
+  private static final int LEFT_MASK = Direction.LEFT.getMask();
+  // the order getCollisionDirections has always listed the directions of a collision in
+  private static final Direction[] DETECTION_ORDER =
+      {Direction.BOTTOM, Direction.TOP, Direction.RIGHT, Direction.LEFT};
   double xLeft;
   double yTop;
   int xSize;
   int ySize;
+  private double previousXLeft;
+  private double previousYTop;
 
   /**
    * The HitBox constructor takes in a top coordinate and a
@@ -45,6 +54,7 @@ public class HitBox implements IHitBox {
     this.yTop = yTop;
     this.xSize = X_SIZE;
     this.ySize = Y_SIZE;
+    savePreviousPosition();
   }
 
   /**
@@ -60,6 +70,7 @@ public class HitBox implements IHitBox {
     this.xSize = xSize;
     this.yTop = yTop;
     this.ySize = ySize;
+    savePreviousPosition();
   }
 
   /**
@@ -170,6 +181,34 @@ public class HitBox implements IHitBox {
     yTop += deltaY;
   }
 
+  /**
+   * Records where the HitBox is now as where it was before the step that is about to run, so
+   * the view can draw it part of the way between the two
+   */
+  @Override
+  public void savePreviousPosition() {
+    previousXLeft = xLeft;
+    previousYTop = yTop;
+  }
+
+  /**
+   * Getter for xLeft as of the last call to savePreviousPosition
+   * @return previousXLeft
+   */
+  @Override
+  public double getPreviousXLeft() {
+    return previousXLeft;
+  }
+
+  /**
+   * Getter for yTop as of the last call to savePreviousPosition
+   * @return previousYTop
+   */
+  @Override
+  public double getPreviousYTop() {
+    return previousYTop;
+  }
+
   /**
    * This method calculates a collision with another HitBox by determining whether
    * the two HitBoxes' coordinates overlap.
@@ -187,26 +226,47 @@ public class HitBox implements IHitBox {
   @Override
   public CollisionDirections getCollisionDirections(HitBox otherBox) {
     CollisionDirections directions = new CollisionDirections();
+    int mask = getCollisionMask(otherBox);
+    for (Direction direction : DETECTION_ORDER) {
+      if ((mask & direction.getMask()) != 0) {
+        directions.add(direction);
+      }
+    }
+    return directions;
+  }
+
+  /**
+   * Does the same calculation as getCollisionDirections, but returns the Directions of the
+   * collision as a bitmask (see Direction#getMask) instead of creating a CollisionDirections object.
+   * This is what entities use every frame, since it does not allocate anything.
+   *
+   * @param otherBox the HitBox of the other Entity.
+   * @return the bitwise OR of BOTTOM, TOP, RIGHT and/or LEFT, depending on how the second HitBox
+   * collides with the first, or 0 if there is no collision.
+   */
+  @Override
+  public int getCollisionMask(HitBox otherBox) {
     double xRight = xLeft + xSize;
     double yBottom = yTop + ySize;
     if (!((xRight > otherBox.getXLeft() && xLeft < otherBox.getXRight()) &&
         (yBottom > otherBox.getYTop() && yTop < otherBox.getYBottom()))) {
-      return directions;
+      return 0;
     }
 
-      if (between(yBottom - otherBox.getYTop(), CORNER_GLITCH_AVOIDANCE_OFFSET, MAX_BOTTOM_INTERSECT)) {
-        directions.add(Direction.BOTTOM);
-      }
-      if (between(otherBox.getYBottom() - yTop, CORNER_GLITCH_AVOIDANCE_OFFSET, MAX_TOP_INTERSECT)) {
-        directions.add(Direction.TOP);
-      }
-      if (between(xRight - otherBox.getXLeft(), CORNER_GLITCH_AVOIDANCE_OFFSET, MAX_SIDE_INTERSECT)) {
-        directions.add(Direction.RIGHT);
-      }
-      if (between(otherBox.getXRight() - xLeft, CORNER_GLITCH_AVOIDANCE_OFFSET, MAX_SIDE_INTERSECT))  {
-        directions.add(Direction.LEFT);
-      }
-    return directions;
+    int mask = 0;
+    if (between(yBottom - otherBox.getYTop(), CORNER_GLITCH_AVOIDANCE_OFFSET, MAX_BOTTOM_INTERSECT)) {
+      mask |= BOTTOM_MASK;
+    }
+    if (between(otherBox.getYBottom() - yTop, CORNER_GLITCH_AVOIDANCE_OFFSET, MAX_TOP_INTERSECT)) {
+      mask |= TOP_MASK;
+    }
+    if (between(xRight - otherBox.getXLeft(), CORNER_GLITCH_AVOIDANCE_OFFSET, MAX_SIDE_INTERSECT)) {
+      mask |= RIGHT_MASK;
+    }
+    if (between(otherBox.getXRight() - xLeft, CORNER_GLITCH_AVOIDANCE_OFFSET, MAX_SIDE_INTERSECT))  {
+      mask |= LEFT_MASK;
+    }
+    return mask;
   }
 
 }
@@ -23,7 +23,9 @@ public class KeyPressFunctions implements IKeyPressFunctions {
   // this class overall made the project easier to maintain and made it easier to wrap my head
   // around how the key presses affect the game.
 
-  private boolean isPaused = false;
+  // read by the view, to tell whether there is anything to draw, while input is applied on the
+  // simulation thread
+  private volatile boolean isPaused = false;
   private boolean movePlayerLeft = false;
   private boolean movePlayerRight = false;
   private boolean jumpPlayer = false;
@@ -1,9 +1,11 @@
 package model;
 
+import model.collision.SpatialHash;
 import model.configuration.ILevelLoader;
 import model.entity.*;
 import model.scroll.AutoScroller;
 import api.model.scroll.Scroller;
+import api.model.ICamera;
 import api.model.IKeyPressFunctions;
 import api.model.ILevel;
 import api.model.entity.IEntity;
@@ -14,6 +16,7 @@ import api.model.entity.IWinnable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * The class that "plays" a game.
@@ -33,10 +36,20 @@ import java.util.Optional;
  */
 public class Level implements ILevel {
 
+  // the tick rate every speed, acceleration and gravity constant is tuned for - a level stepped
+  // at another rate scales each step by getTimeScale so the game plays at the same speed
   public static final int FRAMES_PER_SECOND = 60;
+  // in seconds
   public static final int MODIFIER_DURATION = 10;
   public static final double MODIFIER_VALUE = 1.5;
   private static final int ENEMY_SCORE = 100;
+  // how many cells around a movable entity the broadphase searches - one cell covers anything
+  // touching it, and the extra cells cover entities that were snapped out of a collision (by up to
+  // one HitBox unit) after they were last bucketed
+  private static final int BROADPHASE_REACH = 2;
+  // how many cells past each edge of the screen entities are still handed to the renderer, so an
+  // entity that is partly on screen is never culled
+  public static final int VIEW_MARGIN = 1;
   public api.model.IKeyPressFunctions IKeyPressFunctions = new KeyPressFunctions();
 
   private Scroller scroller;
@@ -68,12 +81,23 @@ public class Level implements ILevel {
   private List<Block> blockList;
   private List<IWinnable> winnableList;
 
+  // mirrors entityList, bucketed by position, so checkCollisions only has to look at nearby entities
+  private final SpatialHash broadphase = new SpatialHash();
+  private boolean broadphaseEnabled = true;
+
+  // entities stay in world coordinates - scrolling only moves the camera
+  private final Camera camera = new Camera();
+
   private int levelLength;
   private int levelWidth;
   private int score;
-  private boolean levelLost;
-  private boolean levelWon;
-  private boolean isSaving;
+  // read by the view while the level is stepped on a SimulationThread
+  private volatile boolean levelLost;
+  private volatile boolean levelWon;
+  private volatile boolean isSaving;
+  private int drawnEntityCount;
+  private int culledEntityCount;
+  private double ticksPerSecond = FRAMES_PER_SECOND;
 
   /**
    * The constructor for a Level
@@ -101,9 +125,13 @@ public class Level implements ILevel {
    * 9. It scrolls the game, adjusting the viewing window, if necessary.
    *
    * If the game is paused, the above steps are not run, freezing the game in place.
+   *
+   * Before any of that, where every movable entity and the camera are is saved as where they
+   * were before the step, so the view can draw them part of the way between the two.
    */
   @Override
   public void step() {
+    savePreviousPositions();
     if (!IKeyPressFunctions.isPaused()) {
       this.removeEntitiesAsNeeded();
       this.spawnEntitiesAsNeeded();
@@ -171,7 +199,7 @@ public class Level implements ILevel {
   @Override
   public void updateModifiers() {
     for (Player player : playerList) {
-      player.updateModifiers();
+      player.updateModifiers(getTickSeconds());
     }
   }
 
@@ -183,7 +211,7 @@ public class Level implements ILevel {
   @Override
   public void updateVelocities() {
     for (Player player : playerList) {
-      player.updateVelocity(IKeyPressFunctions.isPlayerMovingLeft(), IKeyPressFunctions.isPlayerMovingRight(), IKeyPressFunctions.isPlayerJumping());
+      player.updateVelocity(IKeyPressFunctions.isPlayerMovingLeft(), IKeyPressFunctions.isPlayerMovingRight(), IKeyPressFunctions.isPlayerJumping(), getTimeScale());
     }
     for (Enemy enemy : enemyList) {
       if(!playerList.isEmpty()){
@@ -194,12 +222,41 @@ public class Level implements ILevel {
 
   /**
    * Check collisions of entities.
-   * The game only needs to check collisions for movable entities, but for each of those entities,
-   * it has to iterate through every entity in the level. If a collision is detected, the
-   * entity will react appropriately.
+   * The game only needs to check collisions for movable entities. For each of those entities,
+   * the broadphase hands over every entity in the neighbouring cells, in the same order as they
+   * appear in entityList, so the results are identical to checking against every entity in the level.
+   * If a collision is detected, the entity will react appropriately.
+   *
+   * If the broadphase is disabled, every movable entity is checked against every entity in the level.
    */
   @Override
   public void checkCollisions(){
+    if (!broadphaseEnabled) {
+      checkAllCollisions();
+      return;
+    }
+    for (int index = 0; index < movableEntityList.size(); index++) {
+      broadphase.update(movableEntityList.get(index));
+    }
+    for (int index = 0; index < movableEntityList.size(); index++) {
+      IMovable movable = movableEntityList.get(index);
+      int candidateCount = broadphase.query(movable.getHitBox(), BROADPHASE_REACH);
+      for (int candidate = 0; candidate < candidateCount; candidate++) {
+        IEntity otherEntity = broadphase.getResult(candidate);
+        if (!movable.equals(otherEntity)) {
+          movable.checkCollision(otherEntity);
+        }
+      }
+      broadphase.update(movable);
+    }
+  }
+
+  /**
+   * Checks collisions by iterating through every entity in the level for every movable entity.
+   * This is the O(mn) loop that the broadphase replaces, kept so the two can be compared.
+   */
+  @Override
+  public void checkAllCollisions(){
     for (IMovable movable : this.movableEntityList) {
       for(IEntity otherEntity : this.entityList){
         if(!movable.equals(otherEntity)){
@@ -209,25 +266,48 @@ public class Level implements ILevel {
     }
   }
 
+  /**
+   * Turns the spatial hash broadphase used by checkCollisions on or off. When it is off,
+   * checkCollisions falls back to checking every movable entity against every entity.
+   * @param enabled true to use the broadphase
+   */
+  @Override
+  public void setBroadphaseEnabled(boolean enabled) {
+    broadphaseEnabled = enabled;
+  }
+
+  /**
+   * Reveals whether checkCollisions is using the spatial hash broadphase
+   * @return true if the broadphase is enabled
+   */
+  @Override
+  public boolean isBroadphaseEnabled() {
+    return broadphaseEnabled;
+  }
+
   /**
    * Updates the position of player and enemies according to their velocities.
    */
   @Override
   public void updatePositions(){
+    double timeScale = getTimeScale();
     for (Player player : this.playerList) {
-      player.updatePosition();
+      player.updatePosition(timeScale);
       keepPlayerInBounds(player);
+      broadphase.update(player);
     }
     for (Enemy enemy : this.enemyList) {
-      enemy.updatePosition();
+      enemy.updatePosition(timeScale);
+      broadphase.update(enemy);
     }
   }
 
 
   /**
-   * Moves the entities in the level based on data on this level and the player.
-   * Depending on the settings of the scroller, entities may move continuously in one direction,
-   * move if the player is at a certain coordinate, or not move at all.
+   * Moves the camera based on data on this level and the player.
+   * Depending on the settings of the scroller, the camera may move continuously in one direction,
+   * move if the player is at a certain position on screen, or not move at all. Entities themselves
+   * are not moved by scrolling.
    */
   @Override
   public void scroll() {
@@ -238,7 +318,8 @@ public class Level implements ILevel {
   }
 
   /**
-   * Moves all entities in the list by <xChange, yChange>
+   * Moves all entities in the list by <xChange, yChange> in world coordinates.
+   * Scrollers do not use this - they move the camera, which does not touch any entity.
    * @param xChange the amount to scroll the entity in the x direction
    * @param yChange the amount to scroll the entity in the y direction
    */
@@ -258,6 +339,131 @@ public class Level implements ILevel {
     HitBox hitBox = entity.getHitBox();
     hitBox.translateX(xChange);
     hitBox.translateY(yChange);
+    broadphase.update(entity);
+  }
+
+  /**
+   * Getter for the camera, which defines which part of the level is on screen
+   * @return the camera of this level
+   */
+  @Override
+  public ICamera getCamera() {
+    return camera;
+  }
+
+  /**
+   * Saves where every movable entity and the camera are now as where they were before the step
+   * that is about to run
+   */
+  @Override
+  public void savePreviousPositions() {
+    for (IMovable movable : movableEntityList) {
+      movable.getHitBox().savePreviousPosition();
+    }
+    camera.savePreviousOffsets();
+  }
+
+  /**
+   * Sets how many times a second this level is stepped. The level still plays at the same speed -
+   * each step just covers more or less time (see getTimeScale).
+   * @param newTicksPerSecond how many steps make up one second of play - a rate that is not
+   *                          positive is ignored
+   */
+  @Override
+  public void setTicksPerSecond(double newTicksPerSecond) {
+    if (newTicksPerSecond > 0) {
+      ticksPerSecond = newTicksPerSecond;
+    }
+  }
+
+  /**
+   * Reveals how many times a second this level is stepped
+   * @return ticksPerSecond, FRAMES_PER_SECOND unless it has been set
+   */
+  @Override
+  public double getTicksPerSecond() {
+    return ticksPerSecond;
+  }
+
+  /**
+   * Reveals how long one step is, measured in ticks at FRAMES_PER_SECOND, which is how much every
+   * velocity, acceleration and scroll is multiplied by in a step
+   * @return 1 when stepped at FRAMES_PER_SECOND, 2 when stepped half as often, and so on
+   */
+  @Override
+  public double getTimeScale() {
+    return FRAMES_PER_SECOND / ticksPerSecond;
+  }
+
+  /**
+   * Reveals how long one step is in seconds, which is how much time is taken off every modifier
+   * @return 1 / ticksPerSecond
+   */
+  @Override
+  public double getTickSeconds() {
+    return 1 / ticksPerSecond;
+  }
+
+  /**
+   * Collects the entities that need to be drawn: those on screen, or within VIEW_MARGIN cells of
+   * it. They are looked up in the broadphase, so entities far off screen are never visited, and
+   * come back in the same order as they appear in entityList.
+   * @param blocksWide the number of blocks the screen is wide
+   * @param blocksHigh the number of blocks the screen is high
+   * @return a new list of the entities in view
+   */
+  @Override
+  public List<IEntity> getEntitiesInView(double blocksWide, double blocksHigh) {
+    int count = queryEntitiesInView(blocksWide, blocksHigh);
+    List<IEntity> entitiesInView = new ArrayList<>(count);
+    for (int index = 0; index < count; index++) {
+      entitiesInView.add(getEntityInView(index));
+    }
+    return entitiesInView;
+  }
+
+  /**
+   * Finds the same entities as getEntitiesInView without putting them in a new list: they can be
+   * read with getEntityInView until the broadphase is next queried (such as by the next step)
+   * @param blocksWide the number of blocks the screen is wide
+   * @param blocksHigh the number of blocks the screen is high
+   * @return the number of entities in view
+   */
+  @Override
+  public int queryEntitiesInView(double blocksWide, double blocksHigh) {
+    int count = broadphase.query(camera.toWorldX(0), camera.toWorldY(0),
+        camera.toWorldX(blocksWide), camera.toWorldY(blocksHigh), VIEW_MARGIN);
+    drawnEntityCount = count;
+    culledEntityCount = entityList.size() - count;
+    return count;
+  }
+
+  /**
+   * Obtains one of the entities found by the last call to queryEntitiesInView
+   * @param index which entity, from 0 to the count queryEntitiesInView returned - 1
+   * @return the entity
+   */
+  @Override
+  public IEntity getEntityInView(int index) {
+    return broadphase.getResult(index);
+  }
+
+  /**
+   * Reveals how many entities the last call to getEntitiesInView returned
+   * @return the number of entities drawn
+   */
+  @Override
+  public int getDrawnEntityCount() {
+    return drawnEntityCount;
+  }
+
+  /**
+   * Reveals how many entities the last call to getEntitiesInView left out
+   * @return the number of entities culled
+   */
+  @Override
+  public int getCulledEntityCount() {
+    return culledEntityCount;
   }
 
   /**
@@ -305,6 +511,8 @@ public class Level implements ILevel {
     this.entityList = ILevelLoader.getCopyOfEntityList();
     this.levelLength = ILevelLoader.getLevelLength();
     this.levelWidth = ILevelLoader.getLevelWidth();
+    broadphase.rebuild(entityList);
+    camera.reset();
   }
 
   /**
@@ -316,6 +524,7 @@ public class Level implements ILevel {
   public void addEntity(IEntity entity) {
     if (entity!=null) {
       this.entityList.add(entity);
+      broadphase.insert(entity);
     }
 
     if (entity instanceof Block) {
@@ -332,7 +541,7 @@ public class Level implements ILevel {
     }
     if (entity instanceof PowerUp) {
       PowerUp powerUp = (PowerUp) entity;
-      powerUp.setRandomModifier(MODIFIER_VALUE, MODIFIER_DURATION * FRAMES_PER_SECOND);
+      powerUp.setRandomModifier(MODIFIER_VALUE, MODIFIER_DURATION);
       this.powerUpList.add(powerUp);
     }
     if (entity instanceof IWinnable) {
@@ -348,6 +557,7 @@ public class Level implements ILevel {
   public void removeEntity(IEntity entity) {
     if(entity != null){
       this.entityList.remove(entity);
+      broadphase.remove(entity);
     }
     if (entity instanceof Block) {
       this.blockList.remove(entity);
@@ -371,15 +581,41 @@ public class Level implements ILevel {
   }
 
   /**
-   * Gets the entity at a certain set of coordinates.
-   * @param xCoordinate of entity
-   * @param yCoordinate of entity
+   * Removes a batch of entities from every list in the level without treating them as removed
+   * from play (no score is given). Each list is only walked once no matter how many entities are
+   * removed, and the remaining entities keep their order. Scrollers use this (through a Despawner)
+   * to throw away entities that have gone off screen for good.
+   * @param entities the entities to despawn
+   */
+  @Override
+  public void despawnEntities(Set<IEntity> entities) {
+    if (entities.isEmpty()) {
+      return;
+    }
+    this.entityList.removeIf(entities::contains);
+    this.playerList.removeIf(entities::contains);
+    this.enemyList.removeIf(entities::contains);
+    this.movableEntityList.removeIf(entities::contains);
+    this.powerUpList.removeIf(entities::contains);
+    this.blockList.removeIf(entities::contains);
+    this.winnableList.removeIf(entities::contains);
+    for (IEntity entity : entities) {
+      broadphase.remove(entity);
+    }
+  }
+
+  /**
+   * Gets the entity at a certain set of screen coordinates (see getCamera).
+   * @param xCoordinate of entity on screen
+   * @param yCoordinate of entity on screen
    * @return entity at the coordinates. If there is no entity there, it returns null.
    */
   @Override
   public Optional<IEntity> getEntityAt(int xCoordinate, int yCoordinate) {
     for(IEntity entity : entityList){
-      if((int)entity.getHitBox().getXLeft() == xCoordinate && (int)entity.getHitBox().getYTop() == yCoordinate){
+      HitBox hitBox = entity.getHitBox();
+      if((int)camera.toScreenX(hitBox.getXLeft()) == xCoordinate
+          && (int)camera.toScreenY(hitBox.getYTop()) == yCoordinate){
         return Optional.of(entity);
       }
     }
@@ -388,18 +624,19 @@ public class Level implements ILevel {
 
   /**
    * Makes sure that the player is within bounds (i.e. xleft > 0 and xright <
-   * scroller.NUM_BLOCKS or the num blocks wide and tall on display) and if
-   * not, places that player within bounds
+   * scroller.NUM_BLOCKS or the num blocks wide and tall on display, measured on screen
+   * through the camera) and if not, places that player within bounds
    *
    * @param player the player whose bounds will be checked
    */
   @Override
   public void keepPlayerInBounds(Player player) {
-      if (player.getHitBox().getXLeft() < 0) {
-        player.getHitBox().setXLeft(0);
+      HitBox hitBox = player.getHitBox();
+      if (camera.toScreenX(hitBox.getXLeft()) < 0) {
+        hitBox.setXLeft(camera.toWorldX(0));
       }
-      else if (player.getHitBox().getXRight() > scroller.NUM_BLOCKS) {
-        player.getHitBox().setXRight(scroller.NUM_BLOCKS);
+      else if (camera.toScreenX(hitBox.getXRight()) > scroller.NUM_BLOCKS) {
+        hitBox.setXRight(camera.toWorldX(scroller.NUM_BLOCKS));
       }
   }
 
@@ -431,13 +668,13 @@ public class Level implements ILevel {
 
   /**
    * Checks to see if the player has lost the level (i.e. fell through
-   * bottom of screen) and if so resets the level
+   * bottom of screen, as seen through the camera) and if so resets the level
    */
   @Override
   public void checkFellOutOfLevel() {
     if (playerList.size() > 0) {
       Player player = playerList.get(0);
-      if (player.getHitBox().getYTop() > scroller.NUM_BLOCKS) {
+      if (camera.toScreenY(player.getHitBox().getYTop()) > scroller.NUM_BLOCKS) {
         setLevelLost(true);
       }
     }
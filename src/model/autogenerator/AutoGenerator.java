@@ -1,9 +1,8 @@
 package model.autogenerator;
 
 import api.model.autogenerator.IAutoGenerator;
+import model.configuration.TileChunk;
 
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * This class is responsible for building a 2D array of Strings where the Strings represent entity
@@ -16,6 +15,17 @@ import java.util.List;
  * it by AutoGenerationScroller or DoodleGenerationScroller, when either of those objects requested
  * automatic level generation.
  *
+ * Every chunk is numbered, and chunk k is drawn from its own generator seeded by nothing but the
+ * seed of the AutoGenerator and k (see ChunkRandom). generateBlock(k) therefore always gives back
+ * the same chunk for the same seed, on any thread, so a chunk can be regenerated rather than kept,
+ * and several can be generated at once. Without a seed, a new one is picked for every
+ * AutoGenerator, so every run still generates a different level.
+ *
+ * The xml file is read once, into a GenerationPlan that already holds everything that is the same
+ * in every chunk, so generating a chunk only copies that and draws the random instructions.
+ * generateTiles builds a chunk into a reusable TileChunk of entity type codes, which is what the
+ * game uses; generateBlock gives the same chunk as a 2D String array.
+ *
  * For more details on how to write the xml file to configure automatic level generation, please
  * refer to AUTOGENERATOR.md in the top level of our project
  *
@@ -25,13 +35,9 @@ public class AutoGenerator implements IAutoGenerator {
 
   private static final String AUTO_GENERATION_FAILED = "Automatic level generation failed";
   private static final String FILEPATH_START = "./src/resources/game_configuration/auto/";
-  private int numCols;
-  private int numRows;
-  private String defaultValue;
-  private String[][] newBlock;
-
-  private List<ConstantGeneration> constantSpecifications;
-  private List<RandomGeneration> randomSpecifications;
+  private final long seed;
+  private long nextChunk;
+  private GenerationPlan plan;
 
   /**
    * Instantiates an AutoGenerator object
@@ -40,6 +46,18 @@ public class AutoGenerator implements IAutoGenerator {
    *             generation
    */
   public AutoGenerator(String path) {
+    this(path, ChunkRandom.newSeed());
+  }
+
+  /**
+   * Instantiates an AutoGenerator object whose chunks are all decided by a seed
+   *
+   * @param path a String pointing to the xml file to be used to configure automatic level
+   *             generation
+   * @param seed the seed every chunk is drawn from
+   */
+  public AutoGenerator(String path, long seed) {
+    this.seed = seed;
     try {
       XMLHelper helper = new XMLHelper(FILEPATH_START + path);
       buildSpecification(helper);
@@ -49,82 +67,78 @@ public class AutoGenerator implements IAutoGenerator {
   }
 
   /**
-   * Builds the specification lists that the AutoGenerator uses to generate levels
+   * Compiles the specification that the AutoGenerator uses to generate levels into its plan
    *
    * @param helper the XML helper object which will generate what is necessary
    */
   private void buildSpecification(XMLHelper helper) {
-    setDimensions(helper);
-    setDefault(helper);
-
-    constantSpecifications = new ArrayList<>(helper.getConstantGenerations());
-    randomSpecifications = new ArrayList<>(helper.getRandomGenerations());
-
+    plan = new GenerationPlan(helper.getNumRows(), helper.getNumCols(),
+        helper.getDefaultEntity(), helper.getConstantGenerations(),
+        helper.getRandomGenerations());
   }
 
   /**
-   * Updates the specification of the AutoGenerator such that its default entityType equals
-   * something in the lineParts array
+   * Builds the 2D String array that represents the entities who fill the next block
+   *
+   * @return the 2D String array of new entity representations
    */
-  private void setDimensions(XMLHelper helper) {
-    numCols = helper.getNumCols();
-    numRows = helper.getNumRows();
+  @Override
+  public String[][] generateNextBlock() {
+    return generateBlock(nextChunk++);
   }
 
   /**
-   * Updates the specification of the AutoGenerator such that its default entityType equals
-   * something in the lineParts array
+   * Builds the 2D String array for one chunk of the stream. This depends only on the seed and
+   * chunkIndex, and may be called from several threads at once.
+   *
+   * @param chunkIndex which chunk to build, counting from 0
+   * @return the 2D String array of new entity representations
    */
-  private void setDefault(XMLHelper helper) {
-    defaultValue = helper.getDefaultEntity();
+  @Override
+  public String[][] generateBlock(long chunkIndex) {
+    return plan.buildChunk(ChunkRandom.forChunk(seed, chunkIndex));
   }
 
   /**
-   * Builds the 2D String array that represents the entities who fill the next block
+   * Builds one chunk of the stream into a TileChunk, without allocating it. Like generateBlock,
+   * this depends only on the seed and chunkIndex, and may be called from several threads at once
+   * (with a different TileChunk each).
    *
-   * @return the 2D String array of new entity representations
+   * @param chunkIndex which chunk to build, counting from 0
+   * @param tiles      the TileChunk to build the chunk in, getNumRows() by getNumCols()
    */
-  @Override
-  public String[][] generateNextBlock() {
-    newBlock = new String[numRows][numCols];
-    fillInDefaultValues();
-    executeAllSpecifications();
-    return newBlock;
+  public void generateTiles(long chunkIndex, TileChunk tiles) {
+    plan.buildTiles(ChunkRandom.forChunk(seed, chunkIndex), tiles);
   }
 
   /**
-   * Fills the new block with default entity entityType (i.e. what will be present at a location in
-   * the game matrix if there aren't any other entity values to overwrite it)
+   * Getter for the number of rows in each chunk
+   *
+   * @return the number of rows the xml file specifies
    */
-  private void fillInDefaultValues() {
-    for (int row = 0; row < numRows; row += 1) {
-      for (int column = 0; column < numCols; column += 1) {
-        newBlock[row][column] = defaultValue;
-      }
-    }
+  @Override
+  public int getNumRows() {
+    return plan.getNumRows();
   }
 
   /**
-   * Reads each of the GenerationInstruction objects in the specifications list and then calls
-   * executeSpecification on that
+   * Getter for the number of columns in each chunk
+   *
+   * @return the number of columns the xml file specifies
    */
-  private void executeAllSpecifications() {
-    constantSpecifications.forEach(genInst -> executeSpecification(genInst));
-
-    randomSpecifications.forEach(genInst -> genInst.regenerate());
-    randomSpecifications.forEach(genInst -> executeSpecification(genInst));
+  @Override
+  public int getNumCols() {
+    return plan.getNumCols();
   }
 
   /**
-   * Applies a single GenerationInstruction to the 2D array newBlock
+   * Reveals the seed the chunks are drawn from, which reproduces them when given to a new
+   * AutoGenerator
    *
-   * @param spec the GenerationInstruction to apply to the newBlock
+   * @return seed
    */
-  private void executeSpecification(GenerationInstruction spec) {
-    for (int row = spec.getStartRow(); row <= spec.getEndRow(); row += 1) {
-      for (int column = spec.getStartCol(); column <= spec.getEndCol(); column += 1) {
-        newBlock[row][column] = spec.getEntityTypeToInsert();
-      }
-    }
+  @Override
+  public long getSeed() {
+    return seed;
   }
 }
@@ -0,0 +1,48 @@
+package model.autogenerator;
+
+import java.util.SplittableRandom;
+
+/**
+ * This class hands out the random number generators that automatic level generation draws from.
+ * Every chunk an AutoGenerator builds gets its own generator, seeded from nothing but the seed of
+ * the AutoGenerator and the index of the chunk - so chunk k of a given seed always comes out the
+ * same, whether it is generated first, last, again later or on another thread at the same time as
+ * other chunks.
+ */
+public final class ChunkRandom {
+
+  // the odd constant SplittableRandom itself steps its seed by
+  private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+  private ChunkRandom() {
+  }
+
+  /**
+   * Builds the generator for one chunk
+   *
+   * @param seed       the seed of the whole stream of chunks
+   * @param chunkIndex which chunk of the stream, counting from 0
+   * @return a new generator that depends only on seed and chunkIndex
+   */
+  public static SplittableRandom forChunk(long seed, long chunkIndex) {
+    // mixing the seed first keeps (seed, k + 1) from lining up with (seed + 1, k), and mixing again
+    // keeps chunk k + 1 from starting where SplittableRandom's own stepping takes chunk k
+    return new SplittableRandom(mix(mix(seed) + GOLDEN_GAMMA * (chunkIndex + 1)));
+  }
+
+  /**
+   * Picks a seed for a stream of chunks that has not been given one
+   *
+   * @return a new, unpredictable seed
+   */
+  public static long newSeed() {
+    return new SplittableRandom().nextLong();
+  }
+
+  // the finalizer of SplitMix64, which spreads every bit of z across the whole result
+  private static long mix(long z) {
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+}
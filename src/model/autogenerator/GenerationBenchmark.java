@@ -0,0 +1,120 @@
+package model.autogenerator;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import model.configuration.TileChunk;
+
+/**
+ * Measures how fast an AutoGenerator builds chunks for each automatic generation file, so changes
+ * to how chunks are generated can be compared before and after.
+ *
+ * For every .xml file in the auto folder, an AutoGenerator with a fixed seed generates a number of
+ * warm up chunks and then a number of measured chunks, in several rounds. Chunks are generated the
+ * way the game generates them, with generateTiles into a TileChunk that is reused. The fastest
+ * round is kept (the others mostly measure the garbage collector and the JIT), and one CSV row is
+ * printed per file:
+ *
+ *   file,rows,cols,chunks,chunks_per_sec,ns_per_chunk
+ *
+ * Run it from the project root, optionally giving the number of chunks per round:
+ *
+ *   java -cp [classes] model.autogenerator.GenerationBenchmark [chunks]
+ */
+public class GenerationBenchmark {
+
+  public static final String AUTO_FOLDER = "./src/resources/game_configuration/auto/";
+  public static final String TABLE_HEADER = "file,rows,cols,chunks,chunks_per_sec,ns_per_chunk";
+  public static final int DEFAULT_CHUNKS = 100000;
+  private static final String XML_EXTENSION = ".xml";
+  private static final int ROUNDS = 5;
+  private static final long SEED = 404;
+  private static final double NANOS_PER_SECOND = 1e9;
+
+  private final List<String> files;
+  // written to with every chunk, so the JIT cannot throw the chunks away
+  private long checksum;
+
+  /**
+   * Instantiates a GenerationBenchmark over the given files
+   *
+   * @param files the names of automatic generation files, relative to the auto folder
+   */
+  public GenerationBenchmark(List<String> files) {
+    this.files = new ArrayList<>(files);
+  }
+
+  /**
+   * Finds every automatic generation file in a folder
+   *
+   * @param folder the folder to search, normally AUTO_FOLDER
+   * @return the sorted names of the .xml files in it
+   */
+  public static List<String> findFiles(String folder) {
+    String[] names = new File(folder).list((directory, name) -> name.endsWith(XML_EXTENSION));
+    List<String> found = new ArrayList<>(Arrays.asList(names == null ? new String[0] : names));
+    found.sort(null);
+    return found;
+  }
+
+  /**
+   * Times chunk generation for every file
+   *
+   * @param chunks the number of chunks to generate per round
+   * @return one CSV row per file, in the order of TABLE_HEADER
+   */
+  public List<String> run(int chunks) {
+    List<String> rows = new ArrayList<>();
+    for (String file : files) {
+      AutoGenerator generator = new AutoGenerator(file, SEED);
+      TileChunk tiles = new TileChunk(generator.getNumRows(), generator.getNumCols());
+      timeChunks(generator, tiles, chunks);
+      long bestNanos = Long.MAX_VALUE;
+      for (int round = 0; round < ROUNDS; round++) {
+        bestNanos = Math.min(bestNanos, timeChunks(generator, tiles, chunks));
+      }
+      rows.add(toRow(file, tiles.getNumRows(), tiles.getNumCols(), chunks, bestNanos));
+    }
+    return rows;
+  }
+
+  /**
+   * Reveals something that depends on every chunk generated, so that they must all be built
+   *
+   * @return checksum
+   */
+  public long getChecksum() {
+    return checksum;
+  }
+
+  // how long generator takes to build chunks chunks into tiles, in nanoseconds
+  private long timeChunks(AutoGenerator generator, TileChunk tiles, int chunks) {
+    long start = System.nanoTime();
+    for (int chunk = 0; chunk < chunks; chunk++) {
+      generator.generateTiles(chunk, tiles);
+      checksum += tiles.get(chunk % tiles.getNumRows(), chunk % tiles.getNumCols());
+    }
+    return System.nanoTime() - start;
+  }
+
+  private String toRow(String file, int rows, int cols, int chunks, long nanos) {
+    double seconds = Math.max(1, nanos) / NANOS_PER_SECOND;
+    return String.format(Locale.US, "%s,%d,%d,%d,%.0f,%.1f", file, rows, cols, chunks,
+        chunks / seconds, (double) nanos / chunks);
+  }
+
+  /**
+   * Times every automatic generation file and prints the table
+   *
+   * @param args optionally the number of chunks per round
+   */
+  public static void main(String[] args) {
+    int chunks = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_CHUNKS;
+    GenerationBenchmark benchmark = new GenerationBenchmark(findFiles(AUTO_FOLDER));
+    System.out.println(TABLE_HEADER);
+    benchmark.run(chunks).forEach(System.out::println);
+    System.err.println("checksum " + benchmark.getChecksum());
+  }
+}
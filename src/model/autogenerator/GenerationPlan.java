@@ -0,0 +1,111 @@
+package model.autogenerator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import model.configuration.TileChunk;
+import model.configuration.TileRegistry;
+
+/**
+ * This class is what an AutoGenerator compiles its xml file into: everything about a chunk that is
+ * the same every time, worked out once, and the random instructions that are drawn on top of it.
+ *
+ * The default entity type and every ConstantGeneration never change from chunk to chunk, so they
+ * are written once into a template when the plan is built. Chunks are TileChunks of the codes
+ * TileRegistry gives entity types: each starts as a copy of the template (a single
+ * System.arraycopy), and then every RandomGeneration draws its bounds from the generator of that
+ * chunk, in the order they were specified, and fills them in with its code.
+ *
+ * A GenerationPlan is never changed after it is built, so one plan can build chunks on several
+ * threads at once.
+ */
+public final class GenerationPlan {
+
+  private final int numRows;
+  private final int numCols;
+  private final TileChunk template;
+  private final List<RandomGeneration> randomSpecifications;
+
+  /**
+   * Instantiates a GenerationPlan, building its template
+   *
+   * @param numRows                the number of rows in each chunk
+   * @param numCols                the number of cols in each chunk
+   * @param defaultValue           the entity type wherever no instruction puts anything else
+   * @param constantSpecifications the instructions that are the same in every chunk
+   * @param randomSpecifications   the instructions that are drawn again for every chunk
+   */
+  public GenerationPlan(int numRows, int numCols, String defaultValue,
+      List<ConstantGeneration> constantSpecifications,
+      List<RandomGeneration> randomSpecifications) {
+    this.numRows = numRows;
+    this.numCols = numCols;
+    this.template = buildTemplate(defaultValue, constantSpecifications);
+    this.randomSpecifications =
+        Collections.unmodifiableList(new ArrayList<>(randomSpecifications));
+  }
+
+  /**
+   * Fills a new TileChunk with the default entity type, then applies every constant instruction
+   * to it
+   *
+   * @param defaultValue           the default entity type
+   * @param constantSpecifications the instructions to apply
+   * @return the template each chunk is copied from
+   */
+  private TileChunk buildTemplate(String defaultValue,
+      List<ConstantGeneration> constantSpecifications) {
+    TileChunk newTemplate = new TileChunk(numRows, numCols);
+    newTemplate.fill(TileRegistry.getCode(defaultValue));
+    for (ConstantGeneration spec : constantSpecifications) {
+      newTemplate.fill(spec.getStartRow(), spec.getEndRow(), spec.getStartCol(), spec.getEndCol(),
+          TileRegistry.getCode(spec.getEntityTypeToInsert()));
+    }
+    return newTemplate;
+  }
+
+  /**
+   * Builds one chunk into a TileChunk: a copy of the template with every random instruction drawn
+   * on top of it. Nothing is allocated but the bounds each random instruction draws.
+   *
+   * @param random the generator of the chunk
+   * @param tiles  the TileChunk to build the chunk in, which must be numRows by numCols
+   */
+  public void buildTiles(SplittableRandom random, TileChunk tiles) {
+    tiles.copyFrom(template);
+    for (RandomGeneration spec : randomSpecifications) {
+      spec.insertInto(tiles, random);
+    }
+  }
+
+  /**
+   * Builds one chunk as a 2D String array of entity types
+   *
+   * @param random the generator of the chunk
+   * @return the 2D String array of new entity representations
+   */
+  public String[][] buildChunk(SplittableRandom random) {
+    TileChunk tiles = new TileChunk(numRows, numCols);
+    buildTiles(random, tiles);
+    return tiles.toStrings();
+  }
+
+  /**
+   * Getter for the number of rows in each chunk
+   *
+   * @return numRows
+   */
+  public int getNumRows() {
+    return numRows;
+  }
+
+  /**
+   * Getter for the number of cols in each chunk
+   *
+   * @return numCols
+   */
+  public int getNumCols() {
+    return numCols;
+  }
+}
@@ -1,6 +1,10 @@
 package model.autogenerator;
 
 import api.model.autogenerator.IRandomGeneration;
+import java.util.SplittableRandom;
+import java.util.function.ToIntFunction;
+import model.configuration.TileChunk;
+import model.configuration.TileRegistry;
 
 /**
  * The purpose of this class is to serve as a randomized set of instructions, or instructions that
@@ -9,6 +13,14 @@ import api.model.autogenerator.IRandomGeneration;
  * these keeping track of all of the different random instructions to execute when making a new
  * generation (2D String array) in AutoGenerator.
  *
+ * AutoGenerator draws each chunk with insertInto, which takes its randomness from the generator of
+ * that chunk and leaves this object untouched, so chunks can be drawn reproducibly and at the same
+ * time. regenerate and the getters are still there for drawing one instruction at a time.
+ *
+ * The arguments are parsed once, when the instruction is built: the start row, start column, height
+ * and width each become a sampler (a fixed number, a UniformRandomizer or a Randomizer) that draws
+ * straight from the generator it is given, so drawing a chunk never parses a String.
+ *
  * @author Alex Lu
  */
 public class RandomGeneration extends GenerationInstruction implements IRandomGeneration {
@@ -16,9 +28,15 @@ public class RandomGeneration extends GenerationInstruction implements IRandomGe
   private static final String LEFT = "LEFT";
   private static final String UP = "UP";
 
-  private final String[] specifications;
+  // what regenerate draws from when it is not given a generator
+  private final SplittableRandom unseededRandom = new SplittableRandom();
+  private short entityCode;
   private boolean growsLeft;
   private boolean growsUp;
+  private ToIntFunction<SplittableRandom> startRowSampler;
+  private ToIntFunction<SplittableRandom> startColSampler;
+  private ToIntFunction<SplittableRandom> heightSampler;
+  private ToIntFunction<SplittableRandom> widthSampler;
 
   /**
    * Instantiates a RandomGeneration object
@@ -31,10 +49,9 @@ public class RandomGeneration extends GenerationInstruction implements IRandomGe
   public RandomGeneration(int rows, int cols, String[] args) {
 
     super(rows, cols);
-    specifications = args;
 
     try {
-      buildInstruction(specifications);
+      buildInstruction(args);
       validate();
     } catch (Exception e) {
       throwGenerationException();
@@ -63,12 +80,75 @@ public class RandomGeneration extends GenerationInstruction implements IRandomGe
    * @param args the array of arguments
    */
   public void buildInstruction(String[] args) {
+    buildInstruction(args, unseededRandom);
+  }
+
+  /**
+   * Builds the instruction as buildInstruction(args) does, drawing every random part of it from a
+   * given generator
+   *
+   * @param args   the array of arguments
+   * @param random the generator to draw from
+   */
+  public void buildInstruction(String[] args, SplittableRandom random) {
     entityType = args[1];
+    entityCode = TileRegistry.getCode(entityType);
     setDirectionOfGrowth(args[2]);
-    buildStartRow(args[3]);
-    buildStartCol(args[4]);
-    buildRowDepth(args[5]);
-    buildColDepth(args[6]);
+    startRowSampler = decodeStartArg(args[3]);
+    startColSampler = decodeStartArg(args[4]);
+    heightSampler = decodeRandomizedString(args[5]);
+    widthSampler = decodeRandomizedString(args[6]);
+    drawBounds(random);
+  }
+
+  /**
+   * Draws new bounds for this instruction from its samplers and keeps them
+   *
+   * @param random the generator to draw from
+   */
+  private void drawBounds(SplittableRandom random) {
+    int[] bounds = sampleBounds(random);
+    startRow = bounds[0];
+    endRow = bounds[1];
+    startCol = bounds[2];
+    endCol = bounds[3];
+  }
+
+  /**
+   * Draws a new set of bounds for this instruction and fills them in on tiles with the code of
+   * its entity type, without changing this object
+   *
+   * @param tiles  the chunk being generated
+   * @param random the generator to draw from
+   */
+  public void insertInto(TileChunk tiles, SplittableRandom random) {
+    int[] bounds = sampleBounds(random);
+    tiles.fill(bounds[0], bounds[1], bounds[2], bounds[3], entityCode);
+  }
+
+  /**
+   * Draws the start row, start column, height and width of the instruction, in that order, and
+   * works out where it starts and ends from them
+   *
+   * @param random the generator to draw from
+   * @return {startRow, endRow, startCol, endCol}
+   */
+  private int[] sampleBounds(SplittableRandom random) {
+    int firstRow = startRowSampler.applyAsInt(random);
+    int firstCol = startColSampler.applyAsInt(random);
+    int rowDepth = heightSampler.applyAsInt(random) - 1;
+    int colDepth = widthSampler.applyAsInt(random) - 1;
+
+    if (growsUp) {
+      rowDepth *= -1;
+    }
+    if (growsLeft) {
+      colDepth *= -1;
+    }
+
+    int[] rows = getStartAndEnd(firstRow, rowDepth, numRows - 1);
+    int[] cols = getStartAndEnd(firstCol, colDepth, numCols - 1);
+    return new int[]{rows[0], rows[1], cols[0], cols[1]};
   }
 
   /**
@@ -88,51 +168,37 @@ public class RandomGeneration extends GenerationInstruction implements IRandomGe
   }
 
   /**
-   * Determines the startRow coordinate from xArg
-   *
-   * @param xArg either the starting x coordinate or "R" if we should randomize to calculate it
-   */
-  private void buildStartRow(String xArg) {
-    startRow = decodeStartArg(xArg);
-  }
-
-  /**
-   * Determines the startCol coordinate from yArg
-   *
-   * @param yArg either the starting y coordinate or "U" if we should randomize to calculate it
-   */
-  private void buildStartCol(String yArg) {
-    startCol = decodeStartArg(yArg);
-  }
-
-  /**
-   * Creates a int value based on a String passed into args[3] or args[4] (startRow or startCol
-   * parameters)
+   * Creates a sampler of int values based on a String passed into args[3] or args[4] (startRow or
+   * startCol parameters)
    *
    * @param arg the String configuration argyment
-   * @return an int based on the String argument
+   * @return something that draws an int based on the String argument from a generator
    */
-  private int decodeStartArg(String arg) {
+  private ToIntFunction<SplittableRandom> decodeStartArg(String arg) {
     if (arg.charAt(0) == 'U') {
       UniformRandomizer randomizer = new UniformRandomizer(arg);
-      return randomizer.getUniformValue();
-    } else {
-      return Integer.parseInt(arg);
+      return randomizer::getUniformValue;
     }
+    return fixedValue(Integer.parseInt(arg));
   }
 
   /**
-   * Calculates a random number from a Randomizer using a String that it reads
+   * Creates a sampler of random numbers from a Randomizer using a String that it reads
    *
    * @param randomizedString the String prepared to be passed into the randomizer
-   * @return the random number
+   * @return something that draws the random number from a generator
    */
-  private int getNumberFromRandomizedString(String randomizedString) {
+  private ToIntFunction<SplittableRandom> decodeRandomizedString(String randomizedString) {
     if (randomizedString.charAt(0) == 'R') {
       Randomizer randomizer = new Randomizer(randomizedString);
-      return randomizer.getRandomValue();
+      return randomizer::getRandomValue;
     }
-    return Integer.parseInt(randomizedString);
+    return fixedValue(Integer.parseInt(randomizedString));
+  }
+
+  // a sampler that always gives back value, without drawing from the generator
+  private static ToIntFunction<SplittableRandom> fixedValue(int value) {
+    return random -> value;
   }
 
   /**
@@ -159,44 +225,20 @@ public class RandomGeneration extends GenerationInstruction implements IRandomGe
   }
 
   /**
-   * Builds the width for the generation
-   *
-   * @param randomizedWidth the String prepared to be passed into the randomizer
+   * Recalculates values for this random instruction
    */
-  private void buildRowDepth(String randomizedWidth) {
-    int rowDepth = getNumberFromRandomizedString(randomizedWidth) - 1;
-
-    if (growsUp) {
-      rowDepth *= -1;
-    }
-
-    int[] startAndEnd = getStartAndEnd(startRow, rowDepth, numRows - 1);
-    startRow = startAndEnd[0];
-    endRow = startAndEnd[1];
+  @Override
+  public void regenerate() {
+    drawBounds(unseededRandom);
   }
 
   /**
-   * Builds the width for the genertation
+   * Recalculates values for this random instruction, drawing them from a given generator
    *
-   * @param randomizedHeight the String prepared to be passed into the randomizer
-   */
-  private void buildColDepth(String randomizedHeight) {
-    int colDepth = getNumberFromRandomizedString(randomizedHeight) - 1;
-
-    if (growsLeft) {
-      colDepth *= -1;
-    }
-
-    int[] startAndEnd = getStartAndEnd(startCol, colDepth, numCols - 1);
-    startCol = startAndEnd[0];
-    endCol = startAndEnd[1];
-  }
-
-  /**
-   * Recalculates values for this random instruction
+   * @param random the generator to draw from
    */
   @Override
-  public void regenerate() {
-    buildInstruction(specifications);
+  public void regenerate(SplittableRandom random) {
+    drawBounds(random);
   }
 }
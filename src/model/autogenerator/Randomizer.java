@@ -1,6 +1,7 @@
 package model.autogenerator;
 
 import api.model.autogenerator.IRandomizer;
+import java.util.SplittableRandom;
 
 /**
  * This class takes a formatted String and returns a random number as configured by this formatted
@@ -10,12 +11,21 @@ import api.model.autogenerator.IRandomizer;
  * RandomGeneration uses this class to translate these formatted Strings passed in as arguments into
  * random numbers that it can use to build a RandomGeneration.
  *
+ * The String is only parsed once. The probabilities are then turned into the tables of the alias
+ * method (Vose's version), so drawing a value takes one random number and one comparison however
+ * many values there are. The probabilities are weights: they are scaled to add up to 1, and a
+ * Randomizer whose probabilities add up to 0 always gives back its first value.
+ *
  * @author Alex Lu
  */
 public class Randomizer implements IRandomizer {
 
   private int[] values;
   private double[] probabilities;
+  // aliasProbabilities[i] is the chance of keeping values[i] when column i is drawn, rather than
+  // taking values[aliases[i]]
+  private double[] aliasProbabilities;
+  private int[] aliases;
   private static final String EXCEPTION_MESSAGE = "Failed to build Randomizer";
 
   /**
@@ -49,6 +59,59 @@ public class Randomizer implements IRandomizer {
     probabilities = fillDoubleArrayWithStrings(probabiltiesStrings);
 
     checkArrayLengthsAlign();
+    buildAliasTables();
+  }
+
+  /**
+   * Builds the alias tables from the probabilities, so that each column of the table holds at
+   * most two values whose shares of it add up to exactly one column
+   */
+  private void buildAliasTables() {
+    int count = probabilities.length;
+    aliasProbabilities = new double[count];
+    aliases = new int[count];
+    double total = 0;
+    for (double probability : probabilities) {
+      total += Math.max(0, probability);
+    }
+    if (total <= 0) {
+      return;
+    }
+
+    double[] scaled = new double[count];
+    int[] small = new int[count];
+    int[] large = new int[count];
+    int smallCount = 0;
+    int largeCount = 0;
+    for (int index = 0; index < count; index += 1) {
+      scaled[index] = Math.max(0, probabilities[index]) * count / total;
+      aliases[index] = index;
+      if (scaled[index] < 1) {
+        small[smallCount++] = index;
+      } else {
+        large[largeCount++] = index;
+      }
+    }
+
+    while (smallCount > 0 && largeCount > 0) {
+      int less = small[--smallCount];
+      int more = large[--largeCount];
+      aliasProbabilities[less] = scaled[less];
+      aliases[less] = more;
+      scaled[more] += scaled[less] - 1;
+      if (scaled[more] < 1) {
+        small[smallCount++] = more;
+      } else {
+        large[largeCount++] = more;
+      }
+    }
+    // whatever is left is within rounding error of a whole column
+    while (largeCount > 0) {
+      aliasProbabilities[large[--largeCount]] = 1;
+    }
+    while (smallCount > 0) {
+      aliasProbabilities[small[--smallCount]] = 1;
+    }
   }
 
   /**
@@ -113,16 +176,29 @@ public class Randomizer implements IRandomizer {
    */
   @Override
   public int getRandomValue() {
-    double aggregatedProbability = 0;
-    double randomNumber = Math.random();
+    return getValueAt(Math.random());
+  }
 
-    for (int index = 0; index < probabilities.length; index += 1) {
-      aggregatedProbability += probabilities[index];
-      if (randomNumber < aggregatedProbability) {
-        return values[index];
-      }
-    }
+  /**
+   * Returns a random entityType in the values array weighted by the probabilties, drawn from a
+   * given generator so that the result can be reproduced
+   *
+   * @param random the generator to draw from
+   * @return a random entityType in the values array
+   */
+  @Override
+  public int getRandomValue(SplittableRandom random) {
+    return getValueAt(random.nextDouble());
+  }
 
-    return values[0];
+  // the value whose share of [0, 1) randomNumber lands in: the whole part of randomNumber * count
+  // picks a column of the alias tables, and what is left over picks one of its two values
+  private int getValueAt(double randomNumber) {
+    double scaled = randomNumber * aliases.length;
+    int column = Math.min((int) scaled, aliases.length - 1);
+    if (scaled - column < aliasProbabilities[column]) {
+      return values[column];
+    }
+    return values[aliases[column]];
   }
 }
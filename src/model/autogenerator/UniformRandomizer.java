@@ -1,6 +1,7 @@
 package model.autogenerator;
 
 import api.model.autogenerator.IUniformRandomizer;
+import java.util.SplittableRandom;
 
 /**
  * This class' job is to take in a properly formatted String and return a random number within the
@@ -65,4 +66,16 @@ public class UniformRandomizer implements IUniformRandomizer {
     int value = (int) (Math.random() * (highBound - lowBound + 1)) + lowBound;
     return value;
   }
+
+  /**
+   * Calculates a random value based on the input String, drawn from a given generator so that the
+   * result can be reproduced
+   *
+   * @param random the generator to draw from
+   * @return a random int in the range [lowBound,highBound]
+   */
+  @Override
+  public int getUniformValue(SplittableRandom random) {
+    return random.nextInt(lowBound, highBound + 1);
+  }
 }
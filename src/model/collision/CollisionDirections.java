@@ -20,7 +20,7 @@ public class CollisionDirections implements ICollisionHandler {
    * @param directions list of Directions of the current collision
    */
   public CollisionDirections(List<Direction> directions) {
-    directionsList = directions;
+    directionsList = new ArrayList<>(directions);
   }
 
   /**
@@ -84,7 +84,7 @@ public class CollisionDirections implements ICollisionHandler {
    */
   @Override
   public void clear() {
-    this.directionsList = new ArrayList<>();
+    directionsList.clear();
   }
 
   /**
@@ -95,12 +95,7 @@ public class CollisionDirections implements ICollisionHandler {
    */
   @Override
   public boolean oneIsContainedIn(ICollisionHandler otherDirections) {
-    for (Direction direction : otherDirections.getRawList()) {
-      if (this.contains(direction)) {
-        return true;
-      }
-    }
-    return false;
+    return (this.getMask() & otherDirections.getMask()) != 0;
   }
 
   /**
@@ -153,4 +148,17 @@ public class CollisionDirections implements ICollisionHandler {
     }
     return new CollisionDirections(oppositeList);
   }
+
+  /**
+   * Gets every Direction in this collision as a bitmask
+   * @return the bitwise OR of the masks of all the Directions in the list
+   */
+  @Override
+  public int getMask() {
+    int mask = 0;
+    for (int index = 0; index < directionsList.size(); index++) {
+      mask |= directionsList.get(index).getMask();
+    }
+    return mask;
+  }
 }
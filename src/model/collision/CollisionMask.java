@@ -0,0 +1,184 @@
+package model.collision;
+
+import api.model.collision.ICollisionHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An ICollisionHandler that stores its Directions as the bits of a single int instead of a list.
+ * Adding, removing, comparing and clearing Directions never allocates, so one CollisionMask can be
+ * reused for every collision an entity checks each frame.
+ */
+public class CollisionMask implements ICollisionHandler {
+
+  private static final int VERTICAL = Direction.TOP.getMask() | Direction.BOTTOM.getMask();
+  private static final int HORIZONTAL = Direction.RIGHT.getMask() | Direction.LEFT.getMask();
+
+  private int mask;
+
+  /**
+   * A constructor that takes in the Directions of the collision
+   * @param directions Directions of the current collision
+   */
+  public CollisionMask(Direction... directions) {
+    for (Direction direction : directions) {
+      add(direction);
+    }
+  }
+
+  /**
+   * A constructor that takes in a bitmask of Directions, as returned by HitBox#getCollisionMask
+   * @param mask bitmask of the Directions of the current collision
+   */
+  public CollisionMask(int mask) {
+    this.mask = mask;
+  }
+
+  /**
+   * Adds a new Direction to the collision
+   * @param direction new direction to be added
+   */
+  @Override
+  public void add(Direction direction) {
+    mask |= direction.getMask();
+  }
+
+  /**
+   * Takes in another collision, and adds all of its Directions to this collision
+   * @param directions other collision
+   */
+  @Override
+  public void add(ICollisionHandler directions) {
+    mask |= directions.getMask();
+  }
+
+  /**
+   * Removes a Direction from this collision
+   * @param direction to be removed
+   */
+  @Override
+  public void remove(Direction direction) {
+    mask &= ~direction.getMask();
+  }
+
+  /**
+   * Checks whether this object contains a given Direction
+   * @param direction which may or may not be contained in this object
+   * @return true if this contains the Direction
+   */
+  @Override
+  public boolean contains(Direction direction) {
+    return (mask & direction.getMask()) != 0;
+  }
+
+  /**
+   * Builds a list of the Directions in this collision, in the order they are declared in Direction.
+   * This allocates a new list, so it should be avoided in code that runs every frame.
+   * @return a new list of the Directions in this collision
+   */
+  @Override
+  public List<Direction> getRawList() {
+    List<Direction> directionsList = new ArrayList<>(Integer.bitCount(mask));
+    for (int remaining = mask; remaining != 0; remaining &= remaining - 1) {
+      directionsList.add(Direction.fromBit(Integer.numberOfTrailingZeros(remaining)));
+    }
+    return directionsList;
+  }
+
+  /**
+   * Clears all the Directions, making this collision empty
+   */
+  @Override
+  public void clear() {
+    mask = 0;
+  }
+
+  /**
+   * Takes in another collision, and checks if at least one Direction in it is also contained in
+   * this collision
+   * @param otherDirections the other collision
+   * @return true if the two collisions share at least one Direction
+   */
+  @Override
+  public boolean oneIsContainedIn(ICollisionHandler otherDirections) {
+    return (mask & otherDirections.getMask()) != 0;
+  }
+
+  /**
+   * Checks whether this contains TOP or BOTTOM (but not both!)
+   * @return true if this contains TOP or BOTTOM - but not both.
+   */
+  @Override
+  public boolean containsVerticalCollision() {
+    return Integer.bitCount(mask & VERTICAL) == 1;
+  }
+
+  /**
+   * Checks whether this contains LEFT or RIGHT (but not both!)
+   * @return true if this contains LEFT or RIGHT - but not both.
+   */
+  @Override
+  public boolean containsHorizontalCollision() {
+    return Integer.bitCount(mask & HORIZONTAL) == 1;
+  }
+
+  /**
+   * Checks whether this contains no Directions
+   * @return true if no bits are set
+   */
+  @Override
+  public boolean isEmpty() {
+    return mask == 0;
+  }
+
+  /**
+   * Checks if there is any collision.
+   * @return true if this contains at least one Direction, and it does not contain NONE
+   */
+  @Override
+  public boolean doesCollide() {
+    return mask != 0 && !contains(Direction.NONE);
+  }
+
+  /**
+   * Creates a new CollisionMask with the opposite collision as this object.
+   * @return new object with the Directions reversed (i.e. if this one contains TOP, the new
+   * object would contain BOTTOM)
+   */
+  @Override
+  public ICollisionHandler getOpposites() {
+    return new CollisionMask(getOppositeMask(mask));
+  }
+
+  /**
+   * Getter for the bitmask of Directions
+   * @return the bitmask of the Directions in this collision
+   */
+  @Override
+  public int getMask() {
+    return mask;
+  }
+
+  /**
+   * Replaces every Direction in this collision with the ones in the given bitmask
+   * @param mask bitmask of the new Directions
+   */
+  public void setMask(int mask) {
+    this.mask = mask;
+  }
+
+  /**
+   * Reverses every Direction in a bitmask without creating any objects
+   * @param mask bitmask of Directions
+   * @return bitmask with each Direction replaced by its opposite
+   */
+  public static int getOppositeMask(int mask) {
+    int opposite = 0;
+    for (int remaining = mask; remaining != 0; remaining &= remaining - 1) {
+      opposite |= Direction.fromBit(Integer.numberOfTrailingZeros(remaining)).getOpposite()
+          .getMask();
+    }
+    return opposite;
+  }
+}
@@ -18,6 +18,28 @@ public enum Direction implements IDirection {
   BOTTOM,
   NONE;
 
+  private static final Direction[] DIRECTIONS = values();
+
+  /**
+   * Gets the single bit that represents this direction in a collision bitmask.
+   * Each direction has its own bit, so a whole collision fits in one int.
+   * @return 1 shifted left by the ordinal of this direction
+   */
+  @Override
+  public int getMask() {
+    return 1 << ordinal();
+  }
+
+  /**
+   * Gets the direction whose mask bit is at the given position. Unlike values(), this does not
+   * copy an array, so it is safe to call while iterating over the bits of a collision every frame.
+   * @param bit position of the bit, i.e. Integer.numberOfTrailingZeros(direction.getMask())
+   * @return the direction with that bit
+   */
+  public static Direction fromBit(int bit) {
+    return DIRECTIONS[bit];
+  }
+
   /**
    * Gets the opposite direction of the current direction
    * @return the opposite cardinal direction, or NONE if the current direction is NONE
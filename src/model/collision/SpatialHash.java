@@ -0,0 +1,456 @@
+package model.collision;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import model.HitBox;
+import api.model.entity.IEntity;
+
+/**
+ * A uniform grid that buckets entities by the cell their HitBox's top left corner is in. Cells are
+ * one HitBox unit wide and one HitBox unit tall.
+ *
+ * Level uses this as a broadphase for collision checking: instead of handing every entity in the
+ * level to IMovable#checkCollision, it only hands over the entities in the cells around the
+ * movable entity. Candidates are always returned in the order their entities were inserted, which
+ * is the same order Level keeps its entityList in, so collisions resolve in exactly the same order
+ * as they would in the brute-force loop.
+ *
+ * Cells are stored in an open-addressed table keyed by a packed (x, y) long, and empty cells are
+ * recycled, so inserting, moving and querying entities does not allocate once the table has grown
+ * to the size of the level.
+ *
+ * rebuild fills the grid in bulk: the table is grown once to fit, and the entities are only placed
+ * in their cells, not put in the map that finds the entry of an entity. That map is filled lazily,
+ * the first time update, remove or contains looks an entity up, by searching the cells around
+ * where its HitBox is now. Most entities of a level never move or leave it, so they never need to
+ * be looked up. If the search misses (an entity was moved more than a cell without update), every
+ * entity left is put in the map at once.
+ */
+public class SpatialHash {
+
+  public static final int CELL_SIZE = HitBox.X_SIZE;
+  private static final int INITIAL_CAPACITY = 256;
+  private static final int INITIAL_RESULT_CAPACITY = 32;
+  private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+  private long[] keys;
+  private Cell[] cells;
+  private int cellCount;
+  private final Map<IEntity, Entry> entries = new IdentityHashMap<>();
+  // entities placed by rebuild that are not in entries yet
+  private int unindexedCount;
+  private int size;
+  private final ArrayDeque<Cell> cellPool = new ArrayDeque<>();
+  private Entry[] results = new Entry[INITIAL_RESULT_CAPACITY];
+  private int resultCount;
+  private long nextOrder;
+
+  /**
+   * Constructs an empty SpatialHash
+   */
+  public SpatialHash() {
+    keys = new long[INITIAL_CAPACITY];
+    cells = new Cell[INITIAL_CAPACITY];
+  }
+
+  /**
+   * Removes every entity from the grid and then inserts every entity in entityList, in order.
+   * Unlike insert, this does not check whether an entity is already in the grid, so entityList
+   * must not hold the same entity twice.
+   * @param entityList the entities to fill the grid with
+   */
+  public void rebuild(List<IEntity> entityList) {
+    clear();
+    growToFit(entityList.size());
+    for (int index = 0; index < entityList.size(); index++) {
+      IEntity entity = entityList.get(index);
+      if (entity != null) {
+        place(new Entry(entity, nextOrder++), cellX(entity.getHitBox()), cellY(entity.getHitBox()));
+        unindexedCount++;
+        size++;
+      }
+    }
+  }
+
+  /**
+   * Removes every entity from the grid. The cells in use are dropped along with their entries
+   * rather than being emptied one by one for reuse.
+   */
+  public void clear() {
+    Arrays.fill(cells, null);
+    cellCount = 0;
+    entries.clear();
+    unindexedCount = 0;
+    size = 0;
+    nextOrder = 0;
+  }
+
+  /**
+   * Adds an entity to the grid after every entity already in it. If the entity is already in the
+   * grid, it is only moved to its current cell.
+   * @param entity the entity to add
+   */
+  public void insert(IEntity entity) {
+    if (entity == null) {
+      return;
+    }
+    // an entity already in the grid is in the cell of its HitBox, as long as update was called
+    if (entries.containsKey(entity) || findNearby(entity) != null) {
+      update(entity);
+      return;
+    }
+    Entry entry = new Entry(entity, nextOrder++);
+    entry.indexed = true;
+    entries.put(entity, entry);
+    size++;
+    place(entry, cellX(entity.getHitBox()), cellY(entity.getHitBox()));
+  }
+
+  /**
+   * Removes an entity from the grid. Does nothing if the entity is not in the grid.
+   * @param entity the entity to remove
+   */
+  public void remove(IEntity entity) {
+    Entry entry = findEntry(entity);
+    if (entry != null) {
+      entries.remove(entity);
+      size--;
+      detach(entry);
+    }
+  }
+
+  /**
+   * Moves an entity into the cell its HitBox is currently in. This should be called whenever the
+   * HitBox of an entity in the grid is moved. Does nothing if the entity is not in the grid.
+   * @param entity the entity whose HitBox may have moved
+   */
+  public void update(IEntity entity) {
+    Entry entry = findEntry(entity);
+    if (entry == null) {
+      return;
+    }
+    int newCellX = cellX(entity.getHitBox());
+    int newCellY = cellY(entity.getHitBox());
+    if (newCellX != entry.cell.cellX || newCellY != entry.cell.cellY) {
+      detach(entry);
+      place(entry, newCellX, newCellY);
+    }
+  }
+
+  /**
+   * Checks whether an entity is in the grid
+   * @param entity the entity to look for
+   * @return true if the entity is in the grid
+   */
+  public boolean contains(IEntity entity) {
+    return findEntry(entity) != null;
+  }
+
+  /**
+   * Reveals the number of entities in the grid
+   * @return the number of entities in the grid
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Collects every entity whose cell is within reach cells of the cells covered by hitBox.
+   * The results can be read with getResult until the next query.
+   * @param hitBox the HitBox to search around
+   * @param reach the number of extra cells to search on every side of hitBox
+   * @return the number of entities found
+   */
+  public int query(HitBox hitBox, int reach) {
+    return query(hitBox.getXLeft(), hitBox.getYTop(), hitBox.getXRight(), hitBox.getYBottom(),
+        reach);
+  }
+
+  /**
+   * Collects every entity whose cell is within reach cells of the cells covered by the rectangle
+   * from (xLeft, yTop) to (xRight, yBottom). The results are sorted by the order the entities were
+   * inserted in, and can be read with getResult until the next query.
+   * @param xLeft left coordinate of the rectangle
+   * @param yTop top coordinate of the rectangle
+   * @param xRight right coordinate of the rectangle
+   * @param yBottom bottom coordinate of the rectangle
+   * @param reach the number of extra cells to search on every side of the rectangle
+   * @return the number of entities found
+   */
+  public int query(double xLeft, double yTop, double xRight, double yBottom, int reach) {
+    resultCount = 0;
+    int minCellX = toCell(xLeft) - reach;
+    int minCellY = toCell(yTop) - reach;
+    int maxCellX = toCell(xRight) + reach;
+    int maxCellY = toCell(yBottom) + reach;
+    for (int x = minCellX; x <= maxCellX; x++) {
+      for (int y = minCellY; y <= maxCellY; y++) {
+        Cell cell = findCell(x, y);
+        if (cell != null) {
+          collect(cell);
+        }
+      }
+    }
+    sortResults();
+    return resultCount;
+  }
+
+  /**
+   * Obtains one of the entities found by the last query
+   * @param index the index of the result, between 0 and the count returned by the last query
+   * @return the entity at index
+   */
+  public IEntity getResult(int index) {
+    return results[index].entity;
+  }
+
+  // adds every entry in cell to the results buffer, growing it if needed
+  private void collect(Cell cell) {
+    if (resultCount + cell.count > results.length) {
+      Entry[] grown = new Entry[Math.max(results.length * 2, resultCount + cell.count)];
+      System.arraycopy(results, 0, grown, 0, resultCount);
+      results = grown;
+    }
+    System.arraycopy(cell.entries, 0, results, resultCount, cell.count);
+    resultCount += cell.count;
+  }
+
+  // insertion sort on insertion order - result sets are small and this never allocates
+  private void sortResults() {
+    for (int index = 1; index < resultCount; index++) {
+      Entry current = results[index];
+      int hole = index;
+      while (hole > 0 && results[hole - 1].order > current.order) {
+        results[hole] = results[hole - 1];
+        hole--;
+      }
+      results[hole] = current;
+    }
+    for (int index = resultCount; index < results.length && results[index] != null; index++) {
+      results[index] = null;
+    }
+  }
+
+  // the entry of entity, putting it in entries first if rebuild placed it and it is not there yet
+  private Entry findEntry(IEntity entity) {
+    Entry entry = entries.get(entity);
+    if (entry != null || unindexedCount == 0 || entity == null) {
+      return entry;
+    }
+    entry = findNearby(entity);
+    if (entry == null) {
+      indexAll();
+      return entries.get(entity);
+    }
+    entry.indexed = true;
+    entries.put(entity, entry);
+    unindexedCount--;
+    return entry;
+  }
+
+  // the unindexed entry of entity in the cells around its HitBox, or null if it is not there
+  private Entry findNearby(IEntity entity) {
+    if (unindexedCount == 0) {
+      return null;
+    }
+    int centerX = cellX(entity.getHitBox());
+    int centerY = cellY(entity.getHitBox());
+    for (int x = centerX - 1; x <= centerX + 1; x++) {
+      for (int y = centerY - 1; y <= centerY + 1; y++) {
+        Cell cell = findCell(x, y);
+        for (int index = 0; cell != null && index < cell.count; index++) {
+          Entry entry = cell.entries[index];
+          if (entry.entity == entity && !entry.indexed) {
+            return entry;
+          }
+        }
+      }
+    }
+    return null;
+  }
+
+  // puts every entry placed by rebuild that is still in the grid into entries
+  private void indexAll() {
+    for (Cell cell : cells) {
+      for (int index = 0; cell != null && index < cell.count; index++) {
+        Entry entry = cell.entries[index];
+        if (!entry.indexed) {
+          entry.indexed = true;
+          entries.put(entry.entity, entry);
+        }
+      }
+    }
+    unindexedCount = 0;
+  }
+
+  // grows the table once so that it can hold a cell for each of entityCount entities
+  private void growToFit(int entityCount) {
+    int capacity = cells.length;
+    while ((long) entityCount * 2 > capacity) {
+      capacity *= 2;
+    }
+    if (capacity > cells.length) {
+      resize(capacity);
+    }
+  }
+
+  // puts entry into the cell at (x, y), creating the cell if necessary
+  private void place(Entry entry, int x, int y) {
+    Cell cell = findCell(x, y);
+    if (cell == null) {
+      cell = createCell(x, y);
+    }
+    cell.add(entry);
+  }
+
+  // takes entry out of its cell, removing the cell if it becomes empty
+  private void detach(Entry entry) {
+    Cell cell = entry.cell;
+    cell.remove(entry);
+    if (cell.count == 0) {
+      removeCell(cell);
+    }
+  }
+
+  private Cell findCell(int x, int y) {
+    long key = pack(x, y);
+    int mask = cells.length - 1;
+    for (int slot = slotFor(key); cells[slot] != null; slot = (slot + 1) & mask) {
+      if (keys[slot] == key) {
+        return cells[slot];
+      }
+    }
+    return null;
+  }
+
+  private Cell createCell(int x, int y) {
+    if ((cellCount + 1) * 2 > cells.length) {
+      resize(cells.length * 2);
+    }
+    Cell cell = cellPool.isEmpty() ? new Cell() : cellPool.pop();
+    cell.cellX = x;
+    cell.cellY = y;
+    long key = pack(x, y);
+    int mask = cells.length - 1;
+    int slot = slotFor(key);
+    while (cells[slot] != null) {
+      slot = (slot + 1) & mask;
+    }
+    keys[slot] = key;
+    cells[slot] = cell;
+    cellCount++;
+    return cell;
+  }
+
+  // removes a cell from the table using backward shift deletion so no tombstones are needed
+  private void removeCell(Cell cell) {
+    long key = pack(cell.cellX, cell.cellY);
+    int mask = cells.length - 1;
+    int hole = slotFor(key);
+    while (cells[hole] != cell) {
+      hole = (hole + 1) & mask;
+    }
+    int next = (hole + 1) & mask;
+    while (cells[next] != null) {
+      int ideal = slotFor(keys[next]);
+      if (((next - ideal) & mask) >= ((next - hole) & mask)) {
+        keys[hole] = keys[next];
+        cells[hole] = cells[next];
+        hole = next;
+      }
+      next = (next + 1) & mask;
+    }
+    cells[hole] = null;
+    cellCount--;
+    cellPool.push(cell);
+  }
+
+  private void resize(int capacity) {
+    long[] oldKeys = keys;
+    Cell[] oldCells = cells;
+    keys = new long[capacity];
+    cells = new Cell[capacity];
+    int mask = capacity - 1;
+    for (int index = 0; index < oldCells.length; index++) {
+      if (oldCells[index] != null) {
+        int slot = slotFor(oldKeys[index]);
+        while (cells[slot] != null) {
+          slot = (slot + 1) & mask;
+        }
+        keys[slot] = oldKeys[index];
+        cells[slot] = oldCells[index];
+      }
+    }
+  }
+
+  private int slotFor(long key) {
+    return (int) ((key * HASH_MULTIPLIER) >>> 32) & (cells.length - 1);
+  }
+
+  private static long pack(int x, int y) {
+    return ((long) x << 32) | (y & 0xFFFFFFFFL);
+  }
+
+  private static int cellX(HitBox hitBox) {
+    return toCell(hitBox.getXLeft());
+  }
+
+  private static int cellY(HitBox hitBox) {
+    return toCell(hitBox.getYTop());
+  }
+
+  private static int toCell(double coordinate) {
+    return (int) Math.floor(coordinate / CELL_SIZE);
+  }
+
+  /**
+   * An entity in the grid, along with the order it was inserted in and where it is stored
+   */
+  private static class Entry {
+    private final IEntity entity;
+    private final long order;
+    private Cell cell;
+    private int indexInCell;
+    private boolean indexed;
+
+    private Entry(IEntity entity, long order) {
+      this.entity = entity;
+      this.order = order;
+    }
+  }
+
+  /**
+   * A single grid cell holding an unordered array of entries
+   */
+  private static class Cell {
+    private int cellX;
+    private int cellY;
+    private Entry[] entries = new Entry[4];
+    private int count;
+
+    private void add(Entry entry) {
+      if (count == entries.length) {
+        Entry[] grown = new Entry[entries.length * 2];
+        System.arraycopy(entries, 0, grown, 0, count);
+        entries = grown;
+      }
+      entry.cell = this;
+      entry.indexInCell = count;
+      entries[count++] = entry;
+    }
+
+    // swap-removes entry so removal is O(1)
+    private void remove(Entry entry) {
+      int index = entry.indexInCell;
+      Entry last = entries[--count];
+      entries[index] = last;
+      last.indexInCell = index;
+      entries[count] = null;
+      entry.cell = null;
+    }
+
+  }
+}
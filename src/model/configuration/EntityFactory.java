@@ -1,17 +1,34 @@
 package model.configuration;
 
 import api.model.entity.IEntity;
+import api.model.entity.IPoolable;
 import api.model.configuration.IEntityFactory;
+import api.model.configuration.ITileChunk;
 import api.model.configuration.ILevelDecoder;
 
 import java.io.IOException;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A class responsible for instantiating entities during level-loading
  * using an ILevelDecoder and reflection
+ *
+ * Each entity class is only looked up by reflection once. Its (double, double) constructor is
+ * turned into a MethodHandle that is cached both by class name (shared by every EntityFactory)
+ * and by level id, so creating an entity for a tile is a map lookup and a constructor call. Ids
+ * and class names that cannot be instantiated (like "Empty") are cached too, so they are
+ * rejected without throwing.
+ *
+ * Chunks of tiles held as TileChunks are resolved by code instead: the constructor for each
+ * TileRegistry code is looked up (by id, as above) the first time the code is seen and then kept
+ * in an array indexed by code, so creating the entities of a TileChunk never hashes a String.
+ * When an EntityPool is given, the IPoolable class of each code is kept alongside its constructor,
+ * and a despawned entity of that class is reused for the tile whenever the pool has one.
  * @author Mike Garay and Alex Lu
  */
 public class EntityFactory implements IEntityFactory {
@@ -20,7 +37,20 @@ public class EntityFactory implements IEntityFactory {
   private Map<String, String> idToEntityMap;
   private static final String ENTITY_PACKAGE_PATH = "model.entity.";
   private static final String PLAYER_KEY = "1";
+  private static final MethodType CONSTRUCTOR_TYPE =
+      MethodType.methodType(void.class, double.class, double.class);
+  private static final MethodType ENTITY_TYPE =
+      MethodType.methodType(IEntity.class, double.class, double.class);
+  // class names resolve the same way for every factory, so this cache is shared between them
+  private static final Map<String, Optional<MethodHandle>> constructorsByClassName =
+      new ConcurrentHashMap<>();
   private final String[] validPlayerValues = {"MarioPlayer", "FlappyPlayer", "DoodlePlayer"};
+  private final Map<String, Optional<MethodHandle>> constructorsById = new HashMap<>();
+  // indexed by TileRegistry code; a code is only looked up while codeResolved is false for it
+  private MethodHandle[] constructorsByCode = new MethodHandle[0];
+  private boolean[] codeResolved = new boolean[0];
+  // the class entities for a code are acquired from an EntityPool by, or null if it is not pooled
+  private Class<?>[] poolableClassesByCode = new Class<?>[0];
 
   /**
    * Constructs an IEntityFactory by instantiating a LevelDecoder and then instantiating the id to entity map
@@ -47,6 +77,11 @@ public class EntityFactory implements IEntityFactory {
     List<String> validPlayerValueList = Arrays.asList(validPlayerValues);
     if (validPlayerValueList.contains(newMapping)) {
       idToEntityMap.put(PLAYER_KEY, newMapping);
+      constructorsById.remove(PLAYER_KEY);
+      short playerCode = TileRegistry.getCode(PLAYER_KEY);
+      if (playerCode < codeResolved.length) {
+        codeResolved[playerCode] = false;
+      }
     }
     else {
       throw new NullPointerException("Invalid Player Type");
@@ -55,7 +90,7 @@ public class EntityFactory implements IEntityFactory {
 
   /**
    * Creates an Optional of an IEntity instance whose hitbox is at rowIndex and colIndex
-   * The IEntity class is decoded first, then instantiated using reflectEntity
+   * The IEntity class is decoded first, then instantiated using its cached constructor
    * @param entityString The name of the IEntity class to decode
    * @param rowIndex The x-coordinate to spawn the IEntity at
    * @param colIndex The y-coordinate to spawn the IEntity at
@@ -63,20 +98,109 @@ public class EntityFactory implements IEntityFactory {
    */
   @Override
   public Optional<IEntity> createEntity(String entityString, double rowIndex, double colIndex) {
-      Optional<IEntity> optionalDecodedEntity = Optional.empty();
-      String decodedEntityString = idToEntityMap.get(entityString);
-      if(decodedEntityString == null) return optionalDecodedEntity;
+    Optional<MethodHandle> constructor = constructorForId(entityString);
+    if (constructor.isEmpty()) {
+      return Optional.empty();
+    }
+    return construct(constructor.get(), rowIndex, colIndex);
+  }
+
+  /**
+   * Creates the entities for one row of a level, where the entity for entityStrings[i] is placed
+   * at (xOffset + i, yIndex). Ids that do not decode to an entity are skipped.
+   * @param entityStrings the ids of the row, from left to right
+   * @param xOffset the x-coordinate of the first id in the row
+   * @param yIndex the y-coordinate of the row
+   * @return the created entities, from left to right
+   */
+  @Override
+  public List<IEntity> createEntities(String[] entityStrings, double xOffset, double yIndex) {
+    List<IEntity> entities = new ArrayList<>(entityStrings.length);
+    addEntities(entities, entityStrings, xOffset, yIndex);
+    return entities;
+  }
+
+  /**
+   * Creates the entities for a block of a level, where the entity for entityStrings[row][column]
+   * is placed at (xOffset + column, yOffset + row). Ids that do not decode to an entity are
+   * skipped.
+   * @param entityStrings the ids of the block, row by row
+   * @param xOffset the x-coordinate of the first column of the block
+   * @param yOffset the y-coordinate of the first row of the block
+   * @return the created entities, row by row and from left to right
+   */
+  @Override
+  public List<IEntity> createEntities(String[][] entityStrings, double xOffset, double yOffset) {
+    List<IEntity> entities = new ArrayList<>();
+    for (int row = 0; row < entityStrings.length; row++) {
+      addEntities(entities, entityStrings[row], xOffset, yOffset + row);
+    }
+    return entities;
+  }
 
-      optionalDecodedEntity = reflectEntity(decodedEntityString, rowIndex, colIndex);
-      return optionalDecodedEntity;
+  /**
+   * Creates the entities for a chunk of tiles, where the entity for the tile at (row, column) is
+   * placed at (xOffset + column, yOffset + row). Tiles that do not decode to an entity are skipped.
+   * @param tiles the codes of the tiles
+   * @param xOffset the x-coordinate of the first column of the chunk
+   * @param yOffset the y-coordinate of the first row of the chunk
+   * @return the created entities, row by row and from left to right
+   */
+  @Override
+  public List<IEntity> createEntities(ITileChunk tiles, double xOffset, double yOffset) {
+    return createEntities(tiles, xOffset, yOffset, null);
+  }
 
+  /**
+   * Creates the entities for a chunk of tiles like createEntities(tiles, xOffset, yOffset), but
+   * acquires entities of IPoolable classes from pool, only constructing them when it has none
+   * @param tiles the codes of the tiles
+   * @param xOffset the x-coordinate of the first column of the chunk
+   * @param yOffset the y-coordinate of the first row of the chunk
+   * @param pool the EntityPool to acquire entities from, or null to construct every entity
+   * @return the created or reused entities, row by row and from left to right
+   */
+  public List<IEntity> createEntities(ITileChunk tiles, double xOffset, double yOffset,
+      EntityPool pool) {
+    List<IEntity> entities = new ArrayList<>(countEntities(tiles));
+    for (int row = 0; row < tiles.getNumRows(); row++) {
+      for (int column = 0; column < tiles.getNumCols(); column++) {
+        short code = tiles.get(row, column);
+        MethodHandle constructor = constructorForCode(code);
+        if (constructor == null) {
+          continue;
+        }
+        Class<?> poolableClass = poolableClassesByCode[code];
+        IEntity reused = pool == null || poolableClass == null ? null
+            : pool.acquire(poolableClass, xOffset + column, yOffset + row);
+        if (reused != null) {
+          entities.add(reused);
+        } else {
+          construct(constructor, xOffset + column, yOffset + row).ifPresent(entities::add);
+        }
+      }
+    }
+    return entities;
+  }
+
+  // the number of tiles that make an entity, so the list of them is only allocated once
+  private int countEntities(ITileChunk tiles) {
+    int count = 0;
+    for (int row = 0; row < tiles.getNumRows(); row++) {
+      for (int column = 0; column < tiles.getNumCols(); column++) {
+        if (constructorForCode(tiles.get(row, column)) != null) {
+          count++;
+        }
+      }
+    }
+    return count;
   }
 
   /**
    * Creates an Optional of an IEntity instance through reflection
-   * It uses Class#forName to obtain the class of the IEntity decoded
-   * Then it attempts to obtains the constructor that only takes in an x and y coordinate
-   * And then creates a new instance by called newInstance with the rowIndex and colIndex as args
+   * The first time a class name is seen, it uses Class#forName to obtain the class of the IEntity
+   * decoded and looks up the constructor that only takes in an x and y coordinate, caching it as
+   * a MethodHandle. The constructor is then called with the rowIndex and colIndex as args
    * @param decodedEntityString The name of the decoded IEntity class
    * @param rowIndex The x-coordinate to spawn the IEntity at, used in the reflection construction
    * @param colIndex The y-coordinate to spawn the IEntity at, used in the reflection construction
@@ -84,18 +208,98 @@ public class EntityFactory implements IEntityFactory {
    */
   @Override
   public Optional<IEntity> reflectEntity(String decodedEntityString, double rowIndex, double colIndex) {
-    IEntity decodedEntity;
+    Optional<MethodHandle> constructor = constructorForClassName(decodedEntityString);
+    if (constructor.isEmpty()) {
+      return Optional.empty();
+    }
+    return construct(constructor.get(), rowIndex, colIndex);
+  }
+
+  // creates the entities of one row, skipping ids that do not decode to an entity
+  private void addEntities(List<IEntity> entities, String[] entityStrings, double xOffset,
+      double yIndex) {
+    for (int column = 0; column < entityStrings.length; column++) {
+      Optional<MethodHandle> constructor = constructorForId(entityStrings[column]);
+      if (constructor.isPresent()) {
+        construct(constructor.get(), xOffset + column, yIndex).ifPresent(entities::add);
+      }
+    }
+  }
+
+  // the cached constructor for a level id, decoding and resolving it the first time
+  private Optional<MethodHandle> constructorForId(String entityString) {
+    Optional<MethodHandle> constructor = constructorsById.get(entityString);
+    if (constructor == null) {
+      String decodedEntityString = idToEntityMap.get(entityString);
+      constructor = decodedEntityString == null ? Optional.empty()
+          : constructorForClassName(decodedEntityString);
+      constructorsById.put(entityString, constructor);
+    }
+    return constructor;
+  }
+
+  // the cached constructor for a TileRegistry code, or null if the code makes no entity
+  private MethodHandle constructorForCode(short code) {
+    if (code == TileRegistry.NO_TILE) {
+      return null;
+    }
+    if (code >= codeResolved.length) {
+      int codeCount = Math.max(code + 1, TileRegistry.getCodeCount());
+      constructorsByCode = Arrays.copyOf(constructorsByCode, codeCount);
+      codeResolved = Arrays.copyOf(codeResolved, codeCount);
+      poolableClassesByCode = Arrays.copyOf(poolableClassesByCode, codeCount);
+    }
+    if (!codeResolved[code]) {
+      String entityString = TileRegistry.getId(code);
+      constructorsByCode[code] = constructorForId(entityString).orElse(null);
+      poolableClassesByCode[code] =
+          constructorsByCode[code] == null ? null : poolableClassForId(entityString);
+      codeResolved[code] = true;
+    }
+    return constructorsByCode[code];
+  }
+
+  // the class of the entities for a level id that has a constructor, if they can be pooled
+  private Class<?> poolableClassForId(String entityString) {
     try {
-      Class entityClass = Class.forName(ENTITY_PACKAGE_PATH + decodedEntityString);
-      Constructor entityConstructor = entityClass.getConstructor(double.class, double.class);
-      decodedEntity = (IEntity) entityConstructor.newInstance(rowIndex, colIndex);
-      return Optional.of(decodedEntity);
+      Class<?> entityClass = Class.forName(ENTITY_PACKAGE_PATH + idToEntityMap.get(entityString));
+      return IPoolable.class.isAssignableFrom(entityClass) ? entityClass : null;
+    } catch (ClassNotFoundException e) {
+      return null;
+    }
+  }
+
+  // the cached constructor for an entity class name, resolving it the first time
+  private Optional<MethodHandle> constructorForClassName(String decodedEntityString) {
+    return constructorsByClassName.computeIfAbsent(decodedEntityString,
+        EntityFactory::resolveConstructor);
+  }
+
+  // looks up the (double, double) constructor of a concrete IEntity class in model.entity
+  private static Optional<MethodHandle> resolveConstructor(String decodedEntityString) {
+    try {
+      Class<?> entityClass = Class.forName(ENTITY_PACKAGE_PATH + decodedEntityString);
+      if (!IEntity.class.isAssignableFrom(entityClass)
+          || Modifier.isAbstract(entityClass.getModifiers())) {
+        return Optional.empty();
+      }
+      MethodHandle constructor = MethodHandles.publicLookup()
+          .findConstructor(entityClass, CONSTRUCTOR_TYPE);
+      return Optional.of(constructor.asType(ENTITY_TYPE));
     } catch (ClassNotFoundException
         | NoSuchMethodException
-        | InstantiationException
-        | InvocationTargetException
         | IllegalAccessException e) {
       return Optional.empty();
     }
   }
+
+  // calls a cached constructor; a constructor that throws produces no entity, as it did when
+  // entities were made with Constructor#newInstance
+  private Optional<IEntity> construct(MethodHandle constructor, double rowIndex, double colIndex) {
+    try {
+      return Optional.of((IEntity) constructor.invokeExact(rowIndex, colIndex));
+    } catch (Throwable e) {
+      return Optional.empty();
+    }
+  }
 }
@@ -0,0 +1,146 @@
+package model.configuration;
+
+import api.model.entity.IEntity;
+import api.model.entity.IPoolable;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps entities that have been despawned so they can be reused for later chunks of a level,
+ * instead of a new Block, Enemy or PowerUp (and its HitBox) being constructed for every tile of
+ * every chunk. Only IPoolable entities are kept, in one pool per class, and each pool holds at
+ * most getCapacityPerType entities - any more are left to the garbage collector.
+ *
+ * A Despawner hands entities to release (see Despawner.setRecycler), and an EntityFactory asks
+ * for them with acquire, which resets the entity to where it is wanted. Every acquire is counted
+ * as a hit, if an entity could be reused, or a miss, if a new one had to be constructed.
+ *
+ * Entities are released on the thread stepping the level and acquired on the threads building
+ * chunks, so every method can be called from any thread. An entity must not be released while
+ * anything still uses it.
+ */
+public class EntityPool {
+
+  public static final int DEFAULT_CAPACITY_PER_TYPE = 512;
+
+  private final int capacityPerType;
+  private final Map<Class<?>, TypePool> pools = new ConcurrentHashMap<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  // the entities kept for one class, with a count, since ConcurrentLinkedQueue.size walks the queue
+  private static class TypePool {
+
+    private final Queue<IPoolable> entities = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+  }
+
+  /**
+   * Instantiates an EntityPool that keeps up to DEFAULT_CAPACITY_PER_TYPE entities of each class
+   */
+  public EntityPool() {
+    this(DEFAULT_CAPACITY_PER_TYPE);
+  }
+
+  /**
+   * Instantiates an EntityPool
+   *
+   * @param capacityPerType the most entities of one class that are kept at once
+   */
+  public EntityPool(int capacityPerType) {
+    this.capacityPerType = Math.max(0, capacityPerType);
+  }
+
+  /**
+   * Takes a kept entity of a class and resets it to a new position
+   *
+   * @param type the exact class of the entity wanted
+   * @param x    the x-coordinate to reset the entity to
+   * @param y    the y-coordinate to reset the entity to
+   * @return the reset entity, or null if none of that class is kept and one must be constructed
+   */
+  public IPoolable acquire(Class<?> type, double x, double y) {
+    TypePool pool = pools.get(type);
+    IPoolable entity = pool == null ? null : pool.entities.poll();
+    if (entity == null) {
+      misses.increment();
+      return null;
+    }
+    pool.size.decrementAndGet();
+    hits.increment();
+    entity.reset(x, y);
+    return entity;
+  }
+
+  /**
+   * Keeps an entity that is no longer in any level, if it is IPoolable and its pool is not full
+   *
+   * @param entity the entity that has been despawned
+   * @return true if the entity was kept
+   */
+  public boolean release(IEntity entity) {
+    if (!(entity instanceof IPoolable)) {
+      return false;
+    }
+    TypePool pool = pools.computeIfAbsent(entity.getClass(), type -> new TypePool());
+    if (pool.size.incrementAndGet() > capacityPerType) {
+      pool.size.decrementAndGet();
+      return false;
+    }
+    pool.entities.add((IPoolable) entity);
+    return true;
+  }
+
+  /**
+   * Reveals how many entities of a class are kept
+   *
+   * @param type the exact class of the entities
+   * @return the number of entities of that class that can be acquired
+   */
+  public int getPooledCount(Class<?> type) {
+    TypePool pool = pools.get(type);
+    return pool == null ? 0 : pool.size.get();
+  }
+
+  /**
+   * Getter for the most entities of one class that are kept at once
+   *
+   * @return capacityPerType
+   */
+  public int getCapacityPerType() {
+    return capacityPerType;
+  }
+
+  /**
+   * Reveals how many times acquire has handed back a kept entity
+   *
+   * @return the number of hits
+   */
+  public long getHits() {
+    return hits.sum();
+  }
+
+  /**
+   * Reveals how many times acquire had no entity to hand back
+   *
+   * @return the number of misses
+   */
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * Reveals how often acquire has been able to reuse an entity
+   *
+   * @return hits divided by hits and misses, or 0 if acquire has not been called
+   */
+  public double getHitRate() {
+    long hitCount = getHits();
+    long total = hitCount + getMisses();
+    return total == 0 ? 0 : (double) hitCount / total;
+  }
+}
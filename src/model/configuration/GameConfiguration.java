@@ -3,7 +3,9 @@ package model.configuration;
 import api.model.configuration.IGameConfiguration;
 
 import java.io.File;
+import java.util.OptionalLong;
 import java.util.Properties;
+import model.Level;
 /**
  * An class responsible for creating the game configuration
  * It contains methods for obtaining the configured values from the game configuration
@@ -19,6 +21,8 @@ public class GameConfiguration implements IGameConfiguration {
     private static final String PLAYER_KEY = "player";
     private static final String NEXT_FILE_KEY = "nextfile";
     private static final String HIGH_SCORES_KEY = "leaderboard";
+    private static final String TICK_RATE_KEY = "tickrate";
+    private static final String SEED_KEY = "seed";
     private static final String DEFAULT_LEVEL_FILEPATH = "./data/";
     private static final String ROOT_SOURCE_INDICATOR = "./";
     private final Properties properties;
@@ -127,6 +131,43 @@ public class GameConfiguration implements IGameConfiguration {
         }*/
     }
 
+    /**
+     * Determines how many times a second the level should be stepped. This is optional - if it
+     * is missing, not a number or not positive, the level is stepped at Level.FRAMES_PER_SECOND.
+     * @return the number of steps in one second of play
+     */
+    @Override
+    public double getTickRate() {
+        String tickRateLine = properties.getProperty(TICK_RATE_KEY);
+        if (tickRateLine == null) {
+            return Level.FRAMES_PER_SECOND;
+        }
+        try {
+            double tickRate = Double.parseDouble(tickRateLine.trim());
+            return tickRate > 0 ? tickRate : Level.FRAMES_PER_SECOND;
+        } catch (NumberFormatException e) {
+            return Level.FRAMES_PER_SECOND;
+        }
+    }
+
+    /**
+     * Determines the seed automatic level generation should draw from. This is optional - if it
+     * is missing or not a whole number, there is no seed and every level generated is different.
+     * @return the seed, or nothing if the level should not be reproducible
+     */
+    @Override
+    public OptionalLong getSeed() {
+        String seedLine = properties.getProperty(SEED_KEY);
+        if (seedLine == null) {
+            return OptionalLong.empty();
+        }
+        try {
+            return OptionalLong.of(Long.parseLong(seedLine.trim()));
+        } catch (NumberFormatException e) {
+            return OptionalLong.empty();
+        }
+    }
+
     /**
      * Obtains the level file used for the current level
      * @return A File representing the level file
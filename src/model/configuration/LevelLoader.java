@@ -1,11 +1,9 @@
 package model.configuration;
 
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.Scanner;
 
 import model.entity.*;
 import api.model.configuration.IEntityFactory;
@@ -24,18 +22,19 @@ public class LevelLoader implements ILevelLoader {
     private final List<Enemy> enemyList = new ArrayList<>();
     private final List<PowerUp> powerUpList = new ArrayList<>();
     private final List<Block> blockList = new ArrayList<>();
-    private final List<IEntity> entityList = new ArrayList<>();
+    private final ArrayList<IEntity> entityList = new ArrayList<>();
     private final List<IMovable> movableEntityList = new ArrayList<>();
     private final List<IWinnable> winnableList = new ArrayList<>();
-    private List<IEntity> entityCopy = new ArrayList<>();
     //private final Map<String, String> levelDecoder;
     private api.model.configuration.IEntityFactory IEntityFactory;
+    private LevelTemplate levelTemplate;
 
     private int levelLength;
     private int levelWidth;
 
     /**
      * Constructs a LevelLoader given a CSV file
+     * The file is only parsed if its LevelTemplate is not already cached
      * @param levelFileIn The CSV File to be used for seed creation
      * @throws InvalidFileException if the file is a directory,
      * an invalid file, or not a CSV file
@@ -44,7 +43,6 @@ public class LevelLoader implements ILevelLoader {
         this.handleConstructionExceptions(levelFileIn);
         IEntityFactory = factory;
         this.initializeEntityLists(levelFileIn);
-        entityCopy = defensivelyCopyList(entityList);
     }
     /**
      * Accessor for the length of the level loaded in
@@ -134,33 +132,16 @@ public class LevelLoader implements ILevelLoader {
      * Initializes all of the entity lists during initial level construction
      * It should create entity instances using an IEntityFactory,
      * then call addEntityToLists to add the instance to the lists they belong in
+     * The entities are stamped out of the (cached) LevelTemplate of the file
      * @param levelFileIn The level file to initialize the entity lists from
      * @throws InvalidFileException if the level file could not be found
      */
     @Override
     public void initializeEntityLists(File levelFileIn) throws InvalidFileException {
-        try {
-            Scanner fileReader = new Scanner(levelFileIn);
-            int yCounter = 0;
-            while (fileReader.hasNextLine()) {
-                String currentLine = fileReader.nextLine();
-                String[] currentStringArray = currentLine.split(",");
-                for (int xIndex = 0; xIndex < currentStringArray.length; xIndex++) {
-                    String entityString = currentStringArray[xIndex];
-                    Optional<IEntity> optionalEntity = this.IEntityFactory.createEntity(entityString, xIndex, yCounter);
-                    optionalEntity.ifPresent(this::addEntityToLists);
-                    if(this.levelWidth < xIndex+1){
-                        this.levelWidth = xIndex+1;
-                    }
-
-                }
-                yCounter++;
-            }
-            this.levelLength = yCounter;
-            fileReader.close();
-        } catch (FileNotFoundException e) {
-            throw new InvalidFileException(ModelExceptionReason.FILE_NOT_FOUND, levelFileIn.getPath());
-        }
+        this.levelTemplate = LevelTemplate.forFile(levelFileIn);
+        this.levelLength = levelTemplate.getLevelLength();
+        this.levelWidth = levelTemplate.getLevelWidth();
+        addEntitiesToLists(levelTemplate.createEntities(this.IEntityFactory));
     }
 
     /**
@@ -194,6 +175,14 @@ public class LevelLoader implements ILevelLoader {
         }
     }
 
+    // adds every entity with addEntityToLists, growing the list of all entities only once
+    private void addEntitiesToLists(List<IEntity> entities) {
+        this.entityList.ensureCapacity(entities.size());
+        for (int index = 0; index < entities.size(); index++) {
+            addEntityToLists(entities.get(index));
+        }
+    }
+
     /**
      * Copies a list of IEntity into another list and returns this other list. This copying
      * generates new IEntity objects for the other list to avoid aliasing issues.
@@ -219,6 +208,7 @@ public class LevelLoader implements ILevelLoader {
     /**
      * Reinitializes the level loader (i.e. resets all lists to have their contents when the
      * LevelLoader was first instantiated
+     * Fresh entities are stamped out of the LevelTemplate, so the file is not read again
      */
     @Override
     public void reinitialize() {
@@ -230,8 +220,7 @@ public class LevelLoader implements ILevelLoader {
         this.winnableList.clear();
         this.movableEntityList.clear();
 
-        List<IEntity> concurrentEntityCopy = defensivelyCopyList(entityCopy);
-        concurrentEntityCopy.forEach(entity -> addEntityToLists(entity));
+        addEntitiesToLists(levelTemplate.createEntities(this.IEntityFactory));
 
     }
 
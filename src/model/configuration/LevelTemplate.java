@@ -0,0 +1,148 @@
+package model.configuration;
+
+import api.model.configuration.IEntityFactory;
+import api.model.entity.IEntity;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An immutable, parsed copy of a level CSV file. It holds the entity id of every tile, so that a
+ * fresh set of entities can be stamped out of it whenever a level is loaded or reset, without
+ * opening or parsing the file again.
+ *
+ * The ids are held as TileRegistry codes in a TileChunk as wide as the longest row, with the
+ * shorter rows padded with TileRegistry.NO_TILE. Each line is scanned for its ids in place, so
+ * numeric ids are turned into codes without making a String for each tile.
+ *
+ * Templates are cached per level file. A cached template is reused for as long as the file's
+ * modification time and length stay the same, and the file is parsed again once either changes.
+ */
+public class LevelTemplate {
+
+    private static final char TILE_SEPARATOR = ',';
+    private static final Map<String, LevelTemplate> templateCache = new ConcurrentHashMap<>();
+
+    private final TileChunk tiles;
+    private final long lastModified;
+    private final long fileLength;
+    private final int levelLength;
+    private final int levelWidth;
+
+    private LevelTemplate(List<short[]> rows, long lastModified, long fileLength) {
+        this.lastModified = lastModified;
+        this.fileLength = fileLength;
+        int width = 0;
+        for (short[] row : rows) {
+            width = Math.max(width, row.length);
+        }
+        this.levelLength = rows.size();
+        this.levelWidth = width;
+        this.tiles = new TileChunk(levelLength, levelWidth);
+        for (int yIndex = 0; yIndex < levelLength; yIndex++) {
+            short[] row = rows.get(yIndex);
+            for (int xIndex = 0; xIndex < row.length; xIndex++) {
+                tiles.set(yIndex, xIndex, row[xIndex]);
+            }
+        }
+    }
+
+    /**
+     * Obtains the template of a level file, parsing the file only if it has not been parsed
+     * before or has changed since it was last parsed
+     * @param levelFileIn The CSV file of the level
+     * @return The LevelTemplate holding the contents of levelFileIn
+     * @throws InvalidFileException if the level file could not be read
+     */
+    public static LevelTemplate forFile(File levelFileIn) throws InvalidFileException {
+        String key = levelFileIn.getAbsolutePath();
+        LevelTemplate cachedTemplate = templateCache.get(key);
+        if (cachedTemplate != null && cachedTemplate.isCurrent(levelFileIn)) {
+            return cachedTemplate;
+        }
+        LevelTemplate template = parse(levelFileIn);
+        templateCache.put(key, template);
+        return template;
+    }
+
+    /**
+     * Parses a level file into a new template, bypassing the cache
+     * @param levelFileIn The CSV file of the level
+     * @return The LevelTemplate holding the contents of levelFileIn
+     * @throws InvalidFileException if the level file could not be read
+     */
+    public static LevelTemplate parse(File levelFileIn) throws InvalidFileException {
+        long lastModified = levelFileIn.lastModified();
+        long fileLength = levelFileIn.length();
+        List<short[]> rows = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new FileReader(levelFileIn))) {
+            String currentLine;
+            while ((currentLine = reader.readLine()) != null) {
+                rows.add(parseRow(currentLine));
+            }
+        } catch (IOException e) {
+            throw new InvalidFileException(ModelExceptionReason.FILE_NOT_FOUND, levelFileIn.getPath());
+        }
+        return new LevelTemplate(rows, lastModified, fileLength);
+    }
+
+    // the codes of the ids in one line, split on TILE_SEPARATOR the way String.split would be:
+    // empty ids at the end of the line are dropped, unless the line is empty
+    private static short[] parseRow(String line) {
+        if (line.isEmpty()) {
+            return new short[]{TileRegistry.getCode(line)};
+        }
+        short[] row = new short[line.length() + 1];
+        int count = 0;
+        int lastNonEmpty = 0;
+        int start = 0;
+        for (int end = 0; end <= line.length(); end++) {
+            if (end == line.length() || line.charAt(end) == TILE_SEPARATOR) {
+                row[count++] = TileRegistry.getCode(line, start, end);
+                if (end > start) {
+                    lastNonEmpty = count;
+                }
+                start = end + 1;
+            }
+        }
+        return Arrays.copyOf(row, lastNonEmpty);
+    }
+
+    /**
+     * Creates a fresh instance of every entity in the level, in the order they appear in the file
+     * (row by row, from left to right)
+     * @param factory The IEntityFactory used to turn each id into an entity
+     * @return A new list of new entities
+     */
+    public List<IEntity> createEntities(IEntityFactory factory) {
+        return factory.createEntities(tiles, 0, 0);
+    }
+
+    /**
+     * Accessor for the length of the level, i.e. its number of rows
+     * @return The length of the level
+     */
+    public int getLevelLength() {
+        return levelLength;
+    }
+
+    /**
+     * Accessor for the width of the level, i.e. the length of its longest row
+     * @return The width of the level
+     */
+    public int getLevelWidth() {
+        return levelWidth;
+    }
+
+    // whether levelFileIn is unchanged since this template was parsed from it
+    private boolean isCurrent(File levelFileIn) {
+        return levelFileIn.lastModified() == lastModified && levelFileIn.length() == fileLength;
+    }
+}
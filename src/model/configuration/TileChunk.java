@@ -0,0 +1,131 @@
+package model.configuration;
+
+import api.model.configuration.ITileChunk;
+import java.util.Arrays;
+
+/**
+ * A rectangle of tiles, held as the short codes TileRegistry gives their ids, row by row in a
+ * single array. This is what level files and automatic generation are turned into before their
+ * entities are made (see EntityFactory.createEntities(ITileChunk, double, double)), so no String
+ * has to be made, compared or hashed for each tile.
+ *
+ * A cell can hold TileRegistry.NO_TILE, which makes no entity - that is what a new TileChunk is
+ * filled with, and what pads the rows of a level file that are shorter than its longest one.
+ * TileChunks are meant to be reused: copyFrom and fill overwrite every cell without allocating.
+ */
+public final class TileChunk implements ITileChunk {
+
+  private final int numRows;
+  private final int numCols;
+  private final short[] codes;
+
+  /**
+   * Instantiates a TileChunk with no tiles in it
+   *
+   * @param numRows the number of rows
+   * @param numCols the number of columns
+   */
+  public TileChunk(int numRows, int numCols) {
+    this.numRows = numRows;
+    this.numCols = numCols;
+    this.codes = new short[numRows * numCols];
+    fill(TileRegistry.NO_TILE);
+  }
+
+  /**
+   * Getter for the code of one tile
+   *
+   * @param row    the row of the tile
+   * @param column the column of the tile
+   * @return the code of the tile, or TileRegistry.NO_TILE
+   */
+  @Override
+  public short get(int row, int column) {
+    return codes[row * numCols + column];
+  }
+
+  /**
+   * Setter for the code of one tile
+   *
+   * @param row    the row of the tile
+   * @param column the column of the tile
+   * @param code   the new code of the tile
+   */
+  public void set(int row, int column, short code) {
+    codes[row * numCols + column] = code;
+  }
+
+  /**
+   * Sets every tile in a rectangle to the same code
+   *
+   * @param startRow the first row of the rectangle
+   * @param endRow   the last row of the rectangle, included
+   * @param startCol the first column of the rectangle
+   * @param endCol   the last column of the rectangle, included
+   * @param code     the new code of the tiles
+   */
+  public void fill(int startRow, int endRow, int startCol, int endCol, short code) {
+    for (int row = startRow; row <= endRow; row++) {
+      int rowStart = row * numCols;
+      Arrays.fill(codes, rowStart + startCol, rowStart + endCol + 1, code);
+    }
+  }
+
+  /**
+   * Sets every tile to the same code
+   *
+   * @param code the new code of every tile
+   */
+  public void fill(short code) {
+    Arrays.fill(codes, code);
+  }
+
+  /**
+   * Overwrites every tile with those of another TileChunk of the same size
+   *
+   * @param other the TileChunk to copy
+   * @throws IllegalArgumentException if other is not the same size
+   */
+  public void copyFrom(TileChunk other) {
+    if (other.numRows != numRows || other.numCols != numCols) {
+      throw new IllegalArgumentException("TileChunks are not the same size");
+    }
+    System.arraycopy(other.codes, 0, codes, 0, codes.length);
+  }
+
+  /**
+   * Builds the 2D String array of tile ids this TileChunk holds
+   *
+   * @return the id of every tile, row by row, with null where there is no tile
+   */
+  public String[][] toStrings() {
+    String[][] strings = new String[numRows][numCols];
+    for (int row = 0; row < numRows; row++) {
+      for (int column = 0; column < numCols; column++) {
+        short code = get(row, column);
+        strings[row][column] = code == TileRegistry.NO_TILE ? null : TileRegistry.getId(code);
+      }
+    }
+    return strings;
+  }
+
+  /**
+   * Getter for the number of rows
+   *
+   * @return numRows
+   */
+  @Override
+  public int getNumRows() {
+    return numRows;
+  }
+
+  /**
+   * Getter for the number of columns
+   *
+   * @return numCols
+   */
+  @Override
+  public int getNumCols() {
+    return numCols;
+  }
+}
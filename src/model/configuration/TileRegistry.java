@@ -0,0 +1,127 @@
+package model.configuration;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Gives every tile id (the Strings in a level file or an automatic generation file, such as "3"
+ * for a Block) a short code, so chunks of tiles can be held as TileChunks of shorts instead of 2D
+ * arrays of Strings. Codes are handed out in the order ids are first seen, starting from 0, and
+ * never change while the program runs.
+ *
+ * Looking up an id that already has a code neither locks nor allocates, and ids made only of
+ * digits - which is every id in entityids.properties - can be looked up straight from the text of
+ * a level file, without making a String for them. Codes can be looked up from any thread.
+ */
+public final class TileRegistry {
+
+  public static final short NO_TILE = -1;
+  // the ids "0" to "NUMERIC_IDS - 1" have their codes in an array as well as in CODES
+  private static final int NUMERIC_IDS = 1024;
+
+  private static final Map<String, Short> CODES = new ConcurrentHashMap<>();
+  private static final AtomicIntegerArray NUMERIC_CODES = numericCodes();
+  private static volatile String[] ids = new String[0];
+
+  private TileRegistry() {
+  }
+
+  /**
+   * Finds the code of a tile id, giving it a new one if it has not been seen before
+   *
+   * @param id the tile id
+   * @return the code of the id
+   */
+  public static short getCode(String id) {
+    Short code = CODES.get(id);
+    return code != null ? code : register(id);
+  }
+
+  /**
+   * Finds the code of the tile id between start and end of some text, making a String of it only
+   * if it is not a number seen before
+   *
+   * @param text  the text the id is in, such as a line of a level file
+   * @param start the index of the first character of the id
+   * @param end   the index after the last character of the id
+   * @return the code of the id
+   */
+  public static short getCode(CharSequence text, int start, int end) {
+    int number = parseNumber(text, start, end);
+    if (number >= 0) {
+      int code = NUMERIC_CODES.get(number);
+      if (code != NO_TILE) {
+        return (short) code;
+      }
+    }
+    return getCode(text.subSequence(start, end).toString());
+  }
+
+  /**
+   * Finds the tile id that has a code
+   *
+   * @param code a code returned by getCode
+   * @return the id with that code
+   */
+  public static String getId(short code) {
+    return ids[code];
+  }
+
+  /**
+   * Reveals how many ids have been given codes
+   *
+   * @return the number of codes handed out, which is one more than the highest code
+   */
+  public static int getCodeCount() {
+    return ids.length;
+  }
+
+  // the id is added to ids before CODES, so any thread that can see its code can see the id
+  private static synchronized short register(String id) {
+    Short code = CODES.get(id);
+    if (code == null) {
+      if (ids.length > Short.MAX_VALUE) {
+        throw new IllegalStateException("Too many tile ids");
+      }
+      code = (short) ids.length;
+      String[] grown = Arrays.copyOf(ids, code + 1);
+      grown[code] = id;
+      ids = grown;
+      CODES.put(id, code);
+      int number = parseNumber(id, 0, id.length());
+      if (number >= 0) {
+        NUMERIC_CODES.set(number, code);
+      }
+    }
+    return code;
+  }
+
+  // the value of an id made only of digits without leading zeros, below NUMERIC_IDS, or -1
+  private static int parseNumber(CharSequence text, int start, int end) {
+    if (start >= end || (text.charAt(start) == '0' && end - start > 1)) {
+      return -1;
+    }
+    int number = 0;
+    for (int index = start; index < end; index++) {
+      char digit = text.charAt(index);
+      if (digit < '0' || digit > '9') {
+        return -1;
+      }
+      number = number * 10 + (digit - '0');
+      if (number >= NUMERIC_IDS) {
+        return -1;
+      }
+    }
+    return number;
+  }
+
+  private static AtomicIntegerArray numericCodes() {
+    AtomicIntegerArray codes = new AtomicIntegerArray(NUMERIC_IDS);
+    for (int index = 0; index < NUMERIC_IDS; index++) {
+      codes.set(index, NO_TILE);
+    }
+    return codes;
+  }
+}
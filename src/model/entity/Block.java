@@ -2,13 +2,14 @@ package model.entity;
 
 import model.HitBox;
 import api.model.entity.IEntity;
+import api.model.entity.IPoolable;
 
 /**
  * A class for entities that are blocks - solid entities that cannot
  * be moved or passed through that make up the base of the platform levels
  * @author Mike Garay
  */
-public class Block implements IEntity {
+public class Block implements IEntity, IPoolable {
     private HitBox hitBox;
     private final String type = this.getClass().getSimpleName();
 
@@ -22,6 +23,19 @@ public class Block implements IEntity {
         this.hitBox = new HitBox(x, y);
     }
 
+    /**
+     * Moves this Block to a new position so it can be reused,
+     * as if it had just been constructed there
+     * @param x The x-coordinate to move this Block's Hitbox to
+     * @param y The y-coordinate to move this Block's Hitbox to
+     */
+    @Override
+    public void reset(double x, double y) {
+        hitBox.setXLeft(x);
+        hitBox.setYTop(y);
+        hitBox.savePreviousPosition();
+    }
+
     /**
      * Obtains the stored Hitbox instance of the entity
      * @apiNote  : This should be amended to return an IHitbox instance, not a Hitbox instance
@@ -43,26 +43,29 @@ public class DoodlePlayer extends Player {
    * @param leftKey A boolean reprsenting whether or not the "move left" key was pressed
    * @param rightKey A boolean representing whether or not the "move right" key was pressed
    * @param jumpKey A boolean representing whether or not the "jump" key was pressed
+   * @param timeScale how long the step is, measured in ticks at Level.FRAMES_PER_SECOND
    */
   @Override
-  public void updateVelocity(boolean leftKey, boolean rightKey, boolean jumpKey) {
+  public void updateVelocity(boolean leftKey, boolean rightKey, boolean jumpKey,
+      double timeScale) {
     if (rightKey && this.getXVel() <= 0) {this.setXVel(MOVEMENT_SPEED);}
     if (leftKey && this.getXVel() >= 0) {this.setXVel(-MOVEMENT_SPEED);}
     if (rightKey == leftKey) {this.setXVel(0);}
-    this.applyGravity();
+    this.applyGravity(timeScale);
   }
 
   /**
    * Updates the position of this player - for a Doodle Player,
    * it makes it automatically jump when it is colliding at the bottom
    * And then translates its hitbox accordingly
+   * @param timeScale how long the step is, measured in ticks at Level.FRAMES_PER_SECOND
    */
   @Override
-  public void updatePosition() {
+  public void updatePosition(double timeScale) {
     if (this.getCurrentCollision().contains(Direction.BOTTOM) && this.getYVel() > 0) {
       this.setYVel(DOODLE_JUMP_SPEED);
     }
-    this.translateHitBox();
+    this.translateHitBox(timeScale);
   }
   /**
    * Applies a direct jump speed modifier to the DoodlePlayer
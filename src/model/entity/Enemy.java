@@ -1,25 +1,26 @@
 package model.entity;
 
 import model.HitBox;
-import model.collision.CollisionDirections;
+import model.collision.CollisionMask;
 import model.collision.Direction;
 import api.model.collision.ICollisionHandler;
 import api.model.entity.IDamageable;
 import api.model.entity.IEntity;
 import api.model.entity.IMovable;
-
-import java.util.Arrays;
+import api.model.entity.IPoolable;
 
 /**
  * A class for entities that are enemies - they target any entities that are players,
  * and attempt to colldie with them to damage/kill them.
  * @author Mike Garay and Ryan Krakower
  */
-public class Enemy implements IEntity, IMovable, IDamageable {
+public class Enemy implements IEntity, IMovable, IDamageable, IPoolable {
 
     private static final double ENEMY_MOVEMENT_SPEED = 0.1;
     private static final double MIN_DISTANCE_TO_PLAYER = 0.06;
     public static final double GRAVITY_FACTOR = 0.015f;
+    private static final double STARTING_HEALTH = 100;
+    private static final double STARTING_COLLISION_DAMAGE = 100;
     private final HitBox hitBox;
     private final String type = this.getClass().getSimpleName();
     private double xVel = 0;
@@ -27,7 +28,12 @@ public class Enemy implements IEntity, IMovable, IDamageable {
     private boolean grounded = true;
     private double health = 0;
     private double damage = 0;
-    private ICollisionHandler currentCollision = new CollisionDirections();
+    private final ICollisionHandler currentCollision = new CollisionMask();
+    private final CollisionMask pairCollision = new CollisionMask();
+    private final ICollisionHandler appliesDamageDirections =
+        new CollisionMask(Direction.BOTTOM, Direction.LEFT, Direction.RIGHT);
+    private final ICollisionHandler receivesDamageDirections =
+        new CollisionMask(Direction.TOP, Direction.BOTTOM, Direction.LEFT, Direction.RIGHT);
 
     /**
      * Constructs a Enemy given an x-coordinate and a y-coordinate
@@ -36,8 +42,27 @@ public class Enemy implements IEntity, IMovable, IDamageable {
      */
     public Enemy(double x, double y){
         this.hitBox = new HitBox(x, y);
-        this.setHealth(100);
-        this.setCollisionDamage(100);
+        this.setHealth(STARTING_HEALTH);
+        this.setCollisionDamage(STARTING_COLLISION_DAMAGE);
+    }
+
+    /**
+     * Moves this Enemy to a new position so it can be reused, standing still and at
+     * full health, as if it had just been constructed there
+     * @param x The x-coordinate to move this Enemy's Hitbox to
+     * @param y The y-coordinate to move this Enemy's Hitbox to
+     */
+    @Override
+    public void reset(double x, double y) {
+        hitBox.setXLeft(x);
+        hitBox.setYTop(y);
+        hitBox.savePreviousPosition();
+        this.xVel = 0;
+        this.yVel = 0;
+        this.grounded = true;
+        this.setHealth(STARTING_HEALTH);
+        this.setCollisionDamage(STARTING_COLLISION_DAMAGE);
+        this.currentCollision.clear();
     }
 
     /**
@@ -74,7 +99,8 @@ public class Enemy implements IEntity, IMovable, IDamageable {
      * @param entity The other entity to check for any possible collisions with
      */
     public void checkCollision(IEntity entity) {
-        CollisionDirections collision = hitBox.getCollisionDirections(entity.getHitBox());
+        CollisionMask collision = pairCollision;
+        collision.setMask(hitBox.getCollisionMask(entity.getHitBox()));
         currentCollision.add(collision);
 
         this.processCurrentCollision(entity, collision);
@@ -87,19 +113,21 @@ public class Enemy implements IEntity, IMovable, IDamageable {
      * Updates the position of this enemy
      * by translating its hitbox using its current x and y velocity
      * This should be done every frame/step of the level
+     * @param timeScale how long the step is, measured in ticks at Level.FRAMES_PER_SECOND
      */
     @Override
-    public void updatePosition() {
+    public void updatePosition(double timeScale) {
         if (!this.getCurrentCollision().contains(Direction.BOTTOM)) {
-            this.applyGravity();
+            this.applyGravity(timeScale);
         }
-        translateHitbox();
+        translateHitbox(timeScale);
     }
 
-    // translates the hitbox of the enemy and clears its current colision
-    protected void translateHitbox() {
-        hitBox.translateX(xVel);
-        hitBox.translateY(yVel);
+    // translates the hitbox of the enemy over a step of timeScale ticks and clears its current
+    // colision
+    protected void translateHitbox(double timeScale) {
+        hitBox.translateX(xVel * timeScale);
+        hitBox.translateY(yVel * timeScale);
         this.currentCollision.clear();
     }
 
@@ -221,7 +249,7 @@ public class Enemy implements IEntity, IMovable, IDamageable {
      */
     @Override
     public ICollisionHandler getAppliesDamageDirections() {
-        return new CollisionDirections(Arrays.asList(Direction.BOTTOM, Direction.LEFT, Direction.RIGHT));
+        return appliesDamageDirections;
     }
 
     /**
@@ -230,7 +258,7 @@ public class Enemy implements IEntity, IMovable, IDamageable {
      */
     @Override
     public ICollisionHandler getReceivesDamageDirections() {
-        return new CollisionDirections(Arrays.asList(Direction.TOP, Direction.BOTTOM, Direction.LEFT, Direction.RIGHT));
+        return receivesDamageDirections;
     }
 
     /**
@@ -242,9 +270,9 @@ public class Enemy implements IEntity, IMovable, IDamageable {
         return Teams.ENEMY;
     }
 
-    // applies gravity to the enemy using the gravity factor
-    protected void applyGravity() {
-        this.setYVel(this.getYVel() + GRAVITY_FACTOR);
+    // applies gravity to the enemy over a step of timeScale ticks using the gravity factor
+    protected void applyGravity(double timeScale) {
+        this.setYVel(this.getYVel() + GRAVITY_FACTOR * timeScale);
     }
 
     // obtains the current collision handler instance of this enemy
@@ -43,9 +43,11 @@ public class FlappyPlayer extends Player {
    * @param leftKey An unused boolean
    * @param rightKey An unused boolean
    * @param jumpKey A boolean representing whether or not the "jump" key was pressed
+   * @param timeScale An unused double
    */
   @Override
-  public void updateVelocity(boolean leftKey, boolean rightKey, boolean jumpKey) {
+  public void updateVelocity(boolean leftKey, boolean rightKey, boolean jumpKey,
+      double timeScale) {
     if (immobilized) {return;}
     if (jumpKey && !heldDownJumpKey)  {
       this.setYVel(FLAPPY_JUMP_SPEED);
@@ -58,10 +60,11 @@ public class FlappyPlayer extends Player {
    * Updates the position of this player - For a FlappyPlayer,
    * this means applying gravity to it and then translating the hitbox
    * using its current velocity
+   * @param timeScale how long the step is, measured in ticks at Level.FRAMES_PER_SECOND
    */
   @Override
-  public void updatePosition(){
-    this.applyGravity();
-    this.translateHitBox();
+  public void updatePosition(double timeScale){
+    this.applyGravity(timeScale);
+    this.translateHitBox(timeScale);
   }
 }
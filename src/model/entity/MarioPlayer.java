@@ -32,9 +32,11 @@ public class MarioPlayer extends Player {
    * @param leftKey A boolean reprsenting whether or not the "move left" key was pressed
    * @param rightKey A boolean representing whether or not the "move right" key was pressed
    * @param jumpKey A boolean representing whether or not the "jump" key was pressed
+   * @param timeScale how long the step is, measured in ticks at Level.FRAMES_PER_SECOND
    */
   @Override
-  public void updateVelocity(boolean leftKey, boolean rightKey, boolean jumpKey) {
+  public void updateVelocity(boolean leftKey, boolean rightKey, boolean jumpKey,
+      double timeScale) {
     double movementSpeedModifierValue = this.getMovementSpeedModifierValue();
     double jumpSpeedModifierValue = this.getJumpSpeedModifierValue();
 
@@ -53,43 +55,46 @@ public class MarioPlayer extends Player {
       GRACE_BEFORE_JUMP = true;
     }
     if (rightKey && this.getXVel() < (MAX_MOVE_SPEED * movementSpeedModifierValue)) {
-      accelerateRight();
+      accelerateRight(timeScale);
     }
     if (leftKey && this.getXVel() > -(MAX_MOVE_SPEED * movementSpeedModifierValue)) {
-      accelerateLeft();
+      accelerateLeft(timeScale);
     }
     if (rightKey == leftKey && this.getXVel() < 0) {
-      accelerateRight();
+      accelerateRight(timeScale);
     }
     if (rightKey == leftKey && this.getXVel() > 0) {
-      accelerateLeft();
+      accelerateLeft(timeScale);
     }
 
-    if (Math.abs(this.getXVel()) < MOVE_ACCELERATION) {
+    if (Math.abs(this.getXVel()) < MOVE_ACCELERATION * timeScale) {
       this.setXVel(0);
     }
   }
 
   // sets the x velocity to make the player move right using MOVE_ACCELERATION and the player's movement speed modifier value
-  private void accelerateRight() {
-    this.setXVel(this.getXVel() + (MOVE_ACCELERATION * this.getMovementSpeedModifierValue()));
+  private void accelerateRight(double timeScale) {
+    this.setXVel(this.getXVel()
+        + (MOVE_ACCELERATION * this.getMovementSpeedModifierValue() * timeScale));
   }
   // sets the x velocity to make the player move left using MOVE_ACCELERATION and the player's movement speed modifier value
-  private void accelerateLeft() {
-    this.setXVel(this.getXVel() - (MOVE_ACCELERATION * this.getMovementSpeedModifierValue()));
+  private void accelerateLeft(double timeScale) {
+    this.setXVel(this.getXVel()
+        - (MOVE_ACCELERATION * this.getMovementSpeedModifierValue() * timeScale));
   }
 
   /**
    * Updates the position of this player - For a MarioPlayer,
    * it applies gravity to it then translates its hitbox
    * using its current velocity
+   * @param timeScale how long the step is, measured in ticks at Level.FRAMES_PER_SECOND
    */
   @Override
-  public void updatePosition() {
+  public void updatePosition(double timeScale) {
     if (!this.getCurrentCollision().contains(Direction.BOTTOM)) {
-      this.applyGravity();
+      this.applyGravity(timeScale);
     }
-    this.translateHitBox();
+    this.translateHitBox(timeScale);
   }
 
 }
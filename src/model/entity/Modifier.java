@@ -1,11 +1,16 @@
 package model.entity;
 
+import model.Level;
+
 /**
  * A class for modifiers that can be applied to entities to modify their
  * properties
  * @author Mike Garay
  */
 public class Modifier {
+    // how far a duration may be above 0 and still count as used up, so that adding up many short
+    // steps in floating point does not leave a modifier running for one step too many
+    private static final double EXPIRY_TOLERANCE = 1e-9;
     private ModifierType modifierType;
     private double value;
     private double duration;
@@ -14,7 +19,7 @@ public class Modifier {
      * Constructs a Modifer given a ModifierType, the value of the modifier and the duration of the modifier
      * @param modifierType The ModifierType to construct this Modifier with
      * @param value The value of the modifier i.e., the amplifier for the entity's base value
-     * @param duration The time this modifier can last
+     * @param duration The time this modifier can last, in seconds
      */
     public Modifier(ModifierType modifierType, double value, double duration){
         this.modifierType = modifierType;
@@ -23,10 +28,26 @@ public class Modifier {
     }
 
     /**
-     * Updates the duration of this Modifier by decrementing it by 1
+     * Updates the duration of this Modifier by one tick at Level.FRAMES_PER_SECOND
      */
     public void updateDuration(){
-        this.duration--;
+        this.updateDuration(1.0 / Level.FRAMES_PER_SECOND);
+    }
+
+    /**
+     * Updates the duration of this Modifier by taking the time that has passed off it
+     * @param elapsedSeconds how long has passed since the last update, in seconds
+     */
+    public void updateDuration(double elapsedSeconds){
+        this.duration -= elapsedSeconds;
+    }
+
+    /**
+     * Reveals whether this Modifier has run for its whole duration
+     * @return true if there is no time left on this Modifier
+     */
+    public boolean isExpired() {
+        return this.duration <= EXPIRY_TOLERANCE;
     }
 
     /**
@@ -55,7 +76,7 @@ public class Modifier {
 
     /**
      * Retrieves the duration of this Modifier
-     * @return The duration of this Modifier
+     * @return The time this Modifier has left, in seconds
      */
     public double getDuration() {
         return this.duration;
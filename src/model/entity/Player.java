@@ -1,11 +1,9 @@
 package model.entity;
 
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import model.HitBox;
-import model.collision.CollisionDirections;
+import model.collision.CollisionMask;
 import model.collision.Direction;
 import api.model.collision.ICollisionHandler;
 import api.model.entity.*;
@@ -26,7 +24,11 @@ public abstract class Player implements IEntity, IMovable, IDamageable, IPlayer
   private double health = 0;
   private double damage = 0;
   private final Map<Modifier.ModifierType, Modifier> modifiers = new HashMap<>();
-  private ICollisionHandler currentCollision = new CollisionDirections();
+  private final ICollisionHandler currentCollision = new CollisionMask();
+  private final CollisionMask pairCollision = new CollisionMask();
+  private final ICollisionHandler appliesDamageDirections = new CollisionMask(Direction.BOTTOM);
+  private final ICollisionHandler receivesDamageDirections =
+      new CollisionMask(Direction.TOP, Direction.BOTTOM, Direction.LEFT, Direction.RIGHT);
 
   /**
    * Constructs a Player given an x-coordinate and a y-coordinate
@@ -40,12 +42,24 @@ public abstract class Player implements IEntity, IMovable, IDamageable, IPlayer
   }
 
   /**
-   * Updates the velocity of the player given key inputs
+   * Updates the velocity of the player given key inputs, over one tick at Level.FRAMES_PER_SECOND
    * @param leftKey A boolean reprsenting whether or not the "move left" key was pressed
    * @param rightKey A boolean representing whether or not the "move right" key was pressed
    * @param jumpKey A boolean representing whether or not the "jump" key was pressed
    */
-  public abstract void updateVelocity(boolean leftKey, boolean rightKey, boolean jumpKey);
+  public void updateVelocity(boolean leftKey, boolean rightKey, boolean jumpKey) {
+    this.updateVelocity(leftKey, rightKey, jumpKey, 1);
+  }
+
+  /**
+   * Updates the velocity of the player given key inputs, over a step of the given length
+   * @param leftKey A boolean reprsenting whether or not the "move left" key was pressed
+   * @param rightKey A boolean representing whether or not the "move right" key was pressed
+   * @param jumpKey A boolean representing whether or not the "jump" key was pressed
+   * @param timeScale how long the step is, measured in ticks at Level.FRAMES_PER_SECOND
+   */
+  public abstract void updateVelocity(boolean leftKey, boolean rightKey, boolean jumpKey,
+      double timeScale);
 
   /**
    * An accessor for the movement speed modifier value of an IPlayer
@@ -83,8 +97,10 @@ public abstract class Player implements IEntity, IMovable, IDamageable, IPlayer
   /**
    * Updates the position of this player - Should be used for game type specific
    * position updates determines by the extending class
+   * @param timeScale how long the step is, measured in ticks at Level.FRAMES_PER_SECOND
    */
-  public abstract void updatePosition();
+  @Override
+  public abstract void updatePosition(double timeScale);
 
   /**
    * A  handler for checking any collisions between this entity and another entity
@@ -104,7 +120,8 @@ public abstract class Player implements IEntity, IMovable, IDamageable, IPlayer
    * @param entity The other entity to check for any possible collisions with
    */
   public void checkCollision(IEntity entity) {
-    CollisionDirections collision = hitBox.getCollisionDirections(entity.getHitBox());
+    CollisionMask collision = pairCollision;
+    collision.setMask(hitBox.getCollisionMask(entity.getHitBox()));
     currentCollision.add(collision);
     this.processCurrentCollision(entity, collision);
     if (entity instanceof IDamageable) {
@@ -207,20 +224,23 @@ public abstract class Player implements IEntity, IMovable, IDamageable, IPlayer
   }
 
   /**
-   * Translates the hitbox of this player using its current velocity
-   * then clears its current collision handler
+   * Translates the hitbox of this player using its current velocity over a step of the given
+   * length, then clears its current collision handler
+   * @param timeScale how long the step is, measured in ticks at Level.FRAMES_PER_SECOND
    */
-  public void translateHitBox() {
-    this.getHitBox().translateX(this.getXVel());
-    this.getHitBox().translateY(this.getYVel());
+  public void translateHitBox(double timeScale) {
+    this.getHitBox().translateX(this.getXVel() * timeScale);
+    this.getHitBox().translateY(this.getYVel() * timeScale);
     this.currentCollision.clear();
   }
 
-  // applies gravity to the player, taking into account the anti-gravity modifier it may have
-  protected void applyGravity() {
+  // applies gravity to the player over a step of timeScale ticks, taking into account the
+  // anti-gravity modifier it may have
+  protected void applyGravity(double timeScale) {
     double antiGravityValue = this.getAntiGravityModifierValue();
     double adjustedAntiGravityValue = 1 - ((antiGravityValue - 1));
-    double yVelWithGravity = this.getYVel() + (GRAVITY_FACTOR * adjustedAntiGravityValue);
+    double yVelWithGravity =
+        this.getYVel() + (GRAVITY_FACTOR * adjustedAntiGravityValue * timeScale);
     this.setYVel(yVelWithGravity);
   }
 
@@ -266,7 +286,7 @@ public abstract class Player implements IEntity, IMovable, IDamageable, IPlayer
    */
   @Override
   public ICollisionHandler getAppliesDamageDirections() {
-    return new CollisionDirections(Collections.singletonList(Direction.BOTTOM));
+    return appliesDamageDirections;
   }
 
   /**
@@ -275,7 +295,7 @@ public abstract class Player implements IEntity, IMovable, IDamageable, IPlayer
    */
   @Override
   public ICollisionHandler getReceivesDamageDirections() {
-    return new CollisionDirections(Arrays.asList(Direction.TOP, Direction.BOTTOM, Direction.LEFT, Direction.RIGHT));
+    return receivesDamageDirections;
   }
 
   // obtains the current collision handler instance of this player
@@ -3,11 +3,12 @@ package model.entity;
 import model.HitBox;
 import api.model.entity.IEmpowering;
 import api.model.entity.IEntity;
+import api.model.entity.IPoolable;
 
 /**
  * @author Mike Garay
  */
-public class PowerUp implements IEntity, IEmpowering {
+public class PowerUp implements IEntity, IEmpowering, IPoolable {
     private HitBox hitBox;
     private final String type = this.getClass().getSimpleName();
     private Modifier modifier;
@@ -22,6 +23,21 @@ public class PowerUp implements IEntity, IEmpowering {
         this.hitBox = new HitBox(x, y);
     }
 
+    /**
+     * Moves this PowerUp to a new position so it can be reused, and forgets its
+     * modifier, as if it had just been constructed there
+     * @param x The x-coordinate to move this PowerUp's Hitbox to
+     * @param y The y-coordinate to move this PowerUp's Hitbox to
+     */
+    @Override
+    public void reset(double x, double y) {
+        hitBox.setXLeft(x);
+        hitBox.setYTop(y);
+        hitBox.savePreviousPosition();
+        this.modifier = null;
+        this.hasAppliedModifier = false;
+    }
+
     /**
      * Obtains the stored Hitbox instance of the entity
      * @apiNote : This should be amended to return an IHitbox instance, not a Hitbox instance
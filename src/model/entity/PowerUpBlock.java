@@ -1,9 +1,8 @@
 package model.entity;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import model.collision.CollisionDirections;
+import model.collision.CollisionMask;
 import model.collision.Direction;
 import api.model.collision.ICollisionHandler;
 import api.model.entity.IEntity;
@@ -14,7 +13,9 @@ import api.model.entity.ISpawner;
  */
 public class PowerUpBlock extends Block implements ISpawner {
     private final List<IEntity> spawnList = new ArrayList<>();
-    private int maxSpawnCount = 1;
+    private static final int MAX_SPAWN_COUNT = 1;
+    private int maxSpawnCount = MAX_SPAWN_COUNT;
+    private final ICollisionHandler collisionsRequiredForSpawn = new CollisionMask(Direction.BOTTOM);
 
     /**
      * Constructs a PowerUpBlock given an x-coordinate and a y-coordinate
@@ -25,6 +26,19 @@ public class PowerUpBlock extends Block implements ISpawner {
         super(x, y);
     }
 
+    /**
+     * Moves this PowerUpBlock to a new position so it can be reused, and lets it
+     * spawn a PowerUp again, as if it had just been constructed there
+     * @param x The x-coordinate to move this PowerUpBlock's Hitbox to
+     * @param y The y-coordinate to move this PowerUpBlock's Hitbox to
+     */
+    @Override
+    public void reset(double x, double y) {
+        super.reset(x, y);
+        this.spawnList.clear();
+        this.maxSpawnCount = MAX_SPAWN_COUNT;
+    }
+
     /**
      * Obtains the list of stored entities in the ISpawner instance
      * @return The list of stored entities in the ISpawner instance
@@ -43,7 +57,7 @@ public class PowerUpBlock extends Block implements ISpawner {
      */
     @Override
     public ICollisionHandler getCollisionsRequiredForSpawn() {
-        return new CollisionDirections(Collections.singletonList(Direction.BOTTOM));
+        return this.collisionsRequiredForSpawn;
     }
 
     /**
@@ -9,9 +9,9 @@ public class ZeroGEnemy extends Enemy {
     super(x,y);
   }
   @Override
-  public void updatePosition() {
-    this.setXVel(this.getXVel()*VELOCITY_MULTIPLIER);
-    this.translateHitbox();
+  public void updatePosition(double timeScale) {
+    this.setXVel(this.getXVel()*Math.pow(VELOCITY_MULTIPLIER, timeScale));
+    this.translateHitbox(timeScale);
   }
 
   @Override
@@ -1,12 +1,10 @@
 package model.scroll;
 
-import java.util.Optional;
+import java.util.concurrent.Executor;
 import model.Level;
 import model.autogenerator.AutoGenerator;
+import model.autogenerator.ChunkRandom;
 import model.autogenerator.GenerationException;
-import model.configuration.EntityFactory;
-import api.model.configuration.IEntityFactory;
-import api.model.entity.IEntity;
 
 /**
  * This class's job is to help AutoGeneratonScroller and DoodleGenerationScroller objects perform
@@ -21,13 +19,18 @@ import api.model.entity.IEntity;
  * translate those Strings to IEntity objects, and then to insert them into the level object so that
  * they become part of gameplay
  *
+ * Chunks are built ahead of time by a ChunkPipeline on background threads. The scrollers tell the
+ * helper how fast they are scrolling every tick with prepareAhead, so that by the time
+ * generateForLevel is called the chunk and its entities are usually ready, and putting them into
+ * the level is all that is left to do on the thread stepping it.
+ *
  * @author Alex Lu
  */
 public class AutoGenerationHelper {
 
-  private final AutoGenerator generator;
-  private final IEntityFactory factory;
-  protected String[][] currentGeneration;
+  private final ChunkPipeline pipeline;
+  private final int addedNumRows;
+  private final int addedNumColumns;
 
 
   /**
@@ -37,10 +40,36 @@ public class AutoGenerationHelper {
    *                      automatic level generation
    */
   public AutoGenerationHelper(String generatorPath) {
+    this(generatorPath, ChunkRandom.newSeed());
+  }
+
+  /**
+   * Instantiates an AutoGenerationHelper object that generates the same chunks every time it is
+   * given the same seed
+   *
+   * @param generatorPath a String filepath which points to the xml file that will be used for
+   *                      automatic level generation
+   * @param seed          the seed every generated chunk is drawn from
+   */
+  public AutoGenerationHelper(String generatorPath, long seed) {
+    this(generatorPath, seed, ChunkPipeline.SHARED_EXECUTOR);
+  }
+
+  /**
+   * Instantiates an AutoGenerationHelper object that generates the same chunks every time it is
+   * given the same seed, building them on executor
+   *
+   * @param generatorPath a String filepath which points to the xml file that will be used for
+   *                      automatic level generation
+   * @param seed          the seed every generated chunk is drawn from
+   * @param executor      the executor the chunks are built on
+   */
+  public AutoGenerationHelper(String generatorPath, long seed, Executor executor) {
     try {
-      factory = new EntityFactory();
-      generator = new AutoGenerator(generatorPath);
-      currentGeneration = generator.generateNextBlock();
+      AutoGenerator generator = new AutoGenerator(generatorPath, seed);
+      addedNumRows = generator.getNumRows();
+      addedNumColumns = generator.getNumCols();
+      pipeline = new ChunkPipeline(generator, executor);
     } catch (Exception e) {
       throw new GenerationException("");
     }
@@ -48,50 +77,70 @@ public class AutoGenerationHelper {
 
 
   /**
-   * Creates a new part of the level and adds it to the entity list
+   * Creates a new part of the level and adds it to the entity list, taking the next chunk the
+   * pipeline has built (and waiting for it only if it is not finished yet)
    *
-   * @param level the Level in which to insert the entities
+   * @param level     the Level in which to insert the entities
+   * @param rowOffset the world y coordinate of the first row of the new part
+   * @param colOffset the world x coordinate of the first column of the new part
    */
   public void generateForLevel(Level level, double rowOffset, double colOffset) {
-    currentGeneration = generator.generateNextBlock();
+    ChunkPipeline.PreparedChunk chunk = pipeline.takeNext();
+    chunk.spliceInto(level, colOffset, rowOffset);
+    pipeline.recycle(chunk);
+  }
 
-    for (int row = 0; row < currentGeneration.length; row += 1) {
-      for (int column = 0; column < currentGeneration[0].length; column += 1) {
-        String entityCode = currentGeneration[row][column];
-        insertIntoLevel(entityCode, level,
-            rowOffset + row, colOffset + column);
-      }
-    }
+  /**
+   * Creates a new part of the level like generateForLevel does, but queues its entities on a
+   * ChunkInserter to be added to the level over the next few ticks instead of all at once
+   *
+   * @param inserter  the ChunkInserter that will add the entities to the level
+   * @param rowOffset the world y coordinate of the first row of the new part
+   * @param colOffset the world x coordinate of the first column of the new part
+   */
+  public void generateInto(ChunkInserter inserter, double rowOffset, double colOffset) {
+    ChunkPipeline.PreparedChunk chunk = pipeline.takeNext();
+    inserter.add(chunk, colOffset, rowOffset);
+    pipeline.recycle(chunk);
+  }
+
+  /**
+   * Keeps enough chunks being built ahead for the speed the level is scrolling at
+   *
+   * @param blocksPerSecond how many blocks a second the level is scrolling towards where new
+   *                        chunks are generated
+   * @param blocksPerChunk  how many of those blocks one chunk covers
+   */
+  public void prepareAhead(double blocksPerSecond, int blocksPerChunk) {
+    pipeline.prepareAhead(blocksPerSecond / Math.max(1, blocksPerChunk));
   }
 
   /**
-   * Builds an entity from entityCode and inserts it into level
+   * Getter for the pipeline chunks are built in, so that how well it keeps up can be checked
    *
-   * @param entityCode the String containing the type of entity
-   * @param level      the Level in which to insert the entity
+   * @return pipeline
    */
-  private void insertIntoLevel(String entityCode, Level level, double row, double col) {
-    Optional<IEntity> optionalEntity = factory.createEntity(entityCode, col, row);
-    optionalEntity.ifPresent(level::addEntity);
+  public ChunkPipeline getPipeline() {
+    return pipeline;
   }
 
   /**
    * Reveals the number of new rows that have been added to the Level parameter in
    * generateForLevel() as of the last call to that method
    *
-   * @return the number of rows in the "current" currentGeneration array
+   * @return the number of rows in every generated chunk
    */
   public int getAddedNumRows() {
-    return currentGeneration.length;
+    return addedNumRows;
   }
 
   /**
    * Reveals the number of new columns that have been added to the Level parameter in
    * generateForLevel() as of the last call to that method
    *
-   * @return the number of new columns in the "current" currentGeneration array
+   * @return the number of columns in every generated chunk
    */
   public int getAddedNumColumns() {
-    return currentGeneration[0].length;
+    return addedNumColumns;
   }
 }
@@ -1,9 +1,10 @@
 package model.scroll;
 
-import java.util.List;
+import java.util.concurrent.Executor;
+import model.HitBox;
 import model.Level;
+import model.autogenerator.ChunkRandom;
 import model.autogenerator.GenerationException;
-import api.model.entity.IEntity;
 import model.entity.Player;
 
 /**
@@ -12,32 +13,82 @@ import model.entity.Player;
  * generating new chunks of entities and inserting those chunks into the level to simulate infinite
  * automatic level generation. It uses an AutoGenerationHelper to accomplish this generation.
  *
+ * The chunks are built ahead on background threads (see AutoGenerationHelper), as many as the
+ * scroll speed needs. A chunk is taken a whole chunk before it scrolls into view, and its entities
+ * are added to the level column by column over the ticks after that by a ChunkInserter, within its
+ * budget per tick - except for columns about to come into view, which are always added. Entities
+ * that are despawned are reused for later chunks (see EntityPool).
+ *
  * It, like all scrollers, is primarily used in the scroll() method in the Level class, where the
  * Level object calls scroller.scroll(this [i.e. the Level object], gamePlayer)
  *
  * @author Alex Lu
  */
 public class AutoGenerationScroller extends AutoScroller {
+  // world x coordinate where the next chunk will be generated
   private double flagX;
   private final AutoGenerationHelper helper;
+  // by default, entities are despawned once they have scrolled off the left of the screen or
+  // fallen off the bottom of it
+  private final Despawner despawner =
+      new Despawner(0, Despawner.NO_BOUND, Despawner.NO_BOUND, NUM_BLOCKS);
+  private final ChunkInserter inserter = new ChunkInserter(HitBox::getXLeft);
   private final int GENERATE_MAX_BOUND;
+  // how far past the right of the screen every entity must already be in the level
+  private static final double INSERT_GUARD = 1;
   private static final String EXCEPTION_MESSAGE = "Failed to build auto-generation";
 
   /**
    * Instantiates an AutoGenerationScroller object
-   * @param xScr the amount by which this scroller will translate the x components of all Entities
-   *        in the level it is scrolling each time this scroller scrolls it
-   * @param yScr the amount by which this scroller will translate the y components of all Entities
-   *        in the level it is scrolling each time this scroller scrolls it
+   * @param xScr the amount by which this scroller will move the x components of all Entities
+   *        on screen in the level it is scrolling each time this scroller scrolls it
+   * @param yScr the amount by which this scroller will move the y components of all Entities
+   *        on screen in the level it is scrolling each time this scroller scrolls it
    * @param pScrolls true if the player's location stays fixed on the screen after a
    *        scroll, false if not
    * @param path a String reference to the xml file to be used to generate levels
    */
   public AutoGenerationScroller(double xScr, double yScr, boolean pScrolls, String path) {
+    this(xScr, yScr, pScrolls, path, ChunkRandom.newSeed());
+  }
+
+  /**
+   * Instantiates an AutoGenerationScroller object that generates the same level every time it is
+   * given the same seed
+   * @param xScr the amount by which this scroller will move the x components of all Entities
+   *        on screen in the level it is scrolling each time this scroller scrolls it
+   * @param yScr the amount by which this scroller will move the y components of all Entities
+   *        on screen in the level it is scrolling each time this scroller scrolls it
+   * @param pScrolls true if the player's location stays fixed on the screen after a
+   *        scroll, false if not
+   * @param path a String reference to the xml file to be used to generate levels
+   * @param seed the seed every generated chunk is drawn from
+   */
+  public AutoGenerationScroller(double xScr, double yScr, boolean pScrolls, String path,
+      long seed) {
+    this(xScr, yScr, pScrolls, path, seed, ChunkPipeline.SHARED_EXECUTOR);
+  }
+
+  /**
+   * Instantiates an AutoGenerationScroller object that generates the same level every time it is
+   * given the same seed, building its chunks on executor
+   * @param xScr the amount by which this scroller will move the x components of all Entities
+   *        on screen in the level it is scrolling each time this scroller scrolls it
+   * @param yScr the amount by which this scroller will move the y components of all Entities
+   *        on screen in the level it is scrolling each time this scroller scrolls it
+   * @param pScrolls true if the player's location stays fixed on the screen after a
+   *        scroll, false if not
+   * @param path a String reference to the xml file to be used to generate levels
+   * @param seed the seed every generated chunk is drawn from
+   * @param executor the executor the chunks are built on
+   */
+  public AutoGenerationScroller(double xScr, double yScr, boolean pScrolls, String path,
+      long seed, Executor executor) {
     super(xScr,yScr, pScrolls);
 
     try {
-      helper = new AutoGenerationHelper(path);
+      helper = new AutoGenerationHelper(path, seed, executor);
+      despawner.setRecycler(helper.getPipeline().getEntityPool()::release);
 
       GENERATE_MAX_BOUND = NUM_BLOCKS;
       flagX = GENERATE_MAX_BOUND;
@@ -55,37 +106,54 @@ public class AutoGenerationScroller extends AutoScroller {
   @Override
   public void scroll(Level level, Player player) {
     checkForGeneration(level);
-    flagX+=xScroll;
 
     super.scroll(level, player);
   }
 
   /**
-   * Checks to see if it's necessary to generate a new generation
+   * Checks to see if it's necessary to generate a new generation (i.e. if the flag has scrolled
+   * to within a chunk of the screen), then adds as much of the generated chunks to the level as
+   * this tick allows - at least everything this tick's scroll will bring onto the screen
    */
   private void checkForGeneration(Level level) {
-    if (flagX <= GENERATE_MAX_BOUND) {
-      helper.generateForLevel(level, 0, flagX);
+    double scrollPerTick = Math.abs(xScroll) * level.getTimeScale();
+    helper.prepareAhead(scrollPerTick * level.getTicksPerSecond(), helper.getAddedNumColumns());
+    if (level.getCamera().toScreenX(flagX) <= GENERATE_MAX_BOUND + helper.getAddedNumColumns()) {
+      helper.generateInto(inserter, 0, flagX);
       flagX+= helper.getAddedNumColumns();
       cleanGarbage(level);
     }
+    inserter.insert(level,
+        level.getCamera().toWorldX(GENERATE_MAX_BOUND + INSERT_GUARD + scrollPerTick));
   }
 
   /**
-   * Checks the entityList to see if any of the entities have gone off screen forever (i.e. have
-   * x < 0), if so, removes them from entityList
+   * Despawns any entities that have gone off screen forever (by default, those with x < 0 or
+   * yTop > NUM_BLOCKS on screen), removing them from every list in the level
    *
    * @param level the Level whose garbage we're cleaning
    */
   private void cleanGarbage(Level level) {
-    List<IEntity> entityList = level.getAllEntities();
+    despawner.despawn(level);
+  }
 
-    for (int index = entityList.size() - 1; index >= 0; index --) {
-      IEntity entity = entityList.get(index);
-      if (entity.getHitBox().getXRight() < 0) {
-        entityList.remove(entity);
-      }
-    }
+  /**
+   * Reveals the Despawner this scroller uses, so that its cull bounds and recycler can be
+   * configured
+   *
+   * @return despawner
+   */
+  public Despawner getDespawner() {
+    return despawner;
+  }
+
+  /**
+   * Reveals the ChunkInserter this scroller uses, so that its budget per tick can be configured
+   *
+   * @return inserter
+   */
+  public ChunkInserter getChunkInserter() {
+    return inserter;
   }
 
   /**
@@ -95,5 +163,6 @@ public class AutoGenerationScroller extends AutoScroller {
   @Override
   public void reset() {
     flagX = GENERATE_MAX_BOUND;
+    inserter.clear();
   }
 }
@@ -17,16 +17,19 @@ public class AutoScroller implements Scroller {
     protected double xScroll;
     protected double yScroll;
     protected boolean playerScrolls;
+    // score earned by scrolling that has not been handed out yet, since a short step earns less
+    // than a whole point
+    private double unclaimedScore;
 
   private static final int SCORE_FROM_SCROLL = 1;
 
 
   /**
    * Constructs an AutoScroller object
-   * @param x the amount by which this scroller will translate the x components of all Entities
-   *          in the level it is scrolling each time this scroller scrolls it
-   * @param y the amount by which this scroller will translate the y components of all Entities
-   *          in the level it is scrolling each time this scroller scrolls it
+   * @param x the amount by which this scroller will move the x components of all Entities
+   *          on screen in the level it is scrolling each time this scroller scrolls it
+   * @param y the amount by which this scroller will move the y components of all Entities
+   *          on screen in the level it is scrolling each time this scroller scrolls it
    * @param lockPlayerInPlace true if the player's location stays fixed on the screen after a
    *                          scroll, false if not
    */
@@ -37,16 +40,19 @@ public class AutoScroller implements Scroller {
     }
 
   /**
-   * Scrolls the list of Entitiies
+   * Scrolls the level by moving its camera, so every entity appears to move by the scroll amount
+   * (scaled by how long the level's step is, so it scrolls at the same speed at any tick rate)
    * @param level the level to be scrolled
    * @param player the player of the level
    */
   @Override
   public void scroll(Level level, Player player) {
-    level.translateAllEntities(xScroll, yScroll);
+    double timeScale = level.getTimeScale();
+    level.getCamera().scroll(xScroll * timeScale, yScroll * timeScale);
+    unclaimedScore += SCORE_FROM_SCROLL * timeScale;
 
     if (playerScrolls) {
-      scrollPlayer(player);
+      scrollPlayer(player, timeScale);
     }
   }
 
@@ -61,23 +67,37 @@ public class AutoScroller implements Scroller {
 
   /**
    * Returns an integer value which should be added to the user's score due to survival of
-   * the last scroll
-   * @return SCORE_FROM_SCROLL
+   * the scrolls since it was last called - SCORE_FROM_SCROLL for each tick at
+   * Level.FRAMES_PER_SECOND, with any fraction of a point kept for later
+   * @return the whole points earned by scrolling
    */
   @Override
   public int getScoreFromScroll() {
-    return SCORE_FROM_SCROLL;
+    int wholeScore = (int) unclaimedScore;
+    unclaimedScore -= wholeScore;
+    return wholeScore;
   }
 
   /**
    * Moves the Player in the reverse direction as the level is moving to simulate locking them
-   * in place
+   * in place (i.e. moves them along with the camera so they stay put on screen)
    *
    * @param player the Player to be scrolled
    */
   public void scrollPlayer(Player player) {
+    scrollPlayer(player, 1);
+  }
+
+  /**
+   * Moves the Player in the reverse direction as the level is moving over a step of the given
+   * length, to keep them in place on screen
+   *
+   * @param player the Player to be scrolled
+   * @param timeScale how long the step is, measured in ticks at Level.FRAMES_PER_SECOND
+   */
+  public void scrollPlayer(Player player, double timeScale) {
     HitBox hitBox = player.getHitBox();
-    hitBox.translateX(-1 * xScroll);
-    hitBox.translateY(-1 * yScroll);
+    hitBox.translateX(-1 * xScroll * timeScale);
+    hitBox.translateY(-1 * yScroll * timeScale);
   }
 }
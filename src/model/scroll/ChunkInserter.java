@@ -0,0 +1,141 @@
+package model.scroll;
+
+import api.model.entity.IEntity;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+import model.HitBox;
+import model.Level;
+
+/**
+ * This class spreads putting the entities of generated chunks into a level over several ticks, so
+ * that a large chunk never costs a whole frame on the tick it comes in.
+ *
+ * A chunk that has been taken from a ChunkPipeline is queued with add, which puts its entities in
+ * scroll order - the order in which they will come into view, given by a key on their HitBoxes
+ * where a smaller key comes into view sooner. Every tick, insert adds entities to the level from
+ * the front of the queue until the budget for the tick (getBudgetMicros) has been spent. Anything
+ * that is about to come into view is always added, whatever the budget, so content is in place
+ * before it can be seen; a budget of 0 only ever adds what is about to come into view.
+ *
+ * Like the scrollers that use it, a ChunkInserter is only used on the thread stepping the level.
+ */
+public class ChunkInserter {
+
+  public static final long DEFAULT_BUDGET_MICROS = 250;
+  // the clock is only read once every this many entities, since reading it costs about as much
+  // as adding an entity
+  private static final int ENTITIES_PER_CLOCK_CHECK = 8;
+
+  private final ToDoubleFunction<HitBox> scrollOrder;
+  private final Comparator<IEntity> inScrollOrder;
+  private final Deque<IEntity> pending = new ArrayDeque<>();
+  private long budgetNanos = TimeUnit.MICROSECONDS.toNanos(DEFAULT_BUDGET_MICROS);
+  private long forcedInserts;
+
+  /**
+   * Instantiates a ChunkInserter
+   *
+   * @param scrollOrder the key entities are put in the level in the order of, smallest first:
+   *                    the world coordinate that comes into view first as the level scrolls
+   */
+  public ChunkInserter(ToDoubleFunction<HitBox> scrollOrder) {
+    this.scrollOrder = scrollOrder;
+    this.inScrollOrder = Comparator.comparingDouble(this::key);
+  }
+
+  /**
+   * Places a chunk where it belongs and queues its entities, in scroll order, behind those of the
+   * chunks queued before it
+   *
+   * @param chunk   the chunk to queue
+   * @param xOffset the world x coordinate of the first column of the chunk
+   * @param yOffset the world y coordinate of the first row of the chunk
+   */
+  public void add(ChunkPipeline.PreparedChunk chunk, double xOffset, double yOffset) {
+    List<IEntity> placed = new ArrayList<>(chunk.place(xOffset, yOffset));
+    placed.sort(inScrollOrder);
+    pending.addAll(placed);
+  }
+
+  /**
+   * Adds queued entities to the level, in scroll order, until the budget for the tick is spent,
+   * always adding every entity whose key is at most mustInsertUpTo
+   *
+   * @param level          the Level in which to insert the entities
+   * @param mustInsertUpTo the largest key that is about to come into view
+   * @return how many entities were added
+   */
+  public int insert(Level level, double mustInsertUpTo) {
+    long start = System.nanoTime();
+    boolean overBudget = budgetNanos <= 0;
+    int inserted = 0;
+    while (!pending.isEmpty()) {
+      boolean mustInsert = key(pending.peekFirst()) <= mustInsertUpTo;
+      if (!mustInsert && !overBudget && inserted % ENTITIES_PER_CLOCK_CHECK == 0) {
+        overBudget = System.nanoTime() - start >= budgetNanos;
+      }
+      if (overBudget && !mustInsert) {
+        break;
+      }
+      if (overBudget) {
+        forcedInserts++;
+      }
+      level.addEntity(pending.pollFirst());
+      inserted++;
+    }
+    return inserted;
+  }
+
+  /**
+   * Forgets every queued entity, for when the level is reset
+   */
+  public void clear() {
+    pending.clear();
+  }
+
+  /**
+   * Reveals how many entities are queued
+   *
+   * @return the number of entities not yet added to the level
+   */
+  public int getPendingCount() {
+    return pending.size();
+  }
+
+  /**
+   * Sets how long insert may spend adding entities each tick
+   *
+   * @param budgetMicros the budget, in microseconds
+   */
+  public void setBudgetMicros(long budgetMicros) {
+    budgetNanos = TimeUnit.MICROSECONDS.toNanos(Math.max(0, budgetMicros));
+  }
+
+  /**
+   * Getter for how long insert may spend adding entities each tick
+   *
+   * @return the budget, in microseconds
+   */
+  public long getBudgetMicros() {
+    return TimeUnit.NANOSECONDS.toMicros(budgetNanos);
+  }
+
+  /**
+   * Reveals how many entities were added past the budget because they were about to come into
+   * view
+   *
+   * @return forcedInserts
+   */
+  public long getForcedInserts() {
+    return forcedInserts;
+  }
+
+  private double key(IEntity entity) {
+    return scrollOrder.applyAsDouble(entity.getHitBox());
+  }
+}
@@ -0,0 +1,270 @@
+package model.scroll;
+
+import api.model.entity.IEntity;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import model.HitBox;
+import model.Level;
+import model.autogenerator.AutoGenerator;
+import model.autogenerator.GenerationException;
+import model.configuration.EntityFactory;
+import model.configuration.EntityPool;
+import model.configuration.TileChunk;
+
+/**
+ * This class builds the chunks of an AutoGenerator ahead of time on background threads, so that
+ * the scroller using it only has to put a finished chunk into the level when it scrolls into
+ * view, instead of generating it and creating all of its entities in the middle of a tick.
+ *
+ * Chunks are built in order, by chunk index, into a bounded queue. A worker generates the tiles of
+ * a chunk into a TileChunk (AutoGenerator.generateTiles is safe to call from any thread) and
+ * creates its entities with its own EntityFactory, all placed as if the chunk started at (0, 0).
+ * TileChunks are pooled: once the scroller is done with a chunk it hands it back with recycle, and
+ * its TileChunk is reused for a later chunk. Entities are pooled too: the scroller's Despawner
+ * releases despawned entities to getEntityPool, and the workers reuse them for later chunks.
+ * On the thread stepping the level, takeNext hands back the oldest chunk, and spliceInto moves
+ * its entities to where the chunk belongs and adds them to the level - no entity is touched by
+ * the level before then.
+ *
+ * How many chunks are built ahead depends on how fast the level is scrolling: prepareAhead is
+ * told how many chunks a second are being used up, and keeps enough queued to cover
+ * LEAD_SECONDS of that, from MIN_AHEAD up to MAX_AHEAD. The rate it is told is held at its peak
+ * and only decays slowly, so a sudden burst of scrolling (a jump in DoodleJump) does not leave
+ * the queue short straight afterwards. If a chunk is needed before it is finished, takeNext waits
+ * for it, which is counted by getStalls.
+ *
+ * Everything but the work on the executor happens on the thread stepping the level.
+ */
+public class ChunkPipeline {
+
+  public static final int MIN_AHEAD = 1;
+  public static final int MAX_AHEAD = 8;
+  public static final double LEAD_SECONDS = 1;
+  // how much of the peak rate is kept each time prepareAhead is called with a lower one
+  private static final double RATE_DECAY = 0.99;
+  public static final int GENERATOR_THREADS = 2;
+  private static final String GENERATOR_THREAD_NAME = "chunk-generator";
+  private static final String EXCEPTION_MESSAGE = "Failed to generate chunk ";
+
+  // the executor every ChunkPipeline not given one of its own builds its chunks on
+  public static final Executor SHARED_EXECUTOR =
+      Executors.newFixedThreadPool(GENERATOR_THREADS, runnable -> {
+        Thread thread = new Thread(runnable, GENERATOR_THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
+      });
+  // an EntityFactory is not safe to share between threads, so every worker keeps its own
+  private static final ThreadLocal<EntityFactory> FACTORIES =
+      ThreadLocal.withInitial(EntityFactory::new);
+
+  private final AutoGenerator generator;
+  private final Executor executor;
+  private final Queue<CompletableFuture<PreparedChunk>> ahead = new ArrayDeque<>();
+  // taken from by the workers and given back to on the thread stepping the level
+  private final Queue<TileChunk> freeTiles = new ConcurrentLinkedQueue<>();
+  private final EntityPool entityPool = new EntityPool();
+  private long nextChunk;
+  private double chunksPerSecond;
+  private int targetAhead = MIN_AHEAD;
+  private long stalls;
+
+  /**
+   * A chunk whose entities have been created but not yet put into a level
+   */
+  public static class PreparedChunk {
+
+    private final TileChunk tiles;
+    private final List<IEntity> entities;
+
+    /**
+     * Instantiates a PreparedChunk
+     *
+     * @param tiles    the tiles the chunk was created from
+     * @param entities the entities of the chunk, placed as if it started at (0, 0)
+     */
+    public PreparedChunk(TileChunk tiles, List<IEntity> entities) {
+      this.tiles = tiles;
+      this.entities = entities;
+    }
+
+    /**
+     * Moves every entity of the chunk to where the chunk belongs and adds it to the level. This
+     * may only be called once.
+     *
+     * @param level   the Level in which to insert the entities
+     * @param xOffset the world x coordinate of the first column of the chunk
+     * @param yOffset the world y coordinate of the first row of the chunk
+     */
+    public void spliceInto(Level level, double xOffset, double yOffset) {
+      place(xOffset, yOffset).forEach(level::addEntity);
+    }
+
+    /**
+     * Moves every entity of the chunk to where the chunk belongs, without adding it to a level
+     * (see ChunkInserter). This may only be called once.
+     *
+     * @param xOffset the world x coordinate of the first column of the chunk
+     * @param yOffset the world y coordinate of the first row of the chunk
+     * @return the entities of the chunk, row by row and from left to right
+     */
+    public List<IEntity> place(double xOffset, double yOffset) {
+      for (IEntity entity : entities) {
+        HitBox hitBox = entity.getHitBox();
+        hitBox.translateX(xOffset);
+        hitBox.translateY(yOffset);
+        // the entity appears where it is, rather than sliding over from (0, 0)
+        hitBox.savePreviousPosition();
+      }
+      return getEntities();
+    }
+
+    /**
+     * Getter for the tiles the chunk was created from, which may be reused for another chunk
+     * once this one has been recycled
+     *
+     * @return tiles
+     */
+    public TileChunk getTiles() {
+      return tiles;
+    }
+
+    /**
+     * Getter for the entities of the chunk
+     *
+     * @return an unmodifiable view of the entities
+     */
+    public List<IEntity> getEntities() {
+      return Collections.unmodifiableList(entities);
+    }
+  }
+
+  /**
+   * Instantiates a ChunkPipeline that builds chunks on threads shared by every ChunkPipeline
+   *
+   * @param generator the AutoGenerator to build chunks from, starting at chunk 0
+   */
+  public ChunkPipeline(AutoGenerator generator) {
+    this(generator, SHARED_EXECUTOR);
+  }
+
+  /**
+   * Instantiates a ChunkPipeline
+   *
+   * @param generator the AutoGenerator to build chunks from, starting at chunk 0
+   * @param executor  the executor chunks are built on
+   */
+  public ChunkPipeline(AutoGenerator generator, Executor executor) {
+    this.generator = generator;
+    this.executor = executor;
+  }
+
+  /**
+   * Works out how many chunks should be built ahead at the rate they are being used up, and
+   * starts building chunks until that many are queued
+   *
+   * @param newChunksPerSecond how many chunks a second the level is scrolling through now
+   */
+  public void prepareAhead(double newChunksPerSecond) {
+    chunksPerSecond = Math.max(Math.abs(newChunksPerSecond), chunksPerSecond * RATE_DECAY);
+    int wanted = MIN_AHEAD + (int) Math.ceil(chunksPerSecond * LEAD_SECONDS);
+    targetAhead = Math.max(MIN_AHEAD, Math.min(MAX_AHEAD, wanted));
+    while (ahead.size() < targetAhead) {
+      submitNext();
+    }
+  }
+
+  /**
+   * Takes the next chunk, in order, waiting for it if it is not finished yet
+   *
+   * @return the next chunk
+   * @throws GenerationException if building the chunk failed
+   */
+  public PreparedChunk takeNext() {
+    if (ahead.isEmpty()) {
+      submitNext();
+    }
+    CompletableFuture<PreparedChunk> next = ahead.remove();
+    if (!next.isDone()) {
+      stalls++;
+    }
+    try {
+      return next.join();
+    } catch (CompletionException e) {
+      throw new GenerationException(e.getCause().getMessage(), e.getCause());
+    }
+  }
+
+  /**
+   * Hands a chunk that has been taken back to the pipeline once its tiles are no longer needed,
+   * so they can be reused for a later chunk
+   *
+   * @param chunk a chunk returned by takeNext
+   */
+  public void recycle(PreparedChunk chunk) {
+    freeTiles.add(chunk.getTiles());
+  }
+
+  /**
+   * Getter for the pool the entities of new chunks are reused from, which despawned entities
+   * should be released to (see Despawner.setRecycler)
+   *
+   * @return entityPool
+   */
+  public EntityPool getEntityPool() {
+    return entityPool;
+  }
+
+  /**
+   * Reveals how many chunks have been started but not yet taken
+   *
+   * @return the number of chunks queued
+   */
+  public int getChunksAhead() {
+    return ahead.size();
+  }
+
+  /**
+   * Reveals how many chunks prepareAhead last decided to keep queued
+   *
+   * @return targetAhead
+   */
+  public int getTargetAhead() {
+    return targetAhead;
+  }
+
+  /**
+   * Reveals how many times takeNext had to wait for a chunk that was not finished
+   *
+   * @return stalls
+   */
+  public long getStalls() {
+    return stalls;
+  }
+
+  // starts building the next chunk on the executor
+  private void submitNext() {
+    long chunkIndex = nextChunk++;
+    ahead.add(CompletableFuture.supplyAsync(() -> build(chunkIndex), executor));
+  }
+
+  // runs on a worker: the chunk and its entities, placed as if the chunk started at (0, 0)
+  private PreparedChunk build(long chunkIndex) {
+    try {
+      TileChunk tiles = freeTiles.poll();
+      if (tiles == null) {
+        tiles = new TileChunk(generator.getNumRows(), generator.getNumCols());
+      }
+      generator.generateTiles(chunkIndex, tiles);
+      return new PreparedChunk(tiles, FACTORIES.get().createEntities(tiles, 0, 0, entityPool));
+    } catch (RuntimeException e) {
+      throw new GenerationException(EXCEPTION_MESSAGE + chunkIndex, e);
+    }
+  }
+}
@@ -0,0 +1,133 @@
+package model.scroll;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import model.HitBox;
+import model.Level;
+import model.entity.Player;
+import api.model.ICamera;
+import api.model.entity.IEntity;
+
+/**
+ * This class's responsibility is to throw away entities that have scrolled out of the part of the
+ * level that can still matter, so that levels which generate themselves forever (flappy bird,
+ * mario infinity, doodle jump) use a bounded amount of memory no matter how long they are played.
+ *
+ * A Despawner has cull bounds in screen coordinates. Every entity whose HitBox lies completely
+ * beyond one of those bounds is removed from every list in the Level at once, in a single pass
+ * over each list, and then optionally handed to a recycler so it can be reused. Players are never
+ * despawned - falling off the screen is handled by Level's lose condition instead.
+ *
+ * The AutoGenerationScroller and DoodleGenerationScroller each own a Despawner that they call
+ * after generating a new chunk.
+ */
+public class Despawner {
+
+  // no coordinate ever compares as beyond NaN, so a NaN bound never despawns anything
+  public static final double NO_BOUND = Double.NaN;
+
+  private double minX;
+  private double minY;
+  private double maxX;
+  private double maxY;
+  private Consumer<IEntity> recycler;
+  private final Set<IEntity> despawnSet = Collections.newSetFromMap(new IdentityHashMap<>());
+  private final List<IEntity> despawnList = new ArrayList<>();
+  private long despawnedCount;
+
+  /**
+   * Instantiates a Despawner with the given cull bounds, in screen coordinates. An entity is
+   * despawned once it is entirely to the left of minX, above minY, to the right of maxX or below
+   * maxY. Pass NO_BOUND to never despawn in a direction.
+   *
+   * @param minX entities whose right edge is left of this are despawned
+   * @param minY entities whose bottom edge is above this are despawned
+   * @param maxX entities whose left edge is right of this are despawned
+   * @param maxY entities whose top edge is below this are despawned
+   */
+  public Despawner(double minX, double minY, double maxX, double maxY) {
+    setCullBounds(minX, minY, maxX, maxY);
+  }
+
+  /**
+   * Changes the cull bounds of this Despawner (see the constructor)
+   *
+   * @param minX entities whose right edge is left of this are despawned
+   * @param minY entities whose bottom edge is above this are despawned
+   * @param maxX entities whose left edge is right of this are despawned
+   * @param maxY entities whose top edge is below this are despawned
+   */
+  public void setCullBounds(double minX, double minY, double maxX, double maxY) {
+    this.minX = minX;
+    this.minY = minY;
+    this.maxX = maxX;
+    this.maxY = maxY;
+  }
+
+  /**
+   * Sets a recycler that is given every entity after it has been despawned, e.g. to return it to
+   * a pool. Pass null to simply let despawned entities be garbage collected.
+   *
+   * @param recycler the Consumer that receives despawned entities, or null
+   */
+  public void setRecycler(Consumer<IEntity> recycler) {
+    this.recycler = recycler;
+  }
+
+  /**
+   * Removes every entity that is outside the cull bounds from level
+   *
+   * @param level the Level to despawn entities from
+   * @return the number of entities despawned
+   */
+  public int despawn(Level level) {
+    ICamera camera = level.getCamera();
+    double worldMinX = camera.toWorldX(minX);
+    double worldMinY = camera.toWorldY(minY);
+    double worldMaxX = camera.toWorldX(maxX);
+    double worldMaxY = camera.toWorldY(maxY);
+
+    List<IEntity> entityList = level.getAllEntities();
+    for (int index = 0; index < entityList.size(); index++) {
+      IEntity entity = entityList.get(index);
+      if (!(entity instanceof Player)
+          && isOutside(entity.getHitBox(), worldMinX, worldMinY, worldMaxX, worldMaxY)) {
+        despawnSet.add(entity);
+        despawnList.add(entity);
+      }
+    }
+    int count = despawnList.size();
+    if (count == 0) {
+      return 0;
+    }
+
+    level.despawnEntities(despawnSet);
+    if (recycler != null) {
+      despawnList.forEach(recycler);
+    }
+    despawnSet.clear();
+    despawnList.clear();
+    despawnedCount += count;
+    return count;
+  }
+
+  /**
+   * Reveals how many entities this Despawner has despawned since it was created
+   *
+   * @return the total number of despawned entities
+   */
+  public long getDespawnedCount() {
+    return despawnedCount;
+  }
+
+  // checks whether hitBox lies entirely beyond one of the (world coordinate) bounds
+  private boolean isOutside(HitBox hitBox, double worldMinX, double worldMinY, double worldMaxX,
+      double worldMaxY) {
+    return hitBox.getXRight() < worldMinX || hitBox.getYBottom() < worldMinY
+        || hitBox.getXLeft() > worldMaxX || hitBox.getYTop() > worldMaxY;
+  }
+}
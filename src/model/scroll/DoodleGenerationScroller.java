@@ -1,14 +1,22 @@
 package model.scroll;
 
-import java.util.List;
+import java.util.concurrent.Executor;
+import model.HitBox;
 import model.Level;
-import api.model.entity.IEntity;
+import model.autogenerator.ChunkRandom;
 import model.entity.Player;
 
 /**
  * This class's responsibility is to serve as a hybrid scroller for DoodleJump, where scrolling is
  * determined by user input, but scrolling can also trigger automatic level generation
  *
+ * The chunks are built ahead on background threads (see AutoGenerationHelper), as many as the
+ * speed the player is climbing at needs. A chunk is taken a whole chunk before it scrolls into
+ * view, and its entities are added to the level row by row, from the bottom up, over the ticks
+ * after that by a ChunkInserter, within its budget per tick - except for rows about to come into
+ * view, which are always added. Entities that are despawned are reused for later chunks (see
+ * EntityPool).
+ *
  * It, like all scrollers, is primarily used in the scroll() method in the Level class, where the
  * Level object calls scroller.scroll(this [i.e. the Level object], gamePlayer)
  *
@@ -17,8 +25,16 @@ import model.entity.Player;
 public class DoodleGenerationScroller extends ManualScroller {
 
   private final AutoGenerationHelper helper;
+  // by default, entities are despawned once they have scrolled off the bottom of the screen
+  private final Despawner despawner =
+      new Despawner(Despawner.NO_BOUND, Despawner.NO_BOUND, Despawner.NO_BOUND, NUM_BLOCKS);
+  // rows come into view from the bottom of a chunk up, so the lowest bottom is added first
+  private final ChunkInserter inserter = new ChunkInserter(hitBox -> -hitBox.getYBottom());
   private final int GENERATE_MAX_BOUND;
+  // how far above the top of the screen every entity must already be in the level
+  private static final double INSERT_GUARD = 1;
   private static final int NORMALIZE = 100;
+  // world y coordinate where the next chunk will be generated
   private double flagY;
   private int scoreFromScroll;
 
@@ -41,8 +57,50 @@ public class DoodleGenerationScroller extends ManualScroller {
    */
   public DoodleGenerationScroller(double left, double right, double up, double down,
       String path) {
+    this(left, right, up, down, path, ChunkRandom.newSeed());
+  }
+
+  /**
+   * Instantiates and configures a DoodleGeneratonScroller object that generates the same level
+   * every time it is given the same seed
+   *
+   * @param left  the boundary for player movement (i.e. x = left) where if the player goes to its
+   *              left, the game will scroll left
+   * @param right the boundary for player movement (i.e. x = right) where if the player goes to its
+   *              right, the game will scroll right
+   * @param up    the boundary for player movement (i.e. y = up) where if the player goes above it,
+   *              the game will scroll up
+   * @param down  the boundary for player movement (i.e. y = down) where if the player goes below
+   *              it, the game will scroll up
+   * @param path  a String reference to the xml file to be used to generate levels
+   * @param seed  the seed every generated chunk is drawn from
+   */
+  public DoodleGenerationScroller(double left, double right, double up, double down,
+      String path, long seed) {
+    this(left, right, up, down, path, seed, ChunkPipeline.SHARED_EXECUTOR);
+  }
+
+  /**
+   * Instantiates and configures a DoodleGeneratonScroller object that generates the same level
+   * every time it is given the same seed, building its chunks on executor
+   *
+   * @param left     the boundary for player movement (i.e. x = left) where if the player goes to
+   *                 its left, the game will scroll left
+   * @param right    the boundary for player movement (i.e. x = right) where if the player goes to
+   *                 its right, the game will scroll right
+   * @param up       the boundary for player movement (i.e. y = up) where if the player goes above
+   *                 it, the game will scroll up
+   * @param down     the boundary for player movement (i.e. y = down) where if the player goes
+   *                 below it, the game will scroll up
+   * @param path     a String reference to the xml file to be used to generate levels
+   * @param seed     the seed every generated chunk is drawn from
+   * @param executor the executor the chunks are built on
+   */
+  public DoodleGenerationScroller(double left, double right, double up, double down,
+      String path, long seed, Executor executor) {
     super(left, right, up, down);
-    helper = new AutoGenerationHelper(path);
+    helper = new AutoGenerationHelper(path, seed, executor);
+    despawner.setRecycler(helper.getPipeline().getEntityPool()::release);
 
     GENERATE_MAX_BOUND = -1 * helper.getAddedNumRows();
     flagY = GENERATE_MAX_BOUND;
@@ -61,38 +119,56 @@ public class DoodleGenerationScroller extends ManualScroller {
 
     super.scroll(level, player);
 
-    flagY += currentYScroll;
     scoreFromScroll += (int) (NORMALIZE * currentYScroll);
     checkForGeneration(level);
 
   }
 
   /**
-   * Checks to see if it's necessary to generate a new generation
+   * Checks to see if it's necessary to generate a new generation (i.e. if the flag has scrolled
+   * to within a chunk of the top of the screen), then adds as much of the generated chunks to the
+   * level as this tick allows - at least everything another scroll like this tick's would bring
+   * onto the screen
    */
   private void checkForGeneration(Level level) {
-    if (flagY >= GENERATE_MAX_BOUND) {
-      helper.generateForLevel(level, flagY, 0);
+    // new chunks are generated above, so only scrolling up uses them up
+    double climbPerTick = Math.max(0, -currentYScroll);
+    helper.prepareAhead(climbPerTick * level.getTicksPerSecond(), helper.getAddedNumRows());
+    if (level.getCamera().toScreenY(flagY) >= GENERATE_MAX_BOUND - helper.getAddedNumRows()) {
+      helper.generateInto(inserter, flagY, 0);
       flagY -= helper.getAddedNumRows();
       cleanGarbage(level);
     }
+    inserter.insert(level, -level.getCamera().toWorldY(-INSERT_GUARD - climbPerTick));
   }
 
   /**
-   * Checks the entityList to see if any of the entities have gone off screen forever (i.e. have
-   * yTop > NUM_BLOCKS), if so, removes them from entityList
+   * Despawns any entities that have gone off screen forever (by default, those with
+   * yTop > NUM_BLOCKS on screen), removing them from every list in the level
    *
    * @param level the Level whose garbage we're cleaning
    */
   private void cleanGarbage(Level level) {
-    List<IEntity> entityList = level.getAllEntities();
+    despawner.despawn(level);
+  }
 
-    for (int index = entityList.size() - 1; index >= 0; index--) {
-      IEntity entity = entityList.get(index);
-      if (entity.getHitBox().getYTop() > NUM_BLOCKS) {
-        entityList.remove(entity);
-      }
-    }
+  /**
+   * Reveals the Despawner this scroller uses, so that its cull bounds and recycler can be
+   * configured
+   *
+   * @return despawner
+   */
+  public Despawner getDespawner() {
+    return despawner;
+  }
+
+  /**
+   * Reveals the ChunkInserter this scroller uses, so that its budget per tick can be configured
+   *
+   * @return inserter
+   */
+  public ChunkInserter getChunkInserter() {
+    return inserter;
   }
 
   /**
@@ -102,6 +178,7 @@ public class DoodleGenerationScroller extends ManualScroller {
   @Override
   public void reset() {
     flagY = GENERATE_MAX_BOUND;
+    inserter.clear();
   }
 
   /**
@@ -2,6 +2,7 @@ package model.scroll;
 
 import model.Level;
 import model.entity.Player;
+import api.model.ICamera;
 import api.model.scroll.Scroller;
 
 /**
@@ -50,8 +51,8 @@ public class ManualScroller implements Scroller {
     }
 
   /**
-   * Uses the velocity of the player to determine how to shift all entities in order to simulate
-   * scrolling
+   * Uses the velocity of the player to determine how to move the level's camera in order to
+   * simulate scrolling. The bounds are compared against where the player is on screen.
    *
    * checkLeftScroll checks to see if the player is to the left of some vertical line x = leftBound
    * and moving further to the left if so, scrolls the screen to the left in order to catch up
@@ -66,6 +67,9 @@ public class ManualScroller implements Scroller {
    * checkDownScroll checks to see if the player is below some horizontal line y = bottomBound and
    * moving further down and if so, scrolls the screen down in order to catch up
    *
+   * The player only moves by part of its velocity in a step shorter than a tick at
+   * Level.FRAMES_PER_SECOND, so the scroll is scaled the same way to keep up with it.
+   *
    * @param level the level to be scrolled
    * @param player the player whose data we are to use
    */
@@ -74,12 +78,15 @@ public class ManualScroller implements Scroller {
       currentXScroll = 0.0;
       currentYScroll = 0.0;
 
-      checkLeftScroll(player);
-      checkRightScroll(player);
-      checkUpScroll(player);
-      checkDownScroll(player);
+      ICamera camera = level.getCamera();
+      checkLeftScroll(player, camera);
+      checkRightScroll(player, camera);
+      checkUpScroll(player, camera);
+      checkDownScroll(player, camera);
 
-      level.translateAllEntities(currentXScroll, currentYScroll);
+      currentXScroll *= level.getTimeScale();
+      currentYScroll *= level.getTimeScale();
+      camera.scroll(currentXScroll, currentYScroll);
   }
 
   /**
@@ -94,9 +101,10 @@ public class ManualScroller implements Scroller {
   /**
    * Checks to see if the screen should scroll left
    * @param player the player whose action will determine the scroll
+   * @param camera the camera used to find where the player is on screen
    */
-  private void checkLeftScroll(Player player) {
-      if ((player.getHitBox().getXLeft() < leftBound && leftBound!= NO_SCROLL)
+  private void checkLeftScroll(Player player, ICamera camera) {
+      if ((camera.toScreenX(player.getHitBox().getXLeft()) < leftBound && leftBound!= NO_SCROLL)
           || leftBound == ALWAYS_SCROLL) {
 
           if (player.getXVel() <0) {
@@ -108,9 +116,10 @@ public class ManualScroller implements Scroller {
   /**
    * Checks to see if the screen should scroll right
    * @param player the player whose action will determine the scroll
+   * @param camera the camera used to find where the player is on screen
    */
-  private void checkRightScroll(Player player) {
-    if ((player.getHitBox().getXRight() > rightBound && rightBound!= NO_SCROLL)
+  private void checkRightScroll(Player player, ICamera camera) {
+    if ((camera.toScreenX(player.getHitBox().getXRight()) > rightBound && rightBound!= NO_SCROLL)
           || rightBound == ALWAYS_SCROLL) {
 
         if(player.getXVel() > 0) {
@@ -122,9 +131,10 @@ public class ManualScroller implements Scroller {
   /**
    *Checks to see if the screen should scroll up
    * @param player the player whose action will determine the scroll
+   * @param camera the camera used to find where the player is on screen
    */
-  private void checkUpScroll(Player player) {
-    if ((player.getHitBox().getYTop() < upBound  && upBound!= NO_SCROLL)
+  private void checkUpScroll(Player player, ICamera camera) {
+    if ((camera.toScreenY(player.getHitBox().getYTop()) < upBound  && upBound!= NO_SCROLL)
           || upBound == ALWAYS_SCROLL) {
 
         if (player.getYVel() < 0) {
@@ -136,9 +146,10 @@ public class ManualScroller implements Scroller {
   /**
    * Checks to see if the screen should scroll down
    * @param player the player whose action will determine the scroll
+   * @param camera the camera used to find where the player is on screen
    */
-  private void checkDownScroll(Player player) {
-    if ((player.getHitBox().getYBottom() > downBound && downBound!= NO_SCROLL)
+  private void checkDownScroll(Player player, ICamera camera) {
+    if ((camera.toScreenY(player.getHitBox().getYBottom()) > downBound && downBound!= NO_SCROLL)
           || downBound == ALWAYS_SCROLL) {
 
       if (player.getYVel() > 0) {
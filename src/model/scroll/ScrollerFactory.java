@@ -1,5 +1,7 @@
 package model.scroll;
 
+import java.util.concurrent.Executor;
+import model.autogenerator.ChunkRandom;
 import model.autogenerator.GenerationException;
 import api.model.scroll.IScrollerFactory;
 import api.model.scroll.Scroller;
@@ -20,6 +22,49 @@ public class ScrollerFactory implements IScrollerFactory {
   private static final String DOODLE = "Doodle";
   private static final String AUTO_GENERATION = "AutoGeneration";
 
+  private final long seed;
+  private final Executor executor;
+
+  /**
+   * Instantiates a ScrollerFactory whose generating scrollers each pick a seed of their own, so
+   * every level they generate is different
+   */
+  public ScrollerFactory() {
+    this(ChunkRandom.newSeed());
+  }
+
+  /**
+   * Instantiates a ScrollerFactory whose generating scrollers each pick a seed of their own and
+   * build their chunks on executor
+   *
+   * @param executor the executor generated chunks are built on
+   */
+  public ScrollerFactory(Executor executor) {
+    this(ChunkRandom.newSeed(), executor);
+  }
+
+  /**
+   * Instantiates a ScrollerFactory whose generating scrollers all generate from the same seed, so
+   * they generate the same level every time
+   *
+   * @param seed the seed every generated chunk is drawn from
+   */
+  public ScrollerFactory(long seed) {
+    this(seed, ChunkPipeline.SHARED_EXECUTOR);
+  }
+
+  /**
+   * Instantiates a ScrollerFactory whose generating scrollers all generate from the same seed and
+   * build their chunks on executor
+   *
+   * @param seed     the seed every generated chunk is drawn from
+   * @param executor the executor generated chunks are built on
+   */
+  public ScrollerFactory(long seed, Executor executor) {
+    this.seed = seed;
+    this.executor = executor;
+  }
+
   /**
    * Builds a scroller from a set of arguments
    *
@@ -115,7 +160,7 @@ public class ScrollerFactory implements IScrollerFactory {
   @Override
   public Scroller buildDoodleGenerationScroller(String[] args) throws GenerationException {
     return new DoodleGenerationScroller(Double.parseDouble(args[0]), Double.parseDouble(args[1]),
-        Double.parseDouble(args[2]), Double.parseDouble(args[3]), args[4]);
+        Double.parseDouble(args[2]), Double.parseDouble(args[3]), args[4], seed, executor);
   }
 
   /**
@@ -127,6 +172,6 @@ public class ScrollerFactory implements IScrollerFactory {
   @Override
   public Scroller buildAutoGenerationScroller(String[] args) throws GenerationException {
     return new AutoGenerationScroller(Double.parseDouble(args[0]), Double.parseDouble(args[1]),
-        Boolean.parseBoolean(args[2]), args[3]);
+        Boolean.parseBoolean(args[2]), args[3], seed, executor);
   }
 }
@@ -0,0 +1,169 @@
+package model.simulation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import model.configuration.FileHelper;
+import model.configuration.GameConfiguration;
+
+/**
+ * Simulates every game configuration at once, so a single run shows how each game mode performs.
+ *
+ * Every .properties file under resources/game_configuration (including sub folders such as
+ * secret/) that describes a playable game - one with both a level and a scroller - is simulated
+ * with its own HeadlessRunner and GameModel, as a separate task on a ForkJoinPool. Each run builds
+ * its generated chunks on threads of its own, so allocated_bytes includes them, and the timings of
+ * one run never include waiting on another run's chunks. The results are printed as one CSV row
+ * per configuration, sorted by configuration name:
+ *
+ *   configuration,ticks,ticks_per_sec,p50_ms,p99_ms,peak_entities,allocated_bytes
+ *
+ * Configurations that fail to load are reported on standard error and left out of the table.
+ * Run it from the project root:
+ *
+ *   java -cp [classes] model.simulation.CorpusBenchmark [ticks] [parallelism] [input script]
+ */
+public class CorpusBenchmark {
+
+  public static final String CONFIGURATION_FOLDER = "./src/resources/game_configuration/";
+  public static final String TABLE_HEADER =
+      "configuration,ticks,ticks_per_sec,p50_ms,p99_ms,peak_entities,allocated_bytes";
+  private static final String SCROLLER_KEY = "scroller";
+  private static final String PATH_SEPARATOR = "/";
+
+  private final List<String> configurations;
+  private final InputScript script;
+  private final List<String> failures = new ArrayList<>();
+
+  /**
+   * Instantiates a CorpusBenchmark over the given configurations
+   * @param configurations the names of .properties files, relative to resources/game_configuration
+   * @param script the InputScript every simulation is driven with
+   */
+  public CorpusBenchmark(List<String> configurations, InputScript script) {
+    this.configurations = new ArrayList<>(configurations);
+    this.script = script;
+  }
+
+  /**
+   * Finds every game configuration in a folder and its sub folders
+   * @param folder the folder to search, normally CONFIGURATION_FOLDER
+   * @return the sorted names of the game configurations, relative to folder with '/' separators
+   * @throws IOException if the folder cannot be read
+   */
+  public static List<String> findConfigurations(String folder) throws IOException {
+    Path root = Paths.get(folder);
+    try (Stream<Path> files = Files.walk(root)) {
+      return files
+          .filter(Files::isRegularFile)
+          .filter(file -> FileHelper.isPropertiesFile(file.toString()))
+          .filter(CorpusBenchmark::isGameConfiguration)
+          .map(file -> root.relativize(file).toString().replace(file.getFileSystem()
+              .getSeparator(), PATH_SEPARATOR))
+          .sorted()
+          .collect(Collectors.toList());
+    }
+  }
+
+  // a game configuration needs a level to load and a scroller to play it with; this leaves out
+  // entity id tables and the old test configurations
+  private static boolean isGameConfiguration(Path file) {
+    Properties properties = new Properties();
+    try (InputStream inputStream = Files.newInputStream(file)) {
+      properties.load(inputStream);
+    } catch (IOException | IllegalArgumentException e) {
+      return false;
+    }
+    return properties.containsKey(GameConfiguration.LEVEL_KEY)
+        && properties.containsKey(SCROLLER_KEY);
+  }
+
+  /**
+   * Simulates every configuration concurrently
+   * @param ticks the number of ticks to simulate each configuration for
+   * @param parallelism the number of worker threads to use
+   * @return the results of the configurations that loaded, in configuration order
+   */
+  public List<SimulationResult> run(int ticks, int parallelism) {
+    failures.clear();
+    ForkJoinPool pool = new ForkJoinPool(parallelism);
+    try {
+      List<ForkJoinTask<SimulationResult>> tasks = new ArrayList<>();
+      for (String configuration : configurations) {
+        tasks.add(pool.submit(() -> new HeadlessRunner(configuration, script).run(ticks)));
+      }
+      List<SimulationResult> results = new ArrayList<>();
+      for (int index = 0; index < tasks.size(); index++) {
+        try {
+          results.add(tasks.get(index).join());
+        } catch (RuntimeException e) {
+          failures.add(configurations.get(index) + ": " + e.getMessage());
+        }
+      }
+      return results;
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Reveals which configurations failed during the last run, and why
+   * @return one message per failed configuration
+   */
+  public List<String> getFailures() {
+    return new ArrayList<>(failures);
+  }
+
+  /**
+   * Builds the CSV table of a set of results
+   * @param results the results to put in the table
+   * @return the header line followed by one line per result
+   */
+  public static String toTable(List<SimulationResult> results) {
+    StringBuilder table = new StringBuilder(TABLE_HEADER);
+    for (SimulationResult result : results) {
+      table.append(System.lineSeparator()).append(toRow(result));
+    }
+    return table.toString();
+  }
+
+  // one CSV row, in the order of TABLE_HEADER
+  private static String toRow(SimulationResult result) {
+    return String.format(Locale.US, "%s,%d,%.1f,%.4f,%.4f,%d,%d", result.getConfiguration(),
+        result.getTicks(), result.getTicksPerSecond(), result.getTickMillisPercentile(50),
+        result.getTickMillisPercentile(99), result.getPeakEntityCount(),
+        result.getAllocatedBytes());
+  }
+
+  /**
+   * Simulates every game configuration and prints the table
+   * @param args optionally the number of ticks, the number of worker threads and an input script
+   */
+  public static void main(String[] args) {
+    try {
+      int ticks = args.length > 0 ? Integer.parseInt(args[0]) : HeadlessRunner.DEFAULT_TICKS;
+      int parallelism = args.length > 1 ? Integer.parseInt(args[1])
+          : Runtime.getRuntime().availableProcessors();
+      String script = args.length > 2 ? args[2] : InputScript.DEFAULT_SCRIPT;
+
+      CorpusBenchmark benchmark = new CorpusBenchmark(findConfigurations(CONFIGURATION_FOLDER),
+          new InputScript(script));
+      List<SimulationResult> results = benchmark.run(ticks, parallelism);
+      System.out.println(toTable(results));
+      benchmark.getFailures().forEach(System.err::println);
+    } catch (IOException | IllegalArgumentException e) {
+      System.err.println(e.getMessage());
+      System.exit(1);
+    }
+  }
+}
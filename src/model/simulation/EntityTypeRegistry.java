@@ -0,0 +1,63 @@
+package model.simulation;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Gives every entity type (see IEntity.getType) a small int id, so a RenderSnapshot can store the
+ * types of its entities in an int array. Ids are handed out in the order types are first seen,
+ * starting from 0, and never change while the program runs, so an id stays valid from one snapshot
+ * to the next.
+ *
+ * Looking up a type that already has an id neither locks nor allocates. Ids can be looked up from
+ * any thread.
+ */
+public final class EntityTypeRegistry {
+
+  private static final Map<String, Integer> IDS = new ConcurrentHashMap<>();
+  private static volatile String[] types = new String[0];
+
+  private EntityTypeRegistry() {
+  }
+
+  /**
+   * Finds the id of an entity type, giving it a new one if it has not been seen before
+   * @param type the type of an entity
+   * @return the id of the type
+   */
+  public static int getId(String type) {
+    Integer id = IDS.get(type);
+    return id != null ? id : register(type);
+  }
+
+  /**
+   * Finds the entity type that has an id
+   * @param id an id returned by getId
+   * @return the type with that id
+   */
+  public static String getType(int id) {
+    return types[id];
+  }
+
+  /**
+   * Reveals how many types have been given ids
+   * @return the number of ids handed out, which is one more than the highest id
+   */
+  public static int getTypeCount() {
+    return types.length;
+  }
+
+  // the type is added to types before IDS, so any thread that can see its id can see its name
+  private static synchronized int register(String type) {
+    Integer id = IDS.get(type);
+    if (id == null) {
+      id = types.length;
+      String[] grown = Arrays.copyOf(types, id + 1);
+      grown[id] = type;
+      types = grown;
+      IDS.put(type, id);
+    }
+    return id;
+  }
+}
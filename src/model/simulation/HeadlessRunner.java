@@ -0,0 +1,167 @@
+package model.simulation;
+
+import api.model.IGameModel;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import model.GameModel;
+import model.Level;
+import model.configuration.GameConfiguration;
+import model.configuration.InvalidFileException;
+import model.entity.Player;
+import model.scroll.ChunkPipeline;
+
+/**
+ * Runs a game without a GameView. It builds a GameModel from a game_configuration .properties
+ * file and steps its Level as fast as possible, pressing keys according to an InputScript instead
+ * of the keyboard, and timing every tick.
+ *
+ * When the level is won or lost, it is reinitialized (the same way the play game scene restarts
+ * it), and the simulation carries on until the requested number of ticks have been run.
+ *
+ * Nothing in here (or in the model it drives) touches JavaFX, so it can be run on a machine
+ * without a display, from the project root:
+ *
+ *   java -cp [classes] model.simulation.HeadlessRunner flappybird.properties 100000 "R*45,RJ*15"
+ *
+ * Every run builds its generated chunks on a pool of its own rather than the one shared by every
+ * ChunkPipeline, so runs going on at the same time (as in CorpusBenchmark) never wait on each
+ * other's chunks. The bytes allocated by a run are those allocated by the thread that started it
+ * (which must step the whole run) plus those allocated by its chunk pool's threads.
+ */
+public class HeadlessRunner {
+
+  public static final int DEFAULT_TICKS = 10000;
+  private static final String NO_PLAYER = "none";
+  private static final String GENERATOR_THREAD_NAME = "headless-chunk-generator";
+  private static final String USAGE =
+      "usage: HeadlessRunner <configuration.properties> [ticks] [input script]";
+
+  private final String configuration;
+  private final InputScript script;
+
+  /**
+   * Instantiates a HeadlessRunner
+   * @param configuration the name of a .properties file in resources/game_configuration
+   * @param script the InputScript that decides which keys are held on each tick
+   */
+  public HeadlessRunner(String configuration, InputScript script) {
+    this.configuration = configuration;
+    this.script = script;
+  }
+
+  /**
+   * Builds a new GameModel from the configuration and simulates it
+   * @param ticks the number of times to step the level
+   * @return the measurements and final state of the simulation
+   * @throws InvalidFileException if the level file of the configuration cannot be loaded
+   */
+  public SimulationResult run(int ticks) throws InvalidFileException {
+    List<Thread> generatorThreads = new CopyOnWriteArrayList<>();
+    ExecutorService chunkExecutor = Executors.newFixedThreadPool(ChunkPipeline.GENERATOR_THREADS,
+        runnable -> {
+          Thread thread = new Thread(runnable, GENERATOR_THREAD_NAME);
+          thread.setDaemon(true);
+          generatorThreads.add(thread);
+          return thread;
+        });
+    try {
+      return simulate(new GameModel(new GameConfiguration(configuration), chunkExecutor), ticks,
+          generatorThreads);
+    } finally {
+      chunkExecutor.shutdownNow();
+    }
+  }
+
+  // steps model for ticks ticks, counting what generatorThreads allocate as part of the run
+  private SimulationResult simulate(IGameModel model, int ticks, List<Thread> generatorThreads) {
+    long[] tickNanos = new long[ticks];
+    int wins = 0;
+    int losses = 0;
+    int peakEntityCount = 0;
+
+    long allocationStart = allocatedBytes(generatorThreads);
+    long simulationStart = System.nanoTime();
+    for (int tick = 0; tick < ticks; tick++) {
+      script.apply(tick, model.getKeyPressFunctions());
+      long tickStart = System.nanoTime();
+      model.updateGame();
+      tickNanos[tick] = System.nanoTime() - tickStart;
+
+      Level level = model.getLevel();
+      peakEntityCount = Math.max(peakEntityCount, level.getAllEntities().size());
+      if (level.isLevelWon() || level.isLevelLost()) {
+        if (level.isLevelWon()) {
+          wins++;
+        } else {
+          losses++;
+        }
+        level.reinitialize();
+      }
+    }
+    long elapsedNanos = System.nanoTime() - simulationStart;
+    long allocationEnd = allocatedBytes(generatorThreads);
+    long allocatedBytes = allocationStart == SimulationResult.UNKNOWN_ALLOCATION
+        ? SimulationResult.UNKNOWN_ALLOCATION : allocationEnd - allocationStart;
+
+    Level level = model.getLevel();
+    return new SimulationResult(configuration, tickNanos, elapsedNanos, level.getScore(), wins,
+        losses, level.getAllEntities().size(), peakEntityCount, describePlayer(level),
+        allocatedBytes);
+  }
+
+  // total bytes the current thread and generatorThreads have ever allocated, if this JVM keeps
+  // count
+  private long allocatedBytes(List<Thread> generatorThreads) {
+    ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    if (!(threads instanceof com.sun.management.ThreadMXBean)) {
+      return SimulationResult.UNKNOWN_ALLOCATION;
+    }
+    com.sun.management.ThreadMXBean allocationCounter = (com.sun.management.ThreadMXBean) threads;
+    if (!allocationCounter.isThreadAllocatedMemorySupported()
+        || !allocationCounter.isThreadAllocatedMemoryEnabled()) {
+      return SimulationResult.UNKNOWN_ALLOCATION;
+    }
+    long total = allocationCounter.getThreadAllocatedBytes(Thread.currentThread().getId());
+    for (Thread thread : generatorThreads) {
+      // a thread that has not started (or has already stopped) has nothing to count
+      total += Math.max(0, allocationCounter.getThreadAllocatedBytes(thread.getId()));
+    }
+    return total;
+  }
+
+  // where the first player is, in world coordinates
+  private String describePlayer(Level level) {
+    List<Player> players = level.getPlayerList();
+    if (players.isEmpty()) {
+      return NO_PLAYER;
+    }
+    return String.format("(%.2f, %.2f)", players.get(0).getHitBox().getXLeft(),
+        players.get(0).getHitBox().getYTop());
+  }
+
+  /**
+   * Simulates one configuration and prints a report
+   * @param args the configuration file name, then optionally the number of ticks and an input
+   *             script
+   */
+  public static void main(String[] args) {
+    if (args.length == 0) {
+      System.err.println(USAGE);
+      System.exit(1);
+    }
+    try {
+      int ticks = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_TICKS;
+      String script = args.length > 2 ? args[2] : InputScript.DEFAULT_SCRIPT;
+      HeadlessRunner runner = new HeadlessRunner(args[0], new InputScript(script));
+      System.out.println(runner.run(ticks).toReport());
+    } catch (InvalidFileException | IllegalArgumentException e) {
+      System.err.println(e.getMessage());
+      System.err.println(USAGE);
+      System.exit(1);
+    }
+  }
+}
@@ -0,0 +1,110 @@
+package model.simulation;
+
+import api.model.IKeyPressFunctions;
+
+/**
+ * A scripted stand-in for the keyboard, used to drive a Level without a GameView.
+ *
+ * A script is a comma separated list of segments that loops forever. Each segment is a set of
+ * keys followed by '*' and the number of ticks to hold them for, e.g. "R*40,RJ*5,-*10" holds right
+ * for 40 ticks, right and jump for 5 ticks, then nothing for 10 ticks, and starts over.
+ * The keys are L (move left), R (move right), J (jump) and - (no keys).
+ *
+ * Every tick, apply presses and releases the keys on an IKeyPressFunctions just like the
+ * controller does when real keys are pressed.
+ */
+public class InputScript {
+
+  public static final String DEFAULT_SCRIPT = "R*45,RJ*15";
+  private static final String SEGMENT_SEPARATOR = ",";
+  private static final String LENGTH_SEPARATOR = "\\*";
+
+  private final boolean[] left;
+  private final boolean[] right;
+  private final boolean[] jump;
+  private final int[] segmentEnds;
+  private final int period;
+
+  /**
+   * Parses a script
+   * @param script the script, in the format described above
+   * @throws IllegalArgumentException if the script is malformed
+   */
+  public InputScript(String script) {
+    String[] segments = script.trim().split(SEGMENT_SEPARATOR);
+    left = new boolean[segments.length];
+    right = new boolean[segments.length];
+    jump = new boolean[segments.length];
+    segmentEnds = new int[segments.length];
+
+    int ticks = 0;
+    for (int index = 0; index < segments.length; index++) {
+      String[] parts = segments[index].trim().split(LENGTH_SEPARATOR);
+      if (parts.length != 2) {
+        throw new IllegalArgumentException("Bad input script segment: " + segments[index]);
+      }
+      parseKeys(index, parts[0].trim());
+      int length = Integer.parseInt(parts[1].trim());
+      if (length <= 0) {
+        throw new IllegalArgumentException("Bad input script segment: " + segments[index]);
+      }
+      ticks += length;
+      segmentEnds[index] = ticks;
+    }
+    period = ticks;
+  }
+
+  /**
+   * Presses and releases keys so that keys holds exactly the keys the script has down on tick
+   * @param tick the number of ticks simulated so far
+   * @param keys the IKeyPressFunctions of the level being driven
+   */
+  public void apply(long tick, IKeyPressFunctions keys) {
+    int segment = segmentAt(tick);
+    if (left[segment]) {
+      keys.startMovingPlayerLeft();
+    } else {
+      keys.stopMovingPlayerLeft();
+    }
+    if (right[segment]) {
+      keys.startMovingPlayerRight();
+    } else {
+      keys.stopMovingPlayerRight();
+    }
+    if (jump[segment]) {
+      keys.startPlayerJumping();
+    } else {
+      keys.stopPlayerJumping();
+    }
+  }
+
+  /**
+   * Reveals how many ticks the script takes before it repeats
+   * @return the total length of all segments
+   */
+  public int getPeriod() {
+    return period;
+  }
+
+  // finds the segment that is active on tick
+  private int segmentAt(long tick) {
+    int offset = (int) (tick % period);
+    int segment = 0;
+    while (offset >= segmentEnds[segment]) {
+      segment++;
+    }
+    return segment;
+  }
+
+  private void parseKeys(int segment, String keys) {
+    for (char key : keys.toCharArray()) {
+      switch (key) {
+        case 'L' -> left[segment] = true;
+        case 'R' -> right[segment] = true;
+        case 'J' -> jump[segment] = true;
+        case '-' -> { }
+        default -> throw new IllegalArgumentException("Unknown key in input script: " + key);
+      }
+    }
+  }
+}
@@ -0,0 +1,196 @@
+package model.simulation;
+
+import api.model.IRenderSnapshot;
+import api.model.entity.IEntity;
+
+/**
+ * A view of another IRenderSnapshot part of the way through the tick after it, for the view to
+ * draw between two ticks of the simulation. Every position, and the camera, is taken alpha of the
+ * way from where it was before the tick the snapshot was taken after to where it was after it;
+ * everything else is read straight from the snapshot.
+ *
+ * An entity that did not move in the tick (a block, say) has the same previous and current
+ * position, so it is given back exactly where it is at any alpha. An InterpolatedSnapshot is meant
+ * to be reused - set points it at a new snapshot without allocating anything.
+ */
+public class InterpolatedSnapshot implements IRenderSnapshot {
+
+  private IRenderSnapshot source;
+  private double alpha;
+
+  /**
+   * Points this at a snapshot
+   * @param snapshot the snapshot to interpolate
+   * @param newAlpha how far into the next tick to draw it, from 0 (where everything was before
+   *                 the tick the snapshot was taken after) to 1 (where it all is in the snapshot)
+   */
+  public void set(IRenderSnapshot snapshot, double newAlpha) {
+    source = snapshot;
+    alpha = Math.max(0, Math.min(1, newAlpha));
+  }
+
+  /**
+   * Getter for how far into the next tick the snapshot is drawn
+   * @return alpha, from 0 to 1
+   */
+  public double getAlpha() {
+    return alpha;
+  }
+
+  /**
+   * Getter for the number of entities in the snapshot
+   * @return how many entities there are to draw
+   */
+  @Override
+  public int getEntityCount() {
+    return source.getEntityCount();
+  }
+
+  /**
+   * Getter for an entity, to be used only as a key that identifies it between frames
+   * @param index which entity, from 0 to getEntityCount() - 1
+   * @return the entity
+   */
+  @Override
+  public IEntity getEntity(int index) {
+    return source.getEntity(index);
+  }
+
+  /**
+   * Getter for the type of an entity when the snapshot was taken
+   * @param index which entity, from 0 to getEntityCount() - 1
+   * @return the type of the entity
+   */
+  @Override
+  public String getType(int index) {
+    return source.getType(index);
+  }
+
+  /**
+   * Getter for the id of the type of an entity when the snapshot was taken
+   * @param index which entity, from 0 to getEntityCount() - 1
+   * @return the id EntityTypeRegistry gives the type of the entity
+   */
+  @Override
+  public int getTypeId(int index) {
+    return source.getTypeId(index);
+  }
+
+  /**
+   * Getter for the world x coordinate of the left of an entity, alpha of the way through the tick
+   * @param index which entity, from 0 to getEntityCount() - 1
+   * @return the x coordinate to draw the entity at
+   */
+  @Override
+  public float getX(int index) {
+    return lerp(source.getPreviousX(index), source.getX(index));
+  }
+
+  /**
+   * Getter for the world y coordinate of the top of an entity, alpha of the way through the tick
+   * @param index which entity, from 0 to getEntityCount() - 1
+   * @return the y coordinate to draw the entity at
+   */
+  @Override
+  public float getY(int index) {
+    return lerp(source.getPreviousY(index), source.getY(index));
+  }
+
+  /**
+   * Getter for the world x coordinate of the left of an entity before the tick
+   * @param index which entity, from 0 to getEntityCount() - 1
+   * @return the previous x coordinate of the entity
+   */
+  @Override
+  public float getPreviousX(int index) {
+    return source.getPreviousX(index);
+  }
+
+  /**
+   * Getter for the world y coordinate of the top of an entity before the tick
+   * @param index which entity, from 0 to getEntityCount() - 1
+   * @return the previous y coordinate of the entity
+   */
+  @Override
+  public float getPreviousY(int index) {
+    return source.getPreviousY(index);
+  }
+
+  /**
+   * Getter for the x offset of the camera, alpha of the way through the tick
+   * @return the world x coordinate of the left edge of the screen
+   */
+  @Override
+  public double getCameraX() {
+    return lerp(source.getPreviousCameraX(), source.getCameraX());
+  }
+
+  /**
+   * Getter for the y offset of the camera, alpha of the way through the tick
+   * @return the world y coordinate of the top edge of the screen
+   */
+  @Override
+  public double getCameraY() {
+    return lerp(source.getPreviousCameraY(), source.getCameraY());
+  }
+
+  /**
+   * Getter for the x offset of the camera before the tick
+   * @return the previous world x coordinate of the left edge of the screen
+   */
+  @Override
+  public double getPreviousCameraX() {
+    return source.getPreviousCameraX();
+  }
+
+  /**
+   * Getter for the y offset of the camera before the tick
+   * @return the previous world y coordinate of the top edge of the screen
+   */
+  @Override
+  public double getPreviousCameraY() {
+    return source.getPreviousCameraY();
+  }
+
+  /**
+   * Getter for the score when the snapshot was taken
+   * @return the score of the level
+   */
+  @Override
+  public int getScore() {
+    return source.getScore();
+  }
+
+  /**
+   * Getter for the tick the snapshot was taken after
+   * @return the number of ticks that had been run
+   */
+  @Override
+  public long getTick() {
+    return source.getTick();
+  }
+
+  /**
+   * Getter for when the snapshot was published
+   * @return the value of System.nanoTime() when it was published
+   */
+  @Override
+  public long getPublishNanos() {
+    return source.getPublishNanos();
+  }
+
+  // gives back exactly current (or previous) when they are equal, so still entities never drift
+  private float lerp(float previous, float current) {
+    if (previous == current) {
+      return current;
+    }
+    return (float) (previous + (current - previous) * alpha);
+  }
+
+  private double lerp(double previous, double current) {
+    if (previous == current) {
+      return current;
+    }
+    return previous + (current - previous) * alpha;
+  }
+}
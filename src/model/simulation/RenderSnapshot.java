@@ -0,0 +1,288 @@
+package model.simulation;
+
+import api.model.IRenderSnapshot;
+import api.model.entity.IEntity;
+import api.model.entity.IMovable;
+import java.util.Arrays;
+import java.util.List;
+import model.HitBox;
+
+/**
+ * A reusable IRenderSnapshot. Positions are kept in float arrays and types as int ids (see
+ * EntityTypeRegistry) in parallel with the entities themselves, and the arrays are only replaced
+ * when they are too small, so taking a snapshot every tick allocates nothing once they have grown
+ * to fit the level. Alongside where each entity is, the snapshot keeps where it was before the
+ * tick (HitBox.getPreviousXLeft and getPreviousYTop), so the view can draw it in between.
+ *
+ * A snapshot is filled either from a list with capture, or one entity at a time: begin, then put
+ * for every index from 0 up to the count given to begin. GameModel.fillRenderSnapshot does the
+ * latter straight out of the level's broadphase, in a single pass and without building a list.
+ *
+ * A RenderSnapshot is only immutable while it is published: a TripleBuffer makes sure that a
+ * snapshot is never filled in while the view is reading it.
+ */
+public class RenderSnapshot implements IRenderSnapshot {
+
+  private static final int INITIAL_CAPACITY = 256;
+
+  private IEntity[] entities = new IEntity[INITIAL_CAPACITY];
+  private int[] typeIds = new int[INITIAL_CAPACITY];
+  private float[] xs = new float[INITIAL_CAPACITY];
+  private float[] ys = new float[INITIAL_CAPACITY];
+  private float[] previousXs = new float[INITIAL_CAPACITY];
+  private float[] previousYs = new float[INITIAL_CAPACITY];
+  private int entityCount;
+  private double cameraX;
+  private double cameraY;
+  private double previousCameraX;
+  private double previousCameraY;
+  private int score;
+  private long tick;
+  private long publishNanos;
+
+  /**
+   * Copies the type and position of every entity in a list into this snapshot, replacing whatever
+   * it held before
+   * @param entityList the entities to draw
+   * @param cameraX the x offset of the camera
+   * @param cameraY the y offset of the camera
+   * @param score the score of the level
+   * @param tick the number of ticks that have been run
+   */
+  public void capture(List<IEntity> entityList, double cameraX, double cameraY, int score,
+      long tick) {
+    int count = entityList.size();
+    begin(count, cameraX, cameraY, score);
+    for (int index = 0; index < count; index++) {
+      put(index, entityList.get(index));
+    }
+    setTick(tick);
+  }
+
+  /**
+   * Starts filling the snapshot in again, making room for count entities, each of which must then
+   * be given with put. The previous offsets of the camera are taken to be the same as the current
+   * ones until setPreviousCamera is called.
+   * @param count the number of entities to draw
+   * @param cameraX the x offset of the camera
+   * @param cameraY the y offset of the camera
+   * @param score the score of the level
+   */
+  public void begin(int count, double cameraX, double cameraY, int score) {
+    ensureCapacity(count);
+    // let go of entities left over from a bigger snapshot, so they can be collected
+    if (entityCount > count) {
+      Arrays.fill(entities, count, entityCount, null);
+    }
+    entityCount = count;
+    this.cameraX = cameraX;
+    this.cameraY = cameraY;
+    previousCameraX = cameraX;
+    previousCameraY = cameraY;
+    this.score = score;
+  }
+
+  /**
+   * Setter for where the camera was before the tick the snapshot was taken after
+   * @param x the previous x offset of the camera
+   * @param y the previous y offset of the camera
+   */
+  public void setPreviousCamera(double x, double y) {
+    previousCameraX = x;
+    previousCameraY = y;
+  }
+
+  /**
+   * Copies the type and position of one entity into the snapshot
+   * @param index where the entity goes, from 0 to the count given to begin - 1
+   * @param entity the entity to draw
+   */
+  public void put(int index, IEntity entity) {
+    HitBox hitBox = entity.getHitBox();
+    entities[index] = entity;
+    typeIds[index] = EntityTypeRegistry.getId(entity.getType());
+    xs[index] = (float) hitBox.getXLeft();
+    ys[index] = (float) hitBox.getYTop();
+    // only movable entities have their previous position saved each step, so anything else is
+    // taken to have stayed put
+    if (entity instanceof IMovable) {
+      previousXs[index] = (float) hitBox.getPreviousXLeft();
+      previousYs[index] = (float) hitBox.getPreviousYTop();
+    } else {
+      previousXs[index] = xs[index];
+      previousYs[index] = ys[index];
+    }
+  }
+
+  /**
+   * Setter for the tick the snapshot was taken after
+   * @param tick the number of ticks that have been run
+   */
+  public void setTick(long tick) {
+    this.tick = tick;
+  }
+
+  /**
+   * Setter for when the snapshot was published
+   * @param nanos the value of System.nanoTime() when it was published
+   */
+  public void setPublishNanos(long nanos) {
+    publishNanos = nanos;
+  }
+
+  /**
+   * Getter for the number of entities in the snapshot
+   * @return how many entities there are to draw
+   */
+  @Override
+  public int getEntityCount() {
+    return entityCount;
+  }
+
+  /**
+   * Getter for an entity, to be used only as a key that identifies it between frames
+   * @param index which entity, from 0 to getEntityCount() - 1
+   * @return the entity
+   */
+  @Override
+  public IEntity getEntity(int index) {
+    return entities[index];
+  }
+
+  /**
+   * Getter for the type of an entity when the snapshot was taken
+   * @param index which entity, from 0 to getEntityCount() - 1
+   * @return the type of the entity
+   */
+  @Override
+  public String getType(int index) {
+    return EntityTypeRegistry.getType(typeIds[index]);
+  }
+
+  /**
+   * Getter for the id of the type of an entity when the snapshot was taken
+   * @param index which entity, from 0 to getEntityCount() - 1
+   * @return the id EntityTypeRegistry gives the type of the entity
+   */
+  @Override
+  public int getTypeId(int index) {
+    return typeIds[index];
+  }
+
+  /**
+   * Getter for the world x coordinate of the left of an entity when the snapshot was taken
+   * @param index which entity, from 0 to getEntityCount() - 1
+   * @return the x coordinate of the entity
+   */
+  @Override
+  public float getX(int index) {
+    return xs[index];
+  }
+
+  /**
+   * Getter for the world y coordinate of the top of an entity when the snapshot was taken
+   * @param index which entity, from 0 to getEntityCount() - 1
+   * @return the y coordinate of the entity
+   */
+  @Override
+  public float getY(int index) {
+    return ys[index];
+  }
+
+  /**
+   * Getter for the world x coordinate of the left of an entity before the tick the snapshot was
+   * taken after
+   * @param index which entity, from 0 to getEntityCount() - 1
+   * @return the previous x coordinate of the entity
+   */
+  @Override
+  public float getPreviousX(int index) {
+    return previousXs[index];
+  }
+
+  /**
+   * Getter for the world y coordinate of the top of an entity before the tick the snapshot was
+   * taken after
+   * @param index which entity, from 0 to getEntityCount() - 1
+   * @return the previous y coordinate of the entity
+   */
+  @Override
+  public float getPreviousY(int index) {
+    return previousYs[index];
+  }
+
+  /**
+   * Getter for the x offset of the camera when the snapshot was taken
+   * @return the world x coordinate of the left edge of the screen
+   */
+  @Override
+  public double getCameraX() {
+    return cameraX;
+  }
+
+  /**
+   * Getter for the y offset of the camera when the snapshot was taken
+   * @return the world y coordinate of the top edge of the screen
+   */
+  @Override
+  public double getCameraY() {
+    return cameraY;
+  }
+
+  /**
+   * Getter for the x offset of the camera before the tick the snapshot was taken after
+   * @return the previous world x coordinate of the left edge of the screen
+   */
+  @Override
+  public double getPreviousCameraX() {
+    return previousCameraX;
+  }
+
+  /**
+   * Getter for the y offset of the camera before the tick the snapshot was taken after
+   * @return the previous world y coordinate of the top edge of the screen
+   */
+  @Override
+  public double getPreviousCameraY() {
+    return previousCameraY;
+  }
+
+  /**
+   * Getter for the score when the snapshot was taken
+   * @return the score of the level
+   */
+  @Override
+  public int getScore() {
+    return score;
+  }
+
+  /**
+   * Getter for the tick the snapshot was taken after
+   * @return the number of ticks that had been run
+   */
+  @Override
+  public long getTick() {
+    return tick;
+  }
+
+  /**
+   * Getter for when the snapshot was published
+   * @return the value of System.nanoTime() when it was published, or 0 if it never was
+   */
+  @Override
+  public long getPublishNanos() {
+    return publishNanos;
+  }
+
+  private void ensureCapacity(int count) {
+    if (count > entities.length) {
+      int capacity = Math.max(count, entities.length * 2);
+      entities = Arrays.copyOf(entities, capacity);
+      typeIds = Arrays.copyOf(typeIds, capacity);
+      xs = Arrays.copyOf(xs, capacity);
+      ys = Arrays.copyOf(ys, capacity);
+      previousXs = Arrays.copyOf(previousXs, capacity);
+      previousYs = Arrays.copyOf(previousYs, capacity);
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package model.simulation;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides when a fixed-rate simulation should tick. Real time is added to an accumulator with
+ * advance, and every whole tick's worth of it is handed back as a tick to run, so the level is
+ * always stepped at exactly the same rate however unevenly the thread running it gets woken up.
+ *
+ * What is left in the accumulator after that is how far the simulation is into the next tick;
+ * getAlpha gives it as a fraction of a tick.
+ *
+ * If the simulation falls far behind (the machine was suspended, or a tick took far too long),
+ * running every tick it owes would only make it fall further behind, so advance never asks for
+ * more than MAX_TICKS_PER_ADVANCE at once and drops the rest.
+ */
+public class SimulationClock {
+
+  public static final int MAX_TICKS_PER_ADVANCE = 5;
+
+  private final long tickNanos;
+  private long accumulatedNanos;
+  private long droppedTicks;
+
+  /**
+   * Instantiates a SimulationClock
+   * @param ticksPerSecond how many times a second the simulation should tick
+   */
+  public SimulationClock(double ticksPerSecond) {
+    tickNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / ticksPerSecond));
+  }
+
+  /**
+   * Adds the time that has passed to the accumulator and takes every whole tick out of it
+   * @param elapsedNanos how long has passed since the last call, in nanoseconds
+   * @return how many ticks should be run now, from 0 to MAX_TICKS_PER_ADVANCE
+   */
+  public int advance(long elapsedNanos) {
+    accumulatedNanos += Math.max(0, elapsedNanos);
+    long dueTicks = accumulatedNanos / tickNanos;
+    accumulatedNanos -= dueTicks * tickNanos;
+    if (dueTicks > MAX_TICKS_PER_ADVANCE) {
+      droppedTicks += dueTicks - MAX_TICKS_PER_ADVANCE;
+      dueTicks = MAX_TICKS_PER_ADVANCE;
+    }
+    return (int) dueTicks;
+  }
+
+  /**
+   * Empties the accumulator, so that time the simulation spent idle is not owed as ticks
+   */
+  public void reset() {
+    accumulatedNanos = 0;
+  }
+
+  /**
+   * Reveals how far the simulation is into the next tick
+   * @return the time in the accumulator as a fraction of a tick, from 0 up to (not including) 1
+   */
+  public double getAlpha() {
+    return (double) accumulatedNanos / tickNanos;
+  }
+
+  /**
+   * Reveals how long is left until the next tick is due
+   * @return the time until the accumulator holds a whole tick, in nanoseconds
+   */
+  public long getNanosUntilNextTick() {
+    return tickNanos - accumulatedNanos;
+  }
+
+  /**
+   * Getter for how long one tick is
+   * @return tickNanos
+   */
+  public long getTickNanos() {
+    return tickNanos;
+  }
+
+  /**
+   * Reveals how many ticks have been dropped because the simulation fell too far behind
+   * @return droppedTicks
+   */
+  public long getDroppedTicks() {
+    return droppedTicks;
+  }
+}
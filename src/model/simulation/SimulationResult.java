@@ -0,0 +1,160 @@
+package model.simulation;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * The outcome of one headless simulation: how fast the level stepped, and what state it ended in.
+ */
+public class SimulationResult {
+
+  public static final long UNKNOWN_ALLOCATION = -1;
+  private static final double NANOS_PER_MILLI = 1e6;
+  private static final double NANOS_PER_SECOND = 1e9;
+
+  private final String configuration;
+  private final int ticks;
+  private final long elapsedNanos;
+  private final long[] sortedTickNanos;
+  private final int finalScore;
+  private final int wins;
+  private final int losses;
+  private final int finalEntityCount;
+  private final int peakEntityCount;
+  private final String finalPlayerPosition;
+  private final long allocatedBytes;
+
+  /**
+   * Builds a result from the raw measurements of a simulation
+   * @param configuration the properties file that was simulated
+   * @param tickNanos how long each tick took, in nanoseconds
+   * @param elapsedNanos how long the whole simulation took, in nanoseconds
+   * @param finalScore the score of the level at the end
+   * @param wins how many times the level was won (and restarted)
+   * @param losses how many times the level was lost (and restarted)
+   * @param finalEntityCount the number of entities in the level at the end
+   * @param peakEntityCount the largest number of entities the level had on any tick
+   * @param finalPlayerPosition where the player ended up, or "none" if there was no player
+   * @param allocatedBytes how many bytes were allocated while simulating, or UNKNOWN_ALLOCATION if
+   *                       the JVM cannot measure it
+   */
+  public SimulationResult(String configuration, long[] tickNanos, long elapsedNanos,
+      int finalScore, int wins, int losses, int finalEntityCount, int peakEntityCount,
+      String finalPlayerPosition, long allocatedBytes) {
+    this.configuration = configuration;
+    this.ticks = tickNanos.length;
+    this.elapsedNanos = elapsedNanos;
+    this.sortedTickNanos = tickNanos.clone();
+    Arrays.sort(sortedTickNanos);
+    this.finalScore = finalScore;
+    this.wins = wins;
+    this.losses = losses;
+    this.finalEntityCount = finalEntityCount;
+    this.peakEntityCount = peakEntityCount;
+    this.finalPlayerPosition = finalPlayerPosition;
+    this.allocatedBytes = allocatedBytes;
+  }
+
+  /**
+   * Getter for the name of the properties file that was simulated
+   * @return configuration
+   */
+  public String getConfiguration() {
+    return configuration;
+  }
+
+  /**
+   * Getter for the number of ticks simulated
+   * @return ticks
+   */
+  public int getTicks() {
+    return ticks;
+  }
+
+  /**
+   * Calculates the throughput of the simulation
+   * @return ticks simulated per second of wall clock time
+   */
+  public double getTicksPerSecond() {
+    return elapsedNanos == 0 ? 0 : ticks * NANOS_PER_SECOND / elapsedNanos;
+  }
+
+  /**
+   * Finds a percentile of the time a single tick took
+   * @param percentile between 0 and 100
+   * @return the tick time at that percentile, in milliseconds
+   */
+  public double getTickMillisPercentile(double percentile) {
+    if (ticks == 0) {
+      return 0;
+    }
+    int index = (int) Math.ceil(percentile / 100 * ticks) - 1;
+    index = Math.max(0, Math.min(ticks - 1, index));
+    return sortedTickNanos[index] / NANOS_PER_MILLI;
+  }
+
+  /**
+   * Getter for the final score of the level
+   * @return finalScore
+   */
+  public int getFinalScore() {
+    return finalScore;
+  }
+
+  /**
+   * Getter for the number of times the level was won
+   * @return wins
+   */
+  public int getWins() {
+    return wins;
+  }
+
+  /**
+   * Getter for the number of times the level was lost
+   * @return losses
+   */
+  public int getLosses() {
+    return losses;
+  }
+
+  /**
+   * Getter for the number of entities in the level at the end
+   * @return finalEntityCount
+   */
+  public int getFinalEntityCount() {
+    return finalEntityCount;
+  }
+
+  /**
+   * Getter for the largest number of entities the level had on any tick
+   * @return peakEntityCount
+   */
+  public int getPeakEntityCount() {
+    return peakEntityCount;
+  }
+
+  /**
+   * Getter for the number of bytes allocated while simulating
+   * @return allocatedBytes, or UNKNOWN_ALLOCATION if the JVM could not measure it
+   */
+  public long getAllocatedBytes() {
+    return allocatedBytes;
+  }
+
+  /**
+   * Builds a human readable report of this result
+   * @return a multi-line report
+   */
+  public String toReport() {
+    return String.format(Locale.US,
+        "configuration: %s%n"
+            + "ticks: %d in %.1f ms (%.0f ticks/sec)%n"
+            + "tick ms: p50 %.4f  p90 %.4f  p99 %.4f  max %.4f%n"
+            + "allocated: %d bytes%n"
+            + "final state: score %d, wins %d, losses %d, entities %d (peak %d), player %s",
+        configuration, ticks, elapsedNanos / NANOS_PER_MILLI, getTicksPerSecond(),
+        getTickMillisPercentile(50), getTickMillisPercentile(90), getTickMillisPercentile(99),
+        getTickMillisPercentile(100), allocatedBytes, finalScore, wins, losses, finalEntityCount, peakEntityCount,
+        finalPlayerPosition);
+  }
+}
@@ -0,0 +1,275 @@
+package model.simulation;
+
+import api.model.IGameModel;
+import api.model.IRenderSnapshot;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import model.Level;
+
+/**
+ * Steps a GameModel on its own thread, so that a slow tick (generating a chunk, resetting a level)
+ * never holds up the JavaFX application thread.
+ *
+ * After every tick, the entities in view are copied into a RenderSnapshot (by
+ * GameModel.fillRenderSnapshot, without allocating) that is published through a TripleBuffer; the
+ * view picks up the newest one with getLatestSnapshot whenever it draws a frame. Input goes the
+ * other way through a lock-free queue: submitInput queues a key press, and the simulation thread
+ * applies every queued input at the start of its next tick.
+ *
+ * Ticks are timed by a SimulationClock at the level's own tick rate (Level.getTicksPerSecond), so
+ * the level is stepped at a fixed rate whatever the frame rate of the view. Each snapshot carries
+ * the time it was published, so the view can tell how far into the next tick it is drawing and
+ * draw everything part of the way there (see InterpolatedSnapshot).
+ *
+ * The level is only stepped while the view wants it to be (setStepping) and the level has not been
+ * won or lost and is not being saved - so after the tick that wins or loses the level, the
+ * simulation waits for the view to deal with it. Code on other threads that has to touch the level
+ * directly queues it with submitBetweenTicks, which runs it on the simulation thread and publishes a
+ * snapshot once it is done, so slow work (resetting a level) never holds up the thread that asked
+ * for it. runBetweenTicks does the same on the calling thread, waiting for the current tick first.
+ *
+ * While the level is not being stepped, or is paused, the simulation is idle: it publishes
+ * nothing, and only wakes IDLE_TICKS_PER_SECOND times a second (or as soon as input is submitted
+ * or stepping is turned back on) to apply input, so an idle game costs next to no CPU.
+ */
+public class SimulationThread {
+
+  public static final double IDLE_TICKS_PER_SECOND = 4;
+  private static final String THREAD_NAME = "simulation";
+  private static final long IDLE_TICK_NANOS =
+      (long) (TimeUnit.SECONDS.toNanos(1) / IDLE_TICKS_PER_SECOND);
+
+  private final IGameModel model;
+  private final double blocksWide;
+  private final double blocksHigh;
+  private final SimulationClock clock;
+  private final TripleBuffer<RenderSnapshot> snapshots = new TripleBuffer<>(RenderSnapshot::new);
+  private final Queue<Runnable> inputs = new ConcurrentLinkedQueue<>();
+  private final ReentrantLock tickLock = new ReentrantLock();
+  private volatile boolean stepping;
+  private volatile boolean running;
+  private volatile Thread thread;
+  private long tick;
+
+  /**
+   * Something to do to the level between two ticks
+   * @param <E> the type of exception it may throw
+   */
+  @FunctionalInterface
+  public interface LevelAction<E extends Exception> {
+
+    /**
+     * Does something to the level
+     * @throws E if it fails
+     */
+    void run() throws E;
+  }
+
+  /**
+   * Instantiates a SimulationThread that ticks as often as the model's level is meant to be
+   * stepped
+   * @param model the model to step
+   * @param blocksWide the number of blocks the screen is wide
+   * @param blocksHigh the number of blocks the screen is high
+   */
+  public SimulationThread(IGameModel model, double blocksWide, double blocksHigh) {
+    this.model = model;
+    this.blocksWide = blocksWide;
+    this.blocksHigh = blocksHigh;
+    this.clock = new SimulationClock(model.getLevel().getTicksPerSecond());
+  }
+
+  /**
+   * Publishes a snapshot of the level as it is now, then starts ticking on a new daemon thread
+   */
+  public void start() {
+    runBetweenTicks(() -> {});
+    running = true;
+    thread = new Thread(this::run, THREAD_NAME);
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  /**
+   * Stops ticking. This does not wait for the simulation thread, which finishes the tick it is in
+   * (if any) and then ends without touching the model again.
+   */
+  public void stop() {
+    running = false;
+    wake();
+  }
+
+  /**
+   * Decides whether the level should be stepped each tick. Input is still applied while it is
+   * not.
+   * @param shouldStep true to step the level
+   */
+  public void setStepping(boolean shouldStep) {
+    boolean wasStepping = stepping;
+    stepping = shouldStep;
+    if (shouldStep && !wasStepping) {
+      wake();
+    }
+  }
+
+  /**
+   * Reveals whether the level is being stepped
+   * @return true if the level should be stepped each tick
+   */
+  public boolean isStepping() {
+    return stepping;
+  }
+
+  /**
+   * Reveals whether the simulation has nothing to step: the view does not want it stepped, or
+   * the level is paused, won, lost or being saved
+   * @return true if a tick would only apply input
+   */
+  public boolean isIdle() {
+    Level level = model.getLevel();
+    return !stepping || model.getKeyPressFunctions().isPaused() || level.isLevelWon()
+        || level.isLevelLost() || level.isSaving();
+  }
+
+  /**
+   * Queues input (such as a call on the model's IKeyPressFunctions) to be applied on the
+   * simulation thread at the start of the next tick. This can be called from any thread.
+   * @param input the input to apply
+   */
+  public void submitInput(Runnable input) {
+    inputs.add(input);
+    wake();
+  }
+
+  /**
+   * For the thread that draws the level - the newest snapshot that has been published. Only one
+   * thread may call this.
+   * @return the snapshot of the level after the latest tick
+   */
+  public IRenderSnapshot getLatestSnapshot() {
+    return snapshots.acquire();
+  }
+
+  /**
+   * Getter for how long one tick is, which the view needs to tell how far it is into the next one
+   * @return the length of a tick in nanoseconds
+   */
+  public long getTickNanos() {
+    return clock.getTickNanos();
+  }
+
+  /**
+   * Reveals how many ticks were skipped because the simulation fell too far behind to catch up
+   * @return the number of ticks dropped by the clock
+   */
+  public long getDroppedTicks() {
+    return clock.getDroppedTicks();
+  }
+
+  /**
+   * Queues something to do to the level on the simulation thread, at the start of the next tick,
+   * and publishes a new snapshot once it is done so the change shows straight away. This can be
+   * called from any thread, and never waits for a tick.
+   * @param action what to do to the level
+   * @param <E> the type of exception action may throw
+   * @return a future that completes once action has run, or with what it threw
+   */
+  public <E extends Exception> CompletableFuture<Void> submitBetweenTicks(LevelAction<E> action) {
+    CompletableFuture<Void> done = new CompletableFuture<>();
+    submitInput(() -> {
+      try {
+        action.run();
+        publishSnapshot();
+        done.complete(null);
+      } catch (Exception e) {
+        done.completeExceptionally(e);
+      }
+    });
+    return done;
+  }
+
+  /**
+   * Does something to the level while no tick is running, waiting for the current tick (if any)
+   * to finish first, then publishes a new snapshot so the change shows straight away
+   * @param action what to do to the level
+   * @param <E> the type of exception action may throw
+   * @throws E if action throws it
+   */
+  public <E extends Exception> void runBetweenTicks(LevelAction<E> action) throws E {
+    tickLock.lock();
+    try {
+      action.run();
+      publishSnapshot();
+    } finally {
+      tickLock.unlock();
+    }
+  }
+
+  /**
+   * Runs one tick right now on the calling thread: applies the queued input, then steps the level
+   * and publishes a snapshot of it unless the simulation is idle
+   */
+  public void runTick() {
+    tickLock.lock();
+    try {
+      Runnable input;
+      while ((input = inputs.poll()) != null) {
+        input.run();
+      }
+      if (!isIdle()) {
+        model.updateGame();
+        tick++;
+        publishSnapshot();
+      }
+    } finally {
+      tickLock.unlock();
+    }
+  }
+
+  // runs the ticks the clock says are due, then sleeps until the next one, until stopped - or, while
+  // idle, applies input every so often and sleeps until something wakes it
+  private void run() {
+    long lastNanos = System.nanoTime();
+    while (running) {
+      if (isIdle()) {
+        runTick();
+        clock.reset();
+        lastNanos = System.nanoTime();
+        if (running && isIdle()) {
+          LockSupport.parkNanos(IDLE_TICK_NANOS);
+        }
+        continue;
+      }
+      long now = System.nanoTime();
+      int dueTicks = clock.advance(now - lastNanos);
+      lastNanos = now;
+      for (int ticks = 0; ticks < dueTicks && running; ticks++) {
+        runTick();
+      }
+      long nextTick = System.nanoTime() + clock.getNanosUntilNextTick();
+      while (running && nextTick - System.nanoTime() > 0) {
+        LockSupport.parkNanos(nextTick - System.nanoTime());
+      }
+    }
+  }
+
+  private void wake() {
+    Thread simulationThread = thread;
+    if (simulationThread != null) {
+      LockSupport.unpark(simulationThread);
+    }
+  }
+
+  // only ever called with tickLock held, so the buffer has a single writer at a time
+  private void publishSnapshot() {
+    RenderSnapshot snapshot = snapshots.getBackBuffer();
+    model.fillRenderSnapshot(snapshot, blocksWide, blocksHigh);
+    snapshot.setTick(tick);
+    snapshot.setPublishNanos(System.nanoTime());
+    snapshots.publish();
+  }
+}
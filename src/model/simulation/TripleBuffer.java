@@ -0,0 +1,68 @@
+package model.simulation;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Hands buffers from one writing thread to one reading thread without either of them ever
+ * waiting for the other.
+ *
+ * There are three buffers. The writer owns the back buffer and fills it in; publish swaps it with
+ * the middle buffer, which becomes the newest published buffer. The reader owns the front buffer;
+ * acquire swaps it with the middle buffer, but only if something new has been published since the
+ * last acquire. The middle buffer's index and whether it is new are kept in a single AtomicInteger,
+ * so both swaps are one atomic getAndSet, and the writer can never write into a buffer the reader
+ * is holding.
+ *
+ * @param <T> the type of the buffers
+ */
+public class TripleBuffer<T> {
+
+  private static final int INDEX_MASK = 0b011;
+  private static final int FRESH = 0b100;
+
+  private final Object[] buffers = new Object[3];
+  private final AtomicInteger middle = new AtomicInteger(2);
+  private int back = 0;
+  private int front = 1;
+
+  /**
+   * Instantiates a TripleBuffer
+   * @param bufferFactory makes each of the three buffers
+   */
+  public TripleBuffer(Supplier<T> bufferFactory) {
+    for (int index = 0; index < buffers.length; index++) {
+      buffers[index] = bufferFactory.get();
+    }
+  }
+
+  /**
+   * For the writer - the buffer to fill in before calling publish
+   * @return the back buffer
+   */
+  @SuppressWarnings("unchecked")
+  public T getBackBuffer() {
+    return (T) buffers[back];
+  }
+
+  /**
+   * For the writer - makes the back buffer the newest published buffer, and takes the old middle
+   * buffer as the new back buffer
+   */
+  public void publish() {
+    back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+  }
+
+  /**
+   * For the reader - takes the newest published buffer, if there is one the reader has not seen
+   * @return the newest published buffer, or the same buffer as last time if nothing new has been
+   * published since
+   */
+  @SuppressWarnings("unchecked")
+  public T acquire() {
+    if ((middle.get() & FRESH) != 0) {
+      front = middle.getAndSet(front) & INDEX_MASK;
+    }
+    return (T) buffers[front];
+  }
+}
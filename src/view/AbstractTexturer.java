@@ -0,0 +1,364 @@
+package view;
+
+import controller.ImageCache;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Group;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import api.model.ICamera;
+import api.model.IRenderSnapshot;
+import api.model.entity.IEntity;
+import api.view.ITexturer;
+import model.simulation.RenderSnapshot;
+
+/**
+ * This class holds what every ITexturer shares: it loads the textures named in a textures
+ * .properties file into a map from entity type to image, and keeps track of the size of the screen
+ * and where the camera is. Subclasses decide how the textures actually get drawn - Texturer keeps
+ * one ImageView per entity in the scene graph, while CanvasTexturer draws every entity onto a
+ * single Canvas.
+ *
+ * Both draw from a TextureAtlas holding every texture pre-scaled to the current tile size. The
+ * atlas is only rebuilt when the number of blocks on screen changes the size of a tile.
+ *
+ * Either can hand the entities that never move to a StaticTileLayer, which pre-renders them into
+ * one image per chunk of the level, so only the entities that move are drawn one by one. The layer
+ * is off unless it is turned on with setStaticLayerEnabled (TexturerFactory turns it on).
+ *
+ * Textures come from an ImageCache, which decodes them in the background, so building a texturer
+ * (such as when the textures are swapped) never waits on image files. Until every texture of the
+ * current tile size has been decoded, the atlas is built with what has arrived so far (missing
+ * textures are black), and it is rebuilt once the rest are in.
+ *
+ * Subclasses draw from an IRenderSnapshot, which is what a level stepped on a SimulationThread
+ * publishes. A list of entities is first copied into a snapshot of its own, so both ways of calling
+ * updateTextures draw the same way.
+ */
+public abstract class AbstractTexturer implements ITexturer {
+
+  public static final String FILEPATH_START = "resources/images/texturefiles/";
+  // a textures file may name the renderer it wants with this key (see TexturerFactory) - it is
+  // not an entity type, so it gets no texture
+  public static final String RENDERER_KEY = "renderer";
+
+  private final Map<String, String> texturePaths;
+  private TextureAtlas atlas;
+  private boolean atlasComplete;
+  private Map<String, CompletableFuture<Image>> atlasTextures = new HashMap<>();
+  private int atlasTileWidth;
+  private int atlasTileHeight;
+  private final ImageCache imageCache;
+  private StaticTileLayer staticLayer;
+  private final Group textureGroup;
+  private final double WIDTH;
+  private final double HEIGHT;
+  private final String path;
+  private double numBlocksWide;
+  private double numBlocksHigh;
+  private double xOffset;
+  private double yOffset;
+  private final RenderSnapshot listSnapshot = new RenderSnapshot();
+
+  /**
+   * Loads the textures that a subclass will draw with through the shared ImageCache
+   *
+   * @param w        the WIDTH of the screen
+   * @param h        the HEIGHT of the screen
+   * @param filepath the filepath leading to the file containing the texture data
+   * @param tGroup   the Group that will contain the textures
+   */
+  protected AbstractTexturer(double w, double h, String filepath, Group tGroup) {
+    this(w, h, filepath, tGroup, ImageCache.getShared());
+  }
+
+  /**
+   * Loads the textures that a subclass will draw with through the given ImageCache
+   *
+   * @param w          the WIDTH of the screen
+   * @param h          the HEIGHT of the screen
+   * @param filepath   the filepath leading to the file containing the texture data
+   * @param tGroup     the Group that will contain the textures
+   * @param imageCache the cache that decodes and holds the textures
+   */
+  protected AbstractTexturer(double w, double h, String filepath, Group tGroup,
+      ImageCache imageCache) {
+    this.imageCache = imageCache;
+    WIDTH = w;
+    HEIGHT = h;
+    textureGroup = tGroup;
+    path = filepath;
+
+    texturePaths = buildTexturePaths(FILEPATH_START + path);
+  }
+
+  /**
+   * Builds a TreeMap based on a properties file
+   *
+   * @param propertiesPath the String path leading to the .properties file
+   * @return a new Map of properties
+   * @throws IOException ioe
+   */
+  @Override
+  public TreeMap<String, String> buildPropertiesMap(String propertiesPath) throws IOException,
+      NullPointerException {
+    Properties properties = new Properties();
+    InputStream stream = getClass().getClassLoader().getResourceAsStream(propertiesPath);
+    properties.load(stream);
+    TreeMap<String, String> propertiesMap = new TreeMap<>();
+    for (String key : properties.stringPropertyNames()) {
+      propertiesMap.put(key, properties.getProperty(key));
+    }
+    return propertiesMap;
+  }
+
+  /**
+   * Updates the textures
+   *
+   * @param entityList the list of Entities to be textured
+   */
+  @Override
+  public void updateTextures(List<IEntity> entityList, double blocksWide, double blocksHigh) {
+    drawSnapshot(toSnapshot(entityList), blocksWide, blocksHigh);
+  }
+
+  /**
+   * Updates the textures to show a snapshot of a level, placing each entity where it appears on
+   * screen through the camera the snapshot was taken with
+   *
+   * @param snapshot the entities to be textured, and where the camera was
+   */
+  @Override
+  public void updateTextures(IRenderSnapshot snapshot, double blocksWide, double blocksHigh) {
+    xOffset = snapshot.getCameraX();
+    yOffset = snapshot.getCameraY();
+    drawSnapshot(snapshot, blocksWide, blocksHigh);
+  }
+
+  /**
+   * Updates the textures, placing each entity where it appears on screen through camera
+   *
+   * @param entityList the list of Entities to be textured
+   * @param camera     the camera of the level the entities are in
+   */
+  @Override
+  public void updateTextures(List<IEntity> entityList, double blocksWide, double blocksHigh,
+      ICamera camera) {
+    xOffset = camera.getXOffset();
+    yOffset = camera.getYOffset();
+    updateTextures(entityList, blocksWide, blocksHigh);
+  }
+
+  /**
+   * Draws a frame showing every entity in snapshot, at the current camera offsets
+   *
+   * @param snapshot   the entities to be textured
+   * @param blocksWide the number of blocks the screen is wide
+   * @param blocksHigh the number of blocks the screen is high
+   */
+  protected abstract void drawSnapshot(IRenderSnapshot snapshot, double blocksWide,
+      double blocksHigh);
+
+  /**
+   * Copies the type and position of every entity in a list into a snapshot, which is reused (and
+   * so overwritten) by the next call
+   *
+   * @param entityList the entities to be textured
+   * @return a snapshot of the entities, taken with the current camera offsets
+   */
+  protected IRenderSnapshot toSnapshot(List<IEntity> entityList) {
+    listSnapshot.capture(entityList, xOffset, yOffset, 0, 0);
+    return listSnapshot;
+  }
+
+  /**
+   * Builds an image of width x height filled with black pixels
+   *
+   * @param height the height of the image to be drawn
+   * @param width  the width of the image to be drawn
+   * @return an image filled in all block
+   */
+  @Override
+  public Image buildMissingImage(double width, double height) {
+    WritableImage filler = new WritableImage((int) width, (int) height);
+    PixelWriter writer = filler.getPixelWriter();
+
+    for (int horizontal = 0; horizontal < width; horizontal += 1) {
+      for (int vertical = 0; vertical < height; vertical += 1) {
+        writer.setColor(horizontal, vertical, Color.BLACK);
+      }
+    }
+
+    return filler;
+  }
+
+  /**
+   * For testing - return the String filepath leading to the file generating the textures
+   *
+   * @return path
+   */
+  @Override
+  public String getPath() {
+    return path;
+  }
+
+  /**
+   * Turns pre-rendering of static entities into chunk images on or off, starting from an empty
+   * layer either way
+   *
+   * @param enabled whether static entities should be drawn through a StaticTileLayer
+   */
+  public void setStaticLayerEnabled(boolean enabled) {
+    staticLayer = enabled ? new StaticTileLayer() : null;
+    clearCurrentTextures();
+  }
+
+  /**
+   * @return the layer static entities are drawn through, or null if it is turned off
+   */
+  protected StaticTileLayer getStaticLayer() {
+    return staticLayer;
+  }
+
+  /**
+   * Records how many blocks fit on the screen, which decides how big each texture is drawn
+   *
+   * @param blocksWide the number of blocks the screen is wide
+   * @param blocksHigh the number of blocks the screen is high
+   */
+  protected void setBlocksOnScreen(double blocksWide, double blocksHigh) {
+    numBlocksWide = blocksWide;
+    numBlocksHigh = blocksHigh;
+  }
+
+  /**
+   * Finds the atlas for the current tile size. A new atlas is built if the size of a tile has
+   * changed since the last atlas was built, or if textures that were still being decoded then have
+   * arrived since. This never waits for textures to be decoded.
+   *
+   * @return the TextureAtlas every texture is drawn from
+   */
+  protected TextureAtlas getAtlas() {
+    int tileWidth = TextureAtlas.toAtlasTileSize(getTileWidth());
+    int tileHeight = TextureAtlas.toAtlasTileSize(getTileHeight());
+    if (tileWidth != atlasTileWidth || tileHeight != atlasTileHeight) {
+      requestAtlasTextures(tileWidth, tileHeight);
+    } else if (atlasComplete) {
+      return atlas;
+    }
+
+    boolean decoded = atlasTextures.values().stream().allMatch(CompletableFuture::isDone);
+    if (atlas == null || decoded || atlas.getTileWidth() != tileWidth
+        || atlas.getTileHeight() != tileHeight) {
+      Map<String, Image> textures = new HashMap<>();
+      atlasTextures.forEach((type, texture) -> textures.put(type, texture.getNow(null)));
+      atlas = new TextureAtlas(textures, tileWidth, tileHeight);
+      atlasComplete = decoded;
+    }
+    return atlas;
+  }
+
+  // asks the cache for every texture at the given tile size, without waiting for any of them
+  private void requestAtlasTextures(int tileWidth, int tileHeight) {
+    atlasTileWidth = tileWidth;
+    atlasTileHeight = tileHeight;
+    atlasComplete = false;
+    atlasTextures = new HashMap<>();
+    texturePaths.forEach((type, filepath) ->
+        atlasTextures.put(type, imageCache.load(filepath, tileWidth, tileHeight)));
+  }
+
+  /**
+   * Finds the part of the atlas that entities of a type are drawn with
+   *
+   * @param type the type of an entity (see IEntity.getType)
+   * @return the region of that type's texture, or of a black texture if there is none
+   */
+  protected Rectangle2D regionFor(String type) {
+    return getAtlas().getRegion(type);
+  }
+
+  /**
+   * @return the Group that will contain the textures
+   */
+  protected Group getTextureGroup() {
+    return textureGroup;
+  }
+
+  /**
+   * @return the WIDTH of the screen
+   */
+  protected double getScreenWidth() {
+    return WIDTH;
+  }
+
+  /**
+   * @return the HEIGHT of the screen
+   */
+  protected double getScreenHeight() {
+    return HEIGHT;
+  }
+
+  /**
+   * @return the number of blocks the screen is wide
+   */
+  protected double getBlocksWide() {
+    return numBlocksWide;
+  }
+
+  /**
+   * @return the number of blocks the screen is high
+   */
+  protected double getBlocksHigh() {
+    return numBlocksHigh;
+  }
+
+  /**
+   * @return how wide one block is drawn, in pixels
+   */
+  protected double getTileWidth() {
+    return WIDTH / numBlocksWide;
+  }
+
+  /**
+   * @return how high one block is drawn, in pixels
+   */
+  protected double getTileHeight() {
+    return HEIGHT / numBlocksHigh;
+  }
+
+  /**
+   * @return how far the camera has moved right, in blocks
+   */
+  protected double getXOffset() {
+    return xOffset;
+  }
+
+  /**
+   * @return how far the camera has moved down, in blocks
+   */
+  protected double getYOffset() {
+    return yOffset;
+  }
+
+  // the image file of every entity type in a textures .properties file, or none if it can't be
+  // read. Nothing is decoded here - only the sizes the atlas needs are ever decoded
+  private Map<String, String> buildTexturePaths(String propertiesPath) {
+    try {
+      Map<String, String> idToFilepathMap = buildPropertiesMap(propertiesPath);
+      idToFilepathMap.remove(RENDERER_KEY);
+      return idToFilepathMap;
+    } catch (Exception e) {
+      return new HashMap<>();
+    }
+  }
+}
@@ -0,0 +1,180 @@
+package view;
+
+import java.util.List;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Group;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.ImageView;
+import model.HitBox;
+import api.model.IRenderSnapshot;
+import api.model.entity.IEntity;
+
+/**
+ * An ITexturer that draws every entity onto one Canvas with GraphicsContext.drawImage, instead of
+ * giving each entity its own ImageView. The scene graph only ever holds the single Canvas node, no
+ * matter how many entities are on screen, at the cost of redrawing the whole screen every frame.
+ *
+ * Entities do not get nodes of their own here, so they cannot be looked up by id the way the
+ * ImageViews made by Texturer can. It is chosen over Texturer by putting renderer=canvas in a
+ * textures .properties file (see TexturerFactory).
+ *
+ * With the static layer turned on, each chunk of static entities near the screen is drawn with a
+ * single drawImage call before the entities that move are drawn on top.
+ *
+ * Every drawImage call copies a region of the same TextureAtlas at its natural size, so the
+ * canvas never switches between images or scales a texture while drawing a frame.
+ */
+public class CanvasTexturer extends AbstractTexturer {
+
+  private final Canvas canvas;
+  private final GraphicsContext graphics;
+
+  /**
+   * Constructs a new CanvasTexturer object, replacing whatever is in tGroup with its canvas
+   *
+   * @param w        the WIDTH of the screen
+   * @param h        the HEIGHT of the screen
+   * @param filepath the filepath leading to the file containing the texture data
+   * @param tGroup   the Group that will contain the canvas
+   */
+  public CanvasTexturer(double w, double h, String filepath, Group tGroup) {
+    super(w, h, filepath, tGroup);
+    canvas = new Canvas(w, h);
+    graphics = canvas.getGraphicsContext2D();
+
+    tGroup.getChildren().clear();
+    tGroup.setTranslateX(0);
+    tGroup.setTranslateY(0);
+    tGroup.getChildren().add(canvas);
+  }
+
+  /**
+   * Redraws the canvas with every entity in snapshot
+   *
+   * @param snapshot   the entities to be textured
+   * @param blocksWide the number of blocks the screen is wide
+   * @param blocksHigh the number of blocks the screen is high
+   */
+  @Override
+  protected void drawSnapshot(IRenderSnapshot snapshot, double blocksWide, double blocksHigh) {
+    setBlocksOnScreen(blocksWide, blocksHigh);
+    clearCurrentTextures();
+    insertSnapshot(snapshot);
+  }
+
+  /**
+   * Wipes everything off the canvas
+   */
+  @Override
+  public void clearCurrentTextures() {
+    graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+  }
+
+  /**
+   * Draws every entity in entityList onto the canvas, in order, so later entities are drawn on top
+   *
+   * @param entityList the entity list for whom we'll be applying the textures
+   */
+  @Override
+  public void insertNewTextures(List<IEntity> entityList) {
+    insertSnapshot(toSnapshot(entityList));
+  }
+
+  /**
+   * Draws a single entity onto the canvas
+   *
+   * @param currentEntity the IEntity for whom we will be adding the texture
+   */
+  @Override
+  public void addNewTexture(IEntity currentEntity) {
+    HitBox hitBox = currentEntity.getHitBox();
+    drawFromAtlas(getAtlas(), currentEntity.getType(),
+        (hitBox.getXLeft() - getXOffset()) * getTileWidth(),
+        (hitBox.getYTop() - getYOffset()) * getTileHeight());
+  }
+
+  /**
+   * Sets the ImageView's location to where currentEntity is drawn on the canvas. The
+   * CanvasTexturer does not draw with ImageViews itself.
+   *
+   * @param currentEntity the Entity whose texture is being placed in (x,y) space
+   * @param view          the ImageView representing that texture
+   */
+  @Override
+  public void placeLocationOfView(IEntity currentEntity, ImageView view) {
+    HitBox hitBox = currentEntity.getHitBox();
+    double screenX = hitBox.getXLeft() - getXOffset();
+    double screenY = hitBox.getYTop() - getYOffset();
+
+    view.setX(screenX * getTileWidth());
+    view.setY(screenY * getTileHeight());
+    view.setFitWidth(getTileWidth());
+    view.setFitHeight(getTileHeight());
+    view.setId(currentEntity.getType() + "x" + (int) screenX + "y" + (int) screenY);
+  }
+
+  /**
+   * For testing - the canvas every entity is drawn onto
+   *
+   * @return canvas
+   */
+  public Canvas getCanvas() {
+    return canvas;
+  }
+
+  // draws every entity in snapshot, in order, so later entities are drawn on top
+  private void insertSnapshot(IRenderSnapshot snapshot) {
+    TextureAtlas atlas = getAtlas();
+    double tileWidth = getTileWidth();
+    double tileHeight = getTileHeight();
+    double xOffset = getXOffset();
+    double yOffset = getYOffset();
+    StaticTileLayer staticLayer = getStaticLayer();
+    if (staticLayer != null) {
+      drawStaticLayer(staticLayer, snapshot, atlas);
+    }
+    for (int index = 0; index < snapshot.getEntityCount(); index++) {
+      String type = snapshot.getType(index);
+      if (staticLayer != null && staticLayer.isStatic(type)) {
+        continue;
+      }
+      double x = (snapshot.getX(index) - xOffset) * tileWidth;
+      double y = (snapshot.getY(index) - yOffset) * tileHeight;
+      if (isOnCanvas(x, y, atlas.getTileWidth(), atlas.getTileHeight())) {
+        drawFromAtlas(atlas, type, x, y);
+      }
+    }
+  }
+
+  // brings the chunk images up to date with the static entities in snapshot and draws them
+  private void drawStaticLayer(StaticTileLayer staticLayer, IRenderSnapshot snapshot,
+      TextureAtlas atlas) {
+    staticLayer.beginFrame(atlas, getTileWidth(), getTileHeight());
+    for (int index = 0; index < snapshot.getEntityCount(); index++) {
+      String type = snapshot.getType(index);
+      if (staticLayer.isStatic(type)) {
+        staticLayer.track(snapshot.getEntity(index), type, snapshot.getX(index),
+            snapshot.getY(index));
+      }
+    }
+    staticLayer.endFrame(getXOffset(), getYOffset(), getBlocksWide(), getBlocksHigh());
+    for (StaticTileLayer.Chunk chunk : staticLayer.getVisibleChunks()) {
+      graphics.drawImage(chunk.getImage(), (chunk.getWorldX() - getXOffset()) * getTileWidth(),
+          (chunk.getWorldY() - getYOffset()) * getTileHeight());
+    }
+  }
+
+  // copies the texture of type out of the atlas without scaling it
+  private void drawFromAtlas(TextureAtlas atlas, String type, double x, double y) {
+    Rectangle2D region = atlas.getRegion(type);
+    graphics.drawImage(atlas.getImage(), region.getMinX(), region.getMinY(), region.getWidth(),
+        region.getHeight(), x, y, region.getWidth(), region.getHeight());
+  }
+
+  // skips drawImage calls for textures that would land entirely off the canvas
+  private boolean isOnCanvas(double x, double y, double tileWidth, double tileHeight) {
+    return x + tileWidth > 0 && y + tileHeight > 0 && x < getScreenWidth()
+        && y < getScreenHeight();
+  }
+}
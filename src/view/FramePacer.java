@@ -0,0 +1,135 @@
+package view;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class decides, from the real time between the pulses of an AnimationTimer, whether each
+ * frame should be drawn, and keeps count of the frames that were missed or skipped.
+ *
+ * A pulse that comes more than a frame late means frames were missed (the application thread was
+ * busy, or the machine is under load); those are counted by getMissedFrames. When the view is
+ * behind like this - or drawing the last frame took longer than a whole frame - the next frame is
+ * skipped so the application thread can catch up, but never more than MAX_SKIPPED_IN_A_ROW frames
+ * in a row, so the screen keeps moving. Gameplay speed is unaffected either way, since the level is
+ * stepped on its own clock (see SimulationThread) and a frame that is drawn always shows the
+ * latest snapshot.
+ */
+public class FramePacer {
+
+  public static final double DEFAULT_FRAMES_PER_SECOND = 60;
+  public static final int MAX_SKIPPED_IN_A_ROW = 2;
+  // a pulse this far (as a fraction of a frame) past when it was due is still on time, since
+  // pulses are never perfectly even
+  private static final double LATE_TOLERANCE = 0.5;
+
+  private final long frameNanos;
+  private long lastPulseNanos;
+  private boolean started;
+  private long lastDrawNanos;
+  private int skippedInARow;
+  private long missedFrames;
+  private long skippedFrames;
+  private long drawnFrames;
+
+  /**
+   * Instantiates a FramePacer for DEFAULT_FRAMES_PER_SECOND
+   */
+  public FramePacer() {
+    this(DEFAULT_FRAMES_PER_SECOND);
+  }
+
+  /**
+   * Instantiates a FramePacer
+   *
+   * @param framesPerSecond how many frames a second the view is meant to draw
+   */
+  public FramePacer(double framesPerSecond) {
+    frameNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / framesPerSecond));
+  }
+
+  /**
+   * Starts a frame, counting any frames missed since the last one and deciding whether to draw it
+   *
+   * @param nowNanos the time of the pulse, as given to AnimationTimer.handle
+   * @return true if the frame should be drawn, false if it should be skipped
+   */
+  public boolean beginFrame(long nowNanos) {
+    if (!started) {
+      started = true;
+      lastPulseNanos = nowNanos;
+      return true;
+    }
+    long elapsed = nowNanos - lastPulseNanos;
+    lastPulseNanos = nowNanos;
+    long missed = (long) ((double) elapsed / frameNanos - LATE_TOLERANCE);
+    if (missed > 0) {
+      missedFrames += missed;
+    }
+
+    boolean behind = missed > 0 || lastDrawNanos > frameNanos;
+    if (behind && skippedInARow < MAX_SKIPPED_IN_A_ROW) {
+      skippedInARow++;
+      skippedFrames++;
+      lastDrawNanos = 0;
+      return false;
+    }
+    skippedInARow = 0;
+    return true;
+  }
+
+  /**
+   * Finishes a frame that was drawn
+   *
+   * @param drawNanos how long drawing the frame took, in nanoseconds
+   */
+  public void endFrame(long drawNanos) {
+    lastDrawNanos = drawNanos;
+    drawnFrames++;
+  }
+
+  /**
+   * Forgets when the last pulse was, so that a pause in pulses (the timer being stopped and
+   * started again) is not counted as missed frames
+   */
+  public void restart() {
+    started = false;
+    lastDrawNanos = 0;
+    skippedInARow = 0;
+  }
+
+  /**
+   * Getter for how long one frame is meant to take
+   *
+   * @return frameNanos
+   */
+  public long getFrameNanos() {
+    return frameNanos;
+  }
+
+  /**
+   * Reveals how many frames were missed because pulses came late
+   *
+   * @return missedFrames
+   */
+  public long getMissedFrames() {
+    return missedFrames;
+  }
+
+  /**
+   * Reveals how many frames were skipped to let the view catch up
+   *
+   * @return skippedFrames
+   */
+  public long getSkippedFrames() {
+    return skippedFrames;
+  }
+
+  /**
+   * Reveals how many frames were drawn
+   *
+   * @return drawnFrames
+   */
+  public long getDrawnFrames() {
+    return drawnFrames;
+  }
+}
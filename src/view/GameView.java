@@ -7,28 +7,53 @@ import controller.KeyInputterMissingMethodException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import javafx.animation.Animation;
+import javafx.animation.AnimationTimer;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.event.Event;
 import javafx.event.EventType;
 import javafx.scene.Group;
 import javafx.stage.Stage;
 import javafx.util.Duration;
 import model.GameModel;
+import model.Level;
 import api.model.IGameModel;
+import api.model.IRenderSnapshot;
 import model.autogenerator.GenerationException;
 import model.configuration.GameConfiguration;
 import model.configuration.InvalidFileException;
-import api.model.entity.IEntity;
+import model.simulation.InterpolatedSnapshot;
+import model.simulation.SimulationThread;
 import view.scenes.*;
 import api.view.IGameScene;
 import api.view.IGameView;
+import api.view.ITexturer;
 
 /**
  * The view for our game - handles scene changes and updates to graphical appearance (i.e. language
  * and stylesheet) and also updates the model
  *
+ * The model is stepped on its own SimulationThread rather than in the animation: each frame only
+ * draws the latest snapshot the simulation has published, and key presses are queued for the
+ * simulation to apply between ticks. Since frames and ticks do not line up, each frame draws the
+ * snapshot part of the way through the tick after it, by how long ago the snapshot was published.
+ * Anything else that changes the level (resetting it, saving it, or clearing a win or loss once the
+ * view has dealt with it) is queued for the simulation thread too, so the application thread never
+ * waits for a tick to finish.
+ *
+ * Frames are driven by an AnimationTimer and paced by a FramePacer, which measures the real time
+ * between them and skips drawing a frame or two when the view falls behind.
+ *
+ * While there is nothing moving to draw - the level is paused, the window is not focused, or a
+ * scene other than the game is showing - the view is idle: the simulation is not stepped, and the
+ * AnimationTimer is stopped, so JavaFX stops pulsing every frame. A Timeline handles a frame
+ * IDLE_FRAMES_PER_SECOND times a second instead, or straight after input arrives, and starts the
+ * AnimationTimer again as soon as the view is no longer idle. A frame whose snapshot has not
+ * changed since it was last drawn is not drawn again.
+ *
  * @author Alex Lu & Edem Ahorlu
  */
 public class GameView extends Application implements IGameView {
@@ -49,18 +74,29 @@ public class GameView extends Application implements IGameView {
 
   private static final double WIDTH = 800;
   private static final double HEIGHT = 800;
-  private static final double ANIMATION_SPEED = 1 / 60.0;
+  private static final double FRAMES_PER_SECOND = 60;
+  private static final double IDLE_FRAMES_PER_SECOND = 4;
   private static final String PROPERTIES_EXTENSION = ".properties";
   private static final String TEXTURES = "textures";
   private static final String SECRET_CONFIG_PATH = "/secret/masteregg.properties";
   private static final String SCORE_LABEL = "ScoreLabel";
+  private static final double BLOCKS_WIDE = 15;
+  private static final double BLOCKS_HIGH = 15;
 
   private String configPath = "doodlejump.properties";
   private IGameModel model;
   private Stage stage;
-  private Timeline animation;
+  private AnimationTimer animation;
+  private Timeline idleTimeline;
+  private boolean animating;
+  private final FramePacer framePacer = new FramePacer(FRAMES_PER_SECOND);
   private KeyInputter inputter;
-  private Texturer texturer;
+  private ITexturer texturer;
+  private SimulationThread simulation;
+  private final InterpolatedSnapshot interpolatedSnapshot = new InterpolatedSnapshot();
+  private long drawnPublishNanos = -1;
+  private boolean drawnWholeTick;
+  private final TexturerFactory texturerFactory = new TexturerFactory();
 
   /**
    * Launches the application
@@ -92,6 +128,7 @@ public class GameView extends Application implements IGameView {
 
     stage.setScene(menuScene);
     stage.setResizable(false);
+    stage.focusedProperty().addListener((observable, wasFocused, isFocused) -> requestRedraw());
     stage.show();
   }
 
@@ -101,6 +138,8 @@ public class GameView extends Application implements IGameView {
   @Override
   public void buildScenes() {
     playGameScene = new PlayGameScene(new Group(), WIDTH, HEIGHT);
+    // saving and resetting after a score is entered run between ticks, like resetLevel
+    playGameScene.setLevelWorker(work -> simulation.submitBetweenTicks(work::run));
     menuScene = new MenuScene(new Group(), WIDTH, HEIGHT);
     selectLanguageScene =
         new SelectLanguageScene(new Group(), WIDTH, HEIGHT);
@@ -143,8 +182,9 @@ public class GameView extends Application implements IGameView {
   public void buildModel() {
     try {
       model = new GameModel(new GameConfiguration(configPath));
-      inputter = new KeyInputter(model);
-      texturer = new Texturer(WIDTH, HEIGHT, model.getTexturesPath(),
+      startSimulation();
+      inputter = new KeyInputter(model, simulation::submitInput);
+      texturer = texturerFactory.buildTexturer(WIDTH, HEIGHT, model.getTexturesPath(),
           (Group) playGameScene.lookup("#" + TEXTURES));
       start();
     } catch (InvalidFileException | NullPointerException | GenerationException ex) {
@@ -152,19 +192,31 @@ public class GameView extends Application implements IGameView {
     }
   }
 
+  // swaps the simulation of the old model (if any) for one that steps the current model
+  private void startSimulation() {
+    if (simulation != null) {
+      simulation.stop();
+    }
+    simulation = new SimulationThread(model, BLOCKS_WIDE, BLOCKS_HIGH);
+    simulation.start();
+  }
+
   /**
    * Updates the view
    */
   @Override
   public void update() {
-    if (!currentScene.equals(playGameScene)) {
-      return;
-    } else if (model.getLevel().isLevelLost()) {
-      levelLost();
-    } else if (model.getLevel().isLevelWon()) {
-      levelWon();
+    if (!currentScene.equals(playGameScene) || !stage.isFocused()) {
+      simulation.setStepping(false);
     } else if (!model.getLevel().isSaving()) {
-      normalUpdate();
+      // a level whose win or loss is being dealt with is saving, so each is only handled once
+      if (model.getLevel().isLevelLost()) {
+        levelLost();
+      } else if (model.getLevel().isLevelWon()) {
+        levelWon();
+      } else {
+        normalUpdate();
+      }
     }
   }
 
@@ -174,11 +226,45 @@ public class GameView extends Application implements IGameView {
    */
   @Override
   public void normalUpdate() {
-    model.updateGame();
-    List<IEntity> entityList = model.getAllEntitiesInLevel();
-    texturer.updateTextures(entityList, 15, 15);
+    simulation.setStepping(true);
+    IRenderSnapshot snapshot = simulation.getLatestSnapshot();
+    double alpha = (double) (System.nanoTime() - snapshot.getPublishNanos())
+        / simulation.getTickNanos();
+    // once a snapshot has been drawn all the way through its tick, drawing it again changes nothing
+    if (snapshot.getPublishNanos() == drawnPublishNanos && drawnWholeTick) {
+      return;
+    }
+    drawnPublishNanos = snapshot.getPublishNanos();
+    drawnWholeTick = alpha >= 1;
+    interpolatedSnapshot.set(snapshot, alpha);
+    texturer.updateTextures(interpolatedSnapshot, BLOCKS_WIDE, BLOCKS_HIGH);
     playGameScene.updateScoreText(currentScene.getValueFromBundle(SCORE_LABEL)
-        + ": " + (getScore()));
+        + ": " + (snapshot.getScore()));
+  }
+
+  /**
+   * Asks for the next frame to be handled straight away, even if the view is idle - for when
+   * something (input, a scene change, the window gaining or losing focus) may have changed what
+   * is on screen
+   */
+  @Override
+  public void requestRedraw() {
+    if (!animating && idleTimeline != null) {
+      // handled after whatever asked for it, so it sees the change
+      Platform.runLater(this::handleIdleFrame);
+    }
+  }
+
+  /**
+   * Reveals whether the view has nothing moving to draw: a scene other than the game is showing,
+   * the window is not focused, or the level is paused
+   *
+   * @return true if frames only need handling every so often
+   */
+  @Override
+  public boolean isIdle() {
+    return !currentScene.equals(playGameScene) || !stage.isFocused()
+        || model.getKeyPressFunctions().isPaused();
   }
 
   /**
@@ -186,8 +272,10 @@ public class GameView extends Application implements IGameView {
    */
   @Override
   public void levelLost() {
-    playGameScene.inputScore(model.getHighScoresPath(), model.getLevel());
-    model.getLevel().setLevelLost(false);
+    Level level = model.getLevel();
+    // the level is saving before its loss is cleared, so it is never stepped in between
+    playGameScene.inputScore(model.getHighScoresPath(), level);
+    simulation.submitInput(() -> level.setLevelLost(false));
   }
 
   /**
@@ -195,6 +283,8 @@ public class GameView extends Application implements IGameView {
    */
   @Override
   public void levelWon() {
+    Level level = model.getLevel();
+    SimulationThread wonSimulation = simulation;
     String nextLevel = model.getNextConfigFilePath();
 
     if (nextLevel != null && nextLevel.equals("Goal")) {
@@ -202,7 +292,7 @@ public class GameView extends Application implements IGameView {
     } else {
       loadNextLevel(nextLevel);
     }
-    model.getLevel().setLevelWon(false);
+    wonSimulation.submitInput(() -> level.setLevelWon(false));
   }
 
   /**
@@ -243,11 +333,60 @@ public class GameView extends Application implements IGameView {
    */
   @Override
   public void prepareAnimation() {
-    animation = new Timeline();
-    animation.setCycleCount(Timeline.INDEFINITE);
-    KeyFrame frame = new KeyFrame(Duration.seconds(ANIMATION_SPEED), e -> update());
-    animation.getKeyFrames().add(frame);
-    animation.play();
+    animation = new AnimationTimer() {
+      @Override
+      public void handle(long now) {
+        if (isIdle()) {
+          stopAnimation();
+        } else if (framePacer.beginFrame(now)) {
+          long drawStart = System.nanoTime();
+          update();
+          framePacer.endFrame(System.nanoTime() - drawStart);
+        }
+      }
+    };
+    idleTimeline = new Timeline(new KeyFrame(Duration.seconds(1 / IDLE_FRAMES_PER_SECOND),
+        event -> handleIdleFrame()));
+    idleTimeline.setCycleCount(Animation.INDEFINITE);
+    startAnimation();
+  }
+
+  // stops the AnimationTimer once the view is idle, handling frames on the idle timeline instead
+  private void stopAnimation() {
+    animation.stop();
+    animating = false;
+    update();
+    idleTimeline.play();
+  }
+
+  // starts the AnimationTimer again, pacing frames from now on
+  private void startAnimation() {
+    idleTimeline.stop();
+    framePacer.restart();
+    animating = true;
+    animation.start();
+  }
+
+  // updates the view while it is idle, or starts animating again if it no longer is
+  private void handleIdleFrame() {
+    if (animating) {
+      return;
+    }
+    if (isIdle()) {
+      update();
+    } else {
+      startAnimation();
+    }
+  }
+
+  /**
+   * Reveals the pacer that decides which frames are drawn, along with how many were missed
+   *
+   * @return framePacer
+   */
+  @Override
+  public FramePacer getFramePacer() {
+    return framePacer;
   }
 
   /**
@@ -270,6 +409,7 @@ public class GameView extends Application implements IGameView {
   @Override
   public void handleControllerEvent(GameController cont, Event event) {
     if (event.getEventType().getName().equals("controller")) {
+      requestRedraw();
       List<String> reflectionArgs = new ArrayList<>();
       reflectionArgs.addAll(cont.getBuffer());
       performReflection(reflectionArgs);
@@ -283,6 +423,7 @@ public class GameView extends Application implements IGameView {
    */
   @Override
   public void keyPressed(String key) {
+    requestRedraw();
     try {
       inputter.keyPressed(key);
 
@@ -305,6 +446,7 @@ public class GameView extends Application implements IGameView {
    */
   @Override
   public void keyReleased(String key) {
+    requestRedraw();
     try {
       inputter.keyReleased(key);
     } catch (KeyInputterMissingMethodException kimie) {
@@ -371,6 +513,7 @@ public class GameView extends Application implements IGameView {
 
       stage.setScene(scene);
       currentScene = scene;
+      requestRedraw();
     }
   }
 
@@ -428,6 +571,7 @@ public class GameView extends Application implements IGameView {
   @Override
   public void endGame() {
     animation.stop();
+    simulation.stop();
     stage.close();
   }
 
@@ -447,7 +591,8 @@ public class GameView extends Application implements IGameView {
    */
   @Override
   public void switchTextures(String texturePath) {
-    texturer = new Texturer(WIDTH, HEIGHT, (texturePath + PROPERTIES_EXTENSION),
+    texturer = texturerFactory.buildTexturer(WIDTH, HEIGHT,
+        (texturePath + PROPERTIES_EXTENSION),
         (Group) playGameScene.lookup("#" + TEXTURES));
   }
 
@@ -472,15 +617,18 @@ public class GameView extends Application implements IGameView {
   }
 
   /**
-   * Resets the current level in the model by calling model.resetLevel()
+   * Resets the current level in the model by calling model.resetLevel() on the simulation thread,
+   * and draws the reset level as soon as it is ready
    */
   @Override
   public void resetLevel() {
-    try {
-      model.resetLevel();
-    } catch (InvalidFileException ife) {
-      currentScene.updateErrorText(currentScene.getValueFromBundle("RESET_LEVEL_ERROR"));
-    }
+    simulation.submitBetweenTicks(model::resetLevel).whenComplete((done, failure) ->
+        Platform.runLater(() -> {
+          if (failure != null) {
+            currentScene.updateErrorText(currentScene.getValueFromBundle("RESET_LEVEL_ERROR"));
+          }
+          requestRedraw();
+        }));
   }
 
   /**
@@ -525,6 +673,7 @@ public class GameView extends Application implements IGameView {
   @Override
   public void setModel(IGameModel m) {
     model = m;
+    startSimulation();
   }
 
   /**
@@ -0,0 +1,168 @@
+package view;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import javafx.animation.AnimationTimer;
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.scene.Group;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+import model.entity.Block;
+import model.entity.Enemy;
+import api.model.entity.IEntity;
+import api.view.ITexturer;
+
+/**
+ * Compares the two ITexturers (Texturer and CanvasTexturer) by drawing synthetic levels full of
+ * entities in a real window, so a renderer can be picked per game mode.
+ *
+ * For every entity count, each renderer draws a screen packed with that many Blocks and Enemies
+ * for a number of frames, with the Enemies moving every frame. It measures how long
+ * updateTextures takes and how long whole frames take (including JavaFX laying out and rendering
+ * the scene), and prints one CSV row per renderer and entity count:
+ *
+ *   renderer,entities,frames,update_ms_avg,update_ms_p99,frame_ms_avg,frame_ms_p99
+ *
+ * Run it with a display, optionally giving the number of frames and then the entity counts:
+ *
+ *   java [javafx options] view.RendererBenchmark 600 5000 20000
+ */
+public class RendererBenchmark extends Application {
+
+  public static final String TABLE_HEADER =
+      "renderer,entities,frames,update_ms_avg,update_ms_p99,frame_ms_avg,frame_ms_p99";
+  private static final double WIDTH = 800;
+  private static final double HEIGHT = 800;
+  private static final double BLOCKS_ON_SCREEN = 15;
+  private static final String TEXTURES = "mariotextures.properties";
+  private static final int DEFAULT_FRAMES = 600;
+  private static final int WARMUP_FRAMES = 60;
+  private static final int[] DEFAULT_ENTITY_COUNTS = {5000, 20000};
+  private static final double ENEMY_STEP = 0.05;
+  private static final double NANOS_PER_MILLI = 1e6;
+  private static final long SEED = 404;
+
+  private final List<Runnable> runs = new ArrayList<>();
+  private Group textureGroup;
+  private int frames;
+
+  /**
+   * Launches the benchmark
+   *
+   * @param args optionally the number of frames per run, then the entity counts to try
+   */
+  public static void main(String[] args) {
+    launch(args);
+  }
+
+  /**
+   * Opens the window and starts the first run
+   *
+   * @param stage the window the benchmark draws in
+   */
+  @Override
+  public void start(Stage stage) {
+    List<String> args = getParameters().getRaw();
+    frames = args.isEmpty() ? DEFAULT_FRAMES : Integer.parseInt(args.get(0));
+    int[] entityCounts = args.size() > 1
+        ? args.subList(1, args.size()).stream().mapToInt(Integer::parseInt).toArray()
+        : DEFAULT_ENTITY_COUNTS;
+
+    textureGroup = new Group();
+    stage.setScene(new Scene(new Group(textureGroup), WIDTH, HEIGHT));
+    stage.show();
+
+    System.out.println(TABLE_HEADER);
+    for (int entityCount : entityCounts) {
+      runs.add(() -> runRenderer(TexturerFactory.SCENE_GRAPH_RENDERER,
+          new Texturer(WIDTH, HEIGHT, TEXTURES, textureGroup), entityCount));
+      runs.add(() -> runRenderer(TexturerFactory.CANVAS_RENDERER,
+          new CanvasTexturer(WIDTH, HEIGHT, TEXTURES, textureGroup), entityCount));
+    }
+    runNext();
+  }
+
+  private void runNext() {
+    if (runs.isEmpty()) {
+      Platform.exit();
+    } else {
+      runs.remove(0).run();
+    }
+  }
+
+  // draws entityCount entities with texturer for WARMUP_FRAMES + frames frames, then prints a row
+  private void runRenderer(String renderer, ITexturer texturer, int entityCount) {
+    List<IEntity> entities = buildEntities(entityCount);
+    long[] updateNanos = new long[frames];
+    long[] frameNanos = new long[frames];
+
+    new AnimationTimer() {
+      private int frame = -WARMUP_FRAMES;
+      private long lastFrame;
+
+      @Override
+      public void handle(long now) {
+        if (frame > 0) {
+          frameNanos[frame - 1] = now - lastFrame;
+        }
+        if (frame == frames) {
+          stop();
+          System.out.println(toRow(renderer, entityCount, updateNanos, frameNanos));
+          runNext();
+          return;
+        }
+        moveEnemies(entities, frame);
+        long updateStart = System.nanoTime();
+        texturer.updateTextures(entities, BLOCKS_ON_SCREEN, BLOCKS_ON_SCREEN);
+        if (frame >= 0) {
+          updateNanos[frame] = System.nanoTime() - updateStart;
+        }
+        lastFrame = now;
+        frame++;
+      }
+    }.start();
+  }
+
+  // a screen packed with entityCount entities, a quarter of them Enemies
+  private List<IEntity> buildEntities(int entityCount) {
+    Random random = new Random(SEED);
+    List<IEntity> entities = new ArrayList<>(entityCount);
+    for (int index = 0; index < entityCount; index++) {
+      double x = random.nextDouble() * (BLOCKS_ON_SCREEN - 1);
+      double y = random.nextDouble() * (BLOCKS_ON_SCREEN - 1);
+      entities.add(index % 4 == 0 ? new Enemy(x, y) : new Block(x, y));
+    }
+    return entities;
+  }
+
+  // sways every Enemy back and forth, so retained renderers have views to move each frame
+  private void moveEnemies(List<IEntity> entities, int frame) {
+    double step = (frame / 30) % 2 == 0 ? ENEMY_STEP : -ENEMY_STEP;
+    for (IEntity entity : entities) {
+      if (entity instanceof Enemy) {
+        entity.getHitBox().translateX(step);
+      }
+    }
+  }
+
+  private String toRow(String renderer, int entityCount, long[] updateNanos, long[] frameNanos) {
+    return String.format(Locale.US, "%s,%d,%d,%.3f,%.3f,%.3f,%.3f", renderer, entityCount, frames,
+        average(updateNanos), percentile(updateNanos, 99), average(frameNanos),
+        percentile(frameNanos, 99));
+  }
+
+  private double average(long[] nanos) {
+    return Arrays.stream(nanos).average().orElse(0) / NANOS_PER_MILLI;
+  }
+
+  private double percentile(long[] nanos, double percentile) {
+    long[] sorted = nanos.clone();
+    Arrays.sort(sorted);
+    int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+    return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / NANOS_PER_MILLI;
+  }
+}
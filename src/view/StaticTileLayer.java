@@ -0,0 +1,326 @@
+package view;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+import model.HitBox;
+import api.model.entity.IEntity;
+
+/**
+ * This class pre-renders the entities that never move - blocks, power up blocks and goals - into
+ * one image per chunk of the level, so a renderer can draw a whole chunk of static tiles at once
+ * instead of drawing every block on its own each frame.
+ *
+ * A renderer passes the static entities of each frame to track, between beginFrame and endFrame.
+ * A chunk's image is only redrawn when a static entity in it is added, removed, moves or changes
+ * type, or when the atlas or tile size changes. The entity list a renderer gets may be culled to
+ * the viewport, so a static entity that is missing from a frame is only taken to be removed if it
+ * would have been on screen; otherwise it is kept, since it was most likely just culled. A static
+ * entity that has not been seen for STALE_FRAMES frames is forgotten wherever it is, so entities
+ * that have been despawned are not held on to forever (one that was only culled is simply tracked
+ * again when it comes back on screen). Chunks that are well off screen give up their image until
+ * they scroll back into view, and chunks left with no tiles are dropped.
+ */
+public class StaticTileLayer {
+
+  public static final int CHUNK_BLOCKS = 16;
+  // how many frames a static entity may go unseen off screen before it is forgotten
+  public static final int STALE_FRAMES = 120;
+  private static final Set<String> STATIC_TYPES = Set.of("Block", "PowerUpBlock", "Goal");
+
+  private final Map<Long, Chunk> chunks = new HashMap<>();
+  private final Map<IEntity, StaticTile> tiles = new IdentityHashMap<>();
+  private final List<Chunk> visibleChunks = new ArrayList<>();
+  private TextureAtlas atlas;
+  private double tileWidth;
+  private double tileHeight;
+  private long frame;
+  private int redrawCount;
+
+  /**
+   * Decides whether an entity is drawn by the static layer
+   *
+   * @param entity an entity the renderer was asked to draw
+   * @return true if entities of its type never move
+   */
+  public boolean isStatic(IEntity entity) {
+    return isStatic(entity.getType());
+  }
+
+  /**
+   * Decides whether entities of a type are drawn by the static layer
+   *
+   * @param type the type of an entity the renderer was asked to draw
+   * @return true if entities of the type never move
+   */
+  public boolean isStatic(String type) {
+    return STATIC_TYPES.contains(type);
+  }
+
+  /**
+   * Starts a frame, redrawing every chunk if the atlas or the size of a tile has changed
+   *
+   * @param currentAtlas the atlas textures are copied from
+   * @param newTileWidth  how wide one block is drawn, in pixels
+   * @param newTileHeight how high one block is drawn, in pixels
+   */
+  public void beginFrame(TextureAtlas currentAtlas, double newTileWidth, double newTileHeight) {
+    frame++;
+    if (currentAtlas != atlas || newTileWidth != tileWidth || newTileHeight != tileHeight) {
+      atlas = currentAtlas;
+      tileWidth = newTileWidth;
+      tileHeight = newTileHeight;
+      chunks.values().forEach(chunk -> chunk.dirty = true);
+    }
+  }
+
+  /**
+   * Records that a static entity is in this frame, marking its chunks to be redrawn if it is new,
+   * has moved or has changed type
+   *
+   * @param entity an entity for which isStatic is true
+   */
+  public void track(IEntity entity) {
+    HitBox hitBox = entity.getHitBox();
+    track(entity, entity.getType(), hitBox.getXLeft(), hitBox.getYTop());
+  }
+
+  /**
+   * Records that a static entity is in this frame, as it was when a snapshot of it was taken
+   *
+   * @param entity the entity, used only to tell it apart from the others
+   * @param type   its type, for which isStatic is true
+   * @param x      the world x coordinate of its left
+   * @param y      the world y coordinate of its top
+   */
+  public void track(IEntity entity, String type, double x, double y) {
+    StaticTile tile = tiles.get(entity);
+    if (tile == null) {
+      tile = new StaticTile(type, x, y);
+      tiles.put(entity, tile);
+      addToChunks(tile);
+    } else if (tile.x != x || tile.y != y || !tile.type.equals(type)) {
+      removeFromChunks(tile);
+      tile.update(type, x, y);
+      addToChunks(tile);
+    }
+    tile.frame = frame;
+  }
+
+  /**
+   * Finishes a frame: removes the static entities that should have been in it but were not, and
+   * those that have not been seen for STALE_FRAMES frames, and redraws the chunks on screen that
+   * have changed
+   *
+   * @param xOffset    how far the camera has moved right, in blocks
+   * @param yOffset    how far the camera has moved down, in blocks
+   * @param blocksWide the number of blocks the screen is wide
+   * @param blocksHigh the number of blocks the screen is high
+   */
+  public void endFrame(double xOffset, double yOffset, double blocksWide, double blocksHigh) {
+    Iterator<StaticTile> iterator = tiles.values().iterator();
+    while (iterator.hasNext()) {
+      StaticTile tile = iterator.next();
+      if (tile.frame != frame && (frame - tile.frame > STALE_FRAMES
+          || overlaps(tile, xOffset, yOffset, blocksWide, blocksHigh))) {
+        iterator.remove();
+        removeFromChunks(tile);
+      }
+    }
+
+    visibleChunks.clear();
+    Iterator<Chunk> chunkIterator = chunks.values().iterator();
+    while (chunkIterator.hasNext()) {
+      Chunk chunk = chunkIterator.next();
+      if (chunk.tiles.isEmpty()) {
+        chunkIterator.remove();
+      } else if (isNearScreen(chunk, xOffset, yOffset, blocksWide, blocksHigh)) {
+        if (chunk.dirty || chunk.image == null) {
+          redraw(chunk);
+        }
+        visibleChunks.add(chunk);
+      } else {
+        chunk.image = null;
+      }
+    }
+  }
+
+  /**
+   * @return the chunks that are on (or next to) the screen, as of the last endFrame
+   */
+  public List<Chunk> getVisibleChunks() {
+    return visibleChunks;
+  }
+
+  /**
+   * For testing - how many static entities are being tracked
+   *
+   * @return the number of tracked tiles
+   */
+  public int getTileCount() {
+    return tiles.size();
+  }
+
+  /**
+   * For testing - how many chunks hold at least one tracked tile
+   *
+   * @return the number of chunks
+   */
+  public int getChunkCount() {
+    return chunks.size();
+  }
+
+  /**
+   * For testing - how many times a chunk image has been drawn
+   *
+   * @return redrawCount
+   */
+  public int getRedrawCount() {
+    return redrawCount;
+  }
+
+  private void addToChunks(StaticTile tile) {
+    // a tile covers [x, x + 1), so one that ends exactly on a chunk edge stays in one chunk
+    int lastChunkX = toChunk(Math.nextDown(tile.x + 1));
+    int lastChunkY = toChunk(Math.nextDown(tile.y + 1));
+    for (int chunkX = toChunk(tile.x); chunkX <= lastChunkX; chunkX++) {
+      for (int chunkY = toChunk(tile.y); chunkY <= lastChunkY; chunkY++) {
+        int newChunkX = chunkX;
+        int newChunkY = chunkY;
+        Chunk chunk = chunks.computeIfAbsent(toKey(chunkX, chunkY),
+            key -> new Chunk(newChunkX, newChunkY));
+        chunk.tiles.add(tile);
+        chunk.dirty = true;
+        tile.chunks.add(chunk);
+      }
+    }
+  }
+
+  private void removeFromChunks(StaticTile tile) {
+    for (Chunk chunk : tile.chunks) {
+      chunk.tiles.remove(tile);
+      chunk.dirty = true;
+    }
+    tile.chunks.clear();
+  }
+
+  // draws every tile of the chunk into a new image, clipping tiles that hang over its edges
+  private void redraw(Chunk chunk) {
+    int width = (int) Math.ceil(CHUNK_BLOCKS * tileWidth);
+    int height = (int) Math.ceil(CHUNK_BLOCKS * tileHeight);
+    WritableImage image = new WritableImage(width, height);
+    PixelWriter writer = image.getPixelWriter();
+    PixelReader reader = atlas.getImage().getPixelReader();
+    double chunkLeft = chunk.chunkX * CHUNK_BLOCKS;
+    double chunkTop = chunk.chunkY * CHUNK_BLOCKS;
+    for (StaticTile tile : chunk.tiles) {
+      Rectangle2D region = atlas.getRegion(tile.type);
+      int x = (int) Math.round((tile.x - chunkLeft) * tileWidth);
+      int y = (int) Math.round((tile.y - chunkTop) * tileHeight);
+      int left = Math.max(0, x);
+      int top = Math.max(0, y);
+      int right = Math.min(width, x + (int) region.getWidth());
+      int bottom = Math.min(height, y + (int) region.getHeight());
+      if (reader != null && right > left && bottom > top) {
+        writer.setPixels(left, top, right - left, bottom - top, reader,
+            (int) region.getMinX() + left - x, (int) region.getMinY() + top - y);
+      }
+    }
+    chunk.image = image;
+    chunk.dirty = false;
+    redrawCount++;
+  }
+
+  private boolean overlaps(StaticTile tile, double xOffset, double yOffset, double blocksWide,
+      double blocksHigh) {
+    return tile.x + 1 > xOffset && tile.x < xOffset + blocksWide && tile.y + 1 > yOffset
+        && tile.y < yOffset + blocksHigh;
+  }
+
+  // keeps the images of chunks up to one chunk away from the screen
+  private boolean isNearScreen(Chunk chunk, double xOffset, double yOffset, double blocksWide,
+      double blocksHigh) {
+    return chunk.chunkX >= toChunk(xOffset) - 1 && chunk.chunkX <= toChunk(xOffset + blocksWide) + 1
+        && chunk.chunkY >= toChunk(yOffset) - 1
+        && chunk.chunkY <= toChunk(yOffset + blocksHigh) + 1;
+  }
+
+  private int toChunk(double blocks) {
+    return (int) Math.floor(blocks / CHUNK_BLOCKS);
+  }
+
+  private long toKey(int chunkX, int chunkY) {
+    return ((long) chunkX << 32) | (chunkY & 0xFFFFFFFFL);
+  }
+
+  /**
+   * One CHUNK_BLOCKS by CHUNK_BLOCKS square of the level, and the image of its static tiles
+   */
+  public static class Chunk {
+
+    private final Set<StaticTile> tiles = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final int chunkX;
+    private final int chunkY;
+    private Image image;
+    private boolean dirty = true;
+
+    private Chunk(int chunkX, int chunkY) {
+      this.chunkX = chunkX;
+      this.chunkY = chunkY;
+    }
+
+    /**
+     * @return the image of every static tile in the chunk, with its top left at getWorldX,
+     * getWorldY
+     */
+    public Image getImage() {
+      return image;
+    }
+
+    /**
+     * @return where the chunk starts horizontally, in blocks
+     */
+    public double getWorldX() {
+      return chunkX * CHUNK_BLOCKS;
+    }
+
+    /**
+     * @return where the chunk starts vertically, in blocks
+     */
+    public double getWorldY() {
+      return chunkY * CHUNK_BLOCKS;
+    }
+  }
+
+  /**
+   * Where a static entity was, and what it looked like, when it was last drawn
+   */
+  private static class StaticTile {
+
+    private final List<Chunk> chunks = new ArrayList<>();
+    private double x;
+    private double y;
+    private String type;
+    private long frame;
+
+    private StaticTile(String type, double x, double y) {
+      update(type, x, y);
+    }
+
+    private void update(String newType, double newX, double newY) {
+      type = newType;
+      x = newX;
+      y = newY;
+    }
+  }
+}
@@ -0,0 +1,123 @@
+package view;
+
+import java.util.HashMap;
+import java.util.Map;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+
+/**
+ * This class packs every texture of a theme into one image, with every texture already scaled to
+ * the size of a tile on screen. Renderers draw a texture by drawing its region of the atlas at its
+ * natural size, so nothing has to be scaled while drawing, and every entity is drawn from the same
+ * image.
+ *
+ * Textures are laid out in a square grid of tiles. The last tile is a black texture that is used
+ * for any entity type the theme has no texture for, and the tile of a texture that has not been
+ * decoded (yet) is black too. An atlas only fits one tile size - when the screen is divided into a
+ * different number of blocks, a new atlas has to be built.
+ */
+public class TextureAtlas {
+
+  private static final int OPAQUE_BLACK = 0xFF000000;
+
+  private final WritableImage atlas;
+  private final Map<String, Rectangle2D> regions = new HashMap<>();
+  private final Rectangle2D missingRegion;
+  private final int tileWidth;
+  private final int tileHeight;
+
+  /**
+   * Builds an atlas out of textures that have already been decoded at the given tile size
+   *
+   * @param typeToTexture maps each entity type to its texture, or to null if it has none yet
+   * @param tileWidth     the width of every texture, in pixels
+   * @param tileHeight    the height of every texture, in pixels
+   */
+  public TextureAtlas(Map<String, Image> typeToTexture, int tileWidth, int tileHeight) {
+    this.tileWidth = tileWidth;
+    this.tileHeight = tileHeight;
+    int tileCount = typeToTexture.size() + 1;
+    int columns = (int) Math.ceil(Math.sqrt(tileCount));
+    int rows = (int) Math.ceil((double) tileCount / columns);
+    atlas = new WritableImage(columns * tileWidth, rows * tileHeight);
+    PixelWriter writer = atlas.getPixelWriter();
+
+    int tile = 0;
+    for (Map.Entry<String, Image> texture : typeToTexture.entrySet()) {
+      Rectangle2D region = regionOfTile(tile++, columns);
+      regions.put(texture.getKey(), region);
+      PixelReader reader = texture.getValue() == null ? null
+          : texture.getValue().getPixelReader();
+      if (reader == null) {
+        fillBlack(writer, region);
+      } else {
+        writer.setPixels((int) region.getMinX(), (int) region.getMinY(), tileWidth, tileHeight,
+            reader, 0, 0);
+      }
+    }
+    missingRegion = regionOfTile(tile, columns);
+    fillBlack(writer, missingRegion);
+  }
+
+  /**
+   * Works out the whole number of pixels an atlas tile needs to cover a tile on screen
+   *
+   * @param tileSize the size of a tile on screen, in pixels (which may be fractional)
+   * @return the size of an atlas tile, in pixels, which is 1 if the tile has no finite size yet
+   */
+  public static int toAtlasTileSize(double tileSize) {
+    if (!Double.isFinite(tileSize)) {
+      return 1;
+    }
+    return Math.max(1, (int) Math.ceil(tileSize));
+  }
+
+  /**
+   * @return the image holding every texture
+   */
+  public Image getImage() {
+    return atlas;
+  }
+
+  /**
+   * Finds where the texture of an entity type is in the atlas
+   *
+   * @param type the type of an entity (see IEntity.getType)
+   * @return the region of the atlas holding that type's texture, or the black texture if the
+   * theme has none for that type
+   */
+  public Rectangle2D getRegion(String type) {
+    Rectangle2D region = regions.get(type);
+    return region == null ? missingRegion : region;
+  }
+
+  /**
+   * @return the width of every texture in the atlas, in pixels
+   */
+  public int getTileWidth() {
+    return tileWidth;
+  }
+
+  /**
+   * @return the height of every texture in the atlas, in pixels
+   */
+  public int getTileHeight() {
+    return tileHeight;
+  }
+
+  private Rectangle2D regionOfTile(int tile, int columns) {
+    return new Rectangle2D((tile % columns) * tileWidth, (tile / columns) * tileHeight, tileWidth,
+        tileHeight);
+  }
+
+  private void fillBlack(PixelWriter writer, Rectangle2D region) {
+    for (int x = 0; x < tileWidth; x++) {
+      for (int y = 0; y < tileHeight; y++) {
+        writer.setArgb((int) region.getMinX() + x, (int) region.getMinY() + y, OPAQUE_BLACK);
+      }
+    }
+  }
+}
@@ -1,24 +1,19 @@
 package view;
 
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
-import java.io.IOException;
-import java.io.InputStream;
+import controller.ImageCache;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Properties;
-import java.util.TreeMap;
+import java.util.Set;
 import javafx.scene.Group;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
-import javafx.scene.image.PixelWriter;
-import javafx.scene.image.WritableImage;
-import javafx.scene.paint.Color;
 import model.HitBox;
+import api.model.IRenderSnapshot;
 import api.model.entity.IEntity;
-import api.view.ITexturer;
 
 
 /**
@@ -26,20 +21,41 @@ import api.view.ITexturer;
  * represent game textures. It is primarily called in GameView's update method which uses a Texturer
  * object to update all of the textures displayed to the screen.
  *
+ * The Texturer works in retained mode: every live entity keeps the same ImageView from frame to
+ * frame (tracked in an identity map), and a view is only repositioned when its entity's HitBox has
+ * moved. Views are only added to or removed from textureGroup when entities spawn or despawn, and
+ * the ImageViews of despawned entities go back to a pool for the next entity that spawns. Views are
+ * placed at their world position and the camera is applied by translating textureGroup as a whole,
+ * so scrolling does not touch individual views.
+ *
+ * With the static layer turned on, static entities get no views of their own. They are drawn into
+ * chunk images by a StaticTileLayer instead, and each chunk on screen is shown by one ImageView in
+ * a group that sits beneath every other view.
+ *
+ * Views are placed where an IRenderSnapshot has their entities, so the entities themselves are only
+ * used to tell views apart from one frame to the next.
+ *
+ * Every view shows the same TextureAtlas image through a viewport onto its entity's texture, at
+ * the texture's natural size, so JavaFX never has to scale a texture while rendering.
+ *
  * @author Alex Lu
  */
-public class Texturer implements ITexturer {
-
-  private Map<String, ImageView> textureMap;
-  private final Group textureGroup;
-  private final double WIDTH;
-  private final double HEIGHT;
-  private final Image MISSING_IMAGE;
-  private double numBlocksWide;
-  private double numBlocksHigh;
-  private final String path;
+public class Texturer extends AbstractTexturer {
 
-  private static final String FILEPATH_START = "resources/images/texturefiles/";
+  private double tileWidth;
+  private double tileHeight;
+  private boolean tileSizeChanged;
+  private TextureAtlas atlas;
+  private boolean atlasChanged;
+  private long frame;
+  private final Map<IEntity, EntityView> entityViews = new IdentityHashMap<>();
+  private final ArrayDeque<EntityView> viewPool = new ArrayDeque<>();
+  private final List<ImageView> spawnedViews = new ArrayList<>();
+  private final Set<ImageView> despawnedViews = Collections.newSetFromMap(new IdentityHashMap<>());
+  private final Group staticGroup = new Group();
+  private Map<StaticTileLayer.Chunk, ImageView> chunkViews = new IdentityHashMap<>();
+  // always empty between frames; swapped with chunkViews so updating them allocates no map
+  private Map<StaticTileLayer.Chunk, ImageView> spareChunkViews = new IdentityHashMap<>();
 
   /**
    * Constructs a new Texturer object
@@ -51,117 +67,67 @@ public class Texturer implements ITexturer {
    * @param tGroup   the Group that will contain the textures
    */
   public Texturer(double w, double h, String filepath, Group tGroup) {
-    WIDTH = w;
-    HEIGHT = h;
-    textureGroup = tGroup;
-    path = filepath;
-
-    MISSING_IMAGE = buildMissingImage(1, 1);
-
-    List<ImageView> viewList = buildViewList(FILEPATH_START + path);
-    constructTextureMap(viewList);
+    this(w, h, filepath, tGroup, ImageCache.getShared());
   }
 
   /**
-   * Builds a list of ImageViews from a properties file
+   * Constructs a new Texturer object that loads its textures through imageCache
    *
-   * @param propertiesPath the filepath leading to the .properties file
+   * @param w          the WIDTH of the screen
+   * @param h          the HEIGHT of the screen
+   * @param filepath   the filepath leading to the file containing the texture data
+   * @param tGroup     the Group that will contain the textures
+   * @param imageCache the cache that decodes and holds the textures
    */
-  @Override
-  public List<ImageView> buildViewList(String propertiesPath) {
-    List<ImageView> viewList = new ArrayList<>();
-
-    try {
-      Map<String, String> idToFilepathMap = buildPropertiesMap(propertiesPath);
-      for (String id : idToFilepathMap.keySet()) {
-        String value = idToFilepathMap.get(id);
-        viewList.add(buildImageView(id, value));
-      }
-      return viewList;
-    } catch (Exception e) {
-      return new ArrayList<>();
-    }
-  }
+  public Texturer(double w, double h, String filepath, Group tGroup, ImageCache imageCache) {
+    super(w, h, filepath, tGroup, imageCache);
 
-  /**
-   * Builds a TreeMap based on a properties file
-   *
-   * @param propertiesPath the String path leading to the .properties file
-   * @return a new Map of properties
-   * @throws IOException ioe
-   */
-  @Override
-  public TreeMap buildPropertiesMap(String propertiesPath) throws IOException,
-      NullPointerException {
-    Properties properties = new Properties();
-    InputStream stream = getClass().getClassLoader().getResourceAsStream(propertiesPath);
-    properties.load(stream);
-    return new TreeMap(properties);
-  }
-
-  /**
-   * Constructs an ImageView with ID of id and Image from filepath
-   *
-   * @param id       the id to give the ImageView
-   * @param filepath the filepath leading to the correct image
-   * @return a new ImageView
-   */
-  @Override
-  public ImageView buildImageView(String id, String filepath) {
-    ImageView view = new ImageView();
-    view.setId(id);
-
-    try {
-      Image image = new Image(new FileInputStream(filepath));
-      view.setImage(image);
-    } catch (FileNotFoundException fnfe) {
-      view.setImage(MISSING_IMAGE);
-    }
-
-    return view;
-  }
-
-  /**
-   * Builds the map String ids -> ImageViews
-   *
-   * @param viewList the List<ImageView> to build the map on top of
-   */
-  @Override
-  public void constructTextureMap(List<ImageView> viewList) {
-    textureMap = new HashMap<>();
-    viewList.forEach(view -> textureMap.put(view.getId(), view));
+    // a previous texturer may have left its views (or its canvas) in the group
+    clearCurrentTextures();
   }
 
   /**
-   * Updates the textures
+   * Moves the camera to the current offsets and brings the views up to date with snapshot
    *
-   * @param entityList the list of Entities to be textured
+   * @param snapshot   the entities to be textured
+   * @param blocksWide the number of blocks the screen is wide
+   * @param blocksHigh the number of blocks the screen is high
    */
   @Override
-  public void updateTextures(List<IEntity> entityList, double blocksWide, double blocksHigh) {
-    numBlocksWide = blocksWide;
-    numBlocksHigh = blocksHigh;
+  protected void drawSnapshot(IRenderSnapshot snapshot, double blocksWide, double blocksHigh) {
+    setBlocksOnScreen(blocksWide, blocksHigh);
+    updateTileSize(getTileWidth(), getTileHeight());
+    getTextureGroup().setTranslateX(-getXOffset() * tileWidth);
+    getTextureGroup().setTranslateY(-getYOffset() * tileHeight);
 
-    clearCurrentTextures();
-    insertNewTextures(entityList);
+    insertSnapshot(snapshot);
   }
 
   /**
-   * Clears the textures out from textureGroup
+   * Clears the textures out from textureGroup, returning every view to the pool
    */
   @Override
   public void clearCurrentTextures() {
-    textureGroup.getChildren().clear();
+    getTextureGroup().getChildren().clear();
+    entityViews.values().forEach(this::releaseView);
+    entityViews.clear();
+    staticGroup.getChildren().clear();
+    chunkViews.clear();
+    if (getStaticLayer() != null) {
+      getTextureGroup().getChildren().add(staticGroup);
+    }
   }
 
   /**
-   * Inserts the new textures into textureGroup
+   * Brings textureGroup up to date with entityList: entities that are new get a view from the
+   * pool, entities that moved get their view moved, and the views of entities that are no longer
+   * in entityList are removed and returned to the pool
    *
    * @param entityList the entity list for whom we'll be applying the textures
    */
   @Override
   public void insertNewTextures(List<IEntity> entityList) {
-    entityList.forEach(entity -> addNewTexture(entity));
+    insertSnapshot(toSnapshot(entityList));
   }
 
   /**
@@ -171,16 +137,14 @@ public class Texturer implements ITexturer {
    */
   @Override
   public void addNewTexture(IEntity currentEntity) {
-    Image image;
-    try {
-      image = textureMap.get(currentEntity.getType()).getImage();
-    } catch (NullPointerException npe) {
-      image = MISSING_IMAGE;
+    updateAtlas();
+    if (!entityViews.containsKey(currentEntity)) {
+      HitBox hitBox = currentEntity.getHitBox();
+      EntityView entityView = bindView(currentEntity, currentEntity.getType(), hitBox.getXLeft(),
+          hitBox.getYTop());
+      entityView.frame = frame;
+      getTextureGroup().getChildren().add(entityView.view);
     }
-
-    ImageView view = new ImageView(image);
-    placeLocationOfView(currentEntity, view);
-    textureGroup.getChildren().add(view);
   }
 
   /**
@@ -193,43 +157,183 @@ public class Texturer implements ITexturer {
   @Override
   public void placeLocationOfView(IEntity currentEntity, ImageView view) {
     HitBox hitBox = currentEntity.getHitBox();
+    double screenX = hitBox.getXLeft() - getXOffset();
+    double screenY = hitBox.getYTop() - getYOffset();
 
-    view.setX(hitBox.getXLeft() * WIDTH / numBlocksWide);
-    view.setY(hitBox.getYTop() * HEIGHT / numBlocksHigh);
-    view.setFitWidth(WIDTH / numBlocksWide);
-    view.setFitHeight(HEIGHT / numBlocksHigh);
-    view.setId(
-        currentEntity.getType() + "x" + (int) hitBox.getXLeft() + "y" + (int) hitBox.getYTop());
+    view.setX(hitBox.getXLeft() * tileWidth);
+    view.setY(hitBox.getYTop() * tileHeight);
+    view.setFitWidth(tileWidth);
+    view.setFitHeight(tileHeight);
+    view.setId(currentEntity.getType() + "x" + (int) screenX + "y" + (int) screenY);
   }
 
-  /**
-   * Builds an image of width x height filled with black pixels
-   *
-   * @param height the height of the image to be drawn
-   * @param width  the width of the image to be drawn
-   * @return an image filled in all block
-   */
-  @Override
-  public Image buildMissingImage(double width, double height) {
-    WritableImage filler = new WritableImage((int) width, (int) height);
-    PixelWriter writer = filler.getPixelWriter();
+  // gives every entity in snapshot a view that shows it where the snapshot has it
+  private void insertSnapshot(IRenderSnapshot snapshot) {
+    updateAtlas();
+    frame++;
+    StaticTileLayer staticLayer = getStaticLayer();
+    if (staticLayer != null) {
+      staticLayer.beginFrame(atlas, tileWidth, tileHeight);
+    }
+    for (int index = 0; index < snapshot.getEntityCount(); index++) {
+      IEntity entity = snapshot.getEntity(index);
+      String type = snapshot.getType(index);
+      double x = snapshot.getX(index);
+      double y = snapshot.getY(index);
+      if (staticLayer != null && staticLayer.isStatic(type)) {
+        staticLayer.track(entity, type, x, y);
+        continue;
+      }
+      EntityView entityView = entityViews.get(entity);
+      if (entityView == null) {
+        entityView = bindView(entity, type, x, y);
+        spawnedViews.add(entityView.view);
+      } else {
+        updateView(entityView, type, x, y);
+      }
+      entityView.frame = frame;
+    }
+    removeDespawnedViews();
+    if (staticLayer != null) {
+      staticLayer.endFrame(getXOffset(), getYOffset(), getBlocksWide(), getBlocksHigh());
+      updateChunkViews(staticLayer);
+    }
+
+    if (!spawnedViews.isEmpty()) {
+      getTextureGroup().getChildren().addAll(spawnedViews);
+      spawnedViews.clear();
+    }
+    tileSizeChanged = false;
+    atlasChanged = false;
+  }
+
+  // takes a view out of the pool (or makes one) and textures and places it for entity
+  private EntityView bindView(IEntity entity, String type, double x, double y) {
+    EntityView entityView = viewPool.isEmpty() ? new EntityView() : viewPool.pop();
+    entityView.type = type;
+    applyTexture(entityView);
+    placeView(entityView, x, y);
+    entityViews.put(entity, entityView);
+    return entityView;
+  }
 
-    for (int horizontal = 0; horizontal < width; horizontal += 1) {
-      for (int vertical = 0; vertical < height; vertical += 1) {
-        writer.setColor(horizontal, vertical, Color.BLACK);
+  // moves, resizes or retextures an existing view only if something about its entity changed
+  private void updateView(EntityView entityView, String type, double x, double y) {
+    boolean typeChanged = !type.equals(entityView.type);
+    if (atlasChanged || typeChanged) {
+      entityView.type = type;
+      applyTexture(entityView);
+    }
+    if (tileSizeChanged || x != entityView.worldX || y != entityView.worldY) {
+      placeView(entityView, x, y);
+    } else {
+      updateId(entityView, typeChanged);
+    }
+  }
+
+  private void placeView(EntityView entityView, double x, double y) {
+    entityView.worldX = x;
+    entityView.worldY = y;
+    entityView.view.setX(entityView.worldX * tileWidth);
+    entityView.view.setY(entityView.worldY * tileHeight);
+    entityView.view.setFitWidth(atlas.getTileWidth());
+    entityView.view.setFitHeight(atlas.getTileHeight());
+    updateId(entityView, false);
+  }
+
+  // points the view at its entity type's texture in the atlas
+  private void applyTexture(EntityView entityView) {
+    entityView.view.setImage(atlas.getImage());
+    entityView.view.setViewport(atlas.getRegion(entityView.type));
+  }
+
+  // ids name the screen cell an entity is in, so they are only rebuilt when that cell (or the
+  // entity's type) changes
+  private void updateId(EntityView entityView, boolean typeChanged) {
+    int screenX = (int) (entityView.worldX - getXOffset());
+    int screenY = (int) (entityView.worldY - getYOffset());
+    if (typeChanged || entityView.view.getId() == null || screenX != entityView.screenX
+        || screenY != entityView.screenY) {
+      entityView.screenX = screenX;
+      entityView.screenY = screenY;
+      entityView.view.setId(entityView.type + "x" + screenX + "y" + screenY);
+    }
+  }
+
+  // shows every chunk near the screen with one view each, and drops the views of the rest
+  private void updateChunkViews(StaticTileLayer staticLayer) {
+    Map<StaticTileLayer.Chunk, ImageView> previousViews = chunkViews;
+    chunkViews = spareChunkViews;
+    spareChunkViews = previousViews;
+    for (StaticTileLayer.Chunk chunk : staticLayer.getVisibleChunks()) {
+      ImageView chunkView = previousViews.remove(chunk);
+      if (chunkView == null) {
+        chunkView = new ImageView();
+        staticGroup.getChildren().add(chunkView);
+      }
+      if (chunkView.getImage() != chunk.getImage()) {
+        chunkView.setImage(chunk.getImage());
       }
+      chunkView.setX(chunk.getWorldX() * tileWidth);
+      chunkView.setY(chunk.getWorldY() * tileHeight);
+      chunkViews.put(chunk, chunkView);
+    }
+    if (!previousViews.isEmpty()) {
+      staticGroup.getChildren().removeAll(previousViews.values());
+      previousViews.clear();
+    }
+  }
+
+  // removes the views of every entity that was not in the latest entity list in one batch
+  private void removeDespawnedViews() {
+    Iterator<EntityView> iterator = entityViews.values().iterator();
+    while (iterator.hasNext()) {
+      EntityView entityView = iterator.next();
+      if (entityView.frame != frame) {
+        iterator.remove();
+        despawnedViews.add(entityView.view);
+        releaseView(entityView);
+      }
+    }
+    if (!despawnedViews.isEmpty()) {
+      getTextureGroup().getChildren().removeAll(despawnedViews);
+      despawnedViews.clear();
     }
+  }
 
-    return filler;
+  private void releaseView(EntityView entityView) {
+    entityView.view.setId(null);
+    entityView.type = null;
+    viewPool.push(entityView);
+  }
+
+  private void updateAtlas() {
+    TextureAtlas currentAtlas = getAtlas();
+    if (currentAtlas != atlas) {
+      atlas = currentAtlas;
+      atlasChanged = true;
+      tileSizeChanged = true;
+    }
+  }
+
+  private void updateTileSize(double newTileWidth, double newTileHeight) {
+    if (newTileWidth != tileWidth || newTileHeight != tileHeight) {
+      tileWidth = newTileWidth;
+      tileHeight = newTileHeight;
+      tileSizeChanged = true;
+    }
   }
 
   /**
-   * For testing - return the String filepath leading to the file generating the textures
-   *
-   * @return path
+   * The ImageView that shows one entity, along with what it was last drawn with
    */
-  @Override
-  public String getPath() {
-    return path;
+  private static class EntityView {
+    private final ImageView view = new ImageView();
+    private String type;
+    private double worldX;
+    private double worldY;
+    private int screenX;
+    private int screenY;
+    private long frame;
   }
 }
@@ -0,0 +1,67 @@
+package view;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+import javafx.scene.Group;
+import api.view.ITexturer;
+
+/**
+ * This class's job is to build the right kind of ITexturer for a textures .properties file.
+ *
+ * By default textures are drawn by a Texturer, which keeps one ImageView per entity in the scene
+ * graph. A textures file can instead ask for a CanvasTexturer, which draws every entity onto a
+ * single Canvas, by including the line
+ *
+ *   renderer=canvas
+ *
+ * which suits game modes that put thousands of sprites on screen at once. Texturers built here
+ * draw static entities through a StaticTileLayer.
+ */
+public class TexturerFactory {
+
+  public static final String SCENE_GRAPH_RENDERER = "scenegraph";
+  public static final String CANVAS_RENDERER = "canvas";
+
+  /**
+   * Builds the ITexturer named by the renderer key of a textures file
+   *
+   * @param w        the WIDTH of the screen
+   * @param h        the HEIGHT of the screen
+   * @param filepath the filepath leading to the file containing the texture data
+   * @param tGroup   the Group that will contain the textures
+   * @return a CanvasTexturer if the file asks for one, and a Texturer otherwise, either way with
+   * its static layer turned on
+   */
+  public ITexturer buildTexturer(double w, double h, String filepath, Group tGroup) {
+    AbstractTexturer texturer;
+    if (CANVAS_RENDERER.equals(findRenderer(filepath))) {
+      texturer = new CanvasTexturer(w, h, filepath, tGroup);
+    } else {
+      texturer = new Texturer(w, h, filepath, tGroup);
+    }
+    texturer.setStaticLayerEnabled(true);
+    return texturer;
+  }
+
+  /**
+   * Reads which renderer a textures file asks for
+   *
+   * @param filepath the filepath leading to the file containing the texture data
+   * @return the value of the renderer key, or SCENE_GRAPH_RENDERER if the file has none or cannot
+   * be read
+   */
+  public String findRenderer(String filepath) {
+    Properties properties = new Properties();
+    try (InputStream stream = getClass().getClassLoader()
+        .getResourceAsStream(AbstractTexturer.FILEPATH_START + filepath)) {
+      if (stream == null) {
+        return SCENE_GRAPH_RENDERER;
+      }
+      properties.load(stream);
+    } catch (IOException e) {
+      return SCENE_GRAPH_RENDERER;
+    }
+    return properties.getProperty(AbstractTexturer.RENDERER_KEY, SCENE_GRAPH_RENDERER).trim();
+  }
+}
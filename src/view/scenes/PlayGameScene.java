@@ -1,5 +1,8 @@
 package view.scenes;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import javafx.application.Platform;
 import javafx.scene.Group;
 import javafx.scene.control.TextField;
 import javafx.scene.input.KeyCode;
@@ -16,6 +19,10 @@ import api.view.scenes.IPlayGameScene;
 /**
  * Builds the scene that displays when the user is playing a game
  *
+ * Saving the level and resetting it after a score is entered are handed to a level worker (see
+ * setLevelWorker), so they can run on the thread that steps the level rather than on the
+ * application thread. The level keeps saving until that work is done.
+ *
  * @author Alex Lu & Edem Ahorlu
  */
 public class PlayGameScene extends GameScene implements IPlayGameScene {
@@ -37,6 +44,9 @@ public class PlayGameScene extends GameScene implements IPlayGameScene {
   private String scorePath;
   private TextField scoreField;
   private TextField saveField;
+  private Function<Runnable, CompletableFuture<Void>> levelWorker =
+      work -> CompletableFuture.runAsync(work, Runnable::run);
+  private boolean isFinishing;
 
   /**
    * Constructs a new PlayGameScene object
@@ -79,6 +89,17 @@ public class PlayGameScene extends GameScene implements IPlayGameScene {
 
   }
 
+  /**
+   * Sets what runs the work this scene does to the level, which by default runs it straight away
+   * on the calling thread
+   *
+   * @param worker runs the given work on the level and returns a future that completes once it
+   *               has, or with what it threw
+   */
+  public void setLevelWorker(Function<Runnable, CompletableFuture<Void>> worker) {
+    levelWorker = worker;
+  }
+
   /**
    * Makes the group node that will hold the textures
    */
@@ -157,6 +178,9 @@ public class PlayGameScene extends GameScene implements IPlayGameScene {
    * Tries to save using the file name given
    */
   private void attemptSave() {
+    if (isFinishing) {
+      return;
+    }
     if (checkIsValidText(saveField.getText())) {
       finalizeSave();
     } else {
@@ -189,11 +213,12 @@ public class PlayGameScene extends GameScene implements IPlayGameScene {
    * Finishes the saving
    */
   private void finalizeSave() {
-    IGameSaver saver = new GameSaver(currentLevel);
-    saver.writeNewLevelCSVFileWithChecks(SAVE_FILEPATH + saveField.getText() + CSV_EXTENSION);
-
-    clearFields();
-    currentLevel.setIsSaving(false);
+    Level level = currentLevel;
+    String path = SAVE_FILEPATH + saveField.getText() + CSV_EXTENSION;
+    finishLevelWork(() -> {
+      IGameSaver saver = new GameSaver(level);
+      saver.writeNewLevelCSVFileWithChecks(path);
+    }, this::clearFields, "FINAL_SCORE_ERROR");
   }
 
   /**
@@ -203,6 +228,9 @@ public class PlayGameScene extends GameScene implements IPlayGameScene {
    */
   @Override
   public void attemptScoreSave(KeyEvent key) {
+    if (isFinishing) {
+      return;
+    }
     if (key.getCode().equals(KeyCode.ENTER) && checkIsValidText(scoreField.getText())) {
       finalizeScoreSave();
     } else if (key.getCode().equals(KeyCode.ENTER)) {
@@ -223,11 +251,40 @@ public class PlayGameScene extends GameScene implements IPlayGameScene {
       updateErrorText(getValueFromBundle("FINAL_SCORE_ERROR"));
     }
 
-    clearFields();
-    currentLevel.setIsSaving(false);
-    currentLevel.reinitialize();
-    pauseLevel();
-    updateErrorText(getValueFromBundle("RestartInstructions"));
+    // the level is not stepped while it is saving, so reset it before it stops saving
+    finishLevelWork(currentLevel::reinitialize, () -> {
+      pauseLevel();
+      clearFields();
+      updateErrorText(getValueFromBundle("RestartInstructions"));
+    }, "RESET_LEVEL_ERROR");
+  }
+
+  /**
+   * Hands work on the level to the level worker, then, back on the application thread, runs
+   * whatever is left to do and lets the level stop saving
+   *
+   * @param work     what to do to the level while it is saving
+   * @param whenDone what to do on the application thread once work is done
+   * @param errorKey the key of the error text to show if work fails
+   */
+  private void finishLevelWork(Runnable work, Runnable whenDone, String errorKey) {
+    isFinishing = true;
+    levelWorker.apply(work).whenComplete((done, failure) -> runOnApplicationThread(() -> {
+      isFinishing = false;
+      whenDone.run();
+      if (failure != null) {
+        updateErrorText(getValueFromBundle(errorKey));
+      }
+    }));
+  }
+
+  // runs straight away if already on the application thread, as it is when the worker is inline
+  private void runOnApplicationThread(Runnable runnable) {
+    if (Platform.isFxApplicationThread()) {
+      runnable.run();
+    } else {
+      Platform.runLater(runnable);
+    }
   }
 
   /**
@@ -0,0 +1,99 @@
+package controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import javafx.scene.image.Image;
+import util.DukeApplicationTest;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Tests the ImageCache class
+ */
+public class ImageCacheTest extends DukeApplicationTest {
+
+  private static final String FOLDER = "src/resources/images/gametextures/mario/";
+  private static final String BLOCK = FOLDER + "barrierblockbrown.png";
+  private static final String GOAL = FOLDER + "goal.png";
+  private static final String BEETLE = FOLDER + "beetle.png";
+  // room for exactly two 10x10 images
+  private static final long TWO_IMAGES = 2 * 10 * 10 * 4;
+
+  /**
+   * Tests that an image is decoded once and then served from the cache, per requested size
+   */
+  @Test
+  public void testCachesByPathAndSize() {
+    ImageCache cache = new ImageCache(ImageCache.DEFAULT_CAPACITY_BYTES, Runnable::run);
+    Image image = cache.get(BLOCK, 10, 10);
+    assertNotNull(image);
+    assertSame(image, cache.get(BLOCK, 10, 10));
+    assertNotSame(image, cache.get(BLOCK, 20, 20));
+    assertEquals(2, cache.getImageCount());
+    assertNull(cache.get(FOLDER + "missing.png", 10, 10));
+    assertEquals(2, cache.getImageCount());
+  }
+
+  /**
+   * Tests that the least recently used image is evicted once the cache is over capacity
+   */
+  @Test
+  public void testEvictsLeastRecentlyUsed() {
+    ImageCache cache = new ImageCache(TWO_IMAGES, Runnable::run);
+    cache.get(BLOCK, 10, 10);
+    cache.get(GOAL, 10, 10);
+    cache.get(BLOCK, 10, 10);
+    cache.get(BEETLE, 10, 10);
+
+    assertEquals(TWO_IMAGES, cache.getSizeInBytes());
+    assertNotNull(cache.getIfLoaded(BLOCK, 10, 10));
+    assertNull(cache.getIfLoaded(GOAL, 10, 10));
+    assertNotNull(cache.getIfLoaded(BEETLE, 10, 10));
+  }
+
+  /**
+   * Tests that loading returns before decoding, and that requests for an image that is still
+   * decoding share one decode
+   */
+  @Test
+  public void testDecodesInBackground() {
+    List<Runnable> decodes = new ArrayList<>();
+    ImageCache cache = new ImageCache(ImageCache.DEFAULT_CAPACITY_BYTES, decodes::add);
+    CompletableFuture<Image> first = cache.load(BLOCK, 10, 10);
+    CompletableFuture<Image> second = cache.load(BLOCK, 10, 10);
+    assertFalse(first.isDone());
+    assertSame(first, second);
+    assertEquals(1, decodes.size());
+    assertNull(cache.getIfLoaded(BLOCK, 10, 10));
+
+    decodes.get(0).run();
+    assertTrue(first.isDone());
+    assertSame(first.join(), cache.getIfLoaded(BLOCK, 10, 10));
+  }
+
+  /**
+   * Tests that a decode that throws still completes with null, and is tried again next time
+   */
+  @Test
+  public void testDecodeThatThrowsCompletes()
+      throws InterruptedException, ExecutionException, TimeoutException {
+    ExecutorService decoder = Executors.newSingleThreadExecutor();
+    try {
+      ImageCache cache = new ImageCache(ImageCache.DEFAULT_CAPACITY_BYTES, decoder);
+      CompletableFuture<Image> failed = cache.load(null, 10, 10);
+      assertNull(failed.get(5, TimeUnit.SECONDS));
+      assertNotSame(failed, cache.load(null, 10, 10));
+      assertEquals(0, cache.getImageCount());
+    } finally {
+      decoder.shutdownNow();
+    }
+  }
+}
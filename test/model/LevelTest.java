@@ -3,8 +3,12 @@ package model;
 import static org.junit.jupiter.api.Assertions.*;
 
 import javafx.stage.Stage;
+import java.util.List;
 import model.configuration.*;
+import model.entity.Block;
+import model.entity.Enemy;
 import model.entity.Player;
+import api.model.entity.IEntity;
 import api.model.configuration.IGameConfiguration;
 import org.junit.jupiter.api.Test;
 import util.DukeApplicationTest;
@@ -59,4 +63,89 @@ public class LevelTest extends DukeApplicationTest {
       assertEquals(DEFAULTX, player.getHitBox().getXLeft());
       assertEquals(DEFAULTY, player.getHitBox().getYTop());
     }
-}
\ No newline at end of file
+
+  /**
+   * Tests that checking collisions through the broadphase moves every entity exactly the same way
+   * as checking every movable entity against every entity in the level
+   */
+  @Test
+  public void testBroadphaseMatchesBruteForce() throws InvalidFileException {
+    IGameConfiguration game = new GameConfiguration("doodlejump.properties");
+    EntityFactory factory = new EntityFactory();
+    factory.updatePlayerMapping("DoodlePlayer");
+    Level bruteForceLevel = new Level(new LevelLoader(game.getLevelFile(), factory));
+    bruteForceLevel.setBroadphaseEnabled(false);
+
+    for (Level current : new Level[]{level, bruteForceLevel}) {
+      for (int index = 0; index < 10; index++) {
+        current.addEntity(new Enemy(2 + index * 0.7, 3));
+        current.addEntity(new Block(2 + index, 4.5));
+      }
+    }
+
+    for (int tick = 0; tick < 120; tick++) {
+      level.checkCollisions();
+      level.updatePositions();
+      bruteForceLevel.checkCollisions();
+      bruteForceLevel.updatePositions();
+    }
+
+    List<IEntity> expected = bruteForceLevel.getCopyOfEntityList();
+    List<IEntity> actual = level.getCopyOfEntityList();
+    assertEquals(expected.size(), actual.size());
+    for (int index = 0; index < expected.size(); index++) {
+      assertEquals(expected.get(index).getHitBox().getXLeft(), actual.get(index).getHitBox().getXLeft());
+      assertEquals(expected.get(index).getHitBox().getYTop(), actual.get(index).getHitBox().getYTop());
+    }
+  }
+
+  /**
+   * Tests that only entities on screen (or within the margin) are handed to the renderer, in
+   * level order, and that the culled entities are counted
+   */
+  @Test
+  public void testEntitiesInView() {
+    Block farAway = new Block(100, 4);
+    Block justOffScreen = new Block(15.5, 4);
+    level.addEntity(farAway);
+    level.addEntity(justOffScreen);
+    int total = level.getAllEntities().size();
+
+    List<IEntity> inView = level.getEntitiesInView(15, 15);
+    assertFalse(inView.contains(farAway));
+    assertTrue(inView.contains(justOffScreen));
+    assertTrue(inView.contains(level.getPlayerList().get(0)));
+    assertEquals(inView.size(), level.getDrawnEntityCount());
+    assertEquals(total - inView.size(), level.getCulledEntityCount());
+
+    List<IEntity> allEntities = level.getAllEntities();
+    for (int index = 1; index < inView.size(); index++) {
+      assertTrue(allEntities.indexOf(inView.get(index - 1)) < allEntities.indexOf(inView.get(index)));
+    }
+
+    level.getCamera().scroll(-90, 0);
+    assertTrue(level.getEntitiesInView(15, 15).contains(farAway));
+    assertFalse(level.getEntitiesInView(15, 15).contains(justOffScreen));
+  }
+
+  /**
+   * Tests that a step saves where the player was before it moved, and that the length of a step
+   * follows the tick rate
+   */
+  @Test
+  public void testStepSavesPreviousPosition() {
+    Player player = level.getPlayerList().get(0);
+    player.setXVel(PLAYER_XVEL);
+    double startX = player.getHitBox().getXLeft();
+    level.step();
+
+    assertEquals(startX, player.getHitBox().getPreviousXLeft());
+    assertEquals(1, level.getTimeScale());
+    assertEquals(1.0 / Level.FRAMES_PER_SECOND, level.getTickSeconds());
+
+    level.setTicksPerSecond(Level.FRAMES_PER_SECOND * 2);
+    assertEquals(0.5, level.getTimeScale());
+    level.setTicksPerSecond(0);
+    assertEquals(Level.FRAMES_PER_SECOND * 2, level.getTicksPerSecond());
+  }
+}
@@ -3,6 +3,11 @@ package model.autogenerator;
 import static org.junit.jupiter.api.Assertions.*;
 
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import javafx.stage.Stage;
 import org.junit.jupiter.api.Test;
 import util.DukeApplicationTest;
@@ -15,6 +20,8 @@ public class AutoGeneratorTest extends DukeApplicationTest{
   private static final double NUM_ROWS = 10;
   private static final double NUM_COLS = 15;
   private static final String TEST_FILEPATH = "testauto.xml";
+  private static final long SEED = 20201213;
+  private static final int CHUNKS = 20;
 
   private AutoGenerator generator;
   private String[][] generation;
@@ -87,6 +94,46 @@ public class AutoGeneratorTest extends DukeApplicationTest{
     assertEquals(6, numR);
   }
 
+  /**
+   * Tests that two AutoGenerators with the same seed generate the same chunks, and that chunk k
+   * can be regenerated on its own
+   */
+  @Test
+  public void testSeedReproducesChunks() {
+    AutoGenerator first = new AutoGenerator(TEST_FILEPATH, SEED);
+    AutoGenerator second = new AutoGenerator(TEST_FILEPATH, SEED);
+    List<String[][]> chunks = new ArrayList<>();
+    for (int chunk = 0; chunk < CHUNKS; chunk += 1) {
+      chunks.add(first.generateNextBlock());
+      assertArrayEquals(chunks.get(chunk), second.generateNextBlock());
+    }
+    assertEquals(SEED, first.getSeed());
+    assertArrayEquals(chunks.get(CHUNKS - 1), first.generateBlock(CHUNKS - 1));
+    assertArrayEquals(chunks.get(0), new AutoGenerator(TEST_FILEPATH, SEED).generateBlock(0));
+  }
+
+  /**
+   * Tests that chunks generated on several threads at once match the ones generated in order
+   */
+  @Test
+  public void testConcurrentChunksMatch() throws Exception {
+    AutoGenerator seeded = new AutoGenerator(TEST_FILEPATH, SEED);
+    ExecutorService pool = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<String[][]>> futures = new ArrayList<>();
+      for (int chunk = 0; chunk < CHUNKS; chunk += 1) {
+        long chunkIndex = chunk;
+        futures.add(pool.submit(() -> seeded.generateBlock(chunkIndex)));
+      }
+      AutoGenerator inOrder = new AutoGenerator(TEST_FILEPATH, SEED);
+      for (Future<String[][]> future : futures) {
+        assertArrayEquals(inOrder.generateNextBlock(), future.get());
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
   /**
    * Tests that when an invalid file path is passed to the AutoGenerator, it throws
    * an exception
@@ -0,0 +1,60 @@
+package model.autogenerator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+import util.DukeApplicationTest;
+
+/**
+ * Tests the ChunkRandom class
+ */
+public class ChunkRandomTest extends DukeApplicationTest {
+
+  private static final long SEED = 1213;
+  private static final int CHUNKS = 64;
+  private static final int DRAWS = 1000;
+
+  @Override
+  public void start(Stage st) {
+
+  }
+
+  /**
+   * Tests that the generator for a chunk depends only on the seed and the index of the chunk
+   */
+  @Test
+  public void testSameChunkSameDraws() {
+    SplittableRandom first = ChunkRandom.forChunk(SEED, 5);
+    SplittableRandom second = ChunkRandom.forChunk(SEED, 5);
+    for (int i = 0; i < DRAWS; i++) {
+      assertEquals(first.nextLong(), second.nextLong());
+    }
+  }
+
+  /**
+   * Tests that no two chunks of a stream, adjacent ones included, draw any of the same values
+   */
+  @Test
+  public void testChunksShareNoDraws() {
+    Set<Long> draws = new HashSet<>();
+    for (long chunk = 0; chunk < CHUNKS; chunk++) {
+      SplittableRandom random = ChunkRandom.forChunk(SEED, chunk);
+      for (int i = 0; i < DRAWS; i++) {
+        assertTrue(draws.add(random.nextLong()));
+      }
+    }
+  }
+
+  /**
+   * Tests that neighbouring seeds do not hand out the same generators at shifted indices
+   */
+  @Test
+  public void testNeighbouringSeedsDiffer() {
+    assertNotEquals(ChunkRandom.forChunk(SEED, 1).nextLong(),
+        ChunkRandom.forChunk(SEED + 1, 0).nextLong());
+  }
+}
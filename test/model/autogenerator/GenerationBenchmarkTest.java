@@ -0,0 +1,48 @@
+package model.autogenerator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+import util.DukeApplicationTest;
+
+/**
+ * Tests the GenerationBenchmark class
+ */
+public class GenerationBenchmarkTest extends DukeApplicationTest {
+
+  private static final int CHUNKS = 200;
+
+  private List<String> files;
+
+  @Override
+  public void start(Stage st) {
+    files = GenerationBenchmark.findFiles(GenerationBenchmark.AUTO_FOLDER);
+  }
+
+  /**
+   * Tests that every automatic generation file is found
+   */
+  @Test
+  public void testFindFiles() {
+    assertTrue(files.contains("automario.xml"));
+    assertTrue(files.contains("testauto.xml"));
+    assertTrue(files.stream().allMatch(file -> file.endsWith(".xml")));
+  }
+
+  /**
+   * Tests that there is one row per file, in file order, with the dimensions of the file
+   */
+  @Test
+  public void testRun() {
+    List<String> chosen = List.of("testauto.xml", "autoflappy.xml");
+    List<String> rows = new GenerationBenchmark(chosen).run(CHUNKS);
+
+    assertEquals(chosen.size(), rows.size());
+    assertTrue(rows.get(0).startsWith("testauto.xml,10,15," + CHUNKS + ","));
+    assertTrue(rows.get(1).startsWith("autoflappy.xml,15,7," + CHUNKS + ","));
+    assertEquals(GenerationBenchmark.TABLE_HEADER.split(",").length,
+        rows.get(0).split(",").length);
+  }
+}
@@ -0,0 +1,78 @@
+package model.autogenerator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+import util.DukeApplicationTest;
+
+/**
+ * Tests the GenerationPlan class
+ */
+public class GenerationPlanTest extends DukeApplicationTest {
+
+  private static final int NUM_ROWS = 6;
+  private static final int NUM_COLS = 8;
+  private static final long SEED = 1213;
+
+  private GenerationPlan plan;
+
+  @Override
+  public void start(Stage st) {
+    ConstantGeneration floor = new ConstantGeneration(NUM_ROWS, NUM_COLS,
+        new String[]{"Constant", "C", "5:5", "*:*"});
+    RandomGeneration platform = new RandomGeneration(NUM_ROWS, NUM_COLS,
+        new String[]{"Random", "R", "RIGHT:DOWN", "2", "U(0:5)", "1", "R(2,3;0.5,0.5)"});
+    plan = new GenerationPlan(NUM_ROWS, NUM_COLS, "D", List.of(floor), List.of(platform));
+  }
+
+  /**
+   * Tests that a chunk has the default entity type everywhere no instruction puts anything, the
+   * constant instructions in place, and a random instruction drawn on top
+   */
+  @Test
+  public void testBuildChunk() {
+    String[][] chunk = plan.buildChunk(new SplittableRandom(SEED));
+
+    assertEquals(NUM_ROWS, chunk.length);
+    assertEquals(NUM_COLS, chunk[0].length);
+    assertEquals("D", chunk[0][0]);
+    for (int column = 0; column < NUM_COLS; column += 1) {
+      assertEquals("C", chunk[5][column]);
+    }
+
+    int randomCount = 0;
+    for (String entityType : chunk[2]) {
+      if (entityType.equals("R")) {
+        randomCount += 1;
+      }
+    }
+    assertTrue(randomCount == 2 || randomCount == 3);
+  }
+
+  /**
+   * Tests that every chunk is a copy of the template, so changing one chunk changes no other
+   */
+  @Test
+  public void testChunksAreIndependent() {
+    String[][] first = plan.buildChunk(new SplittableRandom(SEED));
+    first[0][0] = "X";
+    first[5][0] = "X";
+
+    String[][] second = plan.buildChunk(new SplittableRandom(SEED));
+    assertEquals("D", second[0][0]);
+    assertEquals("C", second[5][0]);
+    assertNotSame(first[1], second[1]);
+  }
+
+  /**
+   * Tests that the same generator builds the same chunk
+   */
+  @Test
+  public void testSameGeneratorSameChunk() {
+    assertArrayEquals(plan.buildChunk(new SplittableRandom(SEED)),
+        plan.buildChunk(new SplittableRandom(SEED)));
+  }
+}
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.SplittableRandom;
 import javafx.stage.Stage;
 import org.junit.jupiter.api.Test;
 import util.DukeApplicationTest;
@@ -17,6 +18,9 @@ public class RandomizerTest extends DukeApplicationTest{
 
   private static final double WIDTH = 800;
   private static final double HEIGHT = 800;
+  private static final long SEED = 1213;
+  private static final int DRAWS = 100000;
+  private static final double TOLERANCE = 0.01;
   private Randomizer randomizer;
 
   @Override
@@ -135,4 +139,72 @@ public class RandomizerTest extends DukeApplicationTest{
         () -> new Randomizer("R(1,2,3;0.2,0.2)"));
   }
 
+  /**
+   * Tests that values are drawn about as often as their probabilities say, including when the
+   * probabilities are far from even
+   */
+  @Test
+  public void testDistribution() {
+    Randomizer randomizer = new Randomizer("R(1,2,3,4;0.70,0.20,0.09,0.01)");
+    double[] expected = {0.70, 0.20, 0.09, 0.01};
+    int[] counts = new int[expected.length];
+    SplittableRandom random = new SplittableRandom(SEED);
+
+    for (int draw = 0; draw < DRAWS; draw += 1) {
+      counts[randomizer.getRandomValue(random) - 1] += 1;
+    }
+
+    for (int index = 0; index < expected.length; index += 1) {
+      assertEquals(expected[index], (double) counts[index] / DRAWS, TOLERANCE);
+    }
+  }
+
+  /**
+   * Tests that probabilities which do not add up to 1 are treated as weights, and that a value
+   * with no probability is never drawn
+   */
+  @Test
+  public void testWeights() {
+    Randomizer randomizer = new Randomizer("R(5,6,7;3,0,1)");
+    int fives = 0;
+    SplittableRandom random = new SplittableRandom(SEED);
+
+    for (int draw = 0; draw < DRAWS; draw += 1) {
+      int value = randomizer.getRandomValue(random);
+      assertNotEquals(6, value);
+      if (value == 5) {
+        fives += 1;
+      }
+    }
+
+    assertEquals(0.75, (double) fives / DRAWS, TOLERANCE);
+  }
+
+  /**
+   * Tests that a randomizer whose probabilities are all 0 always gives back its first value
+   */
+  @Test
+  public void testNoProbability() {
+    Randomizer randomizer = new Randomizer("R(8,9;0,0)");
+    SplittableRandom random = new SplittableRandom(SEED);
+
+    for (int draw = 0; draw < 100; draw += 1) {
+      assertEquals(8, randomizer.getRandomValue(random));
+    }
+  }
+
+  /**
+   * Tests that the same generator draws the same values
+   */
+  @Test
+  public void testSeededDrawsRepeat() {
+    Randomizer randomizer = new Randomizer("R(1,2,3;0.50,0.30,0.20)");
+    SplittableRandom first = new SplittableRandom(SEED);
+    SplittableRandom second = new SplittableRandom(SEED);
+
+    for (int draw = 0; draw < 100; draw += 1) {
+      assertEquals(randomizer.getRandomValue(first), randomizer.getRandomValue(second));
+    }
+  }
+
 }
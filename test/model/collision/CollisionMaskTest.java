@@ -0,0 +1,83 @@
+package model.collision;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import javafx.stage.Stage;
+import model.HitBox;
+import org.junit.jupiter.api.Test;
+import util.DukeApplicationTest;
+
+/**
+ * Tests the CollisionMask class and the bitmask collision path of HitBox
+ */
+public class CollisionMaskTest extends DukeApplicationTest {
+
+  private HitBox hitBox;
+
+  @Override
+  public void start(Stage stage) {
+    hitBox = new HitBox(5, 5);
+  }
+
+  /**
+   * Tests that getCollisionMask finds the same Directions as getCollisionDirections
+   */
+  @Test
+  public void testMaskMatchesCollisionDirections() {
+    double[] offsets = {-0.9, -0.6, -0.3, -0.01, 0, 0.01, 0.3, 0.6, 0.9, 1};
+    for (double xOffset : offsets) {
+      for (double yOffset : offsets) {
+        HitBox otherBox = new HitBox(5 + xOffset, 5 + yOffset);
+        CollisionDirections directions = hitBox.getCollisionDirections(otherBox);
+        assertEquals(directions.getMask(), hitBox.getCollisionMask(otherBox));
+      }
+    }
+  }
+
+  /**
+   * Tests adding, removing and comparing Directions
+   */
+  @Test
+  public void testAddRemoveAndCompare() {
+    CollisionMask collision = new CollisionMask();
+    assertTrue(collision.isEmpty());
+    collision.add(Direction.TOP);
+    collision.add(Direction.RIGHT);
+    assertTrue(collision.containsVerticalCollision());
+    assertTrue(collision.containsHorizontalCollision());
+    collision.add(Direction.BOTTOM);
+    assertFalse(collision.containsVerticalCollision());
+    collision.remove(Direction.RIGHT);
+    assertFalse(collision.contains(Direction.RIGHT));
+    assertEquals(List.of(Direction.TOP, Direction.BOTTOM), collision.getRawList());
+    assertTrue(collision.oneIsContainedIn(new CollisionMask(Direction.BOTTOM)));
+    assertFalse(collision.oneIsContainedIn(new CollisionMask(Direction.LEFT)));
+    collision.clear();
+    assertFalse(collision.doesCollide());
+  }
+
+  /**
+   * Tests that the opposites of a collision are reversed
+   */
+  @Test
+  public void testOpposites() {
+    CollisionMask collision = new CollisionMask(Direction.TOP, Direction.LEFT);
+    assertEquals(new CollisionMask(Direction.BOTTOM, Direction.RIGHT).getMask(),
+        collision.getOpposites().getMask());
+  }
+
+  /**
+   * Tests that a CollisionDirections made from a fixed size list can still be cleared
+   */
+  @Test
+  public void testCollisionDirectionsClear() {
+    CollisionDirections directions = new CollisionDirections(List.of(Direction.TOP));
+    directions.clear();
+    assertTrue(directions.isEmpty());
+    directions.add(Direction.LEFT);
+    assertTrue(directions.contains(Direction.LEFT));
+  }
+}
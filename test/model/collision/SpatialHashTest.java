@@ -0,0 +1,144 @@
+package model.collision;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import api.model.entity.IEntity;
+import java.util.ArrayList;
+import java.util.List;
+import javafx.stage.Stage;
+import model.entity.Block;
+import model.entity.Enemy;
+import org.junit.jupiter.api.Test;
+import util.DukeApplicationTest;
+
+/**
+ * Tests the SpatialHash class
+ */
+public class SpatialHashTest extends DukeApplicationTest {
+
+  private SpatialHash grid;
+
+  @Override
+  public void start(Stage stage) {
+    grid = new SpatialHash();
+  }
+
+  /**
+   * Tests that a query only returns entities in the cells around the HitBox searched
+   */
+  @Test
+  public void testQueryOnlyReturnsNearbyEntities() {
+    Block near = new Block(5, 5);
+    Block far = new Block(20, 5);
+    grid.insert(near);
+    grid.insert(far);
+
+    Enemy enemy = new Enemy(5.5, 5);
+    assertEquals(1, grid.query(enemy.getHitBox(), 1));
+    assertEquals(near, grid.getResult(0));
+  }
+
+  /**
+   * Tests that query results come back in the order the entities were inserted, regardless of
+   * which cell they are in
+   */
+  @Test
+  public void testQueryPreservesInsertionOrder() {
+    Block first = new Block(7, 5);
+    Block second = new Block(5, 5);
+    Block third = new Block(6, 6);
+    grid.insert(first);
+    grid.insert(second);
+    grid.insert(third);
+
+    assertEquals(3, grid.query(6, 5, 7, 6, 1));
+    assertEquals(first, grid.getResult(0));
+    assertEquals(second, grid.getResult(1));
+    assertEquals(third, grid.getResult(2));
+  }
+
+  /**
+   * Tests that an entity is found in its new cell after it moves and update is called
+   */
+  @Test
+  public void testUpdateMovesEntity() {
+    Enemy enemy = new Enemy(0, 0);
+    grid.insert(enemy);
+    enemy.getHitBox().translateX(30);
+    grid.update(enemy);
+
+    assertEquals(0, grid.query(0, 0, 1, 1, 1));
+    assertEquals(1, grid.query(30, 0, 31, 1, 1));
+  }
+
+  /**
+   * Tests that removing entities takes them out of every query, including many entities at once
+   * (which forces the table to grow and cells to be recycled)
+   */
+  @Test
+  public void testRemove() {
+    Block[] blocks = new Block[1000];
+    for (int index = 0; index < blocks.length; index++) {
+      blocks[index] = new Block(index, index % 15);
+      grid.insert(blocks[index]);
+    }
+    for (int index = 0; index < blocks.length; index += 2) {
+      grid.remove(blocks[index]);
+    }
+
+    assertEquals(500, grid.size());
+    assertFalse(grid.contains(blocks[0]));
+    assertTrue(grid.contains(blocks[1]));
+    assertEquals(500, grid.query(0, 0, 1000, 15, 0));
+  }
+
+  /**
+   * Tests that entities placed by rebuild can still be updated, removed and found, whether they
+   * moved a little (and are found near where they are) or far without update being called (and
+   * are only found once every entity is looked up)
+   */
+  @Test
+  public void testRebuildThenUpdateAndRemove() {
+    List<IEntity> entities = new ArrayList<>();
+    for (int index = 0; index < 100; index++) {
+      entities.add(new Block(index, index % 10));
+    }
+    Enemy walker = new Enemy(50.5, 3);
+    Enemy jumper = new Enemy(60.5, 3);
+    entities.add(walker);
+    entities.add(jumper);
+    grid.rebuild(entities);
+    assertEquals(102, grid.size());
+
+    walker.getHitBox().translateX(1);
+    grid.update(walker);
+    assertEquals(1, grid.query(51.5, 3, 52, 3.5, 0));
+    jumper.getHitBox().translateX(200);
+    grid.update(jumper);
+    assertEquals(1, grid.query(260.5, 3, 261, 3.5, 0));
+    assertEquals(jumper, grid.getResult(0));
+
+    grid.remove(entities.get(0));
+    grid.remove(walker);
+    assertEquals(100, grid.size());
+    assertFalse(grid.contains(entities.get(0)));
+    assertFalse(grid.contains(walker));
+    assertTrue(grid.contains(entities.get(99)));
+    assertEquals(0, grid.query(0, 0, 0.5, 0.5, 0));
+  }
+
+  /**
+   * Tests that inserting an entity that rebuild already placed does not add it twice
+   */
+  @Test
+  public void testInsertAfterRebuildDoesNotDuplicate() {
+    Block block = new Block(3, 3);
+    grid.rebuild(List.of(block));
+    grid.insert(block);
+
+    assertEquals(1, grid.size());
+    assertEquals(1, grid.query(3, 3, 3.5, 3.5, 0));
+  }
+}
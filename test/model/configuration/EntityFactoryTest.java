@@ -0,0 +1,89 @@
+package model.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import api.model.entity.IEntity;
+import java.util.List;
+import model.entity.Block;
+import model.entity.Enemy;
+import model.entity.FlappyPlayer;
+import model.entity.MarioPlayer;
+import org.junit.jupiter.api.Test;
+
+public class EntityFactoryTest {
+
+  @Test
+  public void createEntityTest() {
+    EntityFactory factory = new EntityFactory();
+    IEntity first = factory.createEntity("3", 2, 5).get();
+    IEntity second = factory.createEntity("3", 2, 5).get();
+
+    assertTrue(first instanceof Block);
+    assertNotSame(first, second);
+    assertEquals(2, first.getHitBox().getXLeft());
+    assertEquals(5, first.getHitBox().getYTop());
+    assertTrue(factory.createEntity("0", 0, 0).isEmpty());
+    assertTrue(factory.createEntity("not an id", 0, 0).isEmpty());
+    assertTrue(factory.reflectEntity("NotAnEntity", 0, 0).isEmpty());
+  }
+
+  @Test
+  public void updatePlayerMappingTest() {
+    EntityFactory factory = new EntityFactory();
+    factory.updatePlayerMapping("MarioPlayer");
+    assertTrue(factory.createEntity("1", 0, 0).get() instanceof MarioPlayer);
+    factory.updatePlayerMapping("FlappyPlayer");
+    assertTrue(factory.createEntity("1", 0, 0).get() instanceof FlappyPlayer);
+  }
+
+  @Test
+  public void createEntitiesTest() {
+    EntityFactory factory = new EntityFactory();
+    List<IEntity> row = factory.createEntities(new String[]{"0", "3", "0", "2"}, 10, 4);
+    assertEquals(2, row.size());
+    assertTrue(row.get(0) instanceof Block);
+    assertEquals(11, row.get(0).getHitBox().getXLeft());
+    assertTrue(row.get(1) instanceof Enemy);
+    assertEquals(13, row.get(1).getHitBox().getXLeft());
+    assertEquals(4, row.get(1).getHitBox().getYTop());
+
+    List<IEntity> chunk = factory.createEntities(new String[][]{{"3", "0"}, {"0", "3"}}, 10, 4);
+    assertEquals(2, chunk.size());
+    assertEquals(10, chunk.get(0).getHitBox().getXLeft());
+    assertEquals(4, chunk.get(0).getHitBox().getYTop());
+    assertEquals(11, chunk.get(1).getHitBox().getXLeft());
+    assertEquals(5, chunk.get(1).getHitBox().getYTop());
+  }
+
+  @Test
+  public void createEntitiesFromTilesTest() {
+    EntityFactory factory = new EntityFactory();
+    TileChunk tiles = new TileChunk(2, 3);
+    tiles.set(0, 0, TileRegistry.getCode("3"));
+    tiles.set(0, 1, TileRegistry.getCode("0"));
+    tiles.set(1, 2, TileRegistry.getCode("2"));
+    tiles.set(1, 1, TileRegistry.getCode("not an id"));
+
+    List<IEntity> chunk = factory.createEntities(tiles, 10, 4);
+    assertEquals(2, chunk.size());
+    assertTrue(chunk.get(0) instanceof Block);
+    assertEquals(10, chunk.get(0).getHitBox().getXLeft());
+    assertEquals(4, chunk.get(0).getHitBox().getYTop());
+    assertTrue(chunk.get(1) instanceof Enemy);
+    assertEquals(12, chunk.get(1).getHitBox().getXLeft());
+    assertEquals(5, chunk.get(1).getHitBox().getYTop());
+  }
+
+  @Test
+  public void updatePlayerMappingTilesTest() {
+    EntityFactory factory = new EntityFactory();
+    TileChunk tiles = new TileChunk(1, 1);
+    tiles.set(0, 0, TileRegistry.getCode("1"));
+    factory.updatePlayerMapping("MarioPlayer");
+    assertTrue(factory.createEntities(tiles, 0, 0).get(0) instanceof MarioPlayer);
+    factory.updatePlayerMapping("FlappyPlayer");
+    assertTrue(factory.createEntities(tiles, 0, 0).get(0) instanceof FlappyPlayer);
+  }
+}
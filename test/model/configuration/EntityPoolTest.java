@@ -0,0 +1,112 @@
+package model.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import api.model.entity.IEntity;
+import java.util.List;
+import model.HitBox;
+import model.entity.Block;
+import model.entity.Enemy;
+import model.entity.Goal;
+import model.entity.Modifier;
+import model.entity.PowerUp;
+import model.entity.PowerUpBlock;
+import model.entity.ZeroGEnemy;
+import org.junit.jupiter.api.Test;
+
+public class EntityPoolTest {
+
+  @Test
+  public void acquireReleaseTest() {
+    EntityPool pool = new EntityPool();
+    assertNull(pool.acquire(Block.class, 0, 0));
+    assertEquals(1, pool.getMisses());
+
+    Block block = new Block(1, 2);
+    block.getHitBox().translateX(5);
+    assertTrue(pool.release(block));
+    assertEquals(1, pool.getPooledCount(Block.class));
+    assertNull(pool.acquire(PowerUpBlock.class, 0, 0));
+
+    assertSame(block, pool.acquire(Block.class, 7, 8));
+    HitBox hitBox = block.getHitBox();
+    assertEquals(7, hitBox.getXLeft());
+    assertEquals(8, hitBox.getYTop());
+    assertEquals(7, hitBox.getPreviousXLeft());
+    assertEquals(8, hitBox.getPreviousYTop());
+    assertEquals(0, pool.getPooledCount(Block.class));
+    assertEquals(1, pool.getHits());
+    assertEquals(2, pool.getMisses());
+    assertEquals(1.0 / 3, pool.getHitRate());
+  }
+
+  @Test
+  public void releaseTest() {
+    EntityPool pool = new EntityPool(1);
+    assertFalse(pool.release(new Goal(0, 0)));
+    assertTrue(pool.release(new Enemy(0, 0)));
+    assertFalse(pool.release(new Enemy(0, 0)));
+    assertTrue(pool.release(new ZeroGEnemy(0, 0)));
+    assertEquals(1, pool.getPooledCount(Enemy.class));
+    assertEquals(1, pool.getPooledCount(ZeroGEnemy.class));
+    assertEquals(0, pool.getPooledCount(Goal.class));
+  }
+
+  @Test
+  public void resetTest() {
+    EntityPool pool = new EntityPool();
+    Enemy enemy = new Enemy(0, 0);
+    enemy.setXVel(3);
+    enemy.setYVel(4);
+    enemy.setHealth(0);
+    enemy.setGrounded(false);
+    pool.release(enemy);
+    pool.acquire(Enemy.class, 2, 3);
+    assertEquals(0, enemy.getXVel());
+    assertEquals(0, enemy.getYVel());
+    assertEquals(100, enemy.getHealth());
+    assertTrue(enemy.getGrounded());
+    assertFalse(enemy.isDead());
+
+    PowerUp powerUp = new PowerUp(0, 0);
+    powerUp.setModifier(new Modifier(Modifier.ModifierType.ANTI_GRAVITY, 1, 1));
+    powerUp.setHasAppliedModifier(true);
+    pool.release(powerUp);
+    pool.acquire(PowerUp.class, 2, 3);
+    assertNull(powerUp.getModifier());
+    assertFalse(powerUp.hasAppliedModifier());
+
+    PowerUpBlock powerUpBlock = new PowerUpBlock(0, 0);
+    powerUpBlock.attemptCreateAndAddSpawn(0, -1);
+    assertEquals(0, powerUpBlock.getMaxSpawnCount());
+    pool.release(powerUpBlock);
+    pool.acquire(PowerUpBlock.class, 2, 3);
+    assertTrue(powerUpBlock.getSpawnList().isEmpty());
+    assertEquals(1, powerUpBlock.getMaxSpawnCount());
+  }
+
+  @Test
+  public void createEntitiesTest() {
+    EntityPool pool = new EntityPool();
+    Block block = new Block(0, 0);
+    pool.release(block);
+    TileChunk tiles = new TileChunk(1, 3);
+    tiles.set(0, 0, TileRegistry.getCode("3"));
+    tiles.set(0, 1, TileRegistry.getCode("3"));
+    tiles.set(0, 2, TileRegistry.getCode("9"));
+
+    List<IEntity> chunk = new EntityFactory().createEntities(tiles, 4, 5, pool);
+    assertEquals(3, chunk.size());
+    assertSame(block, chunk.get(0));
+    assertEquals(4, block.getHitBox().getXLeft());
+    assertEquals(5, block.getHitBox().getYTop());
+    assertTrue(chunk.get(1) instanceof Block);
+    assertTrue(chunk.get(2) instanceof Goal);
+    assertEquals(1, pool.getHits());
+    assertEquals(1, pool.getMisses());
+  }
+}
@@ -0,0 +1,89 @@
+package model.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import api.model.entity.IEntity;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class LevelTemplateTest {
+
+  private File writeLevel(File levelFile, String contents) throws IOException {
+    try (FileWriter writer = new FileWriter(levelFile)) {
+      writer.write(contents);
+    }
+    return levelFile;
+  }
+
+  private File createLevel(String contents) throws IOException {
+    File levelFile = File.createTempFile("template", ".csv");
+    levelFile.deleteOnExit();
+    return writeLevel(levelFile, contents);
+  }
+
+  @Test
+  public void parseTest() throws IOException, InvalidFileException {
+    LevelTemplate template = LevelTemplate.forFile(createLevel("0,0,3\n3,3,3,2\n"));
+    assertEquals(2, template.getLevelLength());
+    assertEquals(4, template.getLevelWidth());
+
+    List<IEntity> entities = template.createEntities(new EntityFactory());
+    assertEquals(5, entities.size());
+    assertEquals(2, entities.get(0).getHitBox().getXLeft());
+    assertEquals(0, entities.get(0).getHitBox().getYTop());
+    assertEquals(3, entities.get(4).getHitBox().getXLeft());
+    assertEquals(1, entities.get(4).getHitBox().getYTop());
+  }
+
+  @Test
+  public void emptyTilesTest() throws IOException, InvalidFileException {
+    LevelTemplate template = LevelTemplate.forFile(createLevel("3,,3,,\n,,\n\n2\n"));
+    assertEquals(4, template.getLevelLength());
+    assertEquals(3, template.getLevelWidth());
+
+    List<IEntity> entities = template.createEntities(new EntityFactory());
+    assertEquals(3, entities.size());
+    assertEquals(2, entities.get(1).getHitBox().getXLeft());
+    assertEquals(3, entities.get(2).getHitBox().getYTop());
+  }
+
+  @Test
+  public void cacheTest() throws IOException, InvalidFileException {
+    File levelFile = createLevel("3,3\n");
+    LevelTemplate template = LevelTemplate.forFile(levelFile);
+    assertSame(template, LevelTemplate.forFile(levelFile));
+
+    writeLevel(levelFile, "3,3,3\n");
+    levelFile.setLastModified(levelFile.lastModified() + 1000);
+    LevelTemplate changedTemplate = LevelTemplate.forFile(levelFile);
+    assertNotSame(template, changedTemplate);
+    assertEquals(3, changedTemplate.createEntities(new EntityFactory()).size());
+  }
+
+  @Test
+  public void freshEntitiesTest() throws IOException, InvalidFileException {
+    File levelFile = createLevel("3,0\n0,2\n");
+    LevelLoader loader = new LevelLoader(levelFile, new EntityFactory());
+    List<IEntity> original = loader.getCopyOfEntityList();
+    original.get(0).getHitBox().setXLeft(10);
+
+    loader.reinitialize();
+    List<IEntity> reset = loader.getCopyOfEntityList();
+    assertEquals(original.size(), reset.size());
+    assertNotSame(original.get(0), reset.get(0));
+    assertEquals(0, reset.get(0).getHitBox().getXLeft());
+    assertEquals(1, reset.get(1).getHitBox().getYTop());
+  }
+
+  @Test
+  public void missingFileTest() {
+    assertThrows(InvalidFileException.class,
+        () -> LevelTemplate.forFile(new File("./data/not_a_level.csv")));
+  }
+}
@@ -0,0 +1,51 @@
+package model.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class TileRegistryTest {
+
+  @Test
+  public void codeTest() {
+    short block = TileRegistry.getCode("3");
+    short enemy = TileRegistry.getCode("2");
+    assertNotEquals(block, enemy);
+    assertEquals(block, TileRegistry.getCode("3"));
+    assertEquals("3", TileRegistry.getId(block));
+    assertEquals("2", TileRegistry.getId(enemy));
+    assertEquals(TileRegistry.getCode("D"), TileRegistry.getCode("D"));
+  }
+
+  @Test
+  public void codeInTextTest() {
+    String line = "0,12,03,R,";
+    assertEquals(TileRegistry.getCode("0"), TileRegistry.getCode(line, 0, 1));
+    assertEquals(TileRegistry.getCode("12"), TileRegistry.getCode(line, 2, 4));
+    assertEquals(TileRegistry.getCode("03"), TileRegistry.getCode(line, 5, 7));
+    assertNotEquals(TileRegistry.getCode("3"), TileRegistry.getCode(line, 5, 7));
+    assertEquals(TileRegistry.getCode("R"), TileRegistry.getCode(line, 8, 9));
+    assertEquals(TileRegistry.getCode(""), TileRegistry.getCode(line, 10, 10));
+  }
+
+  @Test
+  public void tileChunkTest() {
+    TileChunk tiles = new TileChunk(2, 3);
+    assertEquals(TileRegistry.NO_TILE, tiles.get(1, 2));
+
+    tiles.fill(TileRegistry.getCode("0"));
+    tiles.fill(0, 1, 1, 2, TileRegistry.getCode("3"));
+    tiles.set(1, 0, TileRegistry.getCode("2"));
+    assertArrayEquals(new String[][]{{"0", "3", "3"}, {"2", "3", "3"}}, tiles.toStrings());
+
+    TileChunk copy = new TileChunk(2, 3);
+    copy.copyFrom(tiles);
+    assertArrayEquals(tiles.toStrings(), copy.toStrings());
+    assertThrows(IllegalArgumentException.class, () -> new TileChunk(3, 2).copyFrom(tiles));
+    assertNull(new TileChunk(1, 1).toStrings()[0][0]);
+  }
+}
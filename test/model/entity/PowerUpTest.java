@@ -34,7 +34,7 @@ public class PowerUpTest {
     @Test
     public void playerConsumesPowerUpAndObtainsModifier() {
         PowerUp powerUp = new PowerUp(5, 5);
-        powerUp.setModifier(new Modifier(Modifier.ModifierType.MOVEMENT_SPEED, 1.5, 10 * 60));
+        powerUp.setModifier(new Modifier(Modifier.ModifierType.MOVEMENT_SPEED, 1.5, 10));
         assertFalse(powerUp.hasAppliedModifier());
         Player player = new MarioPlayer(5, 5.9);
         player.checkCollision(powerUp);
@@ -45,7 +45,7 @@ public class PowerUpTest {
     @Test
     public void playerConsumesPowerUpAndObtainsModifierAndThenLosesIt() {
         PowerUp powerUp = new PowerUp(5, 5);
-        powerUp.setModifier(new Modifier(Modifier.ModifierType.MOVEMENT_SPEED, 1.5, 10 * 60));
+        powerUp.setModifier(new Modifier(Modifier.ModifierType.MOVEMENT_SPEED, 1.5, 10));
         assertFalse(powerUp.hasAppliedModifier());
         Player player = new MarioPlayer(5, 5.9);
         player.checkCollision(powerUp);
@@ -1,6 +1,8 @@
 package model.scroll;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static util.ScreenPositions.screenX;
+import static util.ScreenPositions.screenY;
 
 import javafx.stage.Stage;
 import model.Level;
@@ -65,12 +67,12 @@ public class AutoGenerationScrollerTest extends DukeApplicationTest{
         false, PATH);
     scroller.scroll(level, playerEntity);
 
-    assertEquals(PLAYERX + XSCROLL, playerEntity.getHitBox().getXLeft());
-    assertEquals(BARRIERX + XSCROLL, barrierBlockEntity.getHitBox().getXLeft());
-    assertEquals(ENEMYX + XSCROLL, enemyEntity.getHitBox().getXLeft());
+    assertEquals(PLAYERX + XSCROLL, screenX(level, playerEntity));
+    assertEquals(BARRIERX + XSCROLL, screenX(level, barrierBlockEntity));
+    assertEquals(ENEMYX + XSCROLL, screenX(level, enemyEntity));
 
-    assertEquals(PLAYERY + YSCROLL, playerEntity.getHitBox().getYTop());
-    assertEquals(BARRIERY + YSCROLL, barrierBlockEntity.getHitBox().getYTop());
-    assertEquals(ENEMYY + YSCROLL, enemyEntity.getHitBox().getYTop());
+    assertEquals(PLAYERY + YSCROLL, screenY(level, playerEntity));
+    assertEquals(BARRIERY + YSCROLL, screenY(level, barrierBlockEntity));
+    assertEquals(ENEMYY + YSCROLL, screenY(level, enemyEntity));
   }
-}
\ No newline at end of file
+}
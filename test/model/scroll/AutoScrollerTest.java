@@ -2,6 +2,8 @@ package model.scroll;
 
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static util.ScreenPositions.screenX;
+import static util.ScreenPositions.screenY;
 
 import javafx.stage.Stage;
 import model.Level;
@@ -65,13 +67,13 @@ public class AutoScrollerTest extends DukeApplicationTest {
     AutoScroller scroller = new AutoScroller(XSCROLL,YSCROLL, false);
     scroller.scroll(level, playerEntity);
 
-    assertEquals(PLAYERX + XSCROLL, playerEntity.getHitBox().getXLeft());
-    assertEquals(BARRIERX + XSCROLL, barrierBlockEntity.getHitBox().getXLeft());
-    assertEquals(ENEMYX + XSCROLL, enemyEntity.getHitBox().getXLeft());
+    assertEquals(PLAYERX + XSCROLL, screenX(level, playerEntity));
+    assertEquals(BARRIERX + XSCROLL, screenX(level, barrierBlockEntity));
+    assertEquals(ENEMYX + XSCROLL, screenX(level, enemyEntity));
 
-    assertEquals(PLAYERY + YSCROLL, playerEntity.getHitBox().getYTop());
-    assertEquals(BARRIERY + YSCROLL, barrierBlockEntity.getHitBox().getYTop());
-    assertEquals(ENEMYY + YSCROLL, enemyEntity.getHitBox().getYTop());
+    assertEquals(PLAYERY + YSCROLL, screenY(level, playerEntity));
+    assertEquals(BARRIERY + YSCROLL, screenY(level, barrierBlockEntity));
+    assertEquals(ENEMYY + YSCROLL, screenY(level, enemyEntity));
   }
 
   /**
@@ -83,13 +85,13 @@ public class AutoScrollerTest extends DukeApplicationTest {
     AutoScroller scroller = new AutoScroller(XSCROLL,0, false);
     scroller.scroll(level, playerEntity);
 
-    assertEquals(PLAYERX + XSCROLL, playerEntity.getHitBox().getXLeft());
-    assertEquals(BARRIERX + XSCROLL, barrierBlockEntity.getHitBox().getXLeft());
-    assertEquals(ENEMYX + XSCROLL, enemyEntity.getHitBox().getXLeft());
+    assertEquals(PLAYERX + XSCROLL, screenX(level, playerEntity));
+    assertEquals(BARRIERX + XSCROLL, screenX(level, barrierBlockEntity));
+    assertEquals(ENEMYX + XSCROLL, screenX(level, enemyEntity));
 
-    assertEquals(PLAYERY, playerEntity.getHitBox().getYTop());
-    assertEquals(BARRIERY, barrierBlockEntity.getHitBox().getYTop());
-    assertEquals(ENEMYY, enemyEntity.getHitBox().getYTop());
+    assertEquals(PLAYERY, screenY(level, playerEntity));
+    assertEquals(BARRIERY, screenY(level, barrierBlockEntity));
+    assertEquals(ENEMYY, screenY(level, enemyEntity));
   }
 
   /**
@@ -101,13 +103,13 @@ public class AutoScrollerTest extends DukeApplicationTest {
     AutoScroller scroller = new AutoScroller(XSCROLL,YSCROLL, false);
     scroller.scroll(level, playerEntity);
 
-    assertEquals(PLAYERX + XSCROLL, playerEntity.getHitBox().getXLeft());
-    assertEquals(BARRIERX + XSCROLL, barrierBlockEntity.getHitBox().getXLeft());
-    assertEquals(ENEMYX + XSCROLL, enemyEntity.getHitBox().getXLeft());
+    assertEquals(PLAYERX + XSCROLL, screenX(level, playerEntity));
+    assertEquals(BARRIERX + XSCROLL, screenX(level, barrierBlockEntity));
+    assertEquals(ENEMYX + XSCROLL, screenX(level, enemyEntity));
 
-    assertEquals(PLAYERY + YSCROLL, playerEntity.getHitBox().getYTop());
-    assertEquals(BARRIERY + YSCROLL, barrierBlockEntity.getHitBox().getYTop());
-    assertEquals(ENEMYY + YSCROLL, enemyEntity.getHitBox().getYTop());
+    assertEquals(PLAYERY + YSCROLL, screenY(level, playerEntity));
+    assertEquals(BARRIERY + YSCROLL, screenY(level, barrierBlockEntity));
+    assertEquals(ENEMYY + YSCROLL, screenY(level, enemyEntity));
   }
 
   /**
@@ -123,9 +125,9 @@ public class AutoScrollerTest extends DukeApplicationTest {
     playerEntity.updatePosition();
     scroller.scroll(level, playerEntity);
 
-    assertEquals((int)(PLAYERX + XSCROLL + PLAYER_XVEL), (int)playerEntity.getHitBox().getXLeft());
+    assertEquals((int)(PLAYERX + XSCROLL + PLAYER_XVEL), (int)screenX(level, playerEntity));
 
-    assertEquals((int)(PLAYERY + YSCROLL + PLAYER_YVEL), (int)(playerEntity.getHitBox().getYTop()));
+    assertEquals((int)(PLAYERY + YSCROLL + PLAYER_YVEL), (int)(screenY(level, playerEntity)));
   }
 
   /**
@@ -141,9 +143,23 @@ public class AutoScrollerTest extends DukeApplicationTest {
 
     scroller.scroll(level, playerEntity);
 
-    assertEquals(PLAYERX, playerEntity.getHitBox().getXLeft());
+    assertEquals(PLAYERX, screenX(level, playerEntity));
 
-    assertEquals(PLAYERY, playerEntity.getHitBox().getYTop());
+    assertEquals(PLAYERY, screenY(level, playerEntity));
+  }
+
+  /**
+   * Tests that scrolling only moves the camera - the entities keep their world coordinates
+   */
+  @Test
+  public void testScrollMovesCameraNotEntities() {
+    AutoScroller scroller = new AutoScroller(XSCROLL,YSCROLL, false);
+    scroller.scroll(level, playerEntity);
+
+    assertEquals(BARRIERX, barrierBlockEntity.getHitBox().getXLeft());
+    assertEquals(BARRIERY, barrierBlockEntity.getHitBox().getYTop());
+    assertEquals(-XSCROLL, level.getCamera().getXOffset());
+    assertEquals(-YSCROLL, level.getCamera().getYOffset());
   }
 
   /**
@@ -157,4 +173,20 @@ public class AutoScrollerTest extends DukeApplicationTest {
     assertEquals(SCORE_FROM_SCROLL, level.getScore());
   }
 
-}
\ No newline at end of file
+  /**
+   * Tests that a level stepped twice as often scrolls by half as much, and gives half as much
+   * score, each step - so it plays at the same speed
+   */
+  @Test
+  public void testScrollScalesWithTickRate() {
+    AutoScroller scroller = new AutoScroller(XSCROLL, YSCROLL, false);
+    level.setTicksPerSecond(Level.FRAMES_PER_SECOND * 2);
+    scroller.scroll(level, playerEntity);
+    assertEquals(0, scroller.getScoreFromScroll());
+    scroller.scroll(level, playerEntity);
+    assertEquals(SCORE_FROM_SCROLL, scroller.getScoreFromScroll());
+
+    assertEquals(-XSCROLL, level.getCamera().getXOffset());
+    assertEquals(-YSCROLL, level.getCamera().getYOffset());
+  }
+}
@@ -0,0 +1,116 @@
+package model.scroll;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import api.model.configuration.IGameConfiguration;
+import api.model.entity.IEntity;
+import java.util.List;
+import javafx.stage.Stage;
+import model.HitBox;
+import model.Level;
+import model.autogenerator.AutoGenerator;
+import model.configuration.EntityFactory;
+import model.configuration.GameConfiguration;
+import model.configuration.ILevelLoader;
+import model.configuration.InvalidFileException;
+import model.configuration.LevelLoader;
+import org.junit.jupiter.api.Test;
+import util.DukeApplicationTest;
+
+/**
+ * Tests the ChunkInserter class
+ */
+public class ChunkInserterTest extends DukeApplicationTest {
+
+  private static final String PATH = "automario.xml";
+  private static final long SEED = 1213;
+  private static final double X_OFFSET = 15;
+  private static final double LARGE_BUDGET_MICROS = 1000000;
+
+  private Level level;
+  private ChunkPipeline pipeline;
+  private ChunkInserter inserter;
+
+  @Override
+  public void start(Stage stage) throws InvalidFileException {
+    IGameConfiguration gameConfiguration = new GameConfiguration("oneBlock.properties");
+    ILevelLoader levelLoader = new LevelLoader(gameConfiguration.getLevelFile(),
+        new EntityFactory());
+    level = new Level(levelLoader);
+    pipeline = new ChunkPipeline(new AutoGenerator(PATH, SEED), Runnable::run);
+    inserter = new ChunkInserter(HitBox::getXLeft);
+  }
+
+  /**
+   * Tests that with no budget only the entities about to come into view are added, column by
+   * column from the left
+   */
+  @Test
+  public void testMustInsertOnly() {
+    inserter.setBudgetMicros(0);
+    ChunkPipeline.PreparedChunk chunk = pipeline.takeNext();
+    inserter.add(chunk, X_OFFSET, 0);
+    int queued = inserter.getPendingCount();
+
+    int inserted = inserter.insert(level, X_OFFSET + 2);
+
+    assertTrue(inserted > 0);
+    assertEquals(queued - inserted, inserter.getPendingCount());
+    List<IEntity> inLevel = level.getCopyOfEntityList();
+    for (IEntity entity : chunk.getEntities()) {
+      assertEquals(entity.getHitBox().getXLeft() <= X_OFFSET + 2, inLevel.contains(entity));
+    }
+    assertEquals(inserted, inserter.getForcedInserts());
+  }
+
+  /**
+   * Tests that entities are added in scroll order, so whatever is still queued is further from
+   * view than anything that has been added
+   */
+  @Test
+  public void testScrollOrder() {
+    inserter.setBudgetMicros(0);
+    inserter.add(pipeline.takeNext(), X_OFFSET, 0);
+    inserter.add(pipeline.takeNext(), X_OFFSET + 15, 0);
+    List<IEntity> before = level.getCopyOfEntityList();
+
+    for (double edge = X_OFFSET; inserter.getPendingCount() > 0; edge += 1) {
+      inserter.insert(level, edge);
+    }
+
+    List<IEntity> added = level.getCopyOfEntityList();
+    added.removeAll(before);
+    for (int index = 1; index < added.size(); index++) {
+      assertTrue(added.get(index - 1).getHitBox().getXLeft()
+          <= added.get(index).getHitBox().getXLeft());
+    }
+  }
+
+  /**
+   * Tests that a generous budget adds every queued entity at once
+   */
+  @Test
+  public void testLargeBudget() {
+    inserter.setBudgetMicros((long) LARGE_BUDGET_MICROS);
+    inserter.add(pipeline.takeNext(), X_OFFSET, 0);
+    int queued = inserter.getPendingCount();
+
+    assertEquals(queued, inserter.insert(level, Double.NEGATIVE_INFINITY));
+    assertEquals(0, inserter.getPendingCount());
+    assertEquals(0, inserter.getForcedInserts());
+  }
+
+  /**
+   * Tests that clearing the inserter forgets every queued entity
+   */
+  @Test
+  public void testClear() {
+    inserter.add(pipeline.takeNext(), X_OFFSET, 0);
+    assertTrue(inserter.getPendingCount() > 0);
+
+    inserter.clear();
+
+    assertEquals(0, inserter.getPendingCount());
+    assertEquals(0, inserter.insert(level, Double.POSITIVE_INFINITY));
+  }
+}
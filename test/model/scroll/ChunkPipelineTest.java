@@ -0,0 +1,161 @@
+package model.scroll;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import api.model.configuration.IGameConfiguration;
+import api.model.entity.IEntity;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javafx.stage.Stage;
+import model.Level;
+import model.autogenerator.AutoGenerator;
+import model.configuration.EntityFactory;
+import model.configuration.GameConfiguration;
+import model.configuration.ILevelLoader;
+import model.configuration.InvalidFileException;
+import model.configuration.LevelLoader;
+import org.junit.jupiter.api.Test;
+import util.DukeApplicationTest;
+
+/**
+ * Tests the ChunkPipeline class
+ */
+public class ChunkPipelineTest extends DukeApplicationTest {
+
+  private static final String PATH = "autoflappy.xml";
+  private static final long SEED = 1213;
+  private static final double X_OFFSET = 30;
+  private static final double Y_OFFSET = -4;
+
+  private Level level;
+  private AutoGenerator generator;
+  // the work a pipeline has handed to its executor, run only when a test says so
+  private final List<Runnable> queuedWork = Collections.synchronizedList(new ArrayList<>());
+
+  @Override
+  public void start(Stage stage) throws InvalidFileException {
+    IGameConfiguration gameConfiguration = new GameConfiguration("oneBlock.properties");
+    ILevelLoader levelLoader = new LevelLoader(gameConfiguration.getLevelFile(),
+        new EntityFactory());
+    level = new Level(levelLoader);
+    generator = new AutoGenerator(PATH, SEED);
+  }
+
+  /**
+   * Tests that chunks come out in order and are the chunks the generator builds for each index
+   */
+  @Test
+  public void testChunksInOrder() {
+    ChunkPipeline pipeline = new ChunkPipeline(generator, Runnable::run);
+    pipeline.prepareAhead(ChunkPipeline.MAX_AHEAD);
+
+    for (long chunk = 0; chunk < ChunkPipeline.MAX_AHEAD + 2; chunk++) {
+      assertArrayEquals(generator.generateBlock(chunk),
+          pipeline.takeNext().getTiles().toStrings());
+    }
+  }
+
+  /**
+   * Tests that splicing a chunk moves its entities to where the chunk belongs, without them
+   * sliding over from where they were built, and adds them to the level
+   */
+  @Test
+  public void testSpliceInto() {
+    ChunkPipeline pipeline = new ChunkPipeline(generator, Runnable::run);
+    ChunkPipeline.PreparedChunk chunk = pipeline.takeNext();
+    List<IEntity> entities = chunk.getEntities();
+    assertFalse(entities.isEmpty());
+    double[] builtXs = entities.stream().mapToDouble(e -> e.getHitBox().getXLeft()).toArray();
+    double[] builtYs = entities.stream().mapToDouble(e -> e.getHitBox().getYTop()).toArray();
+    int entitiesBefore = level.getCopyOfEntityList().size();
+
+    chunk.spliceInto(level, X_OFFSET, Y_OFFSET);
+
+    assertEquals(entitiesBefore + entities.size(), level.getCopyOfEntityList().size());
+    for (int index = 0; index < entities.size(); index++) {
+      IEntity entity = entities.get(index);
+      assertEquals(builtXs[index] + X_OFFSET, entity.getHitBox().getXLeft());
+      assertEquals(builtYs[index] + Y_OFFSET, entity.getHitBox().getYTop());
+      assertEquals(entity.getHitBox().getXLeft(), entity.getHitBox().getPreviousXLeft());
+      assertEquals(entity.getHitBox().getYTop(), entity.getHitBox().getPreviousYTop());
+      assertTrue(level.getCopyOfEntityList().contains(entity));
+    }
+  }
+
+  /**
+   * Tests that more chunks are built ahead the faster chunks are used up, never more than
+   * MAX_AHEAD, and that the rate falls off slowly once scrolling slows down
+   */
+  @Test
+  public void testDepthFollowsRate() {
+    ChunkPipeline pipeline = new ChunkPipeline(generator, queuedWork::add);
+
+    pipeline.prepareAhead(0);
+    assertEquals(ChunkPipeline.MIN_AHEAD, pipeline.getTargetAhead());
+    assertEquals(ChunkPipeline.MIN_AHEAD, pipeline.getChunksAhead());
+
+    pipeline.prepareAhead(2);
+    assertEquals(ChunkPipeline.MIN_AHEAD + 2, pipeline.getTargetAhead());
+    assertEquals(ChunkPipeline.MIN_AHEAD + 2, pipeline.getChunksAhead());
+
+    pipeline.prepareAhead(0);
+    assertEquals(ChunkPipeline.MIN_AHEAD + 2, pipeline.getTargetAhead());
+
+    pipeline.prepareAhead(1000);
+    assertEquals(ChunkPipeline.MAX_AHEAD, pipeline.getTargetAhead());
+    assertEquals(ChunkPipeline.MAX_AHEAD, pipeline.getChunksAhead());
+    assertEquals(ChunkPipeline.MAX_AHEAD, queuedWork.size());
+  }
+
+  /**
+   * Tests that a chunk that is finished is taken without a stall, and one that is not is waited
+   * for and counted
+   */
+  @Test
+  public void testStalls() throws InterruptedException {
+    ChunkPipeline pipeline = new ChunkPipeline(generator, queuedWork::add);
+    pipeline.prepareAhead(1);
+    queuedWork.remove(0).run();
+
+    pipeline.takeNext();
+    assertEquals(0, pipeline.getStalls());
+
+    Thread worker = new Thread(() -> {
+      try {
+        Thread.sleep(50);
+      } catch (InterruptedException e) {
+        return;
+      }
+      queuedWork.remove(0).run();
+    });
+    worker.start();
+    assertArrayEquals(generator.generateBlock(1), pipeline.takeNext().getTiles().toStrings());
+    assertEquals(1, pipeline.getStalls());
+    worker.join();
+  }
+
+  /**
+   * Tests that entities released to the pipeline's pool are reused for the next chunk, moved to
+   * where they are built
+   */
+  @Test
+  public void testEntitiesReused() {
+    ChunkPipeline pipeline = new ChunkPipeline(generator, Runnable::run);
+    List<IEntity> first = pipeline.takeNext().getEntities();
+    first.forEach(pipeline.getEntityPool()::release);
+
+    ChunkPipeline.PreparedChunk second = pipeline.takeNext();
+    assertTrue(pipeline.getEntityPool().getHits() > 0);
+    assertTrue(second.getEntities().stream().anyMatch(first::contains));
+    assertArrayEquals(generator.generateBlock(1), second.getTiles().toStrings());
+    List<IEntity> fresh = new EntityFactory().createEntities(second.getTiles(), 0, 0);
+    assertEquals(fresh.size(), second.getEntities().size());
+    for (int index = 0; index < fresh.size(); index++) {
+      IEntity entity = second.getEntities().get(index);
+      assertEquals(fresh.get(index).getClass(), entity.getClass());
+      assertEquals(fresh.get(index).getHitBox().getXLeft(), entity.getHitBox().getXLeft());
+      assertEquals(fresh.get(index).getHitBox().getYTop(), entity.getHitBox().getYTop());
+    }
+  }
+}
@@ -0,0 +1,113 @@
+package model.scroll;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import javafx.stage.Stage;
+import model.Level;
+import model.configuration.*;
+import model.entity.Block;
+import model.entity.Enemy;
+import model.entity.MarioPlayer;
+import model.entity.Player;
+import api.model.configuration.IGameConfiguration;
+import api.model.entity.IEntity;
+import org.junit.jupiter.api.Test;
+import util.DukeApplicationTest;
+
+/**
+ * Tests the Despawner class
+ */
+public class DespawnerTest extends DukeApplicationTest {
+
+  private static final int NUM_OFF_SCREEN = 1000;
+
+  private Player playerEntity;
+  private Enemy offScreenEnemy;
+  private Block onScreenBlock;
+  private Level level;
+
+  @Override
+  public void start(Stage stage) throws InvalidFileException {
+    playerEntity = new MarioPlayer(4, 5);
+    offScreenEnemy = new Enemy(-5, 5);
+    onScreenBlock = new Block(6, 6);
+
+    IGameConfiguration gameConfiguration = new GameConfiguration("oneBlock.properties");
+    ILevelLoader ILevelLoader = new LevelLoader(gameConfiguration.getLevelFile(), new EntityFactory());
+    level = new Level(ILevelLoader);
+
+    level.addEntity(playerEntity);
+    level.addEntity(offScreenEnemy);
+    level.addEntity(onScreenBlock);
+    for (int index = 0; index < NUM_OFF_SCREEN; index++) {
+      level.addEntity(new Block(-2 - index, 10));
+    }
+  }
+
+  /**
+   * Tests that entities left of the screen are removed from every list in the level, without
+   * giving the player any score
+   */
+  @Test
+  public void testDespawnRemovesFromEveryList() {
+    Despawner despawner = new Despawner(0, Despawner.NO_BOUND, Despawner.NO_BOUND,
+        Despawner.NO_BOUND);
+
+    assertEquals(NUM_OFF_SCREEN + 1, despawner.despawn(level));
+    assertFalse(level.getAllEntities().contains(offScreenEnemy));
+    assertTrue(level.getAllEntities().contains(onScreenBlock));
+    assertTrue(level.getAllEntities().contains(playerEntity));
+    assertEquals(0, level.getScore());
+
+    // an enemy still in the enemy list would keep chasing the player
+    double enemyX = offScreenEnemy.getHitBox().getXLeft();
+    level.step();
+    assertEquals(enemyX, offScreenEnemy.getHitBox().getXLeft());
+  }
+
+  /**
+   * Tests that the cull bounds are measured on screen, through the level's camera
+   */
+  @Test
+  public void testDespawnFollowsCamera() {
+    Despawner despawner = new Despawner(0, Despawner.NO_BOUND, Despawner.NO_BOUND,
+        Despawner.NO_BOUND);
+    level.getCamera().scroll(-8, 0);
+
+    despawner.despawn(level);
+    assertFalse(level.getAllEntities().contains(onScreenBlock));
+    assertTrue(level.getAllEntities().contains(playerEntity));
+  }
+
+  /**
+   * Tests that despawned entities are handed to the recycler in the order they were in the level
+   */
+  @Test
+  public void testRecycler() {
+    Despawner despawner = new Despawner(0, Despawner.NO_BOUND, Despawner.NO_BOUND,
+        Despawner.NO_BOUND);
+    List<IEntity> recycled = new ArrayList<>();
+    despawner.setRecycler(recycled::add);
+
+    despawner.despawn(level);
+    assertEquals(NUM_OFF_SCREEN + 1, recycled.size());
+    assertEquals(offScreenEnemy, recycled.get(0));
+    assertEquals(NUM_OFF_SCREEN + 1, despawner.getDespawnedCount());
+  }
+
+  /**
+   * Tests that a Despawner with no bounds never despawns anything
+   */
+  @Test
+  public void testNoBound() {
+    Despawner despawner = new Despawner(Despawner.NO_BOUND, Despawner.NO_BOUND,
+        Despawner.NO_BOUND, Despawner.NO_BOUND);
+
+    assertEquals(0, despawner.despawn(level));
+    assertTrue(level.getAllEntities().contains(offScreenEnemy));
+  }
+}
@@ -2,6 +2,8 @@ package model.scroll;
 
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static util.ScreenPositions.screenX;
+import static util.ScreenPositions.screenY;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -76,13 +78,13 @@ public class ManualScrollerTest extends DukeApplicationTest {
     playerEntity.updatePosition();
     scroller.scroll(level , playerEntity);
 
-    assertEquals(PLAYERX, playerEntity.getHitBox().getXLeft());
-    assertEquals(BARRIERX - PLAYER_XVEL, barrierBlockEntity.getHitBox().getXLeft());
-    assertEquals(ENEMYX - PLAYER_XVEL, enemyEntity.getHitBox().getXLeft());
+    assertEquals(PLAYERX, screenX(level, playerEntity));
+    assertEquals(BARRIERX - PLAYER_XVEL, screenX(level, barrierBlockEntity));
+    assertEquals(ENEMYX - PLAYER_XVEL, screenX(level, enemyEntity));
 
-    assertEquals((int)(PLAYERY - PLAYER_YVEL), (int)(playerEntity.getHitBox().getYTop()));
-    assertEquals(BARRIERY, barrierBlockEntity.getHitBox().getYTop());
-    assertEquals(ENEMYY, enemyEntity.getHitBox().getYTop());
+    assertEquals((int)(PLAYERY - PLAYER_YVEL), (int)(screenY(level, playerEntity)));
+    assertEquals(BARRIERY, screenY(level, barrierBlockEntity));
+    assertEquals(ENEMYY, screenY(level, enemyEntity));
   }
 
   /**
@@ -97,13 +99,13 @@ public class ManualScrollerTest extends DukeApplicationTest {
     playerEntity.updatePosition();
     scroller.scroll(level , playerEntity);
 
-    assertEquals(PLAYERX + PLAYER_XVEL, playerEntity.getHitBox().getXLeft());
-    assertEquals(BARRIERX, barrierBlockEntity.getHitBox().getXLeft());
-    assertEquals(ENEMYX, enemyEntity.getHitBox().getXLeft());
+    assertEquals(PLAYERX + PLAYER_XVEL, screenX(level, playerEntity));
+    assertEquals(BARRIERX, screenX(level, barrierBlockEntity));
+    assertEquals(ENEMYX, screenX(level, enemyEntity));
 
-    assertEquals(PLAYERY, playerEntity.getHitBox().getYTop());
-    assertEquals((int)(BARRIERY + PLAYER_YVEL), (int)barrierBlockEntity.getHitBox().getYTop());
-    assertEquals((int)(ENEMYY + PLAYER_YVEL), (int)enemyEntity.getHitBox().getYTop());
+    assertEquals(PLAYERY, screenY(level, playerEntity));
+    assertEquals((int)(BARRIERY + PLAYER_YVEL), (int)screenY(level, barrierBlockEntity));
+    assertEquals((int)(ENEMYY + PLAYER_YVEL), (int)screenY(level, enemyEntity));
   }
 
   /**
@@ -119,13 +121,13 @@ public class ManualScrollerTest extends DukeApplicationTest {
     playerEntity.updatePosition();
     scroller.scroll(level, playerEntity);
 
-    assertEquals(PLAYERX, playerEntity.getHitBox().getXLeft());
-    assertEquals(BARRIERX - PLAYER_XVEL, barrierBlockEntity.getHitBox().getXLeft());
-    assertEquals(ENEMYX - PLAYER_XVEL, enemyEntity.getHitBox().getXLeft());
+    assertEquals(PLAYERX, screenX(level, playerEntity));
+    assertEquals(BARRIERX - PLAYER_XVEL, screenX(level, barrierBlockEntity));
+    assertEquals(ENEMYX - PLAYER_XVEL, screenX(level, enemyEntity));
 
-    assertEquals(PLAYERY, playerEntity.getHitBox().getYTop());
-    assertEquals((int)(BARRIERY + PLAYER_YVEL), (int)barrierBlockEntity.getHitBox().getYTop());
-    assertEquals((int)(ENEMYY + PLAYER_YVEL), (int)enemyEntity.getHitBox().getYTop());
+    assertEquals(PLAYERY, screenY(level, playerEntity));
+    assertEquals((int)(BARRIERY + PLAYER_YVEL), (int)screenY(level, barrierBlockEntity));
+    assertEquals((int)(ENEMYY + PLAYER_YVEL), (int)screenY(level, enemyEntity));
   }
 
   /**
@@ -142,4 +144,4 @@ public class ManualScrollerTest extends DukeApplicationTest {
     level.step();
     assertEquals(0, level.getScore());
   }
-}
\ No newline at end of file
+}
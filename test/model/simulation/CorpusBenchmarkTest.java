@@ -0,0 +1,76 @@
+package model.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+import util.DukeApplicationTest;
+
+/**
+ * Tests the CorpusBenchmark class
+ */
+public class CorpusBenchmarkTest extends DukeApplicationTest {
+
+  private static final int TICKS = 200;
+
+  private List<String> configurations;
+
+  @Override
+  public void start(Stage stage) throws IOException {
+    configurations = CorpusBenchmark.findConfigurations(CorpusBenchmark.CONFIGURATION_FOLDER);
+  }
+
+  /**
+   * Tests that every game configuration is found, including ones in sub folders, and that other
+   * properties files are left out
+   */
+  @Test
+  public void testFindConfigurations() {
+    assertTrue(configurations.contains("supermario.properties"));
+    assertTrue(configurations.contains("flappybird.properties"));
+    assertTrue(configurations.contains("doodlejump2.properties"));
+    assertTrue(configurations.contains("secret/masteregg.properties"));
+    assertFalse(configurations.contains("entityids.properties"));
+    assertFalse(configurations.contains("oneBlock.properties"));
+  }
+
+  /**
+   * Tests that concurrent simulations come back in configuration order, one table row each
+   */
+  @Test
+  public void testRun() {
+    List<String> chosen = List.of("doodlejump.properties", "supermario.properties",
+        "flappybird.properties");
+    CorpusBenchmark benchmark = new CorpusBenchmark(chosen,
+        new InputScript(InputScript.DEFAULT_SCRIPT));
+
+    List<SimulationResult> results = benchmark.run(TICKS, 2);
+    assertEquals(chosen.size(), results.size());
+    for (int index = 0; index < chosen.size(); index++) {
+      assertEquals(chosen.get(index), results.get(index).getConfiguration());
+      assertEquals(TICKS, results.get(index).getTicks());
+    }
+    assertTrue(benchmark.getFailures().isEmpty());
+
+    String[] rows = CorpusBenchmark.toTable(results).split(System.lineSeparator());
+    assertEquals(CorpusBenchmark.TABLE_HEADER, rows[0]);
+    assertEquals(chosen.size() + 1, rows.length);
+  }
+
+  /**
+   * Tests that a configuration that cannot be loaded is reported instead of stopping the others
+   */
+  @Test
+  public void testFailure() {
+    CorpusBenchmark benchmark = new CorpusBenchmark(
+        List.of("doodlejump.properties", "missing.properties"),
+        new InputScript(InputScript.DEFAULT_SCRIPT));
+
+    assertEquals(1, benchmark.run(TICKS, 2).size());
+    assertEquals(1, benchmark.getFailures().size());
+  }
+}
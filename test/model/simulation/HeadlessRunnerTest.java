@@ -0,0 +1,55 @@
+package model.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javafx.stage.Stage;
+import model.configuration.InvalidFileException;
+import org.junit.jupiter.api.Test;
+import util.DukeApplicationTest;
+
+/**
+ * Tests the HeadlessRunner class
+ */
+public class HeadlessRunnerTest extends DukeApplicationTest {
+
+  private static final int TICKS = 500;
+
+  private HeadlessRunner runner;
+
+  @Override
+  public void start(Stage stage) {
+    runner = new HeadlessRunner("doodlejump.properties",
+        new InputScript(InputScript.DEFAULT_SCRIPT));
+  }
+
+  /**
+   * Tests that the runner steps the level the requested number of times and reports sensible
+   * measurements
+   */
+  @Test
+  public void testRun() throws InvalidFileException {
+    SimulationResult result = runner.run(TICKS);
+
+    assertEquals(TICKS, result.getTicks());
+    assertTrue(result.getTicksPerSecond() > 0);
+    assertTrue(result.getTickMillisPercentile(50) <= result.getTickMillisPercentile(99));
+    assertTrue(result.getTickMillisPercentile(99) <= result.getTickMillisPercentile(100));
+    assertTrue(result.getPeakEntityCount() >= result.getFinalEntityCount());
+  }
+
+  /**
+   * Tests that percentiles are taken from the sorted tick times
+   */
+  @Test
+  public void testPercentiles() {
+    long[] tickNanos = {4_000_000, 1_000_000, 3_000_000, 2_000_000};
+    SimulationResult result = new SimulationResult("test", tickNanos, 10_000_000, 0, 0, 0, 0, 0,
+        "none", SimulationResult.UNKNOWN_ALLOCATION);
+
+    assertEquals(1.0, result.getTickMillisPercentile(25));
+    assertEquals(2.0, result.getTickMillisPercentile(50));
+    assertEquals(4.0, result.getTickMillisPercentile(100));
+    assertEquals(400.0, result.getTicksPerSecond());
+  }
+}
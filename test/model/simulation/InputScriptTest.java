@@ -0,0 +1,61 @@
+package model.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javafx.stage.Stage;
+import model.KeyPressFunctions;
+import api.model.IKeyPressFunctions;
+import org.junit.jupiter.api.Test;
+import util.DukeApplicationTest;
+
+/**
+ * Tests the InputScript class
+ */
+public class InputScriptTest extends DukeApplicationTest {
+
+  private IKeyPressFunctions keys;
+
+  @Override
+  public void start(Stage stage) {
+    keys = new KeyPressFunctions();
+  }
+
+  /**
+   * Tests that each segment holds its keys for the right number of ticks, and that the script
+   * loops
+   */
+  @Test
+  public void testSegmentsAndLooping() {
+    InputScript script = new InputScript("R*2,LJ*1,-*1");
+    assertEquals(4, script.getPeriod());
+
+    script.apply(1, keys);
+    assertTrue(keys.isPlayerMovingRight());
+    assertFalse(keys.isPlayerJumping());
+
+    script.apply(2, keys);
+    assertFalse(keys.isPlayerMovingRight());
+    assertTrue(keys.isPlayerMovingLeft());
+    assertTrue(keys.isPlayerJumping());
+
+    script.apply(3, keys);
+    assertFalse(keys.isPlayerMovingLeft());
+    assertFalse(keys.isPlayerJumping());
+
+    script.apply(4, keys);
+    assertTrue(keys.isPlayerMovingRight());
+  }
+
+  /**
+   * Tests that malformed scripts are rejected
+   */
+  @Test
+  public void testBadScripts() {
+    assertThrows(IllegalArgumentException.class, () -> new InputScript("R"));
+    assertThrows(IllegalArgumentException.class, () -> new InputScript("X*5"));
+    assertThrows(IllegalArgumentException.class, () -> new InputScript("R*0"));
+  }
+}
@@ -0,0 +1,81 @@
+package model.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import api.model.IGameModel;
+import api.model.entity.IEntity;
+import javafx.stage.Stage;
+import model.GameModel;
+import model.configuration.GameConfiguration;
+import model.configuration.InvalidFileException;
+import model.entity.Player;
+import org.junit.jupiter.api.Test;
+import util.DukeApplicationTest;
+
+/**
+ * Tests the InterpolatedSnapshot class
+ */
+public class InterpolatedSnapshotTest extends DukeApplicationTest {
+
+  private static final double BLOCKS = 15;
+
+  private IGameModel model;
+  private RenderSnapshot snapshot;
+  private InterpolatedSnapshot interpolated;
+
+  @Override
+  public void start(Stage stage) throws InvalidFileException {
+    model = new GameModel(new GameConfiguration("doodlejump.properties"));
+    snapshot = new RenderSnapshot();
+    interpolated = new InterpolatedSnapshot();
+  }
+
+  /**
+   * Tests that the player, falling, is drawn between where it was before the tick and where it is
+   * after it, and that alpha is kept between 0 and 1
+   */
+  @Test
+  public void testMovingEntityIsInterpolated() {
+    Player player = model.getLevel().getPlayerList().get(0);
+    model.updateGame();
+    model.fillRenderSnapshot(snapshot, BLOCKS, BLOCKS);
+    int index = indexOf(player);
+    assertNotEquals(snapshot.getPreviousY(index), snapshot.getY(index));
+
+    interpolated.set(snapshot, 0);
+    assertEquals(snapshot.getPreviousY(index), interpolated.getY(index));
+    interpolated.set(snapshot, 1);
+    assertEquals(snapshot.getY(index), interpolated.getY(index));
+    interpolated.set(snapshot, 0.5);
+    assertEquals((snapshot.getPreviousY(index) + snapshot.getY(index)) / 2,
+        interpolated.getY(index), 1e-5);
+    interpolated.set(snapshot, 7);
+    assertEquals(1, interpolated.getAlpha());
+  }
+
+  /**
+   * Tests that entities that do not move are given back exactly where they are at any alpha
+   */
+  @Test
+  public void testStillEntitiesAreExact() {
+    model.updateGame();
+    model.fillRenderSnapshot(snapshot, BLOCKS, BLOCKS);
+    interpolated.set(snapshot, 0.3);
+    for (int index = 0; index < snapshot.getEntityCount(); index++) {
+      if (snapshot.getEntity(index).getType().equals("Block")) {
+        assertEquals(snapshot.getY(index), interpolated.getY(index));
+        assertEquals(snapshot.getY(index), interpolated.getY(index));
+      }
+    }
+  }
+
+  private int indexOf(IEntity entity) {
+    for (int index = 0; index < snapshot.getEntityCount(); index++) {
+      if (snapshot.getEntity(index) == entity) {
+        return index;
+      }
+    }
+    return -1;
+  }
+}
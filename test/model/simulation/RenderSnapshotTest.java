@@ -0,0 +1,109 @@
+package model.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import api.model.IGameModel;
+import api.model.entity.IEntity;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import javafx.stage.Stage;
+import model.GameModel;
+import model.configuration.GameConfiguration;
+import model.configuration.InvalidFileException;
+import model.entity.Block;
+import model.entity.Enemy;
+import org.junit.jupiter.api.Test;
+import util.DukeApplicationTest;
+
+/**
+ * Tests the RenderSnapshot class, and filling it from a GameModel
+ */
+public class RenderSnapshotTest extends DukeApplicationTest {
+
+  private static final double BLOCKS = 15;
+  private static final int FILLS = 1000;
+
+  private IGameModel model;
+  private RenderSnapshot snapshot;
+
+  @Override
+  public void start(Stage stage) throws InvalidFileException {
+    model = new GameModel(new GameConfiguration("doodlejump.properties"));
+    snapshot = new RenderSnapshot();
+  }
+
+  /**
+   * Tests that a filled snapshot holds the same entities, types and positions as
+   * getEntitiesInView, in the same order
+   */
+  @Test
+  public void testFillMatchesEntitiesInView() {
+    model.fillRenderSnapshot(snapshot, BLOCKS, BLOCKS);
+    List<IEntity> entities = model.getEntitiesInView(BLOCKS, BLOCKS);
+
+    assertEquals(entities.size(), snapshot.getEntityCount());
+    for (int index = 0; index < entities.size(); index++) {
+      IEntity entity = entities.get(index);
+      assertSame(entity, snapshot.getEntity(index));
+      assertEquals(entity.getType(), snapshot.getType(index));
+      assertEquals(EntityTypeRegistry.getId(entity.getType()), snapshot.getTypeId(index));
+      assertEquals((float) entity.getHitBox().getXLeft(), snapshot.getX(index));
+      assertEquals((float) entity.getHitBox().getYTop(), snapshot.getY(index));
+    }
+    assertEquals(model.getLevel().getCamera().getYOffset(), snapshot.getCameraY());
+    assertEquals(model.getScore(), snapshot.getScore());
+  }
+
+  /**
+   * Tests that entities of the same type share a type id, and that a smaller snapshot lets go of
+   * the entities a bigger one held
+   */
+  @Test
+  public void testReuse() {
+    Block first = new Block(1, 1);
+    Block second = new Block(2, 1);
+    Enemy enemy = new Enemy(3, 1);
+    snapshot.capture(List.of(first, second, enemy), 0, 0, 0, 0);
+    assertEquals(snapshot.getTypeId(0), snapshot.getTypeId(1));
+    assertTrue(snapshot.getTypeId(0) != snapshot.getTypeId(2));
+    assertEquals("Enemy", EntityTypeRegistry.getType(snapshot.getTypeId(2)));
+
+    snapshot.capture(List.of(enemy), 0, 0, 0, 0);
+    assertEquals(1, snapshot.getEntityCount());
+    assertSame(enemy, snapshot.getEntity(0));
+    snapshot.begin(3, 0, 0, 0);
+    assertNull(snapshot.getEntity(1));
+    assertNull(snapshot.getEntity(2));
+  }
+
+  /**
+   * Tests that filling a snapshot that has already grown to fit the level allocates nothing (on
+   * JVMs that count the bytes each thread allocates)
+   */
+  @Test
+  public void testFillDoesNotAllocate() {
+    if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+      return;
+    }
+    com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    if (!threads.isThreadAllocatedMemorySupported() || !threads.isThreadAllocatedMemoryEnabled()) {
+      return;
+    }
+    long threadId = Thread.currentThread().getId();
+    for (int fill = 0; fill < FILLS; fill++) {
+      model.fillRenderSnapshot(snapshot, BLOCKS, BLOCKS);
+    }
+
+    long before = threads.getThreadAllocatedBytes(threadId);
+    for (int fill = 0; fill < FILLS; fill++) {
+      model.fillRenderSnapshot(snapshot, BLOCKS, BLOCKS);
+    }
+    long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+    // less than a byte a fill leaves room for the measuring itself, but not for any object
+    assertTrue(allocated < FILLS, "allocated " + allocated + " bytes");
+  }
+}
@@ -0,0 +1,53 @@
+package model.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+import util.DukeApplicationTest;
+
+/**
+ * Tests the SimulationClock class
+ */
+public class SimulationClockTest extends DukeApplicationTest {
+
+  private static final double TICKS_PER_SECOND = 100;
+  private static final long TICK = 10_000_000;
+
+  private SimulationClock clock;
+
+  @Override
+  public void start(Stage stage) {
+    clock = new SimulationClock(TICKS_PER_SECOND);
+  }
+
+  /**
+   * Tests that time is handed back one whole tick at a time, with what is left over kept for the
+   * next call and given as alpha
+   */
+  @Test
+  public void testAccumulatesTicks() {
+    assertEquals(TICK, clock.getTickNanos());
+    assertEquals(0, clock.advance(TICK / 2));
+    assertEquals(0.5, clock.getAlpha());
+    assertEquals(TICK / 2, clock.getNanosUntilNextTick());
+
+    assertEquals(1, clock.advance(TICK * 3 / 4));
+    assertEquals(0.25, clock.getAlpha());
+
+    assertEquals(2, clock.advance(TICK * 7 / 4));
+    assertEquals(0, clock.getAlpha());
+  }
+
+  /**
+   * Tests that a clock that falls far behind runs a few ticks and drops the rest, instead of
+   * trying to run every tick it owes
+   */
+  @Test
+  public void testCapsTicksWhenBehind() {
+    assertEquals(SimulationClock.MAX_TICKS_PER_ADVANCE, clock.advance(TICK * 100));
+    assertEquals(100 - SimulationClock.MAX_TICKS_PER_ADVANCE, clock.getDroppedTicks());
+    assertEquals(0, clock.advance(0));
+    assertEquals(0, clock.advance(-TICK));
+  }
+}
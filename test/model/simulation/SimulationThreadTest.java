@@ -0,0 +1,181 @@
+package model.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import api.model.IGameModel;
+import api.model.IRenderSnapshot;
+import api.model.entity.IEntity;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import javafx.stage.Stage;
+import model.GameModel;
+import model.configuration.GameConfiguration;
+import model.configuration.InvalidFileException;
+import org.junit.jupiter.api.Test;
+import util.DukeApplicationTest;
+
+/**
+ * Tests the SimulationThread class, running its ticks by hand
+ */
+public class SimulationThreadTest extends DukeApplicationTest {
+
+  private static final double BLOCKS = 15;
+
+  private IGameModel model;
+  private SimulationThread simulation;
+
+  @Override
+  public void start(Stage stage) throws InvalidFileException {
+    model = new GameModel(new GameConfiguration("doodlejump.properties"));
+    simulation = new SimulationThread(model, BLOCKS, BLOCKS);
+  }
+
+  /**
+   * Tests that a snapshot holds the entities in view, where they were when it was taken
+   */
+  @Test
+  public void testSnapshotMatchesLevel() {
+    simulation.runBetweenTicks(() -> { });
+    IRenderSnapshot snapshot = simulation.getLatestSnapshot();
+    List<IEntity> entities = model.getEntitiesInView(BLOCKS, BLOCKS);
+
+    assertEquals(entities.size(), snapshot.getEntityCount());
+    for (int index = 0; index < entities.size(); index++) {
+      IEntity entity = entities.get(index);
+      assertSame(entity, snapshot.getEntity(index));
+      assertEquals(entity.getType(), snapshot.getType(index));
+      assertEquals((float) entity.getHitBox().getXLeft(), snapshot.getX(index));
+      assertEquals((float) entity.getHitBox().getYTop(), snapshot.getY(index));
+    }
+    assertEquals(model.getLevel().getCamera().getXOffset(), snapshot.getCameraX());
+    assertEquals(model.getScore(), snapshot.getScore());
+  }
+
+  /**
+   * Tests that a published snapshot does not change as the level carries on being stepped
+   */
+  @Test
+  public void testSnapshotIsStable() {
+    simulation.setStepping(true);
+    simulation.runTick();
+    IRenderSnapshot snapshot = simulation.getLatestSnapshot();
+    double playerY = findPlayerY(snapshot);
+    assertFalse(Double.isNaN(playerY));
+
+    for (int index = 0; index < 10; index++) {
+      simulation.runTick();
+    }
+    assertEquals(playerY, findPlayerY(snapshot));
+    assertEquals(1, snapshot.getTick());
+    assertEquals(11, simulation.getLatestSnapshot().getTick());
+  }
+
+  /**
+   * Tests that an action submitted between ticks runs on the next tick, even while idle, and
+   * publishes a snapshot, and that one that fails completes its future with the failure
+   */
+  @Test
+  public void testSubmitBetweenTicks() {
+    simulation.runBetweenTicks(() -> { });
+    IRenderSnapshot before = simulation.getLatestSnapshot();
+    CompletableFuture<Void> reset = simulation.submitBetweenTicks(model::resetLevel);
+    assertFalse(reset.isDone());
+
+    simulation.runTick();
+    assertTrue(reset.isDone());
+    assertFalse(reset.isCompletedExceptionally());
+    assertNotEquals(before.getPublishNanos(), simulation.getLatestSnapshot().getPublishNanos());
+
+    CompletableFuture<Void> failed = simulation.submitBetweenTicks(() -> {
+      throw new IllegalStateException();
+    });
+    simulation.runTick();
+    assertTrue(failed.isCompletedExceptionally());
+    assertThrows(Exception.class, failed::join);
+  }
+
+  /**
+   * Tests that the level is only stepped while stepping is on and the level is still being played
+   */
+  @Test
+  public void testOnlyStepsWhenPlaying() {
+    simulation.runTick();
+    assertEquals(0, simulation.getLatestSnapshot().getTick());
+
+    simulation.setStepping(true);
+    model.getLevel().setLevelWon(true);
+    simulation.runTick();
+    assertEquals(0, simulation.getLatestSnapshot().getTick());
+
+    model.getLevel().setLevelWon(false);
+    simulation.runTick();
+    assertEquals(1, simulation.getLatestSnapshot().getTick());
+  }
+
+  /**
+   * Tests that submitted input is only applied once the next tick runs, even while the level is
+   * not being stepped
+   */
+  @Test
+  public void testInputAppliedOnTick() {
+    simulation.submitInput(model.getKeyPressFunctions()::pauseGame);
+    assertFalse(model.getKeyPressFunctions().isPaused());
+
+    simulation.runTick();
+    assertTrue(model.getKeyPressFunctions().isPaused());
+  }
+
+  /**
+   * Tests that a paused level is idle and is not stepped or published, and that input submitted
+   * to a started, idle simulation still unpauses it
+   */
+  @Test
+  public void testPausedLevelIsIdle() throws InterruptedException {
+    simulation.setStepping(true);
+    model.getKeyPressFunctions().pauseGame();
+    assertTrue(simulation.isIdle());
+    simulation.runTick();
+    assertEquals(0, simulation.getLatestSnapshot().getTick());
+
+    simulation.start();
+    simulation.submitInput(model.getKeyPressFunctions()::resumeGame);
+    long deadline = System.currentTimeMillis() + 5000;
+    while (simulation.getLatestSnapshot().getTick() < 1 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    simulation.stop();
+
+    assertFalse(model.getKeyPressFunctions().isPaused());
+    assertNotEquals(0, simulation.getLatestSnapshot().getTick());
+  }
+
+  /**
+   * Tests that the thread steps the level on its own once it is started
+   */
+  @Test
+  public void testThreadSteps() throws InterruptedException {
+    simulation.setStepping(true);
+    simulation.start();
+    long deadline = System.currentTimeMillis() + 5000;
+    while (simulation.getLatestSnapshot().getTick() < 5 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    simulation.stop();
+
+    assertNotEquals(0, simulation.getLatestSnapshot().getTick());
+  }
+
+  private double findPlayerY(IRenderSnapshot snapshot) {
+    for (int index = 0; index < snapshot.getEntityCount(); index++) {
+      if (snapshot.getType(index).contains("Player")) {
+        return snapshot.getY(index);
+      }
+    }
+    return Double.NaN;
+  }
+}
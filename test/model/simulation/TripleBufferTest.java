@@ -0,0 +1,90 @@
+package model.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+import util.DukeApplicationTest;
+
+/**
+ * Tests the TripleBuffer class
+ */
+public class TripleBufferTest extends DukeApplicationTest {
+
+  private static final int WRITES = 100_000;
+
+  private TripleBuffer<int[]> buffer;
+
+  @Override
+  public void start(Stage stage) {
+    buffer = new TripleBuffer<>(() -> new int[1]);
+  }
+
+  /**
+   * Tests that the reader gets the newest published buffer, and keeps it until something new is
+   * published
+   */
+  @Test
+  public void testAcquireNewest() {
+    int[] unpublished = buffer.acquire();
+
+    buffer.getBackBuffer()[0] = 1;
+    buffer.publish();
+    buffer.getBackBuffer()[0] = 2;
+    buffer.publish();
+
+    int[] newest = buffer.acquire();
+    assertNotSame(unpublished, newest);
+    assertEquals(2, newest[0]);
+    assertSame(newest, buffer.acquire());
+  }
+
+  /**
+   * Tests that the writer is never handed the buffer the reader is holding
+   */
+  @Test
+  public void testWriterNeverGetsFront() {
+    buffer.getBackBuffer()[0] = 1;
+    buffer.publish();
+    int[] front = buffer.acquire();
+
+    for (int index = 0; index < 10; index++) {
+      assertNotSame(front, buffer.getBackBuffer());
+      buffer.publish();
+    }
+    assertEquals(1, front[0]);
+  }
+
+  /**
+   * Tests that a reader on another thread only ever sees buffers that were completely written,
+   * in the order they were published
+   */
+  @Test
+  public void testConcurrentHandOff() throws InterruptedException {
+    buffer = new TripleBuffer<>(() -> new int[2]);
+    AtomicInteger errors = new AtomicInteger();
+    Thread reader = new Thread(() -> {
+      int last = 0;
+      while (last < WRITES) {
+        int[] front = buffer.acquire();
+        if (front[0] != front[1] || front[0] < last) {
+          errors.incrementAndGet();
+        }
+        last = front[0];
+      }
+    });
+    reader.start();
+    for (int write = 1; write <= WRITES; write++) {
+      int[] back = buffer.getBackBuffer();
+      back[0] = write;
+      back[1] = write;
+      buffer.publish();
+    }
+    reader.join();
+
+    assertEquals(0, errors.get());
+  }
+}
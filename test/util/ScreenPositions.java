@@ -0,0 +1,30 @@
+package util;
+
+import api.model.entity.IEntity;
+import model.Level;
+
+/**
+ * Where entities are on screen, as seen through the camera of the level they are in
+ */
+public class ScreenPositions {
+
+    /**
+     * Returns where the left of entity is on screen
+     * @param level the level whose camera entity is seen through
+     * @param entity the entity to find on screen
+     * @return the screen x coordinate of the left of entity
+     */
+    public static double screenX(Level level, IEntity entity) {
+        return level.getCamera().toScreenX(entity.getHitBox().getXLeft());
+    }
+
+    /**
+     * Returns where the top of entity is on screen
+     * @param level the level whose camera entity is seen through
+     * @param entity the entity to find on screen
+     * @return the screen y coordinate of the top of entity
+     */
+    public static double screenY(Level level, IEntity entity) {
+        return level.getCamera().toScreenY(entity.getHitBox().getYTop());
+    }
+}
@@ -0,0 +1,79 @@
+package view;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import javafx.scene.Group;
+import javafx.stage.Stage;
+import model.entity.Block;
+import api.model.entity.IEntity;
+import org.junit.jupiter.api.Test;
+import util.DukeApplicationTest;
+
+/**
+ * Tests the CanvasTexturer and TexturerFactory classes
+ */
+public class CanvasTexturerTest extends DukeApplicationTest {
+
+  private static final double BLOCKS = 15;
+  private static final double WIDTH = 800;
+  private static final double HEIGHT = 800;
+  private static final String PATH = "mariotextures.properties";
+
+  private Group textureNode;
+  private List<IEntity> entityList;
+
+  @Override
+  public void start(Stage st) {
+    textureNode = new Group();
+    entityList = new ArrayList<>();
+  }
+
+  /**
+   * Tests that however many entities are drawn, the group only ever holds the canvas
+   */
+  @Test
+  public void testSingleNode() {
+    CanvasTexturer texturer = new CanvasTexturer(WIDTH, HEIGHT, PATH, textureNode);
+    for (int index = 0; index < 1000; index++) {
+      entityList.add(new Block(index % 15, index % 13));
+    }
+
+    texturer.updateTextures(entityList, BLOCKS, BLOCKS);
+    assertEquals(1, textureNode.getChildren().size());
+    assertSame(texturer.getCanvas(), textureNode.getChildren().get(0));
+  }
+
+  /**
+   * Tests that switching between renderers on the same group leaves only the new renderer's nodes
+   */
+  @Test
+  public void testSwitchingRenderers() {
+    entityList.add(new Block(2, 3));
+    entityList.add(new Block(4, 5));
+    new Texturer(WIDTH, HEIGHT, PATH, textureNode).updateTextures(entityList, BLOCKS, BLOCKS);
+    assertEquals(2, textureNode.getChildren().size());
+
+    CanvasTexturer canvasTexturer = new CanvasTexturer(WIDTH, HEIGHT, PATH, textureNode);
+    canvasTexturer.updateTextures(entityList, BLOCKS, BLOCKS);
+    assertEquals(1, textureNode.getChildren().size());
+    assertEquals(0, textureNode.getTranslateX());
+
+    new Texturer(WIDTH, HEIGHT, PATH, textureNode).updateTextures(entityList, BLOCKS, BLOCKS);
+    assertEquals(2, textureNode.getChildren().size());
+  }
+
+  /**
+   * Tests that the factory falls back to the scene graph Texturer unless a file asks for a canvas
+   */
+  @Test
+  public void testFactoryDefault() {
+    TexturerFactory factory = new TexturerFactory();
+    assertEquals(TexturerFactory.SCENE_GRAPH_RENDERER, factory.findRenderer(PATH));
+    assertEquals(TexturerFactory.SCENE_GRAPH_RENDERER, factory.findRenderer("missing.properties"));
+    assertTrue(factory.buildTexturer(WIDTH, HEIGHT, PATH, textureNode) instanceof Texturer);
+  }
+}
@@ -0,0 +1,84 @@
+package view;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+import util.DukeApplicationTest;
+
+/**
+ * Tests the FramePacer class
+ */
+public class FramePacerTest extends DukeApplicationTest {
+
+  private static final double FRAMES_PER_SECOND = 100;
+  private static final long FRAME = 10_000_000;
+
+  private FramePacer pacer;
+
+  @Override
+  public void start(Stage stage) {
+    pacer = new FramePacer(FRAMES_PER_SECOND);
+  }
+
+  /**
+   * Tests that frames that come on time are all drawn, and none are counted as missed
+   */
+  @Test
+  public void testDrawsFramesOnTime() {
+    long now = 0;
+    for (int frame = 0; frame < 10; frame++) {
+      assertTrue(pacer.beginFrame(now));
+      pacer.endFrame(FRAME / 4);
+      now += FRAME + (frame % 2 == 0 ? FRAME / 5 : -FRAME / 5);
+    }
+    assertEquals(0, pacer.getMissedFrames());
+    assertEquals(0, pacer.getSkippedFrames());
+    assertEquals(10, pacer.getDrawnFrames());
+  }
+
+  /**
+   * Tests that a late pulse counts the frames missed and skips drawing, but never more than
+   * MAX_SKIPPED_IN_A_ROW frames in a row
+   */
+  @Test
+  public void testSkipsWhenBehind() {
+    assertTrue(pacer.beginFrame(0));
+    assertFalse(pacer.beginFrame(FRAME * 4));
+    assertEquals(3, pacer.getMissedFrames());
+
+    long now = FRAME * 4;
+    for (int frame = 0; frame < FramePacer.MAX_SKIPPED_IN_A_ROW - 1; frame++) {
+      now += FRAME * 2;
+      assertFalse(pacer.beginFrame(now));
+    }
+    now += FRAME * 2;
+    assertTrue(pacer.beginFrame(now));
+    assertEquals(FramePacer.MAX_SKIPPED_IN_A_ROW, pacer.getSkippedFrames());
+  }
+
+  /**
+   * Tests that a frame that took too long to draw makes the next one be skipped
+   */
+  @Test
+  public void testSkipsAfterSlowDraw() {
+    assertTrue(pacer.beginFrame(0));
+    pacer.endFrame(FRAME * 2);
+    assertFalse(pacer.beginFrame(FRAME));
+    assertTrue(pacer.beginFrame(FRAME * 2));
+    assertEquals(0, pacer.getMissedFrames());
+  }
+
+  /**
+   * Tests that the time the timer was stopped for is not counted as missed frames
+   */
+  @Test
+  public void testRestartForgetsLastPulse() {
+    assertTrue(pacer.beginFrame(0));
+    pacer.restart();
+    assertTrue(pacer.beginFrame(FRAME * 1000));
+    assertEquals(0, pacer.getMissedFrames());
+  }
+}
@@ -0,0 +1,158 @@
+package view;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import controller.ImageCache;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import javafx.scene.Group;
+import javafx.stage.Stage;
+import model.entity.Block;
+import model.entity.Enemy;
+import model.entity.Goal;
+import api.model.entity.IEntity;
+import org.junit.jupiter.api.Test;
+import util.DukeApplicationTest;
+
+/**
+ * Tests the StaticTileLayer class and the texturers that draw through it
+ */
+public class StaticTileLayerTest extends DukeApplicationTest {
+
+  private static final double BLOCKS = 15;
+  private static final double WIDTH = 800;
+  private static final double HEIGHT = 800;
+  private static final double TILE = WIDTH / BLOCKS;
+  private static final String PATH = "mariotextures.properties";
+
+  private Group textureNode;
+  private List<IEntity> entityList;
+  private StaticTileLayer layer;
+  private TextureAtlas atlas;
+
+  @Override
+  public void start(Stage st) {
+    textureNode = new Group();
+    entityList = new ArrayList<>();
+    layer = new StaticTileLayer();
+    atlas = new TextureAtlas(new HashMap<>(), TextureAtlas.toAtlasTileSize(TILE),
+        TextureAtlas.toAtlasTileSize(TILE));
+  }
+
+  /**
+   * Tests that only blocks, power up blocks and goals are static
+   */
+  @Test
+  public void testStaticTypes() {
+    assertTrue(layer.isStatic(new Block(0, 0)));
+    assertTrue(layer.isStatic(new Goal(0, 0)));
+    assertFalse(layer.isStatic(new Enemy(0, 0)));
+  }
+
+  /**
+   * Tests that a chunk is drawn once, and only drawn again when a static entity in it changes
+   */
+  @Test
+  public void testRedrawsOnlyOnChange() {
+    for (int x = 0; x < BLOCKS; x++) {
+      entityList.add(new Block(x, 12));
+    }
+    drawFrame(0);
+    assertEquals(1, layer.getVisibleChunks().size());
+    assertNotNull(layer.getVisibleChunks().get(0).getImage());
+    assertEquals(1, layer.getRedrawCount());
+
+    drawFrame(0);
+    drawFrame(0);
+    assertEquals(1, layer.getRedrawCount());
+
+    entityList.remove(0);
+    drawFrame(0);
+    assertEquals(2, layer.getRedrawCount());
+
+    entityList.add(new Block(3, 3));
+    drawFrame(0);
+    assertEquals(3, layer.getRedrawCount());
+  }
+
+  /**
+   * Tests that a static entity culled off screen is kept rather than taken to be removed
+   */
+  @Test
+  public void testCulledEntitiesAreKept() {
+    Block offScreen = new Block(2, 2);
+    Block onScreen = new Block(20, 2);
+    entityList.add(offScreen);
+    entityList.add(onScreen);
+    entityList.add(new Block(21, 2));
+    drawFrame(10);
+    assertEquals(2, layer.getVisibleChunks().size());
+    int redraws = layer.getRedrawCount();
+
+    entityList.remove(offScreen);
+    drawFrame(10);
+    assertEquals(redraws, layer.getRedrawCount());
+
+    entityList.remove(onScreen);
+    drawFrame(10);
+    assertEquals(redraws + 1, layer.getRedrawCount());
+  }
+
+  /**
+   * Tests that static entities which are never seen again, like despawned ones, are forgotten
+   * once they are stale, so scrolling through a long level tracks a bounded number of them
+   */
+  @Test
+  public void testStaleEntitiesAreForgotten() {
+    for (int xOffset = 0; xOffset < 3000; xOffset++) {
+      entityList.clear();
+      for (int x = xOffset; x < xOffset + BLOCKS; x++) {
+        entityList.add(new Block(x, 12));
+      }
+      drawFrame(xOffset);
+    }
+    int mostTracked = (int) BLOCKS + StaticTileLayer.STALE_FRAMES + 1;
+    assertTrue(layer.getTileCount() <= mostTracked);
+    assertTrue(layer.getChunkCount() <= mostTracked / StaticTileLayer.CHUNK_BLOCKS + 2);
+  }
+
+  /**
+   * Tests that a Texturer with the static layer on gives static entities no views of their own
+   */
+  @Test
+  public void testTexturerDrawsChunks() {
+    Texturer texturer = new Texturer(WIDTH, HEIGHT, PATH, textureNode,
+        new ImageCache(ImageCache.DEFAULT_CAPACITY_BYTES, Runnable::run));
+    texturer.setStaticLayerEnabled(true);
+    for (int x = 0; x < 100; x++) {
+      entityList.add(new Block(x % 15, x / 15));
+    }
+    entityList.add(new Enemy(4, 4));
+
+    texturer.updateTextures(entityList, BLOCKS, BLOCKS);
+    assertEquals(2, textureNode.getChildren().size());
+    Group staticGroup = (Group) textureNode.getChildren().get(0);
+    assertEquals(1, staticGroup.getChildren().size());
+    assertNotNull(textureNode.lookup("#Enemyx4y4"));
+  }
+
+  /**
+   * Tests that the texturers built by TexturerFactory use the static layer
+   */
+  @Test
+  public void testFactoryEnablesLayer() {
+    AbstractTexturer texturer = (AbstractTexturer) new TexturerFactory()
+        .buildTexturer(WIDTH, HEIGHT, PATH, textureNode);
+    assertNotNull(texturer.getStaticLayer());
+  }
+
+  private void drawFrame(double xOffset) {
+    layer.beginFrame(atlas, TILE, TILE);
+    entityList.forEach(layer::track);
+    layer.endFrame(xOffset, 0, BLOCKS, BLOCKS);
+  }
+}
@@ -0,0 +1,128 @@
+package view;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import controller.ImageCache;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Group;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.stage.Stage;
+import model.entity.Block;
+import model.entity.Enemy;
+import api.model.entity.IEntity;
+import org.junit.jupiter.api.Test;
+import util.DukeApplicationTest;
+
+/**
+ * Tests the TextureAtlas class and how the texturers draw from it
+ */
+public class TextureAtlasTest extends DukeApplicationTest {
+
+  private static final double WIDTH = 800;
+  private static final double HEIGHT = 800;
+  private static final String PATH = "mariotextures.properties";
+  private static final String TEXTURE_FOLDER = "src/resources/images/gametextures/mario/";
+
+  private Group textureNode;
+
+  @Override
+  public void start(Stage st) {
+    textureNode = new Group();
+  }
+
+  /**
+   * Tests that every texture gets its own tile of the atlas, and unknown types get the black tile
+   */
+  @Test
+  public void testRegions() {
+    ImageCache imageCache = new ImageCache(ImageCache.DEFAULT_CAPACITY_BYTES, Runnable::run);
+    Map<String, Image> textures = new TreeMap<>();
+    textures.put("Block", imageCache.get(TEXTURE_FOLDER + "barrierblockbrown.png", 54, 40));
+    textures.put("Player", imageCache.get(TEXTURE_FOLDER + "luigi.png", 54, 40));
+    textures.put("Enemy", null);
+    TextureAtlas atlas = new TextureAtlas(textures, 54, 40);
+
+    assertEquals(54 * 2, atlas.getImage().getWidth());
+    assertEquals(40 * 2, atlas.getImage().getHeight());
+    Rectangle2D block = atlas.getRegion("Block");
+    Rectangle2D player = atlas.getRegion("Player");
+    assertEquals(54, block.getWidth());
+    assertEquals(40, block.getHeight());
+    assertNotEquals(block.getMinX() + block.getMinY() * 1000,
+        player.getMinX() + player.getMinY() * 1000);
+    assertSame(atlas.getRegion("Goal"), atlas.getRegion("Coin"));
+  }
+
+  /**
+   * Tests that a texturer never waits on textures: it draws with a partial atlas while they are
+   * decoding and swaps in the complete one once they arrive
+   */
+  @Test
+  public void testPartialAtlas() {
+    List<Runnable> decodes = new ArrayList<>();
+    Texturer texturer = new Texturer(WIDTH, HEIGHT, PATH, textureNode,
+        new ImageCache(ImageCache.DEFAULT_CAPACITY_BYTES, decodes::add));
+    List<IEntity> entityList = new ArrayList<>();
+    entityList.add(new Block(1, 1));
+    texturer.updateTextures(entityList, 15, 15);
+    TextureAtlas partialAtlas = texturer.getAtlas();
+    assertSame(partialAtlas, texturer.getAtlas());
+
+    new ArrayList<>(decodes).forEach(Runnable::run);
+    texturer.updateTextures(entityList, 15, 15);
+    TextureAtlas completeAtlas = texturer.getAtlas();
+    assertNotSame(partialAtlas, completeAtlas);
+    assertSame(completeAtlas.getImage(),
+        ((ImageView) textureNode.getChildren().get(0)).getImage());
+    assertSame(completeAtlas, texturer.getAtlas());
+  }
+
+  /**
+   * Tests that fractional tiles are covered by whole atlas tiles
+   */
+  @Test
+  public void testAtlasTileSize() {
+    assertEquals(54, TextureAtlas.toAtlasTileSize(800 / 15.0));
+    assertEquals(80, TextureAtlas.toAtlasTileSize(80));
+    assertEquals(1, TextureAtlas.toAtlasTileSize(800 / 0.0));
+  }
+
+  /**
+   * Tests that every ImageView shows the same atlas image through the viewport of its type, and
+   * that the atlas is only rebuilt when the tile size changes
+   */
+  @Test
+  public void testTexturerDrawsFromAtlas() {
+    Texturer texturer = new Texturer(WIDTH, HEIGHT, PATH, textureNode,
+        new ImageCache(ImageCache.DEFAULT_CAPACITY_BYTES, Runnable::run));
+    List<IEntity> entityList = new ArrayList<>();
+    entityList.add(new Block(1, 1));
+    entityList.add(new Enemy(2, 2));
+    texturer.updateTextures(entityList, 15, 15);
+
+    TextureAtlas atlas = texturer.getAtlas();
+    ImageView block = (ImageView) textureNode.getChildren().get(0);
+    ImageView enemy = (ImageView) textureNode.getChildren().get(1);
+    assertSame(atlas.getImage(), block.getImage());
+    assertSame(atlas.getImage(), enemy.getImage());
+    assertSame(atlas.getRegion("Block"), block.getViewport());
+    assertSame(atlas.getRegion("Enemy"), enemy.getViewport());
+    assertEquals(atlas.getTileWidth(), block.getFitWidth());
+
+    texturer.updateTextures(entityList, 15, 15);
+    assertSame(atlas, texturer.getAtlas());
+
+    texturer.updateTextures(entityList, 10, 10);
+    assertNotSame(atlas, texturer.getAtlas());
+    assertSame(texturer.getAtlas().getImage(), block.getImage());
+    assertEquals(80, block.getFitWidth());
+  }
+}
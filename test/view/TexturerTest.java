@@ -1,16 +1,20 @@
 package view;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.util.ArrayList;
 import java.util.List;
 import javafx.scene.Group;
 import javafx.scene.image.ImageView;
 import javafx.stage.Stage;
+import model.Camera;
 import model.entity.Block;
 import api.model.entity.IEntity;
 import model.entity.MarioPlayer;
 import model.entity.Player;
+import model.simulation.RenderSnapshot;
 import org.junit.jupiter.api.Test;
 import util.DukeApplicationTest;
 
@@ -79,4 +83,78 @@ public class TexturerTest extends DukeApplicationTest{
     assertEquals(HEIGHT/DEFAULT_BLOCKS_HIGH, view.getFitHeight());
 
   }
-}
\ No newline at end of file
+
+  /**
+   * Tests that an entity keeps the same ImageView between frames, and that the view follows the
+   * entity when it moves
+   */
+  @Test
+  public void testViewIsRetained() {
+    Player pe = new MarioPlayer(2, 3);
+    entityList.add(pe);
+    texturer.updateTextures(entityList, DEFAULT_BLOCKS_WIDE, DEFAULT_BLOCKS_HIGH);
+    ImageView view = (ImageView) textureNode.lookup("#Playerx2y3");
+
+    pe.getHitBox().setXLeft(4);
+    texturer.updateTextures(entityList, DEFAULT_BLOCKS_WIDE, DEFAULT_BLOCKS_HIGH);
+    assertEquals(1, textureNode.getChildren().size());
+    assertSame(view, textureNode.lookup("#Playerx4y3"));
+    assertEquals(4 * WIDTH / DEFAULT_BLOCKS_WIDE, view.getX());
+  }
+
+  /**
+   * Tests that scrolling the camera moves the whole group rather than the views, while the ids
+   * still name where entities are on screen
+   */
+  @Test
+  public void testCameraTranslatesGroup() {
+    Block block = new Block(5, 6);
+    entityList.add(block);
+    Camera camera = new Camera();
+    camera.scroll(-2, 0);
+
+    texturer.updateTextures(entityList, DEFAULT_BLOCKS_WIDE, DEFAULT_BLOCKS_HIGH, camera);
+    ImageView view = (ImageView) textureNode.lookup("#Blockx3y6");
+    assertEquals(5 * WIDTH / DEFAULT_BLOCKS_WIDE, view.getX());
+    assertEquals(-2 * WIDTH / DEFAULT_BLOCKS_WIDE, textureNode.getTranslateX());
+  }
+
+  /**
+   * Tests that the views of despawned entities are removed, and reused for entities that spawn
+   */
+  @Test
+  public void testDespawnedViewsArePooled() {
+    Block first = new Block(1, 1);
+    entityList.add(first);
+    texturer.updateTextures(entityList, DEFAULT_BLOCKS_WIDE, DEFAULT_BLOCKS_HIGH);
+    ImageView view = (ImageView) textureNode.lookup("#Blockx1y1");
+
+    entityList.remove(first);
+    texturer.updateTextures(entityList, DEFAULT_BLOCKS_WIDE, DEFAULT_BLOCKS_HIGH);
+    assertEquals(0, textureNode.getChildren().size());
+    assertNull(textureNode.lookup("#Blockx1y1"));
+
+    entityList.add(new Block(7, 8));
+    texturer.updateTextures(entityList, DEFAULT_BLOCKS_WIDE, DEFAULT_BLOCKS_HIGH);
+    assertEquals(1, textureNode.getChildren().size());
+    assertSame(view, textureNode.lookup("#Blockx7y8"));
+  }
+
+  /**
+   * Tests that a view is placed where a snapshot has its entity, even if the entity has moved on
+   * since the snapshot was taken
+   */
+  @Test
+  public void testDrawsFromSnapshot() {
+    Block block = new Block(5, 6);
+    entityList.add(block);
+    RenderSnapshot snapshot = new RenderSnapshot();
+    snapshot.capture(entityList, 2, 0, 0, 0);
+    block.getHitBox().setXLeft(9);
+
+    texturer.updateTextures(snapshot, DEFAULT_BLOCKS_WIDE, DEFAULT_BLOCKS_HIGH);
+    ImageView view = (ImageView) textureNode.lookup("#Blockx3y6");
+    assertEquals(5 * WIDTH / DEFAULT_BLOCKS_WIDE, view.getX());
+    assertEquals(-2 * WIDTH / DEFAULT_BLOCKS_WIDE, textureNode.getTranslateX());
+  }
+}